@@ -27,6 +27,7 @@ public class ExecutorRecorder {
     private static final Logger log = Logger.getLogger("io.quarkus.thread-pool");
 
     private static volatile Executor current;
+    private static volatile EnhancedQueueExecutor currentUnderlying;
 
     private final RuntimeValue<ThreadPoolConfig> threadPoolConfig;
 
@@ -47,6 +48,7 @@ public void run() {
                         thread.start();
                     }
                     current = null;
+                    currentUnderlying = null;
 
                 }
             });
@@ -69,6 +71,7 @@ public void run() {
             managed = new NoopShutdownScheduledExecutorService(underlying);
         }
         current = managed;
+        currentUnderlying = underlying;
         return managed;
     }
 
@@ -225,4 +228,12 @@ private static class Holder {
     public static Executor getCurrent() {
         return current;
     }
+
+    /**
+     * @return the number of tasks waiting in the queue of the current worker pool, or {@code -1} if there is no worker pool
+     */
+    public static int getCurrentQueueSize() {
+        EnhancedQueueExecutor underlying = currentUnderlying;
+        return underlying != null ? underlying.getQueueSize() : -1;
+    }
 }
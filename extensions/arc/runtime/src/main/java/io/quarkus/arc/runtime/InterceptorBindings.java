@@ -16,6 +16,10 @@ public final class InterceptorBindings {
 
     @SuppressWarnings("unchecked")
     public static Set<Annotation> getInterceptorBindings(InvocationContext invocationContext) {
+        if (invocationContext instanceof ArcInvocationContext) {
+            // does not require the context data
+            return ((ArcInvocationContext) invocationContext).getInterceptorBindings();
+        }
         return (Set<Annotation>) invocationContext.getContextData().get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
     }
 
@@ -25,6 +29,10 @@ public static Set<Annotation> getInterceptorBindings(InvocationContext invocatio
      */
     @SuppressWarnings("unchecked")
     public static Set<AbstractAnnotationLiteral> getInterceptorBindingLiterals(InvocationContext invocationContext) {
+        if (invocationContext instanceof ArcInvocationContext) {
+            return (Set<AbstractAnnotationLiteral>) (Set<?>) ((ArcInvocationContext) invocationContext)
+                    .getInterceptorBindings();
+        }
         return (Set<AbstractAnnotationLiteral>) invocationContext.getContextData()
                 .get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
     }
@@ -251,6 +251,7 @@ void cacheManagerInfos(BuildProducer<CacheManagerInfoBuildItem> producer,
             Optional<MetricsCapabilityBuildItem> metricsCapability, CacheManagerRecorder recorder) {
         producer.produce(new CacheManagerInfoBuildItem(recorder.noOpCacheManagerInfo()));
         producer.produce(new CacheManagerInfoBuildItem(recorder.getCacheManagerInfoWithoutMetrics()));
+        producer.produce(new CacheManagerInfoBuildItem(recorder.getOffHeapCacheManagerInfo()));
         if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
             // if we include this unconditionally the native image building will fail when Micrometer is not around
             producer.produce(new CacheManagerInfoBuildItem(recorder.getCacheManagerInfoWithMicrometerMetrics()));
@@ -0,0 +1,147 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.offheap.OffHeapCacheImpl;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the caches of type {@code off-heap}.
+ */
+public class OffHeapCacheTest {
+
+    private static final String CACHE_NAME = "off-heap-cache";
+    private static final int VALUE_SIZE = 50_000;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.\"off-heap-cache\".type", "off-heap")
+            .overrideConfigKey("quarkus.cache.off-heap.\"off-heap-cache\".maximum-size", "1M");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testInjection() {
+        assertEquals(OffHeapCacheImpl.class, cache.getClass());
+    }
+
+    @Test
+    public void testValuesAreCopiedFromOffHeap() {
+        // The admission policy may reject a new value if the cache is full
+        cache.invalidateAll().await().indefinitely();
+
+        String value1 = cachedService.render("a");
+        String value2 = cachedService.render("a");
+        assertEquals(value1, value2);
+        // The value is deserialized on each read
+        assertNotSame(value1, value2);
+        assertEquals(1, cachedService.count("a"));
+
+        cachedService.invalidate("a");
+        cachedService.render("a");
+        assertEquals(2, cachedService.count("a"));
+
+        assertEquals(List.of("a", "b"), cachedService.list("a", "b"));
+        assertEquals(List.of("a", "b"), cachedService.list("a", "b"));
+        assertEquals(1, cachedService.count("list"));
+
+        assertEquals("async", cachedService.async("key").await().indefinitely());
+        assertEquals("async", cachedService.async("key").await().indefinitely());
+        assertEquals(1, cachedService.count("async"));
+    }
+
+    @Test
+    public void testEvictionBySize() {
+        for (int i = 0; i < 100; i++) {
+            cachedService.render("key-" + i);
+        }
+        OffHeapCacheImpl offHeapCache = cache.as(OffHeapCacheImpl.class);
+        long weightedSize = offHeapCache.weightedSize();
+        assertTrue(weightedSize > 0 && weightedSize <= 1024 * 1024, "Unexpected weighted size: " + weightedSize);
+        // The memory of the evicted values is reused
+        long reservedSize = offHeapCache.reservedSize();
+        assertTrue(reservedSize <= 4 * 1024 * 1024, "Unexpected reserved size: " + reservedSize);
+    }
+
+    @Test
+    public void testInvalidationDuringLoad() {
+        CompletableFuture<String> stale = new CompletableFuture<>();
+        CompletableFuture<String> first = cache.getAsync("loading", k -> Uni.createFrom().completionStage(stale))
+                .subscribeAsCompletionStage();
+
+        // A lookup after the invalidation does not join the load started before it
+        cache.invalidate("loading").await().indefinitely();
+        assertEquals("fresh", cache.getAsync("loading", k -> Uni.createFrom().item("fresh")).await().indefinitely());
+
+        // The value of the invalidated load is not stored
+        stale.complete("stale");
+        assertEquals("stale", first.join());
+        assertEquals("fresh", cache.get("loading", k -> "loaded").await().indefinitely());
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        cache.getAsync("pending", k -> Uni.createFrom().completionStage(pending)).subscribeAsCompletionStage();
+        cache.invalidateAll().await().indefinitely();
+        pending.complete("stale");
+        assertEquals("loaded", cache.get("pending", k -> "loaded").await().indefinitely());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String render(String key) {
+            return key + ":" + "x".repeat(VALUE_SIZE) + increment(key);
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public List<String> list(String first, String second) {
+            increment("list");
+            return List.of(first, second);
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Uni<String> async(String key) {
+            increment("async");
+            return Uni.createFrom().item("async");
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        int count(String key) {
+            AtomicInteger counter = invocations.get(key);
+            return counter == null ? 0 : counter.get();
+        }
+
+        private int increment(String key) {
+            return invocations.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+}
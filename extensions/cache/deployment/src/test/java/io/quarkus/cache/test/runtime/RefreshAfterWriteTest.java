@@ -0,0 +1,118 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code refresh-after-write} and {@code stale-while-revalidate} configuration of the Caffeine caches.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String REFRESH_CACHE = "refresh-cache";
+    private static final String STALE_CACHE = "stale-cache";
+    private static final String INVOCATION_CACHE = "invocation-cache";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"refresh-cache\".refresh-after-write", "0.2s")
+            .overrideConfigKey("quarkus.cache.caffeine.\"stale-cache\".expire-after-write", "0.2s")
+            .overrideConfigKey("quarkus.cache.caffeine.\"stale-cache\".stale-while-revalidate", "1h")
+            .overrideConfigKey("quarkus.cache.caffeine.\"invocation-cache\".refresh-after-write", "0.2s");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(REFRESH_CACHE)
+    Cache refreshCache;
+
+    @CacheName(STALE_CACHE)
+    Cache staleCache;
+
+    @Test
+    public void testRefreshAfterWrite() throws Exception {
+        assertEquals(0, cachedService.refresh(refreshCache));
+        assertEquals(0, cachedService.refresh(refreshCache));
+        Thread.sleep(300);
+        // The stale value is returned while the value is reloaded in the background
+        assertEquals(0, cachedService.refresh(refreshCache));
+        awaitUntil(() -> cachedService.refresh(refreshCache) == 1);
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws Exception {
+        assertEquals(0, cachedService.stale(staleCache).await().indefinitely());
+        Thread.sleep(300);
+        // Expired but still within the stale window
+        assertEquals(0, cachedService.stale(staleCache).await().indefinitely());
+        awaitUntil(() -> cachedService.stale(staleCache).await().indefinitely() == 1);
+    }
+
+    @Test
+    public void testCacheResultNotReloaded() throws Exception {
+        assertEquals(0, cachedService.invocation());
+        Thread.sleep(300);
+        assertEquals(0, cachedService.invocation());
+        // The invocation is not kept to reload the value in the background, the entry is removed instead
+        Thread.sleep(300);
+        assertEquals(1, cachedService.invocationCounter.get());
+        assertEquals(1, cachedService.invocation());
+    }
+
+    private static void awaitUntil(Callable<Boolean> condition) throws Exception {
+        for (int i = 0; i < 50; i++) {
+            if (condition.call()) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        fail("The value was not reloaded");
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger refreshCounter = new AtomicInteger();
+        private final AtomicInteger staleCounter = new AtomicInteger();
+        final AtomicInteger invocationCounter = new AtomicInteger();
+
+        // The computations are slow so that the reload cannot complete before the stale value is returned
+
+        public int refresh(Cache cache) {
+            return cache.get("key", k -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return refreshCounter.getAndIncrement();
+            }).await().indefinitely();
+        }
+
+        public Uni<Integer> stale(Cache cache) {
+            return cache.getAsync("key", k -> Uni.createFrom().item(staleCounter::getAndIncrement).onItem().delayIt()
+                    .by(Duration.ofMillis(100)));
+        }
+
+        @CacheResult(cacheName = INVOCATION_CACHE)
+        public int invocation() {
+            return invocationCounter.getAndIncrement();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 public interface CacheBuildConfig {
 
     String CAFFEINE_CACHE_TYPE = "caffeine";
+    String OFF_HEAP_CACHE_TYPE = "off-heap";
 
     /**
      * Default cache type (backend provider). If no explicit type is defined for a cache, this type will be used.
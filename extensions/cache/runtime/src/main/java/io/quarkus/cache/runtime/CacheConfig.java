@@ -11,6 +11,7 @@
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -75,6 +76,27 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The reload is triggered by the first read after
+             * that duration, and the current value is returned until the reload completes. If the reload fails, the current
+             * value is kept.
+             * <p>
+             * Only the values computed by the programmatic API are reloaded: the function passed to {@code Cache#get} or
+             * {@code Cache#getAsync} is kept and invoked again on a worker thread, outside of the request that triggered
+             * the reload. The entries computed by the methods annotated with {@code @CacheResult} are removed once they are
+             * due for a reload, as the invocation that computed them cannot be kept.
+             */
+            Optional<Duration> refreshAfterWrite();
+
+            /**
+             * Specifies that each entry should be kept for this additional duration once it expired because of
+             * {@code expire-after-write}. During that time, the expired value is returned while it is reloaded in the
+             * background, as with {@code refresh-after-write}, instead of making the caller wait for the computation of a new
+             * value. Only used if {@code expire-after-write} is set.
+             */
+            Optional<Duration> staleWhileRevalidate();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -82,4 +104,48 @@ interface CaffeineCacheConfig {
             Optional<Boolean> metricsEnabled();
         }
     }
+
+    /**
+     * Off-heap configuration, used by the caches of type {@code off-heap}.
+     */
+    OffHeapConfig offHeap();
+
+    interface OffHeapConfig {
+
+        /**
+         * Default configuration applied to all off-heap caches (lowest precedence)
+         */
+        @WithParentName
+        @ConfigDocSection
+        OffHeapCacheConfig defaultConfig();
+
+        /**
+         * Additional configuration applied to a specific off-heap cache (highest precedence)
+         */
+        @WithParentName
+        @ConfigDocMapKey("cache-name")
+        @ConfigDocSection
+        Map<String, OffHeapCacheConfig> cachesConfig();
+
+        interface OffHeapCacheConfig {
+
+            /**
+             * Maximum amount of off-heap memory used by the serialized values of the cache. The entries that are less
+             * likely to be used again are evicted once this size is exceeded. Defaults to {@code 64M}.
+             */
+            Optional<MemorySize> maximumSize();
+
+            /**
+             * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+             * the entry's creation, or the most recent replacement of its value.
+             */
+            Optional<Duration> expireAfterWrite();
+
+            /**
+             * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
+             * the entry's creation, the most recent replacement of its value, or its last read.
+             */
+            Optional<Duration> expireAfterAccess();
+        }
+    }
 }
@@ -1,7 +1,6 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
-import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
@@ -53,7 +52,7 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
             if (returnType != ReturnType.NonAsync) {
-                Uni<Object> cacheValue = cache.getAsync(key, new Function<Object, Uni<Object>>() {
+                Uni<Object> cacheValue = cache.getAsync(key, new InvocationValueLoader<Object, Uni<Object>>() {
                     @SuppressWarnings("unchecked")
                     @Override
                     public Uni<Object> apply(Object key) {
@@ -86,7 +85,7 @@ public Uni<?> get() {
                         });
                 return createAsyncResult(cacheValue, returnType);
             } else {
-                Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
+                Uni<Object> cacheValue = cache.get(key, new InvocationValueLoader<Object, Object>() {
                     @Override
                     public Object apply(Object k) {
                         try {
@@ -0,0 +1,14 @@
+package io.quarkus.cache.runtime;
+
+import java.util.function.Function;
+
+/**
+ * A value loader computing the result of an intercepted method invocation. It holds the invocation context, i.e. the
+ * target instance and the arguments, which may belong to a shorter-lived context such as the request. A cache must not
+ * keep it once the value is computed, e.g. to reload the value later.
+ *
+ * @param <K> cache key type
+ * @param <V> value type
+ */
+public interface InvocationValueLoader<K, V> extends Function<K, V> {
+}
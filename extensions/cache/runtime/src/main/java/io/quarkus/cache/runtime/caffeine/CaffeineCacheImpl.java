@@ -6,7 +6,13 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -14,17 +20,24 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.Policy.FixedRefresh;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.InvocationValueLoader;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.caffeine.metrics.CacheRefreshMetrics;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -44,9 +57,21 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final CacheRefreshMetrics refreshMetrics;
+
+    // The functions used to reload the entries, keyed by the cache key; null if the entries are not refreshed.
+    // Only the value loaders passed to the programmatic API are kept, see InvocationValueLoader.
+    private final ConcurrentMap<Object, Reloader> reloaders;
+    private final FixedRefresh<Object, Object> refreshPolicy;
+    private final AtomicBoolean invocationNotRefreshedLogged = new AtomicBoolean();
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
+        this(cacheInfo, recordStats, CacheRefreshMetrics.NOOP);
+    }
+
+    public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats, CacheRefreshMetrics refreshMetrics) {
         this.cacheInfo = cacheInfo;
+        this.refreshMetrics = refreshMetrics;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
@@ -54,8 +79,15 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        Duration refreshAfterWrite = cacheInfo.refreshAfterWrite;
         if (cacheInfo.expireAfterWrite != null) {
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            builder.expireAfterWrite(expireAfterWrite(cacheInfo, cacheInfo.expireAfterWrite));
+            if (cacheInfo.staleWhileRevalidate != null) {
+                refreshAfterWrite = refreshAfterWrite(cacheInfo, cacheInfo.expireAfterWrite);
+            }
+        } else if (cacheInfo.staleWhileRevalidate != null) {
+            LOGGER.warnf("The stale-while-revalidate value of cache [%s] is ignored because expire-after-write is not set",
+                    cacheInfo.name);
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -74,7 +106,48 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
-        cache = builder.buildAsync();
+        if (refreshAfterWrite != null) {
+            LOGGER.tracef("Refreshing the entries of cache [%s] after [%s]", cacheInfo.name, refreshAfterWrite);
+            reloaders = new ConcurrentHashMap<>();
+            builder.refreshAfterWrite(refreshAfterWrite);
+            builder.executor(WORKER_POOL);
+            builder.removalListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    if (key != null && cause != RemovalCause.REPLACED) {
+                        // A lookup may add the key again concurrently: its reloader is registered after the entry is
+                        // added, and is either kept by this check or registered once the stale one is removed
+                        reloaders.computeIfPresent(key, new BiFunction<Object, Reloader, Reloader>() {
+                            @Override
+                            public Reloader apply(Object k, Reloader reloader) {
+                                return CaffeineCacheImpl.this.cache.asMap().containsKey(k) ? reloader : null;
+                            }
+                        });
+                    }
+                }
+            });
+            cache = builder.buildAsync(new RefreshLoader());
+            refreshPolicy = cache.synchronous().policy().refreshAfterWrite().orElse(null);
+        } else {
+            reloaders = null;
+            refreshPolicy = null;
+            cache = builder.buildAsync();
+        }
+    }
+
+    /**
+     * With stale-while-revalidate, the entries are kept for the stale window once they're due for a reload.
+     */
+    private static Duration expireAfterWrite(CaffeineCacheInfo cacheInfo, Duration expireAfterWrite) {
+        return cacheInfo.staleWhileRevalidate != null ? expireAfterWrite.plus(cacheInfo.staleWhileRevalidate)
+                : expireAfterWrite;
+    }
+
+    private static Duration refreshAfterWrite(CaffeineCacheInfo cacheInfo, Duration expireAfterWrite) {
+        if (cacheInfo.refreshAfterWrite != null && cacheInfo.refreshAfterWrite.compareTo(expireAfterWrite) < 0) {
+            return cacheInfo.refreshAfterWrite;
+        }
+        return expireAfterWrite;
     }
 
     @Override
@@ -108,6 +181,7 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
             public Uni<? extends V> apply(io.smallrye.mutiny.Context mutinyContext) {
                 // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                 StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
+                boolean stale = isStale(key);
                 @SuppressWarnings("unchecked")
                 CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
                         new Function<Object, CompletableFuture<Object>>() {
@@ -115,12 +189,18 @@ public Uni<? extends V> apply(io.smallrye.mutiny.Context mutinyContext) {
                             @SuppressWarnings("unchecked")
                             public CompletableFuture<Object> apply(Object key) {
                                 recorder.onValueAbsent();
+                                if (reloaders != null) {
+                                    registerAsyncReloader((K) key, valueLoader);
+                                }
                                 return valueLoader.apply((K) key)
                                         .map(TO_CACHE_VALUE)
                                         .subscribeAsCompletionStage(mutinyContext);
                             }
                         });
                 recorder.doRecord(key);
+                if (stale) {
+                    refreshMetrics.staleValueServed();
+                }
                 return Uni.createFrom().completionStage(result);
             }
         })
@@ -208,10 +288,14 @@ public V apply(Object value) {
      * @throws CacheException if an exception is thrown during the cache value computation
      */
     private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
+        boolean stale = isStale(key);
         CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
+            if (reloaders != null) {
+                registerReloader(key, valueLoader);
+            }
             try {
                 Object value = valueLoader.apply(key);
                 newCacheValue.complete(NullValueConverter.toCacheValue(value));
@@ -223,10 +307,78 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (stale) {
+                refreshMetrics.staleValueServed();
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    private <K, V> void registerReloader(K key, Function<K, V> valueLoader) {
+        if (valueLoader instanceof InvocationValueLoader) {
+            invocationNotRefreshed(key);
+            return;
+        }
+        reloaders.put(key, new Reloader() {
+            @Override
+            public CompletableFuture<Object> apply(Object k) {
+                return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                    @Override
+                    public Object get() {
+                        return NullValueConverter.toCacheValue(valueLoader.apply(key));
+                    }
+                }, WORKER_POOL);
+            }
+        });
+    }
+
+    private <K, V> void registerAsyncReloader(K key, Function<K, Uni<V>> valueLoader) {
+        if (valueLoader instanceof InvocationValueLoader) {
+            invocationNotRefreshed(key);
+            return;
+        }
+        reloaders.put(key, new Reloader() {
+            @Override
+            public CompletableFuture<Object> apply(Object k) {
+                return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> get() {
+                        return valueLoader.apply(key);
+                    }
+                })
+                        .runSubscriptionOn(WORKER_POOL)
+                        .map(TO_CACHE_VALUE)
+                        .subscribeAsCompletionStage();
+            }
+        });
+    }
+
+    /**
+     * The value loader of an intercepted invocation holds the target instance and the arguments of a single invocation,
+     * so it is not kept: the entry is removed, instead of being reloaded, once it is due for a reload.
+     */
+    private void invocationNotRefreshed(Object key) {
+        // A reloader registered by a previous lookup of the programmatic API must not outlive its entry
+        reloaders.remove(key);
+        if (invocationNotRefreshedLogged.compareAndSet(false, true)) {
+            LOGGER.warnf("The entries of cache [%s] computed by @CacheResult methods are not reloaded in the background: "
+                    + "they are removed once they are due for a reload", cacheInfo.name);
+        }
+    }
+
+    /**
+     * Must be called before the entry is read because the read triggers the reload and resets the age of the entry.
+     *
+     * @return {@code true} if the entry is due for a reload and the stale values are recorded
+     */
+    private boolean isStale(Object key) {
+        if (refreshPolicy == null || refreshMetrics == CacheRefreshMetrics.NOOP) {
+            return false;
+        }
+        long age = refreshPolicy.ageOf(key, TimeUnit.NANOSECONDS).orElse(0L);
+        return age >= refreshPolicy.getRefreshesAfter(TimeUnit.NANOSECONDS);
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -295,7 +447,10 @@ public <V> void put(Object key, CompletableFuture<V> valueFuture) {
     public void setExpireAfterWrite(Duration duration) {
         Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterWrite();
         if (fixedExpiration.isPresent()) {
-            fixedExpiration.get().setExpiresAfter(duration);
+            fixedExpiration.get().setExpiresAfter(expireAfterWrite(cacheInfo, duration));
+            if (cacheInfo.staleWhileRevalidate != null && refreshPolicy != null) {
+                refreshPolicy.setRefreshesAfter(refreshAfterWrite(cacheInfo, duration));
+            }
             cacheInfo.expireAfterWrite = duration;
         } else {
             throw new IllegalStateException("The write-based expiration policy can only be changed if the cache was " +
@@ -396,6 +551,56 @@ public <K> void doRecord(K key) {
 
     }
 
+    /**
+     * Recomputes the value of an entry with the value loader that computed it.
+     */
+    private interface Reloader extends Function<Object, CompletableFuture<Object>> {
+    }
+
+    /**
+     * Reloads the entries due for a refresh with the function that computed their value. The keys without such a function
+     * are treated as absent.
+     */
+    private class RefreshLoader implements AsyncCacheLoader<Object, Object> {
+
+        @Override
+        public CompletableFuture<Object> asyncLoad(Object key, Executor executor) {
+            Reloader reloader = reloaders.get(key);
+            if (reloader == null) {
+                // The value was put directly or was never computed - the entry is absent
+                return CompletableFuture.completedFuture(null);
+            }
+            LOGGER.tracef("Loading key [%s] of cache [%s]", key, cacheInfo.name);
+            return reloader.apply(key);
+        }
+
+        @Override
+        public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+            Reloader reloader = reloaders.get(key);
+            if (reloader == null) {
+                // The value was put directly or computed by an intercepted invocation - remove the entry
+                return CompletableFuture.completedFuture(null);
+            }
+            LOGGER.tracef("Reloading key [%s] of cache [%s]", key, cacheInfo.name);
+            long start = System.nanoTime();
+            return reloader.apply(key).whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object value, Throwable failure) {
+                    refreshMetrics.refreshCompleted(System.nanoTime() - start, failure == null);
+                }
+            });
+        }
+    }
+
+    // The background reloads run on the worker thread pool
+    private static final Executor WORKER_POOL = new Executor() {
+
+        @Override
+        public void execute(Runnable command) {
+            Infrastructure.getDefaultWorkerPool().execute(command);
+        }
+    };
+
     private static final Function<Object, Object> FROM_CACHE_VALUE = new Function<Object, Object>() {
 
         @Override
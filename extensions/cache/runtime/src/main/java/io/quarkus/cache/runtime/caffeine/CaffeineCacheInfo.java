@@ -15,6 +15,10 @@ public class CaffeineCacheInfo {
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public Duration staleWhileRevalidate;
+
     public boolean metricsEnabled;
 
     @Override
@@ -0,0 +1,34 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+/**
+ * Records the background reloads of a Caffeine cache configured with {@code refresh-after-write} or
+ * {@code stale-while-revalidate}.
+ */
+public interface CacheRefreshMetrics {
+
+    CacheRefreshMetrics NOOP = new CacheRefreshMetrics() {
+
+        @Override
+        public void staleValueServed() {
+            // no-op
+        }
+
+        @Override
+        public void refreshCompleted(long durationNanos, boolean success) {
+            // no-op
+        }
+    };
+
+    /**
+     * A value that is due for a reload was returned to the caller.
+     */
+    void staleValueServed();
+
+    /**
+     * A background reload completed.
+     *
+     * @param durationNanos the duration of the reload
+     * @param success {@code false} if the value could not be computed and the current value was kept
+     */
+    void refreshCompleted(long durationNanos, boolean success);
+}
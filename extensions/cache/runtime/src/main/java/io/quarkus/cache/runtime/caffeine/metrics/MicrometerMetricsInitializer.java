@@ -1,10 +1,14 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.concurrent.TimeUnit;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 /**
@@ -26,4 +30,34 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public CacheRefreshMetrics refreshMetrics(String cacheName) {
+        Counter staleServed = Counter.builder("cache.stale.served")
+                .description("The number of values returned while they were due for a reload")
+                .tag("cache", cacheName)
+                .register(Metrics.globalRegistry);
+        Timer refreshSuccess = Timer.builder("cache.refresh")
+                .description("The duration of the background reloads")
+                .tag("cache", cacheName)
+                .tag("result", "success")
+                .register(Metrics.globalRegistry);
+        Timer refreshFailure = Timer.builder("cache.refresh")
+                .description("The duration of the background reloads")
+                .tag("cache", cacheName)
+                .tag("result", "failure")
+                .register(Metrics.globalRegistry);
+        return new CacheRefreshMetrics() {
+
+            @Override
+            public void staleValueServed() {
+                staleServed.increment();
+            }
+
+            @Override
+            public void refreshCompleted(long durationNanos, boolean success) {
+                (success ? refreshSuccess : refreshFailure).record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
 }
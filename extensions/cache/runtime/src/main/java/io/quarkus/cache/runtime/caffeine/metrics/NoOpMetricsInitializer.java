@@ -22,4 +22,9 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public CacheRefreshMetrics refreshMetrics(String cacheName) {
+        return CacheRefreshMetrics.NOOP;
+    }
 }
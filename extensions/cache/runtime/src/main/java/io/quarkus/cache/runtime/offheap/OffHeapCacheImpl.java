@@ -0,0 +1,329 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is an internal Quarkus cache implementation storing the serialized values off-heap. Do not use it explicitly
+ * from your Quarkus application. The public methods signatures may change without prior notice.
+ * <p>
+ * The keys and the index stay on the heap, in a Caffeine cache weighted by the off-heap size of the values, so that the
+ * eviction is bounded by bytes and not by number of entries. The values are copied on each read, which makes this cache a
+ * good fit for large values that would otherwise be promoted to the old generation, and a poor one for small values.
+ */
+public class OffHeapCacheImpl extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapCacheImpl.class);
+
+    private final OffHeapCacheInfo cacheInfo;
+    private final OffHeapMemory memory = new OffHeapMemory();
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Entry> index;
+
+    // The values being computed, kept on the heap until they are stored. An invalidation removes the loads of the
+    // invalidated keys, so that the later lookups do not join them and their values are not stored.
+    private final ConcurrentMap<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    public OffHeapCacheImpl(OffHeapCacheInfo cacheInfo) {
+        this.cacheInfo = cacheInfo;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        builder.maximumWeight(cacheInfo.maximumSize);
+        if (cacheInfo.expireAfterWrite != null) {
+            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+        }
+        if (cacheInfo.expireAfterAccess != null) {
+            builder.expireAfterAccess(cacheInfo.expireAfterAccess);
+        }
+        // The maintenance runs on the caller thread, so that the blocks of the evicted values are freed before the next
+        // values are stored, instead of reserving more memory while the eviction is pending
+        builder.executor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+        index = builder.weigher(new Weigher<Object, Entry>() {
+            @Override
+            public int weigh(Object key, Entry entry) {
+                return entry.blocks.length * OffHeapMemory.BLOCK_SIZE;
+            }
+        }).removalListener(new RemovalListener<Object, Entry>() {
+            @Override
+            public void onRemoval(Object key, Entry entry, RemovalCause cause) {
+                if (entry != null) {
+                    entry.release(memory);
+                }
+            }
+        }).build();
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<V>>() {
+            @Override
+            public CompletionStage<V> get() {
+                Object value = read(key);
+                if (value != null) {
+                    return CompletableFuture.completedFuture(fromCacheValue(value));
+                }
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                CompletableFuture<Object> existing = loading.putIfAbsent(key, future);
+                if (existing != null) {
+                    return existing.thenApply(OffHeapCacheImpl.<V> fromCacheValue());
+                }
+                try {
+                    // The value may have been stored between the read and the registration of the load
+                    value = read(key);
+                    if (value == null) {
+                        value = NullValueConverter.toCacheValue(valueLoader.apply(key));
+                        write(key, value, future);
+                    }
+                    future.complete(value);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    loading.remove(key, future);
+                }
+                return future.thenApply(OffHeapCacheImpl.<V> fromCacheValue());
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                Object value = read(key);
+                if (value != null) {
+                    return Uni.createFrom().item(OffHeapCacheImpl.<V> fromCacheValue(value));
+                }
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                CompletableFuture<Object> existing = loading.putIfAbsent(key, future);
+                if (existing != null) {
+                    return Uni.createFrom().completionStage(existing).map(OffHeapCacheImpl.<V> fromCacheValue());
+                }
+                return valueLoader.apply(key)
+                        .map(new Function<V, Object>() {
+                            @Override
+                            public Object apply(V item) {
+                                Object value = NullValueConverter.toCacheValue(item);
+                                write(key, value, future);
+                                return value;
+                            }
+                        })
+                        .onItemOrFailure().invoke(new BiConsumer<Object, Throwable>() {
+                            @Override
+                            public void accept(Object value, Throwable failure) {
+                                loading.remove(key, future);
+                                if (failure != null) {
+                                    future.completeExceptionally(failure);
+                                } else {
+                                    future.complete(value);
+                                }
+                            }
+                        })
+                        .onCancellation().invoke(new Runnable() {
+                            @Override
+                            public void run() {
+                                loading.remove(key, future);
+                                future.cancel(false);
+                            }
+                        })
+                        .map(OffHeapCacheImpl.<V> fromCacheValue());
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                loading.remove(key);
+                index.invalidate(key);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                loading.clear();
+                index.invalidateAll();
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                loading.keySet().removeIf(predicate);
+                index.asMap().keySet().removeIf(predicate);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * @return the off-heap size of the values currently stored, rounded up to the block size
+     */
+    public long weightedSize() {
+        index.cleanUp();
+        return index.policy().eviction().get().weightedSize().getAsLong();
+    }
+
+    /**
+     * @return the off-heap memory reserved by this cache, i.e. the size of the stored values and the free blocks
+     */
+    public long reservedSize() {
+        return memory.reservedBytes();
+    }
+
+    private Object read(Object key) {
+        Entry entry = index.getIfPresent(key);
+        // The entry may be evicted concurrently, in which case its blocks must not be reused while they are read
+        if (entry == null || !entry.retain()) {
+            return null;
+        }
+        try {
+            return OffHeapValueCodec.decode(memory.read(entry.blocks, entry.length));
+        } finally {
+            entry.release(memory);
+        }
+    }
+
+    /**
+     * Stores the value computed by the given load, unless the key was invalidated since the load started.
+     */
+    private void write(Object key, Object value, CompletableFuture<Object> load) {
+        byte[] data = OffHeapValueCodec.encode(value);
+        if (data.length > cacheInfo.maximumSize) {
+            LOGGER.debugf("Value of key [%s] not stored in cache [%s]: its size [%s] exceeds the maximum size",
+                    key, cacheInfo.name, data.length);
+            return;
+        }
+        int[] blocks = memory.allocate(data.length);
+        memory.write(blocks, data);
+        Entry entry = new Entry(blocks, data.length);
+        StoreIfLoading store = new StoreIfLoading(entry, load);
+        // The invalidations remove the load first, so the entry is either not stored or removed by the invalidation
+        loading.computeIfPresent(key, store);
+        if (!store.stored) {
+            LOGGER.debugf("Value of key [%s] not stored in cache [%s]: the key was invalidated while it was computed",
+                    key, cacheInfo.name);
+            entry.release(memory);
+            return;
+        }
+        // Writes of large values are rare compared to reads: evicting eagerly keeps the reserved memory close to the maximum
+        index.cleanUp();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V fromCacheValue(Object value) {
+        return (V) NullValueConverter.fromCacheValue(value);
+    }
+
+    private static <V> Function<Object, V> fromCacheValue() {
+        return new Function<Object, V>() {
+            @Override
+            public V apply(Object value) {
+                return fromCacheValue(value);
+            }
+        };
+    }
+
+    /**
+     * Adds an entry to the index and removes the load that computed it, if this load is still registered.
+     */
+    private final class StoreIfLoading implements BiFunction<Object, CompletableFuture<Object>, CompletableFuture<Object>> {
+
+        private final Entry entry;
+        private final CompletableFuture<Object> load;
+        private boolean stored;
+
+        private StoreIfLoading(Entry entry, CompletableFuture<Object> load) {
+            this.entry = entry;
+            this.load = load;
+        }
+
+        @Override
+        public CompletableFuture<Object> apply(Object key, CompletableFuture<Object> current) {
+            if (current != load) {
+                return current;
+            }
+            index.put(key, entry);
+            stored = true;
+            return null;
+        }
+    }
+
+    /**
+     * The location of a value in the off-heap memory. The blocks are freed once the entry is removed from the index and no
+     * reader holds it anymore.
+     */
+    private static final class Entry {
+
+        private final int[] blocks;
+        private final int length;
+        // One reference held by the index, plus one per reader
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Entry(int[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+
+        private boolean retain() {
+            for (;;) {
+                int current = references.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release(OffHeapMemory memory) {
+            if (references.decrementAndGet() == 0) {
+                memory.free(blocks);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class OffHeapCacheInfo {
+
+    public String name;
+
+    public long maximumSize;
+
+    public Duration expireAfterWrite;
+
+    public Duration expireAfterAccess;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof OffHeapCacheInfo) {
+            OffHeapCacheInfo other = (OffHeapCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.cache.runtime.offheap;
+
+import static io.quarkus.cache.runtime.CacheConfig.OffHeapConfig.OffHeapCacheConfig;
+
+import java.util.Collections;
+import java.util.Set;
+
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.runtime.configuration.HashSetFactory;
+
+public class OffHeapCacheInfoBuilder {
+
+    static final long DEFAULT_MAXIMUM_SIZE = 64 * 1024 * 1024;
+
+    public static Set<OffHeapCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+        if (cacheNames.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            OffHeapCacheConfig defaultConfig = cacheConfig.offHeap().defaultConfig();
+
+            Set<OffHeapCacheInfo> cacheInfos = HashSetFactory.<OffHeapCacheInfo> getInstance().apply(cacheNames.size());
+            for (String cacheName : cacheNames) {
+
+                OffHeapCacheInfo cacheInfo = new OffHeapCacheInfo();
+                cacheInfo.name = cacheName;
+
+                OffHeapCacheConfig namedCacheConfig = cacheConfig.offHeap().cachesConfig().get(cacheInfo.name);
+
+                if (namedCacheConfig != null && namedCacheConfig.maximumSize().isPresent()) {
+                    cacheInfo.maximumSize = namedCacheConfig.maximumSize().get().asLongValue();
+                } else if (defaultConfig.maximumSize().isPresent()) {
+                    cacheInfo.maximumSize = defaultConfig.maximumSize().get().asLongValue();
+                } else {
+                    cacheInfo.maximumSize = DEFAULT_MAXIMUM_SIZE;
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
+                    cacheInfo.expireAfterWrite = namedCacheConfig.expireAfterWrite().get();
+                } else if (defaultConfig.expireAfterWrite().isPresent()) {
+                    cacheInfo.expireAfterWrite = defaultConfig.expireAfterWrite().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.expireAfterAccess().isPresent()) {
+                    cacheInfo.expireAfterAccess = namedCacheConfig.expireAfterAccess().get();
+                } else if (defaultConfig.expireAfterAccess().isPresent()) {
+                    cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
+                }
+
+                cacheInfos.add(cacheInfo);
+            }
+            return cacheInfos;
+        }
+    }
+}
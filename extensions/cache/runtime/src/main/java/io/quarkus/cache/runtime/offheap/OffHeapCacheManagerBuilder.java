@@ -0,0 +1,44 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.CacheConfig;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+
+public class OffHeapCacheManagerBuilder {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapCacheManagerBuilder.class);
+
+    public static Supplier<CacheManager> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+        Set<OffHeapCacheInfo> cacheInfos = OffHeapCacheInfoBuilder.build(cacheNames, cacheConfig);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (cacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                    for (OffHeapCacheInfo cacheInfo : cacheInfos) {
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debugf(
+                                    "Building off-heap cache [%s] with [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
+                                    cacheInfo.name, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
+                                    cacheInfo.expireAfterAccess);
+                        }
+                        caches.put(cacheInfo.name, new OffHeapCacheImpl(cacheInfo));
+                    }
+                    return new CacheManagerImpl(caches);
+                }
+            }
+        };
+    }
+}
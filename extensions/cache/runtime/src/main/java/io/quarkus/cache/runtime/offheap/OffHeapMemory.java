@@ -0,0 +1,96 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The off-heap memory of a cache. The memory is reserved in direct regions that are split into fixed-size blocks, and a
+ * value is stored in as many blocks as needed. The blocks of the removed values are reused, so the memory is reserved once
+ * and then recycled instead of being released to the garbage collector.
+ * <p>
+ * The allocation is synchronized, the reads and writes are not: a block is only written before its value is published to
+ * the index, and it is only reused once no reader holds the value anymore.
+ */
+final class OffHeapMemory {
+
+    static final int BLOCK_SIZE = 4096;
+    static final int BLOCKS_PER_REGION = 1024;
+
+    private volatile ByteBuffer[] regions = new ByteBuffer[0];
+
+    // Guarded by this
+    private int[] freeBlocks = new int[BLOCKS_PER_REGION];
+    private int freeCount;
+
+    /**
+     * @return the number of bytes reserved by this memory, including the free blocks
+     */
+    long reservedBytes() {
+        return (long) regions.length * BLOCKS_PER_REGION * BLOCK_SIZE;
+    }
+
+    static int blockCount(int length) {
+        return Math.max(1, (length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    synchronized int[] allocate(int length) {
+        int[] blocks = new int[blockCount(length)];
+        for (int i = 0; i < blocks.length; i++) {
+            if (freeCount == 0) {
+                addRegion();
+            }
+            blocks[i] = freeBlocks[--freeCount];
+        }
+        return blocks;
+    }
+
+    synchronized void free(int[] blocks) {
+        for (int block : blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    void write(int[] blocks, byte[] data) {
+        ByteBuffer[] regions = this.regions;
+        int offset = 0;
+        for (int block : blocks) {
+            int length = Math.min(BLOCK_SIZE, data.length - offset);
+            if (length <= 0) {
+                break;
+            }
+            regions[block / BLOCKS_PER_REGION].put((block % BLOCKS_PER_REGION) * BLOCK_SIZE, data, offset, length);
+            offset += length;
+        }
+    }
+
+    byte[] read(int[] blocks, int length) {
+        ByteBuffer[] regions = this.regions;
+        byte[] data = new byte[length];
+        int offset = 0;
+        for (int block : blocks) {
+            int blockLength = Math.min(BLOCK_SIZE, length - offset);
+            if (blockLength <= 0) {
+                break;
+            }
+            regions[block / BLOCKS_PER_REGION].get((block % BLOCKS_PER_REGION) * BLOCK_SIZE, data, offset, blockLength);
+            offset += blockLength;
+        }
+        return data;
+    }
+
+    private void addRegion() {
+        ByteBuffer[] current = regions;
+        int first = current.length * BLOCKS_PER_REGION;
+        ByteBuffer[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = ByteBuffer.allocateDirect(BLOCKS_PER_REGION * BLOCK_SIZE);
+        // All the blocks may be free at once, so the free list must be able to hold all of them
+        if (freeBlocks.length < grown.length * BLOCKS_PER_REGION) {
+            freeBlocks = Arrays.copyOf(freeBlocks, grown.length * BLOCKS_PER_REGION);
+        }
+        // Pushed in reverse order so that the blocks of a new value are contiguous
+        for (int i = BLOCKS_PER_REGION - 1; i >= 0; i--) {
+            freeBlocks[freeCount++] = first + i;
+        }
+        regions = grown;
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.cache.runtime.offheap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.runtime.NullValueConverter;
+
+/**
+ * Serializes the values stored off-heap. Strings and byte arrays, i.e. the usual large values such as rendered fragments or
+ * payloads, are stored as is; the other values must be {@link Serializable} and are stored with the Java serialization.
+ */
+final class OffHeapValueCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BYTES = 2;
+    private static final byte SERIALIZED = 3;
+
+    private static final Object NULL_VALUE = NullValueConverter.toCacheValue(null);
+
+    private OffHeapValueCodec() {
+    }
+
+    static byte[] encode(Object value) {
+        if (value == NULL_VALUE) {
+            return new byte[] { NULL };
+        } else if (value instanceof String) {
+            return prefix(STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            return prefix(BYTES, (byte[]) value);
+        } else if (value instanceof Serializable) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(SERIALIZED);
+            try (ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                objects.writeObject(value);
+            } catch (IOException e) {
+                throw new CacheException("Unable to serialize a value of type " + value.getClass().getName(), e);
+            }
+            return out.toByteArray();
+        } else {
+            throw new IllegalArgumentException("Unable to store a value of type " + value.getClass().getName()
+                    + " off-heap: the value must be a String, a byte array or implement java.io.Serializable");
+        }
+    }
+
+    static Object decode(byte[] data) {
+        switch (data[0]) {
+            case NULL:
+                return NULL_VALUE;
+            case STRING:
+                return new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+            case BYTES:
+                return Arrays.copyOfRange(data, 1, data.length);
+            case SERIALIZED:
+                try (ObjectInputStream objects = new ContextObjectInputStream(
+                        new ByteArrayInputStream(data, 1, data.length - 1))) {
+                    return objects.readObject();
+                } catch (IOException | ClassNotFoundException e) {
+                    throw new CacheException("Unable to deserialize a cached value", e);
+                }
+            default:
+                throw new IllegalStateException("Unknown value type: " + data[0]);
+        }
+    }
+
+    private static byte[] prefix(byte type, byte[] bytes) {
+        byte[] data = new byte[bytes.length + 1];
+        data[0] = type;
+        System.arraycopy(bytes, 0, data, 1, bytes.length);
+        return data;
+    }
+
+    /**
+     * Resolves the classes with the TCCL, i.e. the application class loader in dev mode.
+     */
+    private static final class ContextObjectInputStream extends ObjectInputStream {
+
+        ContextObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the default resolution, e.g. for the primitive types
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -2,15 +2,21 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
+import io.quarkus.load.shedding.runtime.MicrometerLoadSheddingMetrics;
+import io.quarkus.load.shedding.runtime.NoOpLoadSheddingMetrics;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.load.shedding.runtime.OverloadSignals;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public class LoadSheddingProcessor {
     private static final String FEATURE = "load-shedding";
@@ -21,13 +27,19 @@ FeatureBuildItem feature() {
     }
 
     @BuildStep
-    AdditionalBeanBuildItem beans() {
+    AdditionalBeanBuildItem beans(Optional<MetricsCapabilityBuildItem> metricsCapability) {
         List<String> beans = new ArrayList<>();
         beans.add(OverloadDetector.class.getName());
+        beans.add(OverloadSignals.class.getName());
         beans.add(HttpLoadShedding.class.getName());
         beans.add(PriorityLoadShedding.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
         beans.add(HttpRequestClassifier.class.getName());
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            beans.add(MicrometerLoadSheddingMetrics.class.getName());
+        } else {
+            beans.add(NoOpLoadSheddingMetrics.class.getName());
+        }
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
@@ -0,0 +1,144 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Bounded per-group queues served by deficit round robin. Each non-empty group may dequeue as many elements per round as
+ * its weight, so a group that enqueues a lot only fills its own queue and cannot starve the other groups.
+ * <p>
+ * Every element has a deadline; the elements that waited past it are never dequeued, they are passed to the expiry
+ * callback instead.
+ *
+ * @param <T> type of the queued elements
+ */
+final class FairQueue<T> {
+    private final int maxSize;
+    private final long maxWaitNanos;
+
+    // All the fields below are guarded by this
+    private final Group<T>[] groups;
+    private final ArrayDeque<Group<T>> active = new ArrayDeque<>();
+
+    @SuppressWarnings("unchecked")
+    FairQueue(int groupCount, int maxSize, long maxWaitNanos) {
+        this.groups = new Group[groupCount];
+        this.maxSize = maxSize;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    /**
+     * @param group the group, between 0 (inclusive) and the number of groups (exclusive)
+     * @param weight the number of elements the group may dequeue per round, at least 1
+     * @return whether the element was enqueued, {@code false} if the queue of the group is full
+     */
+    synchronized boolean offer(int group, int weight, T element, long now) {
+        Group<T> queue = groups[group];
+        if (queue == null) {
+            queue = new Group<>(Math.max(1, weight));
+            groups[group] = queue;
+        }
+        if (queue.elements.size() >= maxSize) {
+            return false;
+        }
+        queue.elements.addLast(new Waiting<>(element, now, now + maxWaitNanos));
+        if (!queue.active) {
+            queue.active = true;
+            active.addLast(queue);
+        }
+        return true;
+    }
+
+    /**
+     * Dequeues the next element, skipping the elements that waited past their deadline.
+     *
+     * @return the next element, or {@code null} if the queue is empty
+     */
+    Waiting<T> poll(long now, Consumer<Waiting<T>> expired) {
+        for (;;) {
+            Waiting<T> next;
+            synchronized (this) {
+                next = pollNext();
+            }
+            if (next == null || next.deadline - now >= 0) {
+                return next;
+            }
+            expired.accept(next);
+        }
+    }
+
+    /**
+     * Removes all the elements that waited past their deadline.
+     */
+    void expire(long now, Consumer<Waiting<T>> expired) {
+        ArrayDeque<Waiting<T>> removed = new ArrayDeque<>();
+        synchronized (this) {
+            for (Group<T> queue : active) {
+                // The elements of a group are ordered by deadline
+                while (!queue.elements.isEmpty() && queue.elements.peekFirst().deadline - now < 0) {
+                    removed.add(queue.elements.pollFirst());
+                }
+            }
+            active.removeIf(new Predicate<Group<T>>() {
+                @Override
+                public boolean test(Group<T> queue) {
+                    if (queue.elements.isEmpty()) {
+                        queue.active = false;
+                        queue.deficit = 0;
+                        return true;
+                    }
+                    return false;
+                }
+            });
+        }
+        for (Waiting<T> waiting : removed) {
+            expired.accept(waiting);
+        }
+    }
+
+    // Guarded by this
+    private Waiting<T> pollNext() {
+        Group<T> queue = active.peekFirst();
+        if (queue == null) {
+            return null;
+        }
+        if (queue.deficit == 0) {
+            // A new round for this group
+            queue.deficit = queue.weight;
+        }
+        Waiting<T> next = queue.elements.pollFirst();
+        queue.deficit--;
+        if (queue.elements.isEmpty()) {
+            active.pollFirst();
+            queue.active = false;
+            queue.deficit = 0;
+        } else if (queue.deficit == 0) {
+            active.addLast(active.pollFirst());
+        }
+        return next;
+    }
+
+    static final class Waiting<T> {
+        final T element;
+        final long enqueued;
+        final long deadline;
+
+        Waiting(T element, long enqueued, long deadline) {
+            this.element = element;
+            this.enqueued = enqueued;
+            this.deadline = deadline;
+        }
+    }
+
+    private static final class Group<T> {
+        final int weight;
+        final ArrayDeque<Waiting<T>> elements = new ArrayDeque<>();
+        int deficit;
+        boolean active;
+
+        Group(int weight) {
+            this.weight = weight;
+        }
+    }
+}
@@ -1,49 +1,201 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.util.function.Consumer;
+
 import jakarta.annotation.Priority;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.load.shedding.RequestClassifier;
+import io.quarkus.load.shedding.RequestPriority;
+import io.quarkus.load.shedding.runtime.FairQueue.Waiting;
+import io.quarkus.runtime.ShutdownEvent;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 @Singleton
 public class HttpLoadShedding {
+    private static final int GROUPS = RequestPriority.values().length * RequestClassifier.MAX_COHORT;
+
+    private volatile long queueTimer = -1;
+
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config, LoadSheddingMetrics metrics, Vertx vertx) {
 
         if (!config.enabled()) {
             return;
         }
 
+        RequestQueue queue = config.queue().enabled() ? new RequestQueue(detector, metrics, config.queue()) : null;
+        if (queue != null) {
+            // Expires the requests that waited too long, and dispatches the queued requests when the overload is over
+            // even if no request completes
+            long interval = Math.max(10, Math.min(100, config.queue().maxWait().toMillis() / 4));
+            queueTimer = vertx.setPeriodic(interval, new Handler<Long>() {
+                @Override
+                public void handle(Long ignored) {
+                    queue.expire();
+                    queue.dispatch();
+                }
+            });
+        }
+
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx)) {
-                HttpServerResponse response = ctx.response();
-                response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
-                response.headers().add(HttpHeaderNames.CONNECTION, "close");
-                response.endHandler(new Handler<Void>() {
-                    @Override
-                    public void handle(Void ignored) {
-                        ctx.request().connection().close();
-                    }
-                });
-                response.end();
+            if (detector.isOverloaded()) {
+                if (!priority.isEnabled()) {
+                    // Every request is shed, the request is not classified
+                    shed(ctx, RequestPriority.NORMAL, PriorityLoadShedding.DEFAULT_COHORT, metrics, queue);
+                    return;
+                }
+                // The request is classified once, the result is used for the decision, the metrics and the queue
+                RequestPriority requestPriority = priority.priority(ctx);
+                int cohort = priority.cohort(ctx);
+                if (priority.shedLoad(requestPriority, cohort)) {
+                    shed(ctx, requestPriority, cohort, metrics, queue);
+                    return;
+                }
+            }
+            detector.requestBegin();
+            admit(ctx, detector, queue);
+        });
+    }
+
+    void stop(@Observes ShutdownEvent event, Vertx vertx) {
+        long timer = queueTimer;
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+            queueTimer = -1;
+        }
+    }
+
+    private static void shed(RoutingContext ctx, RequestPriority priority, int cohort, LoadSheddingMetrics metrics,
+            RequestQueue queue) {
+        if (queue == null) {
+            metrics.rejected(priority, cohort, LoadSheddingMetrics.REASON_OVERLOADED);
+            reject(ctx);
+        } else {
+            queue.offer(ctx, priority, cohort);
+        }
+    }
+
+    // Must be called after OverloadDetector.requestBegin()
+    private static void admit(RoutingContext ctx, OverloadDetector detector, RequestQueue queue) {
+        long start = System.nanoTime();
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ignored) {
+                long end = System.nanoTime();
+                detector.requestEnd((end - start) / 1_000);
+                if (queue != null) {
+                    queue.dispatch();
+                }
+            }
+        });
+        ctx.next();
+    }
+
+    private static void reject(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        response.headers().add(HttpHeaderNames.CONNECTION, "close");
+        response.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                ctx.request().connection().close();
+            }
+        });
+        response.end();
+    }
+
+    private static final class QueuedRequest {
+        final RoutingContext ctx;
+        final Context context;
+        final RequestPriority priority;
+        final int cohort;
+
+        QueuedRequest(RoutingContext ctx, Context context, RequestPriority priority, int cohort) {
+            this.ctx = ctx;
+            this.context = context;
+            this.priority = priority;
+            this.cohort = cohort;
+        }
+    }
+
+    /**
+     * The requests waiting for the end of an overload, queued per priority and cohort. A priority is served by deficit
+     * round robin with a weight of 5 for {@link RequestPriority#CRITICAL} down to 1 for {@link RequestPriority#DEGRADED}.
+     */
+    private static final class RequestQueue {
+        private final OverloadDetector detector;
+        private final LoadSheddingMetrics metrics;
+        private final FairQueue<QueuedRequest> queue;
+        private final Consumer<Waiting<QueuedRequest>> expired;
+
+        RequestQueue(OverloadDetector detector, LoadSheddingMetrics metrics, LoadSheddingRuntimeConfig.Queue config) {
+            this.detector = detector;
+            this.metrics = metrics;
+            this.queue = new FairQueue<>(GROUPS, config.maxSize(), config.maxWait().toNanos());
+            this.expired = new Consumer<Waiting<QueuedRequest>>() {
+                @Override
+                public void accept(Waiting<QueuedRequest> waiting) {
+                    QueuedRequest request = waiting.element;
+                    metrics.rejected(request.priority, request.cohort, LoadSheddingMetrics.REASON_DEADLINE);
+                    request.context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            reject(request.ctx);
+                        }
+                    });
+                }
+            };
+        }
+
+        void offer(RoutingContext ctx, RequestPriority priority, int cohort) {
+            int group = priority.cohortBaseline() + cohort - 1;
+            int weight = RequestPriority.values().length - priority.ordinal();
+            // The request is paused until the body handler, so nothing is read from the request until it is dispatched
+            QueuedRequest request = new QueuedRequest(ctx, Vertx.currentContext(), priority, cohort);
+            if (queue.offer(group, weight, request, System.nanoTime())) {
+                metrics.queued(priority, cohort);
             } else {
+                metrics.rejected(priority, cohort, LoadSheddingMetrics.REASON_QUEUE_FULL);
+                reject(ctx);
+            }
+        }
+
+        void dispatch() {
+            while (!detector.isOverloaded()) {
+                long now = System.nanoTime();
+                Waiting<QueuedRequest> next = queue.poll(now, expired);
+                if (next == null) {
+                    return;
+                }
+                QueuedRequest request = next.element;
+                if (request.ctx.response().closed()) {
+                    // The client gave up
+                    continue;
+                }
+                metrics.dispatched(request.priority, request.cohort, now - next.enqueued);
+                // Counted before switching to the context of the request, so that the concurrent dispatches see it
                 detector.requestBegin();
-                long start = System.nanoTime();
-                ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+                request.context.runOnContext(new Handler<Void>() {
                     @Override
-                    public void handle(AsyncResult<Void> ignored) {
-                        long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                    public void handle(Void ignored) {
+                        admit(request.ctx, detector, RequestQueue.this);
                     }
                 });
-                ctx.next();
             }
-        });
+        }
+
+        void expire() {
+            queue.expire(System.nanoTime(), expired);
+        }
     }
 }
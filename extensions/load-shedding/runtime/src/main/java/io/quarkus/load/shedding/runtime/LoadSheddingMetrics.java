@@ -0,0 +1,32 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.RequestPriority;
+
+/**
+ * Records what happens to the requests during an overload, per priority and cohort.
+ */
+public interface LoadSheddingMetrics {
+
+    String REASON_OVERLOADED = "overloaded";
+    String REASON_QUEUE_FULL = "queue-full";
+    String REASON_DEADLINE = "deadline";
+
+    /**
+     * A request was rejected.
+     *
+     * @param reason one of {@link #REASON_OVERLOADED}, {@link #REASON_QUEUE_FULL} and {@link #REASON_DEADLINE}
+     */
+    void rejected(RequestPriority priority, int cohort, String reason);
+
+    /**
+     * A request was queued because of an overload.
+     */
+    void queued(RequestPriority priority, int cohort);
+
+    /**
+     * A queued request was dispatched.
+     *
+     * @param waitNanos the time the request waited in the queue
+     */
+    void dispatched(RequestPriority priority, int cohort, long waitNanos);
+}
@@ -1,5 +1,10 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -46,6 +51,17 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the additional overload signals. When a signal exceeds its threshold, the application is considered
+     * overloaded, regardless of the number of concurrent requests.
+     */
+    Signals signals();
+
+    /**
+     * Configuration of the fair queuing of the requests.
+     */
+    Queue queue();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +75,55 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface Signals {
+        /**
+         * How often the overload signals are sampled.
+         */
+        @WithDefault("100ms")
+        Duration interval();
+
+        /**
+         * The maximum delay between the submission of a task to a Vert.x event loop and its execution.
+         * The event loop lag signal is disabled if not set.
+         */
+        Optional<Duration> maxEventLoopLag();
+
+        /**
+         * The maximum number of tasks waiting in the queue of the worker pool.
+         * The worker pool queue signal is disabled if not set.
+         */
+        OptionalInt maxWorkerQueueSize();
+
+        /**
+         * The maximum ratio of time spent in garbage collection pauses during a sampling interval, between 0 and 1.
+         * The garbage collection signal is disabled if not set.
+         */
+        OptionalDouble maxGcPauseRatio();
+    }
+
+    @ConfigGroup
+    interface Queue {
+        /**
+         * Whether the requests that would be rejected because of an overload are queued instead. The requests are queued
+         * per priority and cohort, and the queues are served by weighted round robin as soon as the overload is over,
+         * so that the requests of a cohort that sends a lot of requests do not delay the requests of the other cohorts.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of requests waiting per priority and cohort. The requests are rejected when the queue of their
+         * priority and cohort is full.
+         */
+        @WithDefault("32")
+        int maxSize();
+
+        /**
+         * The maximum time a request waits in the queue. The requests that waited longer are rejected.
+         */
+        @WithDefault("1s")
+        Duration maxWait();
+    }
 }
@@ -0,0 +1,88 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.load.shedding.RequestPriority;
+
+/**
+ * Used when the application depends on a quarkus-micrometer-registry-* extension. The meters are tagged by priority only,
+ * because the cohorts would multiply the number of time series by up to 128. They are cached per priority, so that
+ * recording does not allocate during an overload.
+ */
+@Singleton
+public class MicrometerLoadSheddingMetrics implements LoadSheddingMetrics {
+
+    private static final int PRIORITIES = RequestPriority.values().length;
+
+    private final AtomicReferenceArray<Counter> overloaded = new AtomicReferenceArray<>(PRIORITIES);
+    private final AtomicReferenceArray<Counter> queueFull = new AtomicReferenceArray<>(PRIORITIES);
+    private final AtomicReferenceArray<Counter> deadline = new AtomicReferenceArray<>(PRIORITIES);
+    private final AtomicReferenceArray<Counter> queued = new AtomicReferenceArray<>(PRIORITIES);
+    private final AtomicReferenceArray<Timer> wait = new AtomicReferenceArray<>(PRIORITIES);
+
+    @Override
+    public void rejected(RequestPriority priority, int cohort, String reason) {
+        AtomicReferenceArray<Counter> counters;
+        switch (reason) {
+            case REASON_QUEUE_FULL:
+                counters = queueFull;
+                break;
+            case REASON_DEADLINE:
+                counters = deadline;
+                break;
+            default:
+                counters = overloaded;
+        }
+        int group = priority.ordinal();
+        Counter counter = counters.get(group);
+        if (counter == null) {
+            // Registering the same meter twice returns the same instance
+            counter = Counter.builder("load-shedding.requests.rejected")
+                    .description("The number of requests rejected because of an overload")
+                    .tag("priority", tag(priority))
+                    .tag("reason", reason)
+                    .register(Metrics.globalRegistry);
+            counters.set(group, counter);
+        }
+        counter.increment();
+    }
+
+    @Override
+    public void queued(RequestPriority priority, int cohort) {
+        int group = priority.ordinal();
+        Counter counter = queued.get(group);
+        if (counter == null) {
+            counter = Counter.builder("load-shedding.requests.queued")
+                    .description("The number of requests queued because of an overload")
+                    .tag("priority", tag(priority))
+                    .register(Metrics.globalRegistry);
+            queued.set(group, counter);
+        }
+        counter.increment();
+    }
+
+    @Override
+    public void dispatched(RequestPriority priority, int cohort, long waitNanos) {
+        int group = priority.ordinal();
+        Timer timer = wait.get(group);
+        if (timer == null) {
+            timer = Timer.builder("load-shedding.queue.wait")
+                    .description("The time the dispatched requests waited in the queue")
+                    .tag("priority", tag(priority))
+                    .register(Metrics.globalRegistry);
+            wait.set(group, timer);
+        }
+        timer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String tag(RequestPriority priority) {
+        return priority.name().toLowerCase(Locale.ROOT);
+    }
+}
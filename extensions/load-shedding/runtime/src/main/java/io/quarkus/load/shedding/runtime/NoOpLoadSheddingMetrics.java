@@ -0,0 +1,28 @@
+package io.quarkus.load.shedding.runtime;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.load.shedding.RequestPriority;
+
+/**
+ * Used when the application does not depend on any quarkus-micrometer-registry-* extension. It is required to make the
+ * micrometer-core dependency optional.
+ */
+@Singleton
+public class NoOpLoadSheddingMetrics implements LoadSheddingMetrics {
+
+    @Override
+    public void rejected(RequestPriority priority, int cohort, String reason) {
+        // Do nothing.
+    }
+
+    @Override
+    public void queued(RequestPriority priority, int cohort) {
+        // Do nothing.
+    }
+
+    @Override
+    public void dispatched(RequestPriority priority, int cohort, long waitNanos) {
+        // Do nothing.
+    }
+}
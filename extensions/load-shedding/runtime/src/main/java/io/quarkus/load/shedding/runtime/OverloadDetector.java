@@ -1,6 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.inject.Inject;
@@ -8,7 +9,12 @@
 
 /**
  * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>,
+ * combined with the {@linkplain OverloadSignals additional overload signals}.
+ * <p>
+ * The limit is updated by a single thread at a time. A request that ends while another thread is updating the limit
+ * does not wait: its measurement is dropped, which only makes the limit converge on a sample of the requests instead of
+ * making the detector a contention point under high load.
  */
 @Singleton
 public class OverloadDetector {
@@ -26,15 +32,21 @@ public class OverloadDetector {
     private final int betaFactor;
     private final double probeFactor;
 
+    private final OverloadSignals signals;
+
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
+    // Guards the fields below
+    private final AtomicBoolean updating = new AtomicBoolean();
+
     private long lowestRequestTime = Long.MAX_VALUE;
     private double probeCount = 0.0;
     private double probeJitter;
 
     @Inject
-    public OverloadDetector(LoadSheddingRuntimeConfig config) {
+    public OverloadDetector(LoadSheddingRuntimeConfig config, OverloadSignals signals) {
+        this.signals = signals;
         maxLimit = config.maxLimit();
         alphaFactor = config.alphaFactor();
         betaFactor = config.betaFactor();
@@ -44,7 +56,7 @@ public OverloadDetector(LoadSheddingRuntimeConfig config) {
     }
 
     public boolean isOverloaded() {
-        return currentRequests.get() >= currentLimit;
+        return currentRequests.get() >= currentLimit || signals.isOverloaded();
     }
 
     public void requestBegin() {
@@ -54,10 +66,17 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
+        // Reading the flag first avoids a failing compare-and-set on a contended cache line
+        if (!updating.get() && updating.compareAndSet(false, true)) {
+            try {
+                update(timeInMicros, current);
+            } finally {
+                updating.set(false);
+            }
+        }
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
+    private void update(long requestTime, int currentRequests) {
         probeCount++;
         if (probeFactor * probeJitter * currentLimit <= probeCount) {
             resetProbeJitter();
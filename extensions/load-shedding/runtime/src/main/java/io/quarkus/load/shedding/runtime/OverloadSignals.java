@@ -0,0 +1,197 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.quarkus.runtime.ExecutorRecorder;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.core.Vertx;
+
+/**
+ * Overload signals that are not visible from the request latencies: the Vert.x event loop lag, the worker pool queue size
+ * and the time spent in garbage collection pauses. The signals are sampled periodically on a dedicated thread, so that a
+ * blocked event loop is detected while it is still blocked, and the result is read by {@link OverloadDetector} without
+ * any synchronization.
+ */
+@Singleton
+public class OverloadSignals {
+    private static final Logger LOG = Logger.getLogger(OverloadSignals.class);
+
+    private final Vertx vertx;
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final long maxEventLoopLagNanos;
+    private final int maxWorkerQueueSize;
+    private final double maxGcPauseRatio;
+
+    private final List<GarbageCollectorMXBean> collectors = new ArrayList<>();
+
+    private volatile boolean overloaded;
+
+    private ScheduledExecutorService sampler;
+    private List<EventLoopProbe> probes;
+    private long lastSampleTime;
+    private long lastGcTime;
+
+    @Inject
+    public OverloadSignals(LoadSheddingRuntimeConfig config, Vertx vertx) {
+        this.vertx = vertx;
+        enabled = config.enabled();
+        LoadSheddingRuntimeConfig.Signals signals = config.signals();
+        intervalNanos = signals.interval().toNanos();
+        maxEventLoopLagNanos = signals.maxEventLoopLag().isPresent() ? signals.maxEventLoopLag().get().toNanos() : -1;
+        maxWorkerQueueSize = signals.maxWorkerQueueSize().orElse(-1);
+        maxGcPauseRatio = signals.maxGcPauseRatio().orElse(-1);
+        if (maxGcPauseRatio >= 0) {
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                // The concurrent collectors also report the time spent concurrently with the application, which is not a pause
+                String name = collector.getName();
+                if (!name.contains("Concurrent") && !name.endsWith("Cycles")) {
+                    collectors.add(collector);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether one of the signals exceeded its threshold during the last sampling interval
+     */
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    void start(@Observes StartupEvent event) {
+        if (!enabled || (maxEventLoopLagNanos < 0 && maxWorkerQueueSize < 0 && maxGcPauseRatio < 0)) {
+            return;
+        }
+        if (maxEventLoopLagNanos >= 0) {
+            probes = new ArrayList<>();
+            for (EventExecutor eventLoop : vertx.nettyEventLoopGroup()) {
+                probes.add(new EventLoopProbe(eventLoop));
+            }
+        }
+        lastSampleTime = System.nanoTime();
+        lastGcTime = gcTime();
+        sampler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "load-shedding-signals");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        sampler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    sample();
+                } catch (Throwable e) {
+                    LOG.debug("Unable to sample the overload signals", e);
+                }
+            }
+        }, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+        overloaded = false;
+    }
+
+    // Only called from the sampler thread
+    void sample() {
+        long now = System.nanoTime();
+        boolean overloaded = false;
+
+        if (probes != null) {
+            long maxLag = 0;
+            for (EventLoopProbe probe : probes) {
+                maxLag = Math.max(maxLag, probe.lag(now));
+            }
+            if (maxLag > maxEventLoopLagNanos) {
+                LOG.debugf("Overloaded: event loop lag of %d ms", TimeUnit.NANOSECONDS.toMillis(maxLag));
+                overloaded = true;
+            }
+        }
+
+        if (maxWorkerQueueSize >= 0) {
+            int queueSize = ExecutorRecorder.getCurrentQueueSize();
+            if (queueSize > maxWorkerQueueSize) {
+                LOG.debugf("Overloaded: %d tasks waiting in the worker pool queue", queueSize);
+                overloaded = true;
+            }
+        }
+
+        if (maxGcPauseRatio >= 0) {
+            long gcTime = gcTime();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - lastSampleTime);
+            if (elapsedMillis > 0) {
+                double ratio = (double) (gcTime - lastGcTime) / elapsedMillis;
+                if (ratio > maxGcPauseRatio) {
+                    LOG.debugf("Overloaded: %.0f%% of the time spent in garbage collection pauses", ratio * 100);
+                    overloaded = true;
+                }
+            }
+            lastGcTime = gcTime;
+        }
+
+        lastSampleTime = now;
+        this.overloaded = overloaded;
+    }
+
+    private long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * Measures the delay between the submission of a no-op task to an event loop and its execution. At most one task is
+     * pending per event loop; while it is pending, the lag is the time elapsed since its submission.
+     */
+    private static final class EventLoopProbe implements Runnable {
+        private final EventExecutor eventLoop;
+
+        private volatile boolean pending;
+        private volatile long submitted;
+        private volatile long lastLag;
+
+        EventLoopProbe(EventExecutor eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        long lag(long now) {
+            if (pending) {
+                return now - submitted;
+            }
+            submitted = now;
+            pending = true;
+            eventLoop.execute(this);
+            return lastLag;
+        }
+
+        @Override
+        public void run() {
+            lastLag = System.nanoTime() - submitted;
+            pending = false;
+        }
+    }
+}
@@ -15,6 +15,9 @@
 
 @Singleton
 public class PriorityLoadShedding {
+    // in the middle of the [1,128] interval
+    static final int DEFAULT_COHORT = 64;
+
     @Inject
     @All
     List<RequestPrioritizer<?>> requestPrioritizers;
@@ -40,11 +43,24 @@ public class PriorityLoadShedding {
         os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
     }
 
+    // if disabled, all the requests are shed during an overload
+    boolean isEnabled() {
+        return enabled;
+    }
+
     // when this is called, we know we're overloaded
     public boolean shedLoad(Object request) {
         if (!enabled) {
             return true;
         }
+        return shedLoad(priority(request), cohort(request));
+    }
+
+    // when this is called, we know we're overloaded and the request was already classified
+    boolean shedLoad(RequestPriority priority, int cohort) {
+        if (!enabled) {
+            return true;
+        }
 
         long now = System.currentTimeMillis();
         synchronized (this) {
@@ -63,15 +79,20 @@ public boolean shedLoad(Object request) {
             return true;
         }
 
-        RequestPriority priority = RequestPriority.NORMAL;
+        return priority.cohortBaseline() + cohort > threshold;
+    }
+
+    RequestPriority priority(Object request) {
         for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
             if (requestPrioritizer.appliesTo(request)) {
-                priority = requestPrioritizer.priority(request);
-                break;
+                return requestPrioritizer.priority(request);
             }
         }
+        return RequestPriority.NORMAL;
+    }
 
-        int cohort = 64; // in the middle of the [1,128] interval
+    int cohort(Object request) {
+        int cohort = DEFAULT_COHORT;
         for (RequestClassifier requestClassifier : requestClassifiers) {
             if (requestClassifier.appliesTo(request)) {
                 cohort = requestClassifier.cohort(request);
@@ -87,7 +108,6 @@ public boolean shedLoad(Object request) {
         } else if (cohort > RequestClassifier.MAX_COHORT) {
             cohort = cohort % RequestClassifier.MAX_COHORT + 1;
         }
-
-        return priority.cohortBaseline() + cohort > threshold;
+        return cohort;
     }
 }
@@ -0,0 +1,106 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static io.restassured.RestAssured.given;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+/**
+ * Verify that we report the compression of the HTTP responses.
+ */
+public class VertxHttpCompressionMetricsTest {
+
+    private static final String TEXT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(100);
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.http.enable-compression", "true")
+            .withApplicationRoot(jar -> jar.addClasses(Routes.class));
+
+    final static SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void setRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterAll()
+    static void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void testCompressionMetrics() {
+        given().get("/compress").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(TEXT));
+        given().get("/compress").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(TEXT));
+
+        // The tracker is notified once the response has ended
+        await().untilAsserted(() -> Assertions.assertThat(timer("gzip")).isNotNull()
+                .extracting(Timer::count).isEqualTo(2L));
+
+        double uncompressed = counter("vertx.http.compression.bytes.uncompressed", "gzip").count();
+        double compressed = counter("vertx.http.compression.bytes.compressed", "gzip").count();
+        double saved = counter("vertx.http.compression.bytes.saved", "gzip").count();
+        Assertions.assertThat(uncompressed).isEqualTo(2.0 * TEXT.length());
+        Assertions.assertThat(compressed).isPositive().isLessThan(uncompressed);
+        Assertions.assertThat(saved).isEqualTo(uncompressed - compressed);
+
+        // The responses that are not compressed are not reported
+        given().get("/identity").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(equalTo(TEXT));
+        given().get("/compress").then().statusCode(200)
+                .header("content-encoding", is("gzip"));
+        await().untilAsserted(() -> Assertions.assertThat(timer("gzip").count()).isEqualTo(3L));
+        Assertions.assertThat(counter("vertx.http.compression.bytes.uncompressed", "gzip").count())
+                .isEqualTo(3.0 * TEXT.length());
+    }
+
+    private static Counter counter(String name, String encoding) {
+        Counter counter = registry.find(name).tag("encoding", encoding).counter();
+        Assertions.assertThat(counter).isNotNull();
+        return counter;
+    }
+
+    private static Timer timer(String encoding) {
+        return registry.find("vertx.http.compression.duration").tag("encoding", encoding).timer();
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        public void register(@Observes Router router) {
+            router.route("/compress").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(TEXT);
+            });
+            router.route("/identity").handler(rc -> {
+                rc.response().end(TEXT);
+            });
+        }
+    }
+}
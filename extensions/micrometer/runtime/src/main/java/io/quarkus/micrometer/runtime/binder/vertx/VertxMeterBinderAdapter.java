@@ -1,6 +1,10 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
@@ -10,6 +14,7 @@
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.export.exemplars.OpenTelemetryContextUnwrapper;
 import io.quarkus.vertx.http.runtime.ExtendedQuarkusVertxHttpMetrics;
@@ -234,4 +239,61 @@ public Number get() {
             }
         };
     }
+
+    @Override
+    public CompressionTracker getHttpCompressionTracker() {
+        if (httpBinderConfiguration == null || !httpBinderConfiguration.isServerEnabled()) {
+            return ExtendedQuarkusVertxHttpMetrics.NOOP_COMPRESSION_TRACKER;
+        }
+        return new CompressionTracker() {
+
+            // The meters are looked up once per encoding
+            private final ConcurrentMap<String, CompressionMeters> meters = new ConcurrentHashMap<>();
+
+            @Override
+            public void onResponseCompressed(String encoding, long uncompressedBytes, long compressedBytes, long duration) {
+                CompressionMeters m = meters.computeIfAbsent(encoding, new Function<String, CompressionMeters>() {
+                    @Override
+                    public CompressionMeters apply(String key) {
+                        return new CompressionMeters(key);
+                    }
+                });
+                m.uncompressed.increment(uncompressedBytes);
+                m.compressed.increment(compressedBytes);
+                m.saved.increment(Math.max(0, uncompressedBytes - compressedBytes));
+                m.duration.record(duration, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private static class CompressionMeters {
+
+        final Counter uncompressed;
+        final Counter compressed;
+        final Counter saved;
+        final Timer duration;
+
+        CompressionMeters(String encoding) {
+            Tags tags = Tags.of("encoding", encoding);
+            this.uncompressed = Counter.builder("vertx.http.compression.bytes.uncompressed")
+                    .description("Number of bytes of the HTTP response bodies before compression")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(Metrics.globalRegistry);
+            this.compressed = Counter.builder("vertx.http.compression.bytes.compressed")
+                    .description("Number of bytes of the HTTP response bodies after compression")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(Metrics.globalRegistry);
+            this.saved = Counter.builder("vertx.http.compression.bytes.saved")
+                    .description("Number of bytes saved by the compression of the HTTP response bodies")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(Metrics.globalRegistry);
+            this.duration = Timer.builder("vertx.http.compression.duration")
+                    .description("Time spent compressing the HTTP response bodies")
+                    .tags(tags)
+                    .register(Metrics.globalRegistry);
+        }
+    }
 }
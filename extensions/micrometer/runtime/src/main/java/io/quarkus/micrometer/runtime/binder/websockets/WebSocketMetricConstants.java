@@ -63,6 +63,28 @@ private WebSocketMetricConstants() {
      */
     public static final String CLIENT_BYTES = "quarkus.websockets.client.bytes";
 
+    /**
+     * Number of inbound messages queued or being processed by server endpoints.
+     */
+    public static final String SERVER_PENDING_MESSAGES = "quarkus.websockets.server.messages.pending";
+    /**
+     * Number of inbound messages queued or being processed by client endpoints.
+     */
+    public static final String CLIENT_PENDING_MESSAGES = "quarkus.websockets.client.messages.pending";
+
+    /**
+     * Number of bytes of the sent messages before the per-message compression, for server endpoints.
+     */
+    public static final String SERVER_COMPRESSION_UNCOMPRESSED_BYTES = "quarkus.websockets.server.compression.uncompressed.bytes";
+    /**
+     * Number of bytes of the sent messages after the per-message compression, for server endpoints.
+     */
+    public static final String SERVER_COMPRESSION_COMPRESSED_BYTES = "quarkus.websockets.server.compression.compressed.bytes";
+    /**
+     * Time spent compressing the sent messages, for server endpoints.
+     */
+    public static final String SERVER_COMPRESSION_DURATION = "quarkus.websockets.server.compression.duration";
+
     /**
      * {@link Direction} tag key.
      */
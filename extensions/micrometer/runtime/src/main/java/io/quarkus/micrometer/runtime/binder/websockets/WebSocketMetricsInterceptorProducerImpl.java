@@ -4,11 +4,19 @@
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.INBOUND;
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.OUTBOUND;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
 import jakarta.enterprise.context.Dependent;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.websockets.next.runtime.spi.telemetry.WebSocketMetricsInterceptorProducer;
 
 @Dependent
@@ -47,8 +55,24 @@ public WebSocketMetricsInterceptor createServerMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.SERVER_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening server connection failed.")
                 .withRegistry(meterRegistry);
+        final Function<String, AtomicLong> pendingMessagesGauge = pendingMessagesGauge(
+                WebSocketMetricConstants.SERVER_PENDING_MESSAGES,
+                "Number of inbound messages queued or being processed by server endpoints.");
+        final Meter.MeterProvider<Counter> uncompressedBytesCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_COMPRESSION_UNCOMPRESSED_BYTES)
+                .description("Number of bytes of the messages sent by server endpoints before compression.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Counter> compressedBytesCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_COMPRESSION_COMPRESSED_BYTES)
+                .description("Number of bytes of the messages sent by server endpoints after compression.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Timer> compressionTimer = Timer
+                .builder(WebSocketMetricConstants.SERVER_COMPRESSION_DURATION)
+                .description("Time spent compressing the messages sent by server endpoints.")
+                .withRegistry(meterRegistry);
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, serverErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, pendingMessagesGauge, uncompressedBytesCounter,
+                compressedBytesCounter, compressionTimer);
     }
 
     @Override
@@ -77,8 +101,36 @@ public WebSocketMetricsInterceptor createClientMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.CLIENT_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening client connection failed.")
                 .withRegistry(meterRegistry);
+        final Function<String, AtomicLong> pendingMessagesGauge = pendingMessagesGauge(
+                WebSocketMetricConstants.CLIENT_PENDING_MESSAGES,
+                "Number of inbound messages queued or being processed by client endpoints.");
+        // The per-message compression of client connections is not customized
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, clientErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, pendingMessagesGauge, null, null, null);
+    }
+
+    private Function<String, AtomicLong> pendingMessagesGauge(String name, String description) {
+        final ConcurrentMap<String, AtomicLong> pendingMessages = new ConcurrentHashMap<>();
+        return new Function<String, AtomicLong>() {
+            @Override
+            public AtomicLong apply(String route) {
+                AtomicLong pending = pendingMessages.get(route);
+                if (pending == null) {
+                    pending = pendingMessages.computeIfAbsent(route, new Function<String, AtomicLong>() {
+                        @Override
+                        public AtomicLong apply(String r) {
+                            AtomicLong value = new AtomicLong();
+                            Gauge.builder(name, value, AtomicLong::get)
+                                    .description(description)
+                                    .tag(URI_TAG_KEY, r)
+                                    .register(meterRegistry);
+                            return value;
+                        }
+                    });
+                }
+                return pending;
+            }
+        };
     }
 
     private static final class WebSocketMetricsInterceptorImpl implements WebSocketMetricsInterceptor {
@@ -89,17 +141,27 @@ private static final class WebSocketMetricsInterceptorImpl implements WebSocketM
         private final Meter.MeterProvider<Counter> errorsCounter;
         private final Meter.MeterProvider<Counter> connectionOpenCounter;
         private final Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter;
+        private final Function<String, AtomicLong> pendingMessagesGauge;
+        private final Meter.MeterProvider<Counter> uncompressedBytesCounter;
+        private final Meter.MeterProvider<Counter> compressedBytesCounter;
+        private final Meter.MeterProvider<Timer> compressionTimer;
 
         private WebSocketMetricsInterceptorImpl(Meter.MeterProvider<Counter> messagesCounter,
                 Meter.MeterProvider<Counter> bytesCounter, Meter.MeterProvider<Counter> closedConnectionCounter,
                 Meter.MeterProvider<Counter> errorsCounter, Meter.MeterProvider<Counter> connectionOpenCounter,
-                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter) {
+                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter,
+                Function<String, AtomicLong> pendingMessagesGauge, Meter.MeterProvider<Counter> uncompressedBytesCounter,
+                Meter.MeterProvider<Counter> compressedBytesCounter, Meter.MeterProvider<Timer> compressionTimer) {
             this.messagesCounter = messagesCounter;
             this.bytesCounter = bytesCounter;
             this.closedConnectionCounter = closedConnectionCounter;
             this.errorsCounter = errorsCounter;
             this.connectionOpenCounter = connectionOpenCounter;
             this.connectionOnOpenErrorsCounter = connectionOnOpenErrorsCounter;
+            this.pendingMessagesGauge = pendingMessagesGauge;
+            this.uncompressedBytesCounter = uncompressedBytesCounter;
+            this.compressedBytesCounter = compressedBytesCounter;
+            this.compressionTimer = compressionTimer;
         }
 
         @Override
@@ -119,6 +181,25 @@ public void onMessageReceived(byte[] data, String route) {
             bytesCounter.withTags(URI_TAG_KEY, route, DIRECTION_TAG_KEY, INBOUND.toString()).increment(data.length);
         }
 
+        @Override
+        public void onMessageCompressed(int uncompressedBytes, int compressedBytes, long durationNanos, String route) {
+            if (compressionTimer != null) {
+                uncompressedBytesCounter.withTag(URI_TAG_KEY, route).increment(uncompressedBytes);
+                compressedBytesCounter.withTag(URI_TAG_KEY, route).increment(compressedBytes);
+                compressionTimer.withTag(URI_TAG_KEY, route).record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void onMessageQueued(String route) {
+            pendingMessagesGauge.apply(route).incrementAndGet();
+        }
+
+        @Override
+        public void onMessageProcessed(String route) {
+            pendingMessagesGauge.apply(route).decrementAndGet();
+        }
+
         @Override
         public void onConnectionOpened(String route) {
             connectionOpenCounter.withTag(URI_TAG_KEY, route).increment();
@@ -175,21 +175,19 @@ private Key getKeyWithS256Thumbprint(JsonWebKeySet jwks, String thumbprint) {
     }
 
     private Key findKeyInTheCache(JsonObject headers) {
-        String kid = headers.getString(HeaderParameterNames.KEY_ID);
-        if (kid != null && cache.containsKey(kid)) {
-            return cache.get(kid);
+        // Use a single lookup per header as an entry may expire or be evicted between `containsKey` and `get`
+        Key key = findKeyInTheCache(headers.getString(HeaderParameterNames.KEY_ID));
+        if (key == null) {
+            key = findKeyInTheCache(headers.getString(HeaderParameterNames.X509_CERTIFICATE_SHA256_THUMBPRINT));
         }
-        String thumbprint = headers.getString(HeaderParameterNames.X509_CERTIFICATE_SHA256_THUMBPRINT);
-        if (thumbprint != null && cache.containsKey(thumbprint)) {
-            return cache.get(thumbprint);
-        }
-
-        thumbprint = headers.getString(HeaderParameterNames.X509_CERTIFICATE_THUMBPRINT);
-        if (thumbprint != null && cache.containsKey(thumbprint)) {
-            return cache.get(thumbprint);
+        if (key == null) {
+            key = findKeyInTheCache(headers.getString(HeaderParameterNames.X509_CERTIFICATE_THUMBPRINT));
         }
+        return key;
+    }
 
-        return null;
+    private Key findKeyInTheCache(String keyId) {
+        return keyId == null ? null : cache.get(keyId);
     }
 
     static class SingleKeyVerificationKeyResolver implements VerificationKeyResolver {
@@ -1,26 +1,50 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * A bounded cache whose entries expire once the time to live has elapsed since they were added.
+ * <p>
+ * The entries are looked up without locking. The cache modifications are guarded by a lock and maintain two linked lists:
+ * <ul>
+ * <li>the expiry list orders the entries by their creation time. As all the entries have the same time to live, it is
+ * also the expiration order, so the expired entries are always at the head of this list and the clean-up only visits
+ * the expired entries.</li>
+ * <li>the eviction list is a second-chance (CLOCK) approximation of the LRU order. A lookup only marks the entry as
+ * referenced; when the cache is full, the referenced entries at the head of the list are moved to its tail and the
+ * first entry that was not referenced since the previous eviction is evicted.</li>
+ * </ul>
+ *
+ * @param <T> the type of the cached values
+ */
 public class MemoryCache<T> {
     private volatile Long timerId = null;
 
     private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final long cacheTimeToLive;
     private final int cacheSize;
 
+    private final ReentrantLock lock = new ReentrantLock();
+    // The following fields are guarded by the lock
+    private final CacheEntry<T> expiryList = CacheEntry.head();
+    private final CacheEntry<T> evictionList = CacheEntry.head();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
+        this.cacheTimeToLive = cacheTimeToLive.toMillis();
         this.cacheSize = cacheSize;
         init(vertx, cleanUpTimerInterval);
     }
@@ -39,10 +63,21 @@ public void handle(Long event) {
 
     public void add(String key, T result) {
         if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
+            CacheEntry<T> entry = new CacheEntry<T>(key, result, now() + cacheTimeToLive);
+            lock.lock();
+            try {
+                removeExpiredEntries(now());
+                CacheEntry<T> previous = cacheMap.put(key, entry);
+                if (previous != null) {
+                    unlink(previous);
+                } else if (cacheMap.size() > cacheSize) {
+                    evict();
+                }
+                entry.linkExpiry(expiryList);
+                entry.linkEviction(evictionList);
+            } finally {
+                lock.unlock();
             }
-            cacheMap.put(key, new CacheEntry<T>(result));
         }
     }
 
@@ -52,52 +87,101 @@ public T remove(String key) {
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        CacheEntry<T> entry = getCacheEntry(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.result;
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
+        return getCacheEntry(key) != null;
     }
 
-    private void removeInvalidEntries() {
-        long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
+    private CacheEntry<T> getCacheEntry(String key) {
+        CacheEntry<T> entry = cacheMap.get(key);
+        if (entry != null && entry.isExpired(now())) {
+            // The entry is removed now rather than by the next clean-up
+            lock.lock();
+            try {
+                if (cacheMap.remove(key, entry)) {
+                    unlink(entry);
+                    expirationCount.increment();
                 }
+            } finally {
+                lock.unlock();
             }
+            return null;
+        }
+        return entry;
+    }
+
+    private void removeInvalidEntries() {
+        lock.lock();
+        try {
+            removeExpiredEntries(now());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must be called with the lock held
+    private void removeExpiredEntries(long now) {
+        CacheEntry<T> entry = expiryList.expiryNext;
+        while (entry != expiryList && entry.isExpired(now)) {
+            CacheEntry<T> next = entry.expiryNext;
+            cacheMap.remove(entry.key, entry);
+            unlink(entry);
+            expirationCount.increment();
+            entry = next;
         }
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
+    // Must be called with the lock held
+    private void evict() {
+        // Give the referenced entries a second chance: their reference is cleared and they are moved to the tail.
+        // The scan never goes past the last entry, so it does not reach the list head: if all the entries were
+        // referenced, then the first entry, which was referenced least recently, is evicted.
+        CacheEntry<T> entry = evictionList.evictionNext;
+        CacheEntry<T> last = evictionList.evictionPrev;
+        while (entry.referenced) {
+            CacheEntry<T> next = entry.evictionNext;
+            entry.referenced = false;
+            entry.unlinkEviction();
+            entry.linkEviction(evictionList);
+            if (entry == last) {
+                entry = evictionList.evictionNext;
+                break;
             }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+            entry = next;
+        }
+        cacheMap.remove(entry.key, entry);
+        unlink(entry);
+        evictionCount.increment();
     }
 
     private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
+        lock.lock();
+        try {
+            CacheEntry<T> entry = cacheMap.remove(token);
+            if (entry != null) {
+                unlink(entry);
+            }
+            return entry;
+        } finally {
+            lock.unlock();
         }
-        return entry;
     }
 
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+    // Must be called with the lock held
+    private static <T> void unlink(CacheEntry<T> entry) {
+        entry.unlinkExpiry();
+        entry.unlinkEviction();
     }
 
     private static long now() {
@@ -105,11 +189,67 @@ private static long now() {
     }
 
     private static class CacheEntry<T> {
-        volatile T result;
-        long createdTime = System.currentTimeMillis();
+        final String key;
+        final T result;
+        final long expiresAt;
+        // Set by the lookups, cleared by the eviction
+        volatile boolean referenced;
 
-        public CacheEntry(T result) {
+        // Guarded by the cache lock
+        CacheEntry<T> expiryPrev;
+        CacheEntry<T> expiryNext;
+        CacheEntry<T> evictionPrev;
+        CacheEntry<T> evictionNext;
+
+        CacheEntry(String key, T result, long expiresAt) {
+            this.key = key;
             this.result = result;
+            this.expiresAt = expiresAt;
+        }
+
+        static <T> CacheEntry<T> head() {
+            CacheEntry<T> head = new CacheEntry<>(null, null, Long.MAX_VALUE);
+            head.expiryPrev = head;
+            head.expiryNext = head;
+            head.evictionPrev = head;
+            head.evictionNext = head;
+            return head;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt < now;
+        }
+
+        void linkExpiry(CacheEntry<T> head) {
+            expiryPrev = head.expiryPrev;
+            expiryNext = head;
+            head.expiryPrev.expiryNext = this;
+            head.expiryPrev = this;
+        }
+
+        void unlinkExpiry() {
+            if (expiryPrev != null) {
+                expiryPrev.expiryNext = expiryNext;
+                expiryNext.expiryPrev = expiryPrev;
+                expiryPrev = null;
+                expiryNext = null;
+            }
+        }
+
+        void linkEviction(CacheEntry<T> head) {
+            evictionPrev = head.evictionPrev;
+            evictionNext = head;
+            head.evictionPrev.evictionNext = this;
+            head.evictionPrev = this;
+        }
+
+        void unlinkEviction() {
+            if (evictionPrev != null) {
+                evictionPrev.evictionNext = evictionNext;
+                evictionNext.evictionPrev = evictionPrev;
+                evictionPrev = null;
+                evictionNext = null;
+            }
         }
     }
 
@@ -117,9 +257,45 @@ public int getCacheSize() {
         return cacheMap.size();
     }
 
+    /**
+     * @return the number of lookups that returned a cached value
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of lookups that did not return a cached value
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of entries removed to make room for new entries
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return the number of entries removed because their time to live has elapsed
+     */
+    public long getExpirationCount() {
+        return expirationCount.sum();
+    }
+
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        lock.lock();
+        try {
+            cacheMap.clear();
+            expiryList.expiryPrev = expiryList;
+            expiryList.expiryNext = expiryList;
+            evictionList.evictionPrev = evictionList;
+            evictionList.evictionNext = evictionList;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void stopTimer(Vertx vertx) {
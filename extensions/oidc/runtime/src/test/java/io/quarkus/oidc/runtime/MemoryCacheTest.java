@@ -80,15 +80,120 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
+        // If the cache is full and a new entry has to be added, then the least recently used entry is evicted
+        cache.add("3", new Bean("3"));
+        assertEquals(2, cache.getCacheSize());
+
+        assertNull(cache.get("1"));
+        assertEquals("2", cache.get("2").name);
+        assertEquals("3", cache.get("3").name);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testRecentlyUsedEntryIsNotEvicted() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 2);
+
+        cache.add("1", new Bean("1"));
+        cache.add("2", new Bean("2"));
+        assertEquals("1", cache.get("1").name);
 
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
+        assertEquals("1", cache.get("1").name);
+        assertNull(cache.get("2"));
+        assertEquals("3", cache.get("3").name);
 
+        // Replacing an existing entry does not evict other entries
+        cache.add("3", new Bean("4"));
+        assertEquals(2, cache.getCacheSize());
+        assertEquals("1", cache.get("1").name);
+        assertEquals("4", cache.get("3").name);
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testSingleEntryCache() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 1);
+
+        cache.add("1", new Bean("1"));
+        assertEquals("1", cache.get("1").name);
+
+        // The only entry is evicted even though it was referenced
+        cache.add("2", new Bean("2"));
+        assertEquals(1, cache.getCacheSize());
         assertNull(cache.get("1"));
+        assertEquals("2", cache.get("2").name);
+
+        // The new entry is linked and can be evicted in turn
+        cache.add("3", new Bean("3"));
+        assertEquals(1, cache.getCacheSize());
         assertNull(cache.get("2"));
         assertEquals("3", cache.get("3").name);
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testAllEntriesReferenced() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 3);
+
+        cache.add("1", new Bean("1"));
+        cache.add("2", new Bean("2"));
+        cache.add("3", new Bean("3"));
+        cache.get("1");
+        cache.get("2");
+        cache.get("3");
+
+        cache.add("4", new Bean("4"));
+        assertEquals(3, cache.getCacheSize());
+        assertNull(cache.get("1"));
+        assertEquals("2", cache.get("2").name);
+        assertEquals("3", cache.get("3").name);
+        assertEquals("4", cache.get("4").name);
+    }
+
+    @Test
+    public void testExpiredEntryIsNotReturned() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMillis(100), 10);
+
+        cache.add("1", new Bean("1"));
+        assertTrue(cache.containsKey("1"));
+        assertEquals("1", cache.get("1").name);
+
+        await().atMost(Duration.ofSeconds(5)).until(new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                return !cache.containsKey("1");
+            }
+
+        });
+        assertNull(cache.get("1"));
+        assertEquals(0, cache.getCacheSize());
+        assertEquals(1, cache.getExpirationCount());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 10);
+
+        cache.add("1", new Bean("1"));
+        assertEquals("1", cache.get("1").name);
+        assertEquals("1", cache.get("1").name);
+        assertNull(cache.get("2"));
+        assertEquals("1", cache.remove("1").name);
+        assertNull(cache.get("1"));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(0, cache.getExpirationCount());
     }
 
     static class Bean {
@@ -52,5 +52,11 @@ public ConnectionTracker getHttpConnectionTracker() {
             // To be implemented if we decide to instrument with OpenTelemetry. See VertxMeterBinderAdapter for an example.
             return ExtendedQuarkusVertxHttpMetrics.NOOP_CONNECTION_TRACKER;
         }
+
+        @Override
+        public CompressionTracker getHttpCompressionTracker() {
+            // To be implemented if we decide to instrument with OpenTelemetry. See VertxMeterBinderAdapter for an example.
+            return ExtendedQuarkusVertxHttpMetrics.NOOP_COMPRESSION_TRACKER;
+        }
     }
 }
@@ -9,6 +9,7 @@
 
 import org.jboss.jandex.DotName;
 
+import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EngineConfiguration;
 import io.quarkus.qute.Locate;
 import io.quarkus.qute.Locate.Locates;
@@ -51,6 +52,7 @@ final class Names {
     static final DotName CHECKED_TEMPLATE = DotName.createSimple(io.quarkus.qute.CheckedTemplate.class.getName());
     static final DotName TEMPLATE_ENUM = DotName.createSimple(TemplateEnum.class.getName());
     static final DotName ENGINE_CONFIGURATION = DotName.createSimple(EngineConfiguration.class.getName());
+    static final DotName ENGINE_BUILDER = DotName.createSimple(EngineBuilder.class);
     static final DotName SECTION_HELPER_FACTORY = DotName.createSimple(SectionHelperFactory.class.getName());
     static final DotName VALUE_RESOLVER = DotName.createSimple(ValueResolver.class.getName());
     static final DotName NAMESPACE_RESOLVER = DotName.createSimple(NamespaceResolver.class.getName());
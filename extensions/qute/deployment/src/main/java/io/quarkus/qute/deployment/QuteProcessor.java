@@ -78,6 +78,7 @@
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.arc.processor.InjectionPointInfo;
+import io.quarkus.arc.processor.ObserverInfo;
 import io.quarkus.arc.processor.QualifierRegistrar;
 import io.quarkus.bootstrap.model.ApplicationModel;
 import io.quarkus.bootstrap.workspace.SourceDir;
@@ -148,6 +149,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceExtensionMethodInfo;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.Param;
@@ -2775,16 +2777,71 @@ private String findDefaultVariant(QuteConfig config, List<String> variants) {
         return null;
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            SynthesisFinishedBuildItem synthesisFinished,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compileTemplates() || !incorrectExpressions.isEmpty()) {
+            // Skip compilation if a validation error occurs
+            return;
+        }
+        for (ObserverInfo observer : synthesisFinished.getObservers()) {
+            if (observer.getObservedType().name().equals(Names.ENGINE_BUILDER)
+                    && !observer.getBeanClass().toString().startsWith("io.quarkus.qute.")) {
+                // The observer may register value resolvers that take precedence over the generated value resolvers
+                LOGGER.debugf("Templates not compiled: the engine builder is observed by %s", observer);
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+        ClassOutput classOutput = new GeneratedClassGizmo2Adaptor(generatedClasses, generatedResources, true);
+        List<TemplateExtensionMethodBuildItem> regularExtensionMethods = templateExtensionMethods.stream()
+                .filter(Predicate.not(TemplateExtensionMethodBuildItem::hasNamespace)).collect(Collectors.toList());
+        AssignabilityCheck assignabilityCheck = new AssignabilityCheck(beanArchiveIndex.getIndex());
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(beanArchiveIndex.getIndex(), classOutput,
+                "io.quarkus.qute.generated",
+                // An extension method may also match the part if it is declared for a subclass
+                (type, name) -> regularExtensionMethods.stream()
+                        .anyMatch(m -> m.matchesName(name)
+                                && (assignabilityCheck.isAssignableFrom(m.getMatchType(), type)
+                                        || assignabilityCheck.isAssignableFrom(type, m.getMatchType()))));
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.id != null) {
+                // Message bundle templates are not compiled
+                continue;
+            }
+            String generatedClass = generator.generate(analysis.getTemplate());
+            if (generatedClass != null) {
+                compiledTemplates.produce(new CompiledTemplateBuildItem(generatedClass));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(generatedClass).build());
+            }
+        }
+        LOGGER.debugf("Compiled %s templates in %s ms: %s", generator.getGeneratedTypes().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), generator.getGeneratedTypes());
+    }
+
     @BuildStep
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream()
+                        .map(CompiledTemplateBuildItem::getClassName).collect(Collectors.toList()));
     }
 
     @BuildStep
@@ -71,6 +71,14 @@ public List<TemplateNode> getNodes() {
             return template.getNodes();
         }
 
+        /**
+         *
+         * @return the parsed template, used to compile the template
+         */
+        Template getTemplate() {
+            return template;
+        }
+
         /**
          *
          * @return the collection of nodes that match the given predicate
@@ -0,0 +1,104 @@
+package io.quarkus.qute.deployment.compiled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Location;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CompiledTemplatesTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Templates.class, Item.class)
+                    .addAsResource(new StringAsset("Hello {name}!{#for item in items} {item.name}{/for}"),
+                            "templates/CompiledTemplatesTest/hello.txt")
+                    .addAsResource(new StringAsset(
+                            "{@java.util.List<io.quarkus.qute.deployment.compiled.CompiledTemplatesTest$Item> items}"
+                                    + "{#each items}{it.name};{/each}"),
+                            "templates/compiled/items.txt"))
+            .overrideConfigKey("quarkus.qute.compile-templates", "true");
+
+    @Inject
+    @Location("compiled/items.txt")
+    Template items;
+
+    @BeforeEach
+    void reset() {
+        Item.compiled = false;
+    }
+
+    @Test
+    public void testTemplatesCompiled() throws ClassNotFoundException {
+        for (String name : List.of("CompiledTemplatesTest_hello_txt", "compiled_items_txt")) {
+            Class<?> generatedClass = Thread.currentThread().getContextClassLoader()
+                    .loadClass("io.quarkus.qute.generated." + name + CompiledTemplateGenerator.SUFFIX);
+            assertTrue(CompiledTemplate.class.isAssignableFrom(generatedClass));
+        }
+    }
+
+    @Test
+    public void testCheckedTemplate() {
+        assertEquals("Hello Martin! apple pear",
+                Templates.hello("Martin", List.of(new Item("apple"), new Item("pear"))).render());
+        assertTrue(Item.compiled);
+    }
+
+    @Test
+    public void testInjectedTemplate() {
+        assertEquals("apple;pear;", items.data("items", List.of(new Item("apple"), new Item("pear"))).render());
+        assertTrue(Item.compiled);
+    }
+
+    @Test
+    public void testFallback() {
+        // The data are not of the declared type - the template is rendered by the interpreter
+        assertEquals("apple;pear;", items.data("items", new Item[] { new Item("apple"), new Item("pear") }).render());
+        assertFalse(Item.compiled);
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance hello(String name, List<Item> items);
+
+    }
+
+    public static class Item {
+
+        static volatile boolean compiled;
+
+        private final String name;
+
+        public Item(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+                if (element.getClassName().endsWith(CompiledTemplateGenerator.SUFFIX)) {
+                    compiled = true;
+                }
+            }
+            return name;
+        }
+
+    }
+
+}
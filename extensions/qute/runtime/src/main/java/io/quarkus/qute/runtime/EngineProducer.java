@@ -35,6 +35,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EngineBuilder.ParserConfigurator;
@@ -65,6 +66,7 @@
 import io.quarkus.qute.ValueResolver;
 import io.quarkus.qute.ValueResolvers;
 import io.quarkus.qute.Variant;
+import io.quarkus.qute.WithPriority;
 import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
 import io.quarkus.qute.runtime.QuteRecorder.TemplateInfo;
 import io.quarkus.runtime.LaunchMode;
@@ -244,6 +246,24 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             builder.addNamespaceResolver(provider);
         }
 
+        // Add templates compiled at build time
+        // unless a custom value resolver may take precedence over the generated value resolvers
+        ValueResolver shadowingResolver = null;
+        for (ValueResolver valueResolver : valueResolvers) {
+            if (valueResolver.getPriority() > WithPriority.DEFAULT_PRIORITY) {
+                shadowingResolver = valueResolver;
+                break;
+            }
+        }
+        if (shadowingResolver == null) {
+            for (String compiledTemplateClass : context.getCompiledTemplateClasses()) {
+                builder.addCompiledTemplate(createCompiledTemplate(compiledTemplateClass));
+            }
+        } else if (!context.getCompiledTemplateClasses().isEmpty()) {
+            LOGGER.debugf("Compiled templates ignored: value resolver %s has priority %s", shadowingResolver,
+                    shadowingResolver.getPriority());
+        }
+
         // Add a special initializer for templates that contain an inject/cdi namespace expressions
         Map<String, Boolean> discoveredInjectTemplates = new HashMap<>();
         builder.addTemplateInstanceInitializer(new Initializer() {
@@ -384,6 +404,20 @@ private TemplateGlobalProvider createGlobalProvider(String initializerClassName)
         }
     }
 
+    private CompiledTemplate createCompiledTemplate(String compiledTemplateClassName) {
+        try {
+            Class<?> compiledTemplateClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledTemplateClassName);
+            if (CompiledTemplate.class.isAssignableFrom(compiledTemplateClazz)) {
+                return (CompiledTemplate) compiledTemplateClazz.getDeclaredConstructor().newInstance();
+            }
+            throw new IllegalStateException("Not a compiled template: " + compiledTemplateClazz);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled template: " + compiledTemplateClassName, e);
+        }
+    }
+
     private boolean isExcluded(String path) {
         for (Pattern p : templatePathExcludes) {
             if (p.matcher(path).matches()) {
@@ -109,6 +109,25 @@ public interface QuteConfig {
     @WithDefault("false")
     boolean altExprSyntax();
 
+    /**
+     * If set to `true` then the templates from the application template root are compiled into generated classes at build
+     * time, if there is no validation error.
+     *
+     * The text of a compiled template is appended as is, and the expressions whose type is known at build time are resolved by
+     * invoking the getters and reading the fields directly, i.e. without the value resolvers. The `#if` and `#for`/`#each`
+     * sections are compiled if possible too. Other sections are rendered as usual. A compiled template is ignored if
+     * the template is modified at runtime, e.g. if `quarkus.qute.remove-standalone-lines=false`, or if tracing is enabled.
+     *
+     * A part of an expression that may be matched by a template extension method is not compiled. The templates are not
+     * compiled if the application observes the `EngineBuilder`, and the compiled templates are ignored if a custom value
+     * resolver with a priority higher than the default one is registered, because such resolvers may take precedence over
+     * the getters and fields.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
     /**
      * Development mode configuration.
      */
@@ -0,0 +1,119 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.NearRedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+
+class NearRedisCacheImplTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @AfterEach
+    void clear() {
+        try {
+            redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await()
+                    .atMost(Duration.ofSeconds(10));
+        } catch (Exception ignored) {
+            // ignored.
+        }
+    }
+
+    @Test
+    public void testValueServedLocally() {
+        String k = UUID.randomUUID().toString();
+        NearRedisCacheImpl cache = newCache();
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        // Removed from Redis only, the other instances are not notified
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+
+        cache.invalidate(k).await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    public void testInvalidationPropagated() {
+        String k = UUID.randomUUID().toString();
+        NearRedisCacheImpl cache1 = newCache();
+        NearRedisCacheImpl cache2 = newCache();
+
+        assertThat(cache1.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache2.get(k, s -> "ignored").await().indefinitely()).isEqualTo("hello");
+
+        cache1.put(k, "bonjour").await().indefinitely();
+        await().untilAsserted(() -> assertThat(cache2.getOrNull(k, String.class).await().indefinitely())
+                .isEqualTo("bonjour"));
+        assertThat(cache1.getOrNull(k, String.class).await().indefinitely()).isEqualTo("bonjour");
+
+        cache2.invalidateAll().await().indefinitely();
+        await().untilAsserted(() -> assertThat(cache1.getOrNull(k, String.class).await().indefinitely()).isNull());
+    }
+
+    @Test
+    public void testValueOfAnotherType() {
+        String k = UUID.randomUUID().toString();
+        NearRedisCacheImpl cache = newCache();
+
+        assertThat(cache.get(k, Integer.class, s -> 1).await().indefinitely()).isEqualTo(1);
+        // The local value is not a String, so the value is read from Redis
+        String value = cache.getOrNull(k, String.class).await().indefinitely();
+        assertThat(value).isEqualTo("1");
+    }
+
+    @Test
+    public void testClose() {
+        String k = UUID.randomUUID().toString();
+        NearRedisCacheImpl cache = newCache();
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        cache.close();
+        assertThat(cache.isSubscribed()).isFalse();
+        // Not resubscribed
+        await().during(Duration.ofSeconds(2)).atMost(Duration.ofSeconds(5))
+                .until(() -> !cache.isSubscribed());
+        // The local cache is not used anymore
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+    }
+
+    private NearRedisCacheImpl newCache() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.nearCache = true;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        NearRedisCacheImpl cache = new NearRedisCacheImpl(new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED));
+        await().until(cache::isSubscribed);
+        return cache;
+    }
+
+}
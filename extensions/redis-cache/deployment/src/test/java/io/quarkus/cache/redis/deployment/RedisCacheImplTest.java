@@ -11,8 +11,12 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -28,6 +32,7 @@
 import io.quarkus.test.QuarkusExtensionTest;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
 import io.vertx.core.json.Json;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Command;
@@ -621,6 +626,153 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    void testConcurrentLoadsCoalesced() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "coalesced";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> value = new CompletableFuture<>();
+        List<Uni<String>> lookups = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lookups.add(cache.getAsync("key", String.class, k -> {
+                loads.incrementAndGet();
+                return Uni.createFrom().completionStage(value);
+            }));
+        }
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (Uni<String> lookup : lookups) {
+            results.add(lookup.subscribeAsCompletionStage());
+        }
+        await().untilAsserted(() -> assertThat(loads).hasValue(1));
+        value.complete("hello");
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.join()).isEqualTo("hello");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testCoalescedLoadCancellation() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "coalesced-cancellation";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger cancellations = new AtomicInteger();
+        CompletableFuture<String> value = new CompletableFuture<>();
+        Function<String, Uni<String>> loader = k -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().completionStage(value).onCancellation().invoke(cancellations::incrementAndGet);
+        };
+        // The first lookup is cancelled, the load continues for the second one
+        Cancellable first = cache.getAsync("key", String.class, loader).subscribe().with(v -> {
+        });
+        CompletableFuture<String> second = cache.getAsync("key", String.class, loader).subscribeAsCompletionStage();
+        await().untilAsserted(() -> assertThat(loads).hasValue(1));
+        first.cancel();
+        value.complete("hello");
+        assertThat(second.join()).isEqualTo("hello");
+        assertThat(cancellations).hasValue(0);
+
+        // The load is cancelled once all the lookups are cancelled
+        CompletableFuture<String> never = new CompletableFuture<>();
+        Function<String, Uni<String>> neverLoader = k -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().completionStage(never).onCancellation().invoke(cancellations::incrementAndGet);
+        };
+        Cancellable third = cache.getAsync("other", String.class, neverLoader).subscribe().with(v -> {
+        });
+        Cancellable fourth = cache.getAsync("other", String.class, neverLoader).subscribe().with(v -> {
+        });
+        await().untilAsserted(() -> assertThat(loads).hasValue(2));
+        third.cancel();
+        assertThat(cancellations).hasValue(0);
+        fourth.cancel();
+        await().untilAsserted(() -> assertThat(cancellations).hasValue(1));
+    }
+
+    @Test
+    void testInvalidationDuringCoalescedLoad() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "coalesced-invalidation";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> stale = new CompletableFuture<>();
+        CompletableFuture<String> first = cache.getAsync("key", String.class, k -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().completionStage(stale);
+        }).subscribeAsCompletionStage();
+        await().untilAsserted(() -> assertThat(loads).hasValue(1));
+
+        // A lookup after the invalidation does not join the load started before it
+        cache.invalidate("key").await().indefinitely();
+        CompletableFuture<String> second = cache.getAsync("key", String.class, k -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().item("fresh");
+        }).subscribeAsCompletionStage();
+        assertThat(second.join()).isEqualTo("fresh");
+        assertThat(loads).hasValue(2);
+
+        stale.complete("stale");
+        assertThat(first.join()).isEqualTo("stale");
+    }
+
+    @Test
+    void testLoadsOfDifferentTypesNotCoalesced() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "coalesced-types";
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> value = new CompletableFuture<>();
+        CompletableFuture<String> string = cache.getAsync("key", String.class, k -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().completionStage(value);
+        }).subscribeAsCompletionStage();
+        await().untilAsserted(() -> assertThat(loads).hasValue(1));
+        CompletableFuture<Integer> integer = cache.getAsync("key", Integer.class, k -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().item(42);
+        }).subscribeAsCompletionStage();
+        assertThat(integer.join()).isEqualTo(42);
+        value.complete("hello");
+        assertThat(string.join()).isEqualTo("hello");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testBatchedCommands() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "batched";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.batchWindow = Optional.of(Duration.ofMillis(5));
+        info.batchMaxSize = OptionalInt.of(8);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(cache.get("key" + i, String.class, k -> "value-" + k).subscribeAsCompletionStage());
+        }
+        for (int i = 0; i < 20; i++) {
+            assertThat(results.get(i).join()).isEqualTo("value-key" + i);
+        }
+        assertThat(cache.getOrNull("key3", String.class).await().indefinitely()).isEqualTo("value-key3");
+        cache.put("key3", "foo").await().indefinitely();
+        assertThat(cache.getOrDefault("key3", String.class, "bar").await().indefinitely()).isEqualTo("foo");
+        assertThat(cache.getOrDefault("missing", String.class, "bar").await().indefinitely()).isEqualTo("bar");
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
@@ -0,0 +1,491 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * This class is an internal Quarkus cache implementation that keeps a bounded local Caffeine cache in front of a
+ * {@link RedisCacheImpl}. Do not use it explicitly from your Quarkus application.
+ * <p>
+ * Every invalidation, and every {@code put}, is published to the {@code <prefix>:invalidations} channel once Redis is
+ * updated, and the application instances subscribed to the channel remove the entry from their local cache. The local
+ * cache is only used while the subscription is active: when the subscription connection is lost, the local cache is
+ * cleared and all the operations go to Redis until the subscription is restored.
+ * <p>
+ * The subscription connection is taken from the pool of the Redis client and held until the application stops, i.e.
+ * each near cache permanently uses one pooled connection.
+ * <p>
+ * The local cache stores the values as they were read, so a value that is not of the requested type is read from Redis.
+ */
+public class NearRedisCacheImpl extends AbstractCache implements RedisCache {
+
+    private static final Logger log = Logger.getLogger(NearRedisCacheImpl.class);
+
+    static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    static final long RESUBSCRIBE_DELAY = 1000;
+
+    private static final String INVALIDATE_ALL = "*";
+
+    private final RedisCacheImpl delegate;
+    private final Vertx vertx;
+    private final Redis redis;
+    private final Cache<String, Object> local;
+    private final String channel;
+    private final String instanceId;
+
+    // Incremented for each invalidation; a value read from Redis is only stored locally if no invalidation occurred meanwhile
+    private final AtomicLong invalidations;
+
+    private volatile boolean subscribed;
+    private volatile boolean closed;
+    private volatile RedisConnection subscription;
+    private volatile long resubscribeTimer = -1;
+
+    public NearRedisCacheImpl(RedisCacheImpl delegate) {
+        this.delegate = delegate;
+        this.vertx = delegate.getVertx();
+        this.redis = delegate.getRedis();
+        this.local = createLocalCache(delegate.getCacheInfo());
+        this.channel = delegate.getKeyPrefix() + ":invalidations";
+        this.instanceId = UUID.randomUUID().toString();
+        this.invalidations = new AtomicLong();
+        subscribe();
+    }
+
+    private static Cache<String, Object> createLocalCache(RedisCacheInfo cacheInfo) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        builder.maximumSize(cacheInfo.nearCacheMaximumSize.orElse(DEFAULT_MAXIMUM_SIZE));
+        Optional<Duration> expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite;
+        if (expireAfterWrite.isEmpty()) {
+            expireAfterWrite = shortest(cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess);
+        }
+        if (expireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(expireAfterWrite.get());
+        }
+        return builder.build();
+    }
+
+    private static Optional<Duration> shortest(Optional<Duration> d1, Optional<Duration> d2) {
+        if (d1.isEmpty()) {
+            return d2;
+        }
+        if (d2.isEmpty()) {
+            return d1;
+        }
+        return d1.get().compareTo(d2.get()) <= 0 ? d1 : d2;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return delegate.getDefaultKey();
+    }
+
+    @Override
+    public Class<?> getDefaultValueType() {
+        return delegate.getDefaultValueType();
+    }
+
+    // visible only for tests
+    public boolean isSubscribed() {
+        return subscribed;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return withLocalCache(key, getDefaultValueType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.get(key, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        return withLocalCache(key, clazz, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.get(key, clazz, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        return withLocalCache(key, type.getRawType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.get(key, type, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return withLocalCache(key, getDefaultValueType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getAsync(key, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        return withLocalCache(key, clazz, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getAsync(key, clazz, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        return withLocalCache(key, type.getRawType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getAsync(key, type, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        return withLocalCache(key, getDefaultValueType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key);
+            }
+        }).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        return withLocalCache(key, clazz, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key, clazz);
+            }
+        }).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        return withLocalCache(key, type.getRawType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key, type);
+            }
+        }).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        return withLocalCache(key, getDefaultValueType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        return withLocalCache(key, clazz, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key, clazz);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        return withLocalCache(key, type.getRawType(), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return delegate.getOrNull(key, type);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        String actualKey = delegate.actualKey(key);
+        invalidateLocally(actualKey);
+        long version = invalidations.get();
+        return delegate.put(key, value)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        storeLocally(actualKey, value, version);
+                        return publish(actualKey);
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        return put(key, supplier.get());
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        String actualKey = delegate.actualKey(key);
+        invalidateLocally(actualKey);
+        return delegate.invalidate(key)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return publish(actualKey);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        invalidateLocally(INVALIDATE_ALL);
+        return delegate.invalidateAll()
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return publish(INVALIDATE_ALL);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        invalidations.incrementAndGet();
+        local.asMap().keySet().removeIf(new Predicate<String>() {
+            @Override
+            public boolean test(String actualKey) {
+                Object userKey = delegate.computeUserKey(actualKey);
+                return userKey != null && predicate.test(userKey);
+            }
+        });
+        // The predicate cannot be sent to the other instances so they drop their whole local cache
+        return delegate.invalidateIf(predicate)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return publish(INVALIDATE_ALL);
+                    }
+                });
+    }
+
+    /**
+     *
+     * @param key
+     * @param type the type of the value, or {@code null} if unknown
+     * @param remote
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> Uni<V> withLocalCache(K key, Class<?> type, Supplier<Uni<V>> remote) {
+        if (!subscribed) {
+            return remote.get();
+        }
+        String actualKey = delegate.actualKey(key);
+        Object cached = local.getIfPresent(actualKey);
+        if (cached != null && (type == null || type.isPrimitive() || type.isInstance(cached))) {
+            return Uni.createFrom().item((V) cached);
+        }
+        long version = invalidations.get();
+        return remote.get().invoke(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                storeLocally(actualKey, value, version);
+            }
+        });
+    }
+
+    private void storeLocally(String actualKey, Object value, long version) {
+        if (value == null || !subscribed || invalidations.get() != version) {
+            return;
+        }
+        local.put(actualKey, value);
+        if (invalidations.get() != version) {
+            // An invalidation was received while the value was being stored
+            local.invalidate(actualKey);
+        }
+    }
+
+    private void invalidateLocally(String actualKey) {
+        invalidations.incrementAndGet();
+        if (INVALIDATE_ALL.equals(actualKey)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(actualKey);
+        }
+    }
+
+    private Uni<Void> publish(String actualKey) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(instanceId + " " + actualKey))
+                .replaceWithVoid()
+                .onFailure().invoke(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.warnf(t, "Unable to publish the invalidation of the Redis cache [%s]", getName());
+                    }
+                })
+                .onFailure().recoverWithNull();
+    }
+
+    private void onMessage(Response response) {
+        // Messages are received as ["message", channel, payload]
+        if (response.size() != 3 || !"message".equals(response.get(0).toString())) {
+            return;
+        }
+        String payload = response.get(2).toString();
+        int separator = payload.indexOf(' ');
+        if (separator == -1 || instanceId.equals(payload.substring(0, separator))) {
+            // Invalid message or published by this instance
+            return;
+        }
+        invalidateLocally(payload.substring(separator + 1));
+    }
+
+    /**
+     * Closes the subscription connection and stops resubscribing. The local cache is not used anymore.
+     */
+    public void close() {
+        closed = true;
+        subscribed = false;
+        long timer = resubscribeTimer;
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+        }
+        RedisConnection connection = subscription;
+        if (connection != null) {
+            subscription = null;
+            closeQuietly(connection);
+        }
+        local.invalidateAll();
+    }
+
+    private void subscribe() {
+        resubscribeTimer = -1;
+        if (closed) {
+            return;
+        }
+        redis.connect()
+                .chain(new Function<RedisConnection, Uni<? extends Response>>() {
+                    @Override
+                    public Uni<? extends Response> apply(RedisConnection connection) {
+                        subscription = connection;
+                        if (closed) {
+                            // Closed while connecting
+                            subscription = null;
+                            closeQuietly(connection);
+                            return Uni.createFrom().nullItem();
+                        }
+                        connection.handler(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response response) {
+                                onMessage(response);
+                            }
+                        });
+                        connection.exceptionHandler(new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable t) {
+                                log.debugf(t, "Invalidation subscription of the Redis cache [%s] failed", getName());
+                                closeQuietly(connection);
+                            }
+                        });
+                        connection.endHandler(new Runnable() {
+                            @Override
+                            public void run() {
+                                unsubscribed();
+                            }
+                        });
+                        return connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel));
+                    }
+                })
+                .subscribe().with(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        if (closed) {
+                            return;
+                        }
+                        // Entries stored before the subscription may have been invalidated meanwhile
+                        invalidateLocally(INVALIDATE_ALL);
+                        subscribed = true;
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        if (closed) {
+                            return;
+                        }
+                        log.warnf(t, "Unable to subscribe to the invalidations of the Redis cache [%s], retrying in %s ms",
+                                getName(), RESUBSCRIBE_DELAY);
+                        scheduleSubscribe();
+                    }
+                });
+    }
+
+    private void unsubscribed() {
+        subscribed = false;
+        subscription = null;
+        invalidateLocally(INVALIDATE_ALL);
+        scheduleSubscribe();
+    }
+
+    private void scheduleSubscribe() {
+        if (closed) {
+            return;
+        }
+        try {
+            resubscribeTimer = vertx.setTimer(RESUBSCRIBE_DELAY, new Consumer<Long>() {
+                @Override
+                public void accept(Long id) {
+                    subscribe();
+                }
+            });
+        } catch (IllegalStateException e) {
+            // Vert.x is closed
+            log.debugf("Not resubscribing to the invalidations of the Redis cache [%s]: %s", getName(), e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(RedisConnection connection) {
+        connection.close().subscribe().with(new Consumer<Void>() {
+            @Override
+            public void accept(Void ignored) {
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable ignored) {
+            }
+        });
+    }
+}
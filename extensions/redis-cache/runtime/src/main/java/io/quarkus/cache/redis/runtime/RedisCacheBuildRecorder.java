@@ -9,8 +9,12 @@
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
+import io.quarkus.cache.redis.runtime.metrics.MicrometerRedisCacheMetrics;
+import io.quarkus.cache.redis.runtime.metrics.NoOpRedisCacheMetrics;
+import io.quarkus.cache.redis.runtime.metrics.RedisCacheMetrics;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -30,7 +34,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -57,8 +61,22 @@ public CacheManager get() {
                                             cacheInfo.valueType);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
-                                caches.put(cacheInfo.name, cache);
+                                RedisCacheMetrics metrics = context.metrics() == Context.Metrics.MICROMETER
+                                        ? new MicrometerRedisCacheMetrics(cacheInfo.name)
+                                        : NoOpRedisCacheMetrics.INSTANCE;
+                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName(), metrics);
+                                if (cacheInfo.nearCache) {
+                                    NearRedisCacheImpl nearCache = new NearRedisCacheImpl(cache);
+                                    shutdownContext.addShutdownTask(new Runnable() {
+                                        @Override
+                                        public void run() {
+                                            nearCache.close();
+                                        }
+                                    });
+                                    caches.put(cacheInfo.name, nearCache);
+                                } else {
+                                    caches.put(cacheInfo.name, cache);
+                                }
                             }
                             return new CacheManagerImpl(caches);
                         }
@@ -8,6 +8,10 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -21,16 +25,22 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.redis.runtime.metrics.NoOpRedisCacheMetrics;
+import io.quarkus.cache.redis.runtime.metrics.RedisCacheMetrics;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.unchecked.Unchecked;
 import io.smallrye.mutiny.unchecked.UncheckedFunction;
 import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Redis;
@@ -46,6 +56,8 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private static final Logger log = Logger.getLogger(RedisCacheImpl.class);
 
+    static final int DEFAULT_BATCH_MAX_SIZE = 100;
+
     private final Vertx vertx;
     private final Redis redis;
 
@@ -57,10 +69,22 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final RedisCacheMetrics metrics;
+
+    // Loads in progress; null if the loads are not coalesced
+    private final ConcurrentMap<InFlightKey, InFlightLoad<?>> inFlight;
+
+    // Null if the commands are not batched
+    private final RedisCommandBatcher batcher;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
+        this(cacheInfo, redisClientName, NoOpRedisCacheMetrics.INSTANCE);
+    }
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName, RedisCacheMetrics metrics) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
-                BlockingOperationControl::isBlockingAllowed);
+                BlockingOperationControl::isBlockingAllowed, metrics);
     }
 
     private static Redis determineRedisClient(Optional<String> redisClientName) {
@@ -73,6 +97,11 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
     }
 
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, NoOpRedisCacheMetrics.INSTANCE);
+    }
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            RedisCacheMetrics metrics) {
         this.vertx = vertx;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
@@ -88,6 +117,14 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        this.metrics = metrics;
+        this.inFlight = cacheInfo.coalesceLoads ? new ConcurrentHashMap<>() : null;
+        if (cacheInfo.batchWindow.isPresent() && !cacheInfo.useOptimisticLocking) {
+            this.batcher = new RedisCommandBatcher(vertx, redis, cacheInfo.batchWindow.get().toMillis(),
+                    cacheInfo.batchMaxSize.orElse(DEFAULT_BATCH_MAX_SIZE), metrics);
+        } else {
+            this.batcher = null;
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -110,6 +147,18 @@ public Class<?> getDefaultValueType() {
         return classOfValue instanceof Class<?> ? (Class<?>) classOfValue : null;
     }
 
+    RedisCacheInfo getCacheInfo() {
+        return cacheInfo;
+    }
+
+    Vertx getVertx() {
+        return vertx;
+    }
+
+    Redis getRedis() {
+        return redis;
+    }
+
     private <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
@@ -144,6 +193,17 @@ public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader)
     }
 
     private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
+        String actualKey = computeActualKey(encodeKey(key));
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return coalesce(actualKey, type, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return load(key, type, valueLoader, marshaller.encode(actualKey), isWorkerThread);
+            }
+        });
+    }
+
+    private <K, V> Uni<V> load(K key, Type type, Function<K, V> valueLoader, byte[] encodedKey, boolean isWorkerThread) {
         // With optimistic locking:
         // WATCH K
         // val = deserialize(GET K)
@@ -158,8 +218,21 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        boolean isWorkerThread = blockingAllowedSupplier.get();
+        // With batching, GET and SET are sent in the batches of the current window
+        if (batcher != null) {
+            return getBatched(encodedKey, type, new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return computeValue(key, valueLoader, isWorkerThread);
+                }
+            }).onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
+                @Override
+                public Uni<? extends V> apply(Throwable e) {
+                    log.warn("Unable to connect to Redis, recomputing cached value", e);
+                    return computeValue(key, valueLoader, isWorkerThread);
+                }
+            });
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
@@ -238,7 +311,18 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        return coalesce(actualKey, type, () -> loadAsync(key, type, valueLoader, marshaller.encode(actualKey)));
+    }
+
+    private <K, V> Uni<V> loadAsync(K key, Type type, Function<K, Uni<V>> valueLoader, byte[] encodedKey) {
+        if (batcher != null) {
+            return getBatched(encodedKey, type, () -> valueLoader.apply(key))
+                    .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
+                        log.warn("Unable to connect to Redis, recomputing cached value", e);
+                        return valueLoader.apply(key);
+                    });
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
@@ -291,6 +375,9 @@ public <K, V> Uni<Void> put(K key, V value) {
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
         byte[] encodedValue = marshaller.encode(supplier.get());
+        if (batcher != null) {
+            return batcher.send(setRequest(encodedKey, encodedValue)).replaceWithVoid();
+        }
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
@@ -326,6 +413,9 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        if (batcher != null) {
+            return this.<V> getBatched(encodedKey, type).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
@@ -352,6 +442,9 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        if (batcher != null) {
+            return getBatched(encodedKey, type);
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
@@ -362,7 +455,17 @@ public Uni<V> apply(RedisConnection redisConnection) {
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        if (inFlight != null) {
+            // The next lookups must not reuse a load started before the invalidation, whatever its type
+            inFlight.keySet().removeIf(new Predicate<InFlightKey>() {
+                @Override
+                public boolean test(InFlightKey inFlightKey) {
+                    return inFlightKey.actualKey().equals(actualKey);
+                }
+            });
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
         return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
                 .replaceWithVoid();
     }
@@ -374,6 +477,9 @@ public Uni<Void> invalidateAll() {
 
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        if (inFlight != null) {
+            inFlight.clear();
+        }
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
             @Override
             public void accept(UniEmitter<? super Set<String>> uniEmitter) {
@@ -436,6 +542,10 @@ public String computeActualKey(String key) {
         return getKeyPrefix() + ":" + key;
     }
 
+    <K> String actualKey(K key) {
+        return computeActualKey(encodeKey(key));
+    }
+
     Object computeUserKey(String key) {
         String prefix = getKeyPrefix();
         if (!key.startsWith(prefix + ":")) {
@@ -449,7 +559,7 @@ private String getKeyPattern() {
         return getKeyPrefix() + ":*";
     }
 
-    private String getKeyPrefix() {
+    String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix.replace("{cache-name}", getName());
         } else {
@@ -481,32 +591,136 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
 
     private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
             Marshaller marshaller) {
+        return connection.send(getRequest(encoded))
+                .map(new Function<Response, X>() {
+                    @Override
+                    public X apply(Response r) {
+                        return marshaller.decode(clazz, r);
+                    }
+                });
+    }
+
+    private <X> Uni<X> getBatched(byte[] encoded, Type clazz) {
+        return batcher.send(getRequest(encoded))
+                .map(new Function<Response, X>() {
+                    @Override
+                    public X apply(Response r) {
+                        return marshaller.decode(clazz, r);
+                    }
+                });
+    }
+
+    private <V> Uni<V> getBatched(byte[] encodedKey, Type type, Supplier<Uni<V>> computation) {
+        return this.<V> getBatched(encodedKey, type)
+                .chain(new Function<V, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(V cached) {
+                        if (cached != null) {
+                            return Uni.createFrom().item(new StaticSupplier<>(cached));
+                        }
+                        return computation.get().call(new Function<V, Uni<?>>() {
+                            @Override
+                            public Uni<?> apply(V value) {
+                                if (value == null) {
+                                    throw new IllegalArgumentException("Cannot cache `null` value");
+                                }
+                                return batcher.send(setRequest(encodedKey, marshaller.encode(value)));
+                            }
+                        });
+                    }
+                });
+    }
+
+    private Request getRequest(byte[] encoded) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
-            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds());
         } else {
-            return connection.send(Request.cmd(Command.GET).arg(encoded))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
-                        }
-                    });
+            return Request.cmd(Command.GET).arg(encoded);
         }
     }
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
+    }
+
+    /**
+     * The loads of the same key and type are coalesced: the first lookup subscribes to the load and the concurrent lookups
+     * share its result. The load is only cancelled if all the lookups are cancelled. The result is emitted on the context of
+     * each lookup.
+     */
+    @SuppressWarnings("unchecked")
+    private <V> Uni<V> coalesce(String actualKey, Type type, Supplier<Uni<V>> load) {
+        if (inFlight == null) {
+            return load.get();
+        }
+        InFlightKey inFlightKey = new InFlightKey(actualKey, type);
+        Context context = io.vertx.core.Vertx.currentContext();
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                InFlightLoad<V> shared;
+                while (true) {
+                    InFlightLoad<V> created = new InFlightLoad<>();
+                    shared = (InFlightLoad<V>) inFlight.putIfAbsent(inFlightKey, created);
+                    if (shared == null) {
+                        shared = created;
+                        shared.acquire();
+                        shared.start(load, () -> inFlight.remove(inFlightKey, created));
+                        break;
+                    }
+                    if (shared.acquire()) {
+                        metrics.loadCoalesced();
+                        break;
+                    }
+                    // The load was cancelled in the meantime
+                    inFlight.remove(inFlightKey, shared);
+                }
+                InFlightLoad<V> acquired = shared;
+                // Cancelling a copy does not cancel the shared result
+                return Uni.createFrom().completionStage(acquired.result.copy())
+                        .onCancellation().invoke(new Runnable() {
+                            @Override
+                            public void run() {
+                                if (acquired.release()) {
+                                    inFlight.remove(inFlightKey, acquired);
+                                }
+                            }
+                        });
+            }
+        }).emitOn(new Executor() {
+            // Go back to the context of the lookup; the result is completed on the context of the first lookup
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = io.vertx.core.Vertx.currentContext();
+                if (ctx == context || (context == null && ctx == null)) {
+                    command.run();
+                } else if (context == null) {
+                    // Do not share the duplicated context of the first lookup
+                    ((ContextInternal) ctx).duplicate().runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                } else {
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            }
+        });
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -526,6 +740,82 @@ private Uni<Void> abort(RedisConnection connection) {
                 .replaceWithVoid();
     }
 
+    private record InFlightKey(String actualKey, Type type) {
+    }
+
+    /**
+     * A load shared by concurrent lookups.
+     */
+    private static final class InFlightLoad<V> {
+
+        final CompletableFuture<V> result = new CompletableFuture<>();
+
+        // Guarded by this
+        private int subscribers;
+        private boolean cancelled;
+        private Cancellable cancellable;
+
+        synchronized boolean acquire() {
+            if (cancelled) {
+                return false;
+            }
+            subscribers++;
+            return true;
+        }
+
+        /**
+         * @return {@code true} if the load was cancelled because there is no subscriber left
+         */
+        boolean release() {
+            Cancellable toCancel;
+            synchronized (this) {
+                if (--subscribers > 0 || result.isDone()) {
+                    return false;
+                }
+                cancelled = true;
+                toCancel = cancellable;
+            }
+            if (toCancel != null) {
+                toCancel.cancel();
+            }
+            result.cancel(false);
+            return true;
+        }
+
+        void start(Supplier<Uni<V>> load, Runnable onTermination) {
+            Uni<V> uni;
+            try {
+                uni = load.get();
+            } catch (RuntimeException e) {
+                onTermination.run();
+                result.completeExceptionally(e);
+                return;
+            }
+            Cancellable subscription = uni.subscribe().with(new Consumer<V>() {
+                @Override
+                public void accept(V value) {
+                    onTermination.run();
+                    result.complete(value);
+                }
+            }, new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable failure) {
+                    onTermination.run();
+                    result.completeExceptionally(failure);
+                }
+            });
+            boolean cancel;
+            synchronized (this) {
+                cancellable = subscription;
+                cancel = cancelled;
+            }
+            if (cancel) {
+                // All the lookups were cancelled while subscribing
+                subscription.cancel();
+            }
+        }
+    }
+
     private static class StaticSupplier<V> implements Supplier<V> {
         private final V cached;
 
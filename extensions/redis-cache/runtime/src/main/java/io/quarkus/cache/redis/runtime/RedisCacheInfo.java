@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -51,4 +52,34 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether the concurrent loads of the same key are coalesced.
+     */
+    public boolean coalesceLoads = true;
+
+    /**
+     * If set, the commands sent within this window are merged into a single batch.
+     */
+    public Optional<Duration> batchWindow = Optional.empty();
+
+    /**
+     * The maximum number of commands of a batch.
+     */
+    public OptionalInt batchMaxSize = OptionalInt.empty();
+
+    /**
+     * Whether a local in-memory cache is kept in front of Redis.
+     */
+    public boolean nearCache = false;
+
+    /**
+     * The maximum number of entries of the local in-memory cache.
+     */
+    public OptionalLong nearCacheMaximumSize = OptionalLong.empty();
+
+    /**
+     * The time to live of the entries of the local in-memory cache.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
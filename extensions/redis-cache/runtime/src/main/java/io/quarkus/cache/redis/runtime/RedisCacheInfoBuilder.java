@@ -67,6 +67,42 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.coalesceLoads().isPresent()) {
+                    cacheInfo.coalesceLoads = namedRuntimeConfig.coalesceLoads().get();
+                } else if (defaultRuntimeConfig.coalesceLoads().isPresent()) {
+                    cacheInfo.coalesceLoads = defaultRuntimeConfig.coalesceLoads().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.batchWindow().isPresent()) {
+                    cacheInfo.batchWindow = namedRuntimeConfig.batchWindow();
+                } else if (defaultRuntimeConfig.batchWindow().isPresent()) {
+                    cacheInfo.batchWindow = defaultRuntimeConfig.batchWindow();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.batchMaxSize().isPresent()) {
+                    cacheInfo.batchMaxSize = namedRuntimeConfig.batchMaxSize();
+                } else if (defaultRuntimeConfig.batchMaxSize().isPresent()) {
+                    cacheInfo.batchMaxSize = defaultRuntimeConfig.batchMaxSize();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().isPresent()) {
+                    cacheInfo.nearCache = namedRuntimeConfig.nearCache().get();
+                } else if (defaultRuntimeConfig.nearCache().isPresent()) {
+                    cacheInfo.nearCache = defaultRuntimeConfig.nearCache().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
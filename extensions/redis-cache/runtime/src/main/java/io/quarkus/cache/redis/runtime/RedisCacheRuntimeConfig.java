@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,53 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Whether the concurrent loads of the same key should be coalesced, i.e. while a value is being loaded, the other
+     * requests for the same key and value type wait for the result of that load instead of reading Redis and computing the
+     * value again. The load is cancelled only if all the requests are cancelled.
+     * The loads are only coalesced within an application instance.
+     * Default is {@code true}.
+     */
+    Optional<Boolean> coalesceLoads();
+
+    /**
+     * If set, the {@code GET} and {@code SET} commands sent within this window are merged into a single pipelined batch.
+     * This reduces the number of round trips when many different keys are accessed concurrently, at the cost of a
+     * latency up to the window. Batching is not used if optimistic locking is enabled.
+     * If not set (default), each command is sent on its own.
+     */
+    Optional<Duration> batchWindow();
+
+    /**
+     * The maximum number of commands of a batch. A batch is sent as soon as it is full, even if the window has not
+     * elapsed. Only used if {@link #batchWindow()} is set.
+     * If not set, {@code 100} will be used.
+     */
+    OptionalInt batchMaxSize();
+
+    /**
+     * Whether a bounded local in-memory cache should be kept in front of Redis.
+     * The values read from Redis are then served from the memory of the application until they are invalidated.
+     * The invalidations are published using Redis Pub/Sub so that all the application instances using the same Redis
+     * server remove the entry from their local cache.
+     * Each near cache permanently holds one connection of the Redis client pool for the subscription.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> nearCache();
+
+    /**
+     * The maximum number of entries of the local in-memory cache.
+     * Only used if {@link #nearCache()} is enabled.
+     * If not set, {@code 10000} will be used.
+     */
+    OptionalLong nearCacheMaximumSize();
+
+    /**
+     * Specifies that each entry should be automatically removed from the local in-memory cache once a fixed duration has
+     * elapsed after the entry's creation.
+     * Only used if {@link #nearCache()} is enabled.
+     * If not set, the shortest of the {@code expire-after-write} and {@code expire-after-access} values will be used.
+     */
+    Optional<Duration> nearCacheExpireAfterWrite();
 }
@@ -0,0 +1,135 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.quarkus.cache.redis.runtime.metrics.RedisCacheMetrics;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Merges the commands sent within a small window into a single pipelined batch, i.e. one connection acquisition and one
+ * round trip for all the concurrent lookups and writes of a cache.
+ * <p>
+ * A batch is sent once the window elapses or once it reaches the maximum size, whichever comes first.
+ */
+final class RedisCommandBatcher {
+
+    private final Vertx vertx;
+    private final Redis redis;
+    private final long windowMillis;
+    private final int maxSize;
+    private final RedisCacheMetrics metrics;
+
+    // Guarded by this
+    private List<Pending> pending;
+
+    RedisCommandBatcher(Vertx vertx, Redis redis, long windowMillis, int maxSize, RedisCacheMetrics metrics) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.windowMillis = Math.max(1, windowMillis);
+        this.maxSize = maxSize;
+        this.metrics = metrics;
+    }
+
+    Uni<Response> send(Request request) {
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Response>>() {
+            @Override
+            public void accept(UniEmitter<? super Response> emitter) {
+                add(new Pending(request, emitter));
+            }
+        });
+    }
+
+    private void add(Pending command) {
+        List<Pending> full = null;
+        boolean first = false;
+        synchronized (this) {
+            if (pending == null) {
+                pending = new ArrayList<>();
+                first = true;
+            }
+            pending.add(command);
+            if (pending.size() >= maxSize) {
+                full = pending;
+                pending = null;
+            }
+        }
+        if (full != null) {
+            send(full);
+        } else if (first) {
+            // A timer scheduled for a batch that was sent because it was full may flush the next batch earlier; that's fine
+            vertx.setTimer(windowMillis, new Consumer<Long>() {
+                @Override
+                public void accept(Long id) {
+                    flush();
+                }
+            });
+        }
+    }
+
+    private void flush() {
+        List<Pending> batch;
+        synchronized (this) {
+            batch = pending;
+            pending = null;
+        }
+        if (batch != null) {
+            send(batch);
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        metrics.batchSent(batch.size());
+        if (batch.size() == 1) {
+            Pending command = batch.get(0);
+            redis.send(command.request).subscribe().with(new Consumer<Response>() {
+                @Override
+                public void accept(Response response) {
+                    command.emitter.complete(response);
+                }
+            }, new Consumer<Throwable>() {
+                @Override
+                public void accept(Throwable failure) {
+                    command.emitter.fail(failure);
+                }
+            });
+            return;
+        }
+        List<Request> requests = new ArrayList<>(batch.size());
+        for (Pending command : batch) {
+            requests.add(command.request);
+        }
+        redis.batch(requests).subscribe().with(new Consumer<List<Response>>() {
+            @Override
+            public void accept(List<Response> responses) {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).emitter.complete(responses.get(i));
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                for (Pending command : batch) {
+                    command.emitter.fail(failure);
+                }
+            }
+        });
+    }
+
+    private static final class Pending {
+
+        private final Request request;
+        private final UniEmitter<? super Response> emitter;
+
+        private Pending(Request request, UniEmitter<? super Response> emitter) {
+            this.request = request;
+            this.emitter = emitter;
+        }
+    }
+}
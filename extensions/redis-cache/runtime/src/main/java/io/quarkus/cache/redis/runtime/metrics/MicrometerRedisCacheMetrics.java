@@ -0,0 +1,42 @@
+package io.quarkus.cache.redis.runtime.metrics;
+
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * An instance of this class is created for each Redis cache when the application depends on a
+ * quarkus-micrometer-registry-* extension.
+ */
+public class MicrometerRedisCacheMetrics implements RedisCacheMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(MicrometerRedisCacheMetrics.class);
+
+    private final Counter coalescedLoads;
+    private final DistributionSummary batchSize;
+
+    public MicrometerRedisCacheMetrics(String cacheName) {
+        LOGGER.tracef("Initializing Micrometer metrics for Redis cache [%s]", cacheName);
+        // Additional tags should be configured using MeterFilter.
+        this.coalescedLoads = Counter.builder("cache.redis.loads.coalesced")
+                .description("The number of values served by a load of the same key that was already in-flight")
+                .tag("cache", cacheName)
+                .register(Metrics.globalRegistry);
+        this.batchSize = DistributionSummary.builder("cache.redis.batch.size")
+                .description("The number of commands sent to Redis in a single batch")
+                .tag("cache", cacheName)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void loadCoalesced() {
+        coalescedLoads.increment();
+    }
+
+    @Override
+    public void batchSent(int size) {
+        batchSize.record(size);
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkus.cache.redis.runtime.metrics;
+
+/**
+ * Used when the application does not depend on any quarkus-micrometer-registry-* extension. It is required to make the
+ * micrometer-core dependency optional.
+ */
+public class NoOpRedisCacheMetrics implements RedisCacheMetrics {
+
+    public static final NoOpRedisCacheMetrics INSTANCE = new NoOpRedisCacheMetrics();
+
+    private NoOpRedisCacheMetrics() {
+    }
+
+    @Override
+    public void loadCoalesced() {
+        // Do nothing.
+    }
+
+    @Override
+    public void batchSent(int size) {
+        // Do nothing.
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.cache.redis.runtime.metrics;
+
+/**
+ * Records the operations of a Redis cache that are not visible from the Redis server, i.e. the loads that were served by
+ * another in-flight load and the commands that were sent in a batch.
+ */
+public interface RedisCacheMetrics {
+
+    /**
+     * A value was requested while a load of the same key was in-flight, and the result of that load was reused.
+     */
+    void loadCoalesced();
+
+    /**
+     * A batch of commands was sent to Redis.
+     *
+     * @param size the number of commands of the batch
+     */
+    void batchSent(int size);
+
+}
@@ -4,6 +4,7 @@
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -106,6 +107,8 @@ public abstract class JacksonCodeGenerator {
     protected final Set<String> generatedClassNames = new HashSet<>();
     protected final Deque<ClassInfo> toBeGenerated = new ArrayDeque<>();
 
+    private final Map<String, String> skippedClasses = new HashMap<>();
+
     public JacksonCodeGenerator(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
         this.generatedClassBuildItemBuildProducer = generatedClassBuildItemBuildProducer;
@@ -131,6 +134,18 @@ public Collection<String> create(Collection<ClassInfo> classInfos) {
         return createdClasses;
     }
 
+    /**
+     * @return the names of the classes for which no code could be generated, mapped to the reason why. Jackson uses its
+     *         reflection based implementation for these classes.
+     */
+    public Map<String, String> getSkippedClasses() {
+        return Collections.unmodifiableMap(skippedClasses);
+    }
+
+    protected void skip(String className, String reason) {
+        skippedClasses.putIfAbsent(className, reason);
+    }
+
     private Optional<String> create(ClassInfo classInfo) {
         String beanClassName = classInfo.name().toString();
         if (vetoedClass(classInfo, beanClassName) || !generatedClassNames.add(beanClassName)) {
@@ -140,6 +155,7 @@ private Optional<String> create(ClassInfo classInfo) {
         if (unknownAnnotation.isPresent()) {
             log.infof("Skipping generation of reflection-free Jackson serializer for class %s" +
                     " because it contains the unsupported Jackson annotation %s", beanClassName, unknownAnnotation.get());
+            skip(beanClassName, "it contains the unsupported Jackson annotation " + unknownAnnotation.get());
             return Optional.empty();
         }
 
@@ -151,7 +167,11 @@ private Optional<String> create(ClassInfo classInfo) {
 
             createConstructor(classCreator, beanClassName);
             boolean valid = createSerializationMethod(classInfo, classCreator, beanClassName);
-            return valid ? Optional.of(generatedClassName) : Optional.empty();
+            if (!valid) {
+                skip(beanClassName, "it has properties that are not supported");
+                return Optional.empty();
+            }
+            return Optional.of(generatedClassName);
         }
     }
 
@@ -308,6 +328,16 @@ private boolean isAssignableTo(String typeName, DotName targetName) {
     }
 
     private void registerTypeToBeGenerated(Type type) {
+        switch (type.kind()) {
+            case PARAMETERIZED_TYPE -> type.asParameterizedType().arguments().forEach(this::registerTypeToBeGenerated);
+            case ARRAY -> registerTypeToBeGenerated(type.asArrayType().constituent());
+            case WILDCARD_TYPE -> registerTypeToBeGenerated(type.asWildcardType().extendsBound());
+            case TYPE_VARIABLE, UNRESOLVED_TYPE_VARIABLE, TYPE_VARIABLE_REFERENCE -> {
+                return;
+            }
+            default -> {
+            }
+        }
         registerTypeToBeGenerated(type.name().toString());
     }
 
@@ -592,6 +622,15 @@ boolean isIgnoredField() {
             return annotations.get(JsonIgnore.class.getName()) != null;
         }
 
+        boolean isReadOnly() {
+            AnnotationInstance jsonProperty = annotations.get(JsonProperty.class.getName());
+            if (jsonProperty == null) {
+                return false;
+            }
+            AnnotationValue access = jsonProperty.value("access");
+            return access != null && "READ_ONLY".equals(access.asEnum());
+        }
+
         boolean isUnwrapped() {
             return annotations.get(JsonUnwrapped.class.getName()) != null;
         }
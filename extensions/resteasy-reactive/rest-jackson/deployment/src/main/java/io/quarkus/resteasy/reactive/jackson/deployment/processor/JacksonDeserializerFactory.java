@@ -21,7 +21,6 @@
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.MethodParameterInfo;
-import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
 import org.jboss.jandex.TypeVariable;
 import org.jboss.jandex.VoidType;
@@ -153,8 +152,11 @@
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
  * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
  *
- * Also note that this works only if the Java class to be deserialized has an empty constructor, while the generation of
- * this deserializer is skipped in all other cases. In particular this cannot work with records.
+ * Also note that this works only if the Java class to be deserialized has either an empty constructor, a public constructor
+ * annotated with {@code @JsonCreator} or, in case of records, a canonical constructor. The generation of this deserializer is
+ * skipped in all other cases. The type arguments of collections, maps and {@code Optional} fields are preserved, even when
+ * nested like in {@code Map&lt;String, List&lt;Address&gt;&gt;}, while enums are read through the deserializer that Jackson
+ * provides for them.
  *
  * If the class to be deserialized has one or more generics parameter, the generated deserializer also implements the
  * {@code ContextualDeserializer} interface. For instance for a class like the following
@@ -249,6 +251,7 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
 
         Optional<MethodInfo> ctorOpt = findConstructor(classInfo);
         if (ctorOpt.isEmpty()) {
+            skip(beanClassName, "it has no public constructor");
             return false;
         }
 
@@ -599,7 +602,13 @@ private void deserializeFieldSpecs(DeserializationData deserData, ResultHandle d
             ResultHandle objHandle, ResultHandle fieldValue, Set<String> deserializedFields, Switch.StringSwitch strSwitch,
             FieldSpecs fieldSpecs, AtomicBoolean valid) {
         if (fieldSpecs != null && deserializedFields.add(fieldSpecs.jsonName)) {
-            if (fieldSpecs.isIgnoredField() || fieldSpecs.isBackReference() || isFieldTypeIgnored(fieldSpecs)) {
+            if (fieldSpecs.isBackReference()) {
+                return;
+            }
+            if (fieldSpecs.isIgnoredField() || fieldSpecs.isReadOnly() || isFieldTypeIgnored(fieldSpecs)) {
+                // like Jackson, silently skip the explicitly ignored properties instead of treating them as unknown ones
+                strSwitch.caseOf(fieldSpecs.jsonName, bytecode -> {
+                });
                 return;
             }
             strSwitch.caseOf(fieldSpecs.jsonName,
@@ -633,6 +642,8 @@ private boolean deserializeField(DeserializationData deserData, BytecodeCreator
         ResultHandle valueHandle = readValueFromJson(deserData.classCreator, effectiveBytecode, deserializationContext,
                 fieldSpecs, deserData.typeParametersIndex, fieldValue);
         if (valueHandle == null) {
+            skip(deserData.classInfo.name().toString(),
+                    "the type of the property " + fieldSpecs.fieldName + " cannot be resolved");
             return false;
         }
         writeValueToObject(deserData.classInfo, objHandle, fieldSpecs, effectiveBytecode,
@@ -709,31 +720,11 @@ private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreato
                 ResultHandle valueTypes = bytecode.readInstanceField(valueTypesField, bytecode.getThis());
                 yield bytecode.readArrayValue(valueTypes, parameterIndex);
             }
-            case LIST, SET, OPTIONAL -> {
-                Type contentType = ((ParameterizedType) fieldType).arguments().get(0);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructParametricType = ofMethod(TypeFactory.class,
-                        "constructParametricType", JavaType.class, Class.class, Class[].class);
-                ResultHandle paramTypes = bytecode.newArray(Class.class, 1);
-                bytecode.writeArrayValue(paramTypes, 0, bytecode.loadClass(contentType.name().toString()));
-                yield bytecode.invokeVirtualMethod(constructParametricType, typeFactory,
-                        bytecode.loadClass(fieldTypeName), paramTypes);
-            }
-            case MAP -> {
-                Type keyType = ((ParameterizedType) fieldType).arguments().get(0);
-                Type valueType = ((ParameterizedType) fieldType).arguments().get(1);
+            case LIST, SET, OPTIONAL, MAP -> {
                 MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
                         TypeFactory.class);
                 ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructParametricType = ofMethod(TypeFactory.class,
-                        "constructParametricType", JavaType.class, Class.class, Class[].class);
-                ResultHandle paramTypes = bytecode.newArray(Class.class, 2);
-                bytecode.writeArrayValue(paramTypes, 0, bytecode.loadClass(keyType.name().toString()));
-                bytecode.writeArrayValue(paramTypes, 1, bytecode.loadClass(valueType.name().toString()));
-                yield bytecode.invokeVirtualMethod(constructParametricType, typeFactory,
-                        bytecode.loadClass(fieldTypeName), paramTypes);
+                yield javaTypeHandle(classCreator, bytecode, typeFactory, fieldType, typeParametersIndex);
             }
             default -> bytecode.loadClass(fieldTypeName);
         };
@@ -747,6 +738,55 @@ private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreato
         return bytecode.invokeVirtualMethod(readTreeAsValue, deserializationContext, valueNode, typeHandle);
     }
 
+    /**
+     * Builds the {@code JavaType} of a possibly nested generic type like {@code Map<String, List<Address>>}, so that the
+     * type arguments of the inner types are not erased. Returns {@code null} if the type refers to a type variable that is
+     * not one of the type parameters of the deserialized class.
+     */
+    private ResultHandle javaTypeHandle(ClassCreator classCreator, BytecodeCreator bytecode, ResultHandle typeFactory,
+            Type type, Map<String, Integer> typeParametersIndex) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE -> {
+                Integer parameterIndex = typeParametersIndex.get(type.asTypeVariable().identifier());
+                if (parameterIndex == null) {
+                    return null;
+                }
+                FieldDescriptor valueTypesField = FieldDescriptor.of(classCreator.getClassName(), "valueTypes",
+                        JavaType[].class);
+                ResultHandle valueTypes = bytecode.readInstanceField(valueTypesField, bytecode.getThis());
+                return bytecode.readArrayValue(valueTypes, parameterIndex);
+            }
+            case WILDCARD_TYPE -> {
+                return javaTypeHandle(classCreator, bytecode, typeFactory, type.asWildcardType().extendsBound(),
+                        typeParametersIndex);
+            }
+            case PARAMETERIZED_TYPE -> {
+                List<Type> arguments = type.asParameterizedType().arguments();
+                ResultHandle argumentTypes = bytecode.newArray(JavaType.class, arguments.size());
+                for (int i = 0; i < arguments.size(); i++) {
+                    ResultHandle argumentType = javaTypeHandle(classCreator, bytecode, typeFactory, arguments.get(i),
+                            typeParametersIndex);
+                    if (argumentType == null) {
+                        return null;
+                    }
+                    bytecode.writeArrayValue(argumentTypes, i, argumentType);
+                }
+                MethodDescriptor constructParametricType = ofMethod(TypeFactory.class, "constructParametricType",
+                        JavaType.class, Class.class, JavaType[].class);
+                return bytecode.invokeVirtualMethod(constructParametricType, typeFactory,
+                        bytecode.loadClass(type.name().toString()), argumentTypes);
+            }
+            case UNRESOLVED_TYPE_VARIABLE, TYPE_VARIABLE_REFERENCE -> {
+                return null;
+            }
+            default -> {
+                MethodDescriptor constructType = ofMethod(TypeFactory.class, "constructType", JavaType.class,
+                        java.lang.reflect.Type.class);
+                return bytecode.invokeVirtualMethod(constructType, typeFactory, bytecode.loadClass(type.name().toString()));
+            }
+        }
+    }
+
     private void writeValueToObject(ClassInfo classInfo, ResultHandle objHandle, FieldSpecs fieldSpecs,
             BytecodeCreator bytecode, ResultHandle valueHandle) {
         if (fieldSpecs.isPublicField()) {
@@ -827,7 +867,7 @@ private static ResultHandle readValueForPrimitiveFields(BytecodeCreator bytecode
 
     @Override
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
+        return super.shouldGenerateCodeFor(classInfo) && findConstructor(classInfo).isPresent();
     }
 
     private static final String TRANSLATABLE_FIELD_NAMES = "TRANSLATABLE_FIELD_NAMES";
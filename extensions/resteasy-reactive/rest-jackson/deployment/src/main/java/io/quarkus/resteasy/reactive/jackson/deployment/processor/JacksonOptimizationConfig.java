@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 
+import java.util.OptionalInt;
 import java.util.function.BooleanSupplier;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -20,6 +21,19 @@ public interface JacksonOptimizationConfig {
     @WithDefault("false")
     boolean enableReflectionFreeSerializers();
 
+    /**
+     * Minimal number of elements of a collection or an array returned by an endpoint running on the event loop for it to
+     * be serialized element by element. The serialization then pauses whenever the write queue of the connection is full
+     * and resumes once it has been drained, instead of queueing the whole serialized entity at once.
+     * <p>
+     * This bounds the memory used by large JSON array responses and lets the client receive the first bytes before the
+     * whole entity is serialized. Elements that are written after the serialization has paused are serialized after the
+     * request has completed, and a failure at that point resets the connection instead of producing an error response.
+     * <p>
+     * By default, entities are always serialized at once.
+     */
+    OptionalInt streamingThreshold();
+
     class IsReflectionFreeSerializersEnabled implements BooleanSupplier {
         JacksonOptimizationConfig config;
 
@@ -14,6 +14,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
@@ -405,20 +407,27 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
 
         Map<String, ClassInfo> serializedClasses = new HashMap<>();
         Map<String, ClassInfo> deserializedClasses = new HashMap<>();
+        Map<String, Set<String>> serializedClassesByEndpoint = new TreeMap<>();
+        Map<String, Set<String>> deserializedClassesByEndpoint = new TreeMap<>();
 
         for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
             MethodInfo methodInfo = entry.getMethodInfo();
+            String endpoint = methodInfo.declaringClass().name() + "#" + methodInfo.name();
             ClassInfo effectiveReturnClassInfo = getEffectiveClassInfo(methodInfo.returnType(), indexView);
             if (effectiveReturnClassInfo != null && !effectiveReturnClassInfo.isEnum()) {
                 serializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
+                serializedClassesByEndpoint.computeIfAbsent(endpoint, k -> new TreeSet<>())
+                        .add(effectiveReturnClassInfo.name().toString());
             }
 
             if (methodInfo.hasAnnotation(POST.class) || methodInfo.hasAnnotation(PUT.class)
                     || methodInfo.hasAnnotation(PATCH.class)) {
                 for (Type paramType : methodInfo.parameterTypes()) {
                     ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(paramType, indexView);
-                    if (effectiveParamClassInfo != null) {
+                    if (effectiveParamClassInfo != null && !effectiveParamClassInfo.isEnum()) {
                         deserializedClasses.put(effectiveParamClassInfo.name().toString(), effectiveParamClassInfo);
+                        deserializedClassesByEndpoint.computeIfAbsent(endpoint, k -> new TreeSet<>())
+                                .add(effectiveParamClassInfo.name().toString());
                     }
                 }
             }
@@ -427,18 +436,59 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
         if (!serializedClasses.isEmpty()) {
             JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClassBuildItemBuildProducer,
                     index.getComputingIndex());
-            factory.create(serializedClasses.values())
-                    .forEach(recorder::recordGeneratedSerializer);
+            Collection<String> generatedSerializers = factory.create(serializedClasses.values());
+            generatedSerializers.forEach(recorder::recordGeneratedSerializer);
+            reportReflectiveFallbacks("response types", "serialized", serializedClassesByEndpoint, factory,
+                    generatedSerializers);
         }
 
         if (!deserializedClasses.isEmpty()) {
             JacksonDeserializerFactory factory = new JacksonDeserializerFactory(generatedClassBuildItemBuildProducer,
                     index.getComputingIndex());
-            factory.create(deserializedClasses.values())
-                    .forEach(recorder::recordGeneratedDeserializer);
+            Collection<String> generatedDeserializers = factory.create(deserializedClasses.values());
+            generatedDeserializers.forEach(recorder::recordGeneratedDeserializer);
+            reportReflectiveFallbacks("request body types", "deserialized", deserializedClassesByEndpoint, factory,
+                    generatedDeserializers);
         }
     }
 
+    /**
+     * Reports, for each endpoint, the classes for which no reflection-free code could be generated and that are then
+     * handled by the reflection based implementation of Jackson.
+     */
+    private static void reportReflectiveFallbacks(String types, String action, Map<String, Set<String>> classesByEndpoint,
+            JacksonCodeGenerator generator, Collection<String> generatedClasses) {
+        int total = 0;
+        int fallbacks = 0;
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, Set<String>> entry : classesByEndpoint.entrySet()) {
+            for (String className : entry.getValue()) {
+                total++;
+                if (!generatedClasses.contains(className + generator.getClassSuffix())) {
+                    fallbacks++;
+                    String reason = generator.getSkippedClasses().getOrDefault(className,
+                            "it is abstract, an interface or a JDK type");
+                    report.append("\n\t- ").append(entry.getKey()).append(": ").append(className)
+                            .append(" because ").append(reason);
+                }
+            }
+        }
+        if (fallbacks == 0) {
+            log.debugf("All the %d %s of the REST endpoints are %s without reflection", total, types, action);
+        } else {
+            log.infof("%d of the %d %s of the REST endpoints are %s through reflection:%s", fallbacks, total, types,
+                    action, report);
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    public void configureStreaming(JacksonOptimizationConfig optimizationConfig,
+            ResteasyReactiveServerJacksonRecorder recorder) {
+        // always recorded, so that a threshold removed in dev mode does not survive the restart
+        recorder.configureStreamingThreshold(optimizationConfig.streamingThreshold().orElse(-1));
+    }
+
     @BuildStep(onlyIf = JacksonOptimizationConfig.IsReflectionFreeSerializersEnabled.class)
     void unremovable(BuildProducer<AdditionalBeanBuildItem> additionalProducer) {
         additionalProducer.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersRegister.class));
@@ -0,0 +1,152 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class StreamingJsonArrayTest {
+
+    // large enough to fill the write queue of the connection several times
+    private static final int LARGE = 20_000;
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(LineResource.class, Line.class, Views.class, Account.class);
+                }
+            })
+            .overrideConfigKey("quarkus.rest.jackson.optimization.streaming-threshold", "100");
+
+    @Test
+    public void testLargeList() {
+        RestAssured.get("/lines/list?count=" + LARGE)
+                .then().statusCode(200)
+                .body("size()", equalTo(LARGE))
+                .body("[0].sku", equalTo("sku-0"))
+                .body("[" + (LARGE - 1) + "].sku", equalTo("sku-" + (LARGE - 1)))
+                .body("[" + (LARGE - 1) + "].quantity", equalTo(LARGE - 1));
+    }
+
+    @Test
+    public void testLargeArray() {
+        RestAssured.get("/lines/array?count=" + LARGE)
+                .then().statusCode(200)
+                .body("size()", equalTo(LARGE))
+                .body("[" + (LARGE - 1) + "].sku", equalTo("sku-" + (LARGE - 1)));
+    }
+
+    @Test
+    public void testSmallList() {
+        RestAssured.get("/lines/list?count=3")
+                .then().statusCode(200)
+                .body(equalTo(
+                        "[{\"sku\":\"sku-0\",\"quantity\":0},{\"sku\":\"sku-1\",\"quantity\":1},{\"sku\":\"sku-2\",\"quantity\":2}]"));
+    }
+
+    @Test
+    public void testEmptyList() {
+        RestAssured.get("/lines/list?count=0")
+                .then().statusCode(200)
+                .body(equalTo("[]"));
+    }
+
+    @Test
+    public void testBlocking() {
+        RestAssured.get("/lines/blocking?count=" + LARGE)
+                .then().statusCode(200)
+                .body("size()", equalTo(LARGE))
+                .body("[" + (LARGE - 1) + "].sku", equalTo("sku-" + (LARGE - 1)));
+    }
+
+    @Test
+    public void testJsonView() {
+        // the view requires the fully featured writer
+        RestAssured.get("/lines/accounts?count=" + LARGE)
+                .then().statusCode(200)
+                .body("size()", equalTo(LARGE))
+                .body("[" + (LARGE - 1) + "].name", equalTo("account-" + (LARGE - 1)))
+                .body("[" + (LARGE - 1) + "].secret", nullValue());
+    }
+
+    @Path("lines")
+    public static class LineResource {
+
+        @NonBlocking
+        @GET
+        @Path("list")
+        public List<Line> list(@QueryParam("count") int count) {
+            return lines(count);
+        }
+
+        @NonBlocking
+        @GET
+        @Path("array")
+        public Line[] array(@QueryParam("count") int count) {
+            return lines(count).toArray(new Line[0]);
+        }
+
+        @Blocking
+        @GET
+        @Path("blocking")
+        public List<Line> blocking(@QueryParam("count") int count) {
+            return lines(count);
+        }
+
+        @JsonView(Views.Public.class)
+        @NonBlocking
+        @GET
+        @Path("accounts")
+        public List<Account> accounts(@QueryParam("count") int count) {
+            List<Account> accounts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                accounts.add(new Account("account-" + i, "secret-" + i));
+            }
+            return accounts;
+        }
+
+        private static List<Line> lines(int count) {
+            List<Line> lines = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                lines.add(new Line("sku-" + i, i));
+            }
+            return lines;
+        }
+    }
+
+    public record Line(String sku, int quantity) {
+    }
+
+    public static class Views {
+
+        public static class Public {
+        }
+
+        public static class Private extends Public {
+        }
+    }
+
+    public record Account(@JsonView(Views.Public.class) String name, @JsonView(Views.Private.class) String secret) {
+    }
+}
@@ -14,6 +14,13 @@
 
 public abstract class AbstractGeneratedAnnotationTest {
 
+    /**
+     * @return whether the request bodies are read by the generated deserializers
+     */
+    protected boolean isReflectionFree() {
+        return false;
+    }
+
     // --- @JsonProperty + @JsonIgnore ---
 
     @Test
@@ -60,6 +67,20 @@ public void testPropertyIgnoreList() {
                 .body(not(containsString("secret")));
     }
 
+    @Test
+    public void testPropertyIgnoreIsNotUnknown() {
+        given()
+                .contentType("application/json")
+                .body("{\"display_name\":\"Bob\",\"secret\":\"s3cr3t\",\"years_old\":30}")
+                .when()
+                .post("/generated/property-ignore")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("display_name", Matchers.is("Bob"))
+                .body(not(containsString("s3cr3t")));
+    }
+
     // --- @JsonNaming + @JsonProperty + @JsonIgnore ---
 
     @Test
@@ -319,6 +340,21 @@ public void testMultiAnnotationRecordIgnoresUnknown() {
                 .body("is_active", Matchers.is(true));
     }
 
+    // --- nested generics + Optional + enum + record ---
+
+    @Test
+    public void testNestedGenerics() {
+        given()
+                .contentType("application/json")
+                .body("{\"groups\":{\"a\":[{\"item\":\"x\",\"quantity\":2}],\"b\":[{\"item\":\"y\",\"quantity\":3}]},"
+                        + "\"primary\":{\"item\":\"z\",\"quantity\":1},\"status\":\"OPEN\"}")
+                .when()
+                .post("/generated/nested-generics")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("OPEN:5:z:" + (isReflectionFree() ? "generated" : "reflection")));
+    }
+
     // --- @JsonCreator + @JsonIgnore + @JsonProperty ---
 
     @Test
@@ -164,6 +164,23 @@ public CreatorIgnoreBean echoCreatorIgnore(CreatorIgnoreBean bean) {
         return bean;
     }
 
+    // --- NestedGenericsBean: nested generics + Optional + enum + record ---
+
+    @POST
+    @Path("/nested-generics")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.TEXT_PLAIN)
+    public String echoNestedGenerics(NestedGenericsBean bean) {
+        int quantity = 0;
+        for (List<NestedGenericsBean.Line> lines : bean.getGroups().values()) {
+            for (NestedGenericsBean.Line line : lines) {
+                quantity += line.quantity();
+            }
+        }
+        return bean.getStatus() + ":" + quantity + ":" + bean.getPrimary().map(NestedGenericsBean.Line::sku).orElse("none")
+                + ":" + (bean.deserializedByGeneratedCode() ? "generated" : "reflection");
+    }
+
     // --- ValueCreatorWrapper: @JsonValue + @JsonCreator ---
 
     @GET
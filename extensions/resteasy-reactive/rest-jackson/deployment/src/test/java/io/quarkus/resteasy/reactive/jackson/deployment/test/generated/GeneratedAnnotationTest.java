@@ -30,6 +30,9 @@ public JavaArchive get() {
                                     PolymorphicWithPropertyBase.TextItem.class,
                                     PolymorphicWithPropertyBase.NumberItem.class,
                                     MultiAnnotationRecord.class,
+                                    NestedGenericsBean.class,
+                                    NestedGenericsBean.Line.class,
+                                    NestedGenericsBean.Status.class,
                                     CreatorIgnoreBean.class,
                                     ValueCreatorWrapper.class,
                                     NamingAliasRecord.class,
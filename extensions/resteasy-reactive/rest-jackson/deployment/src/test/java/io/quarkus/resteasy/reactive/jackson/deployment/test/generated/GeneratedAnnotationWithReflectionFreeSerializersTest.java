@@ -33,6 +33,9 @@ public JavaArchive get() {
                                     PolymorphicWithPropertyBase.TextItem.class,
                                     PolymorphicWithPropertyBase.NumberItem.class,
                                     MultiAnnotationRecord.class,
+                                    NestedGenericsBean.class,
+                                    NestedGenericsBean.Line.class,
+                                    NestedGenericsBean.Status.class,
                                     CreatorIgnoreBean.class,
                                     ValueCreatorWrapper.class,
                                     NamingAliasRecord.class,
@@ -60,4 +63,9 @@ public JavaArchive get() {
                     && record.getLoggerName().equals(
                             "io.quarkus.resteasy.reactive.jackson.deployment.processor.JacksonCodeGenerator"))
             .assertLogRecords(records -> assertThat(records).isEmpty());
+
+    @Override
+    protected boolean isReflectionFree() {
+        return true;
+    }
 }
@@ -0,0 +1,61 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test.generated;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class NestedGenericsBean {
+
+    public enum Status {
+        OPEN,
+        CLOSED
+    }
+
+    public record Line(@JsonProperty("item") String sku, int quantity) {
+    }
+
+    private Map<String, List<Line>> groups;
+
+    private Optional<Line> primary = Optional.empty();
+
+    private Status status;
+
+    private boolean generated;
+
+    public Map<String, List<Line>> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Map<String, List<Line>> groups) {
+        this.groups = groups;
+        this.generated = StackWalker.getInstance().walk(
+                frames -> frames.anyMatch(frame -> frame.getClassName().endsWith("$quarkusjacksondeserializer")));
+    }
+
+    /**
+     * Not named like an accessor, so that it is not a JSON property.
+     *
+     * @return whether this bean has been read by a generated deserializer
+     */
+    public boolean deserializedByGeneratedCode() {
+        return generated;
+    }
+
+    public Optional<Line> getPrimary() {
+        return primary;
+    }
+
+    public void setPrimary(Optional<Line> primary) {
+        this.primary = primary;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+}
@@ -29,6 +29,7 @@ public class ResteasyReactiveServerJacksonRecorder {
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
     private static final Map<String, Class<?>> customDeserializationMap = new HashMap<>();
+    private static volatile int streamingThreshold = -1;
 
     @StaticInit
     public RuntimeValue<Map<String, Supplier<String[]>>> createConfigExpToAllowedRoles() {
@@ -81,6 +82,10 @@ public void recordCustomDeserialization(String target, String className) {
         customDeserializationMap.put(target, loadClass(className));
     }
 
+    public void configureStreamingThreshold(int threshold) {
+        streamingThreshold = threshold;
+    }
+
     public void recordGeneratedSerializer(String className) {
         GeneratedSerializersRegister.addSerializer((Class<? extends StdSerializer>) loadClass(className));
     }
@@ -100,6 +105,13 @@ public void run() {
         });
     }
 
+    /**
+     * @return the minimal number of elements of a collection or an array for it to be streamed, or {@code -1}
+     */
+    public static int streamingThreshold() {
+        return streamingThreshold;
+    }
+
     public static Class<?> jsonViewForClass(Class<?> clazz) {
         return jsonViewMap.get(clazz.getName());
     }
@@ -7,7 +7,6 @@
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -19,6 +18,7 @@
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 
+import org.jboss.resteasy.reactive.server.jackson.StreamingJsonArrayWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -27,16 +27,20 @@
 import com.fasterxml.jackson.databind.ObjectWriter;
 
 import io.quarkus.arc.impl.LazyValue;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
 import io.quarkus.resteasy.reactive.jackson.runtime.mappers.JacksonMapperUtil;
+import io.vertx.core.Context;
 
 public class BasicServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
 
     private final LazyValue<ObjectWriter> defaultWriter;
     private final Map<JavaType, ObjectWriter> genericWriters = new ConcurrentHashMap<>();
+    private final int streamingThreshold;
 
     // used by Arc
     public BasicServerJacksonMessageBodyWriter() {
         defaultWriter = null;
+        streamingThreshold = -1;
     }
 
     @Inject
@@ -47,9 +51,10 @@ public ObjectWriter get() {
                 return createDefaultWriter(mapper.get());
             }
         });
+        this.streamingThreshold = ResteasyReactiveServerJacksonRecorder.streamingThreshold();
     }
 
-    private ObjectWriter getWriter(Type genericType, Object value) {
+    private JavaType getRootType(Type genericType, Object value) {
         // make sure we properly handle polymorphism in generic collections
         if (value != null && genericType != null) {
             JavaType rootType = JacksonMapperUtil.getGenericRootType(genericType, defaultWriter.get());
@@ -57,19 +62,26 @@ private ObjectWriter getWriter(Type genericType, Object value) {
             // A mismatch can happen, if a ServerResponseFilter replaces the response entity with another object
             // that does not match the original signature of the method (see HalServerResponseFilter for an example)
             if (rootType != null && rootType.isTypeOrSuperTypeOf(value.getClass())) {
-                ObjectWriter writer = genericWriters.get(rootType);
-                if (writer == null) {
-                    // No cached writer for that type. Compute it once.
-                    writer = genericWriters.computeIfAbsent(rootType, new Function<>() {
-                        @Override
-                        public ObjectWriter apply(JavaType type) {
-                            return defaultWriter.get().forType(type);
-                        }
-                    });
-                }
-                return writer;
+                return rootType;
             }
         }
+        return null;
+    }
+
+    private ObjectWriter getWriter(JavaType rootType) {
+        if (rootType != null) {
+            ObjectWriter writer = genericWriters.get(rootType);
+            if (writer == null) {
+                // No cached writer for that type. Compute it once.
+                writer = genericWriters.computeIfAbsent(rootType, new Function<>() {
+                    @Override
+                    public ObjectWriter apply(JavaType type) {
+                        return defaultWriter.get().forType(type);
+                    }
+                });
+            }
+            return writer;
+        }
 
         // no generic type given, or the generic type is just a class. Use the default writer.
         return this.defaultWriter.get();
@@ -78,12 +90,18 @@ public ObjectWriter apply(JavaType type) {
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
-        OutputStream stream = context.getOrCreateOutputStream();
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
-            stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
-        } else {
-            getWriter(genericType, o).writeValue(stream, o);
+            // encoded straight into the response buffer
+            context.serverResponse().end((String) o);
+            return;
+        }
+        JavaType rootType = getRootType(genericType, o);
+        if (Context.isOnEventLoopThread() && StreamingJsonArrayWriter.isStreamable(o, streamingThreshold)) {
+            StreamingJsonArrayWriter.write(o, defaultWriter.get(), rootType, context);
+            return;
         }
+        OutputStream stream = context.getOrCreateOutputStream();
+        getWriter(rootType).writeValue(stream, o);
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
         stream.close();
     }
@@ -91,7 +109,7 @@ public void writeResponse(Object o, Type genericType, ServerRequestContext conte
     @Override
     public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
-        doLegacyWrite(o, annotations, httpHeaders, entityStream, getWriter(genericType, o));
+        doLegacyWrite(o, annotations, httpHeaders, entityStream, getWriter(getRootType(genericType, o)));
     }
 
 }
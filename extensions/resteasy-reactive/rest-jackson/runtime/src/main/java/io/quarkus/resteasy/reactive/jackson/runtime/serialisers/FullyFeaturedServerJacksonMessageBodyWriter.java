@@ -24,6 +24,7 @@
 import jakarta.ws.rs.ext.ContextResolver;
 import jakarta.ws.rs.ext.Providers;
 
+import org.jboss.resteasy.reactive.server.jackson.StreamingJsonArrayWriter;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
@@ -35,6 +36,7 @@
 import io.quarkus.arc.impl.LazyValue;
 import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
 import io.quarkus.resteasy.reactive.jackson.runtime.mappers.JacksonMapperUtil;
+import io.vertx.core.Context;
 
 public class FullyFeaturedServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
 
@@ -45,12 +47,14 @@ public class FullyFeaturedServerJacksonMessageBodyWriter extends ServerMessageBo
     private final ConcurrentMap<String, ObjectWriter> perTypeWriter = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, ObjectMapper> contextResolverMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<ObjectMapper, ObjectWriter> objectWriterMap = new ConcurrentHashMap<>();
+    private final int streamingThreshold;
 
     // used by Arc
     public FullyFeaturedServerJacksonMessageBodyWriter() {
         originalMapper = null;
         providers = null;
         defaultWriter = null;
+        streamingThreshold = -1;
     }
 
     @Inject
@@ -63,6 +67,7 @@ public ObjectWriter get() {
                 return createDefaultWriter(mapper.get());
             }
         });
+        this.streamingThreshold = ResteasyReactiveServerJacksonRecorder.streamingThreshold();
     }
 
     @Override
@@ -94,15 +99,24 @@ public void writeResponse(Object o, Type genericType, ServerRequestContext conte
                 }
             }
             // make sure we properly handle polymorphism in generic collections
+            JavaType rootType = null;
             if (genericType != null && o != null) {
-                JavaType rootType = JacksonMapperUtil.getGenericRootType(genericType, effectiveWriter);
+                rootType = JacksonMapperUtil.getGenericRootType(genericType, effectiveWriter);
                 // Check that the determined root type is really assignable from the given entity.
                 // A mismatch can happen, if a ServerResponseFilter replaces the response entity with another object
                 // that does not match the original signature of the method (see HalServerResponseFilter for an example)
-                if (rootType != null && rootType.isTypeOrSuperTypeOf(o.getClass())) {
-                    effectiveWriter = effectiveWriter.forType(rootType);
+                if (rootType != null && !rootType.isTypeOrSuperTypeOf(o.getClass())) {
+                    rootType = null;
                 }
             }
+            if (Context.isOnEventLoopThread() && StreamingJsonArrayWriter.isStreamable(o, streamingThreshold)) {
+                // the array is written to the same output stream, which is closed once the last element has been written
+                StreamingJsonArrayWriter.write(o, effectiveWriter, rootType, context);
+                return;
+            }
+            if (rootType != null) {
+                effectiveWriter = effectiveWriter.forType(rootType);
+            }
             effectiveWriter.writeValue(stream, o);
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
@@ -1558,7 +1558,10 @@ public void setupDeployment(BeanContainerBuildItem beanContainerBuildItem,
         RuntimeValue<Deployment> deployment = recorder.createDeployment(deploymentPath, deploymentInfo,
                 beanContainerBuildItem.getValue(), shutdownContext, httpBuildTimeConfig,
                 requestContextFactoryBuildItem.map(RequestContextFactoryBuildItem::getFactory).orElse(null),
-                initClassFactory, launchModeBuildItem.getLaunchMode(), servletPresent);
+                initClassFactory, launchModeBuildItem.getLaunchMode(), servletPresent,
+                serverConfig.requestContextRecycling().enabled(),
+                serverConfig.requestContextRecycling().maxPooledPerThread(),
+                serverConfig.requestContextRecycling().debug());
 
         quarkusRestDeploymentBuildItemBuildProducer
                 .produce(new ResteasyReactiveDeploymentBuildItem(deployment, deploymentPath));
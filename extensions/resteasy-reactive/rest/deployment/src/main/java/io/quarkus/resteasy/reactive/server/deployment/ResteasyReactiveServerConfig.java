@@ -5,6 +5,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigMapping(prefix = "quarkus.rest")
 @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
@@ -18,4 +19,38 @@ public interface ResteasyReactiveServerConfig {
      * This value is always resolved relative to {@code quarkus.http.root-path}.
      */
     Optional<String> path();
+
+    /**
+     * Request context recycling configuration.
+     */
+    RequestContextRecyclingConfig requestContextRecycling();
+
+    interface RequestContextRecyclingConfig {
+
+        /**
+         * If enabled, the request contexts of requests that completed without ever being suspended are kept in a
+         * small pool on the IO thread that processed them and are reused for subsequent requests, instead of being
+         * allocated for every request.
+         * <p>
+         * Application code must not hold on to the request context, or to any of the JAX-RS context objects
+         * injected with {@code @Context}, once the request has completed.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of request contexts that are kept for reuse on each IO thread.
+         */
+        @WithDefault("16")
+        int maxPooledPerThread();
+
+        /**
+         * If enabled, request contexts are never actually reused. Instead, any attempt to resume, suspend or
+         * restart a request context after its request has completed fails with an exception that points to where
+         * the request context was released. This is meant to track down code that is not safe to run with
+         * request context recycling enabled.
+         */
+        @WithDefault("false")
+        boolean debug();
+    }
 }
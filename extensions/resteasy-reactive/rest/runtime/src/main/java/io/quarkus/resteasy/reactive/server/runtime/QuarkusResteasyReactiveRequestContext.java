@@ -39,6 +39,16 @@ public QuarkusResteasyReactiveRequestContext(Deployment deployment,
         }
     }
 
+    @Override
+    protected void recycle(Object externalHttpContext, ServerRestHandler[] handlerChain,
+            ServerRestHandler[] abortHandlerChain) {
+        super.recycle(externalHttpContext, handlerChain, abortHandlerChain);
+        userSetup = false;
+        if (VertxContext.isOnDuplicatedContext()) {
+            VertxContextSafetyToggle.setCurrentContextSafe(true);
+        }
+    }
+
     protected void handleRequestScopeActivation() {
         super.handleRequestScopeActivation();
         if (!userSetup && association != null) {
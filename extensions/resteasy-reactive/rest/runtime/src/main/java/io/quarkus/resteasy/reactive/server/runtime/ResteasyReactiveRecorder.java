@@ -31,6 +31,7 @@
 import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.DeploymentInfo;
+import org.jboss.resteasy.reactive.server.core.RecyclingRequestContextFactory;
 import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
@@ -112,7 +113,10 @@ public RuntimeValue<Deployment> createDeployment(String applicationPath, Deploym
             RequestContextFactory contextFactory,
             BeanFactory<ResteasyReactiveInitialiser> initClassFactory,
             LaunchMode launchMode,
-            boolean servletPresent) {
+            boolean servletPresent,
+            boolean recycleRequestContexts,
+            int maxPooledRequestContextsPerThread,
+            boolean debugRequestContextRecycling) {
 
         info.setServletPresent(servletPresent);
 
@@ -148,6 +152,10 @@ public ResteasyReactiveRequestContext createContext(Deployment deployment,
                 }
 
             };
+            if (recycleRequestContexts) {
+                contextFactory = new RecyclingRequestContextFactory(contextFactory, maxPooledRequestContextsPerThread,
+                        debugRequestContextRecycling);
+            }
         }
 
         RuntimeDeploymentManager runtimeDeploymentManager = new RuntimeDeploymentManager(info, EXECUTOR_SUPPLIER,
@@ -54,7 +54,7 @@ private boolean shouldHandle(RoutingContext event) {
 
     public static void setTemplatePath(RoutingContext rc, Deployment deployment) {
         // do what RestInitialHandler does
-        var initMappers = new RequestMapper<>(deployment.getClassMappers());
+        var initMappers = deployment.getClassMapper();
         var path = getPathWithoutPrefix(rc, deployment);
         var requestMatch = initMappers.map(path);
 
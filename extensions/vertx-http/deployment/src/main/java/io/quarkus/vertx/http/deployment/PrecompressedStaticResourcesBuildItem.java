@@ -0,0 +1,35 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources compressed at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> hashes;
+    private final Map<String, List<String>> encodings;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> hashes, Map<String, List<String>> encodings) {
+        this.hashes = hashes;
+        this.encodings = encodings;
+    }
+
+    /**
+     * @return the hashes of the original content, keyed by the resource path
+     */
+    public Map<String, String> getHashes() {
+        return hashes;
+    }
+
+    /**
+     * @return the encodings of the compressed variants in the order of preference, keyed by the resource path
+     */
+    public Map<String, List<String>> getEncodings() {
+        return encodings;
+    }
+
+}
@@ -2,14 +2,33 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.BrotliMode;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdEncoder;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
@@ -19,20 +38,34 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.StaticResourcesCompressionConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
+    // The best compression levels, the resources are only compressed once
+    private static final int BROTLI_QUALITY = 11;
+    private static final int BROTLI_WINDOW = 22;
+    private static final int ZSTD_LEVEL = 19;
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -59,13 +92,80 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedResources) {
+        StaticResourcesCompressionConfig config = httpBuildTimeConfig.staticCompression();
+        if (!config.enabled() || staticResources.isEmpty()) {
+            return;
+        }
+        List<String> encodings = availableEncodings(config.encodings());
+        Set<String> mediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().orElse(List.of()));
+        if (encodings.isEmpty() || mediaTypes.isEmpty()) {
+            return;
+        }
+        long minSize = config.minSize().asLongValue();
+        Map<String, String> hashes = new HashMap<>();
+        Map<String, List<String>> resourceEncodings = new HashMap<>();
+        List<String> generatedNames = new ArrayList<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getResourceName();
+            if (Files.isDirectory(visitPath) || !rel.startsWith(prefix)) {
+                return;
+            }
+            String subPath = rel.substring(prefix.length());
+            String contentType = MimeMapping.getMimeTypeForFilename(subPath);
+            if (contentType == null || !mediaTypes.contains(contentType) || hashes.containsKey(subPath)) {
+                return;
+            }
+            try {
+                if (Files.size(visitPath) < minSize) {
+                    return;
+                }
+                byte[] content = Files.readAllBytes(visitPath);
+                List<String> variants = new ArrayList<>(encodings.size());
+                for (String encoding : encodings) {
+                    byte[] compressed = compress(encoding, content);
+                    if (compressed.length >= content.length) {
+                        // Not worth it
+                        continue;
+                    }
+                    String name = StaticResourcesRecorder.META_INF_PRECOMPRESSED_RESOURCES + subPath + "."
+                            + PrecompressedStaticHandler.fileExtension(encoding);
+                    generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+                    generatedNames.add(name);
+                    variants.add(encoding);
+                }
+                if (!variants.isEmpty()) {
+                    hashes.put(subPath, HashUtil.sha256(content));
+                    resourceEncodings.put(subPath, variants);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to compress the static resource " + rel, e);
+            }
+        });
+        if (!hashes.isEmpty()) {
+            LOG.debugf("Precompressed %s static resources with %s", hashes.size(), encodings);
+            nativeImageResources.produce(new NativeImageResourceBuildItem(generatedNames));
+            precompressedResources.produce(new PrecompressedStaticResourcesBuildItem(hashes, resourceEncodings));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedResources.map(PrecompressedStaticResourcesBuildItem::getHashes).orElse(Map.of()),
+                    precompressedResources.map(PrecompressedStaticResourcesBuildItem::getEncodings).orElse(Map.of()))));
         }
     }
 
@@ -123,6 +223,78 @@ private Set<StaticResourcesBuildItem.Entry> getClasspathResources() {
         return knownPaths;
     }
 
+    private static List<String> availableEncodings(List<String> encodings) {
+        List<String> available = new ArrayList<>(encodings.size());
+        for (String encoding : encodings) {
+            switch (encoding) {
+                case PrecompressedStaticHandler.GZIP:
+                    available.add(encoding);
+                    break;
+                case PrecompressedStaticHandler.BROTLI:
+                    if (Brotli.isAvailable()) {
+                        available.add(encoding);
+                    } else {
+                        LOG.warn("Static resources are not precompressed with Brotli: the Brotli4J library is not available",
+                                Brotli.cause());
+                    }
+                    break;
+                case PrecompressedStaticHandler.ZSTD:
+                    if (Zstd.isAvailable()) {
+                        available.add(encoding);
+                    } else {
+                        LOG.warn("Static resources are not precompressed with zstd: add the com.github.luben:zstd-jni"
+                                + " library to the build");
+                    }
+                    break;
+                default:
+                    throw new ConfigurationException("Unsupported encoding in quarkus.http.static-compression.encodings: "
+                            + encoding + ", supported encodings are br, zstd and gzip");
+            }
+        }
+        return available;
+    }
+
+    private static byte[] compress(String encoding, byte[] content) throws IOException {
+        switch (encoding) {
+            case PrecompressedStaticHandler.GZIP:
+                ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                    {
+                        def.setLevel(Deflater.BEST_COMPRESSION);
+                    }
+                }) {
+                    gzip.write(content);
+                }
+                return out.toByteArray();
+            case PrecompressedStaticHandler.BROTLI:
+                return encode(new BrotliEncoder(
+                        StandardCompressionOptions.brotli(BROTLI_QUALITY, BROTLI_WINDOW, BrotliMode.GENERIC)), content);
+            case PrecompressedStaticHandler.ZSTD:
+                // The content is compressed in a single block
+                return encode(new ZstdEncoder(ZSTD_LEVEL, Math.max(content.length, 1), Integer.MAX_VALUE), content);
+            default:
+                throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+        }
+    }
+
+    private static byte[] encode(ChannelHandler encoder, byte[] content) {
+        EmbeddedChannel channel = new EmbeddedChannel(encoder);
+        channel.writeOutbound(Unpooled.wrappedBuffer(content));
+        channel.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        ByteBuf buf;
+        while ((buf = channel.readOutbound()) != null) {
+            try {
+                byte[] bytes = new byte[buf.readableBytes()];
+                buf.readBytes(bytes);
+                out.writeBytes(bytes);
+            } finally {
+                buf.release();
+            }
+        }
+        return out.toByteArray();
+    }
+
     /**
      * Visits all {@code META-INF/resources} directories and their content found on the runtime classpath
      *
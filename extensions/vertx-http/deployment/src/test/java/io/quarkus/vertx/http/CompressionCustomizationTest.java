@@ -0,0 +1,194 @@
+package io.quarkus.vertx.http;
+
+import static io.quarkus.vertx.http.CompressionTest.TEXT;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Random;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.luben.zstd.ZstdInputStream;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+public class CompressionCustomizationTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.compressors=gzip,deflate,zstd\n" +
+            "quarkus.http.compression-min-size=100\n" +
+            "quarkus.http.compression-context-pool-size=2\n" +
+            "quarkus.http.compression-route.fast.matches=/fast/.*\n" +
+            "quarkus.http.compression-route.fast.level=1\n";
+
+    private static final String SMALL_TEXT = "Lorem ipsum dolor sit amet";
+
+    // The words of TEXT in a random order, so that the compression ratio depends on the level
+    private static final String WORDS = words();
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(Routes.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    public void testMinSize() {
+        given().get("/small").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(equalTo(SMALL_TEXT));
+
+        given().get("/compress").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("content-length", Integer::parseInt, lessThan(TEXT.length()))
+                .body(equalTo(TEXT));
+
+        // The size of a chunked response is not known upfront
+        given().get("/chunked").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(TEXT + TEXT));
+    }
+
+    @Test
+    public void testPooledContexts() {
+        for (int i = 0; i < 5; i++) {
+            given().get("/compress").then().statusCode(200)
+                    .header("content-encoding", is("gzip"))
+                    .body(equalTo(TEXT));
+            given().config(RestAssured.config
+                    .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE)))
+                    .get("/compress").then().statusCode(200)
+                    .header("content-encoding", is("deflate"))
+                    .body(equalTo(TEXT));
+        }
+    }
+
+    @Test
+    public void testRouteLevel() {
+        int defaultLength = Integer.parseInt(given().get("/words").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(WORDS))
+                .extract().header("content-length"));
+
+        int fastLength = Integer.parseInt(given().get("/fast/words").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("x-quarkus-compression-level", is(nullValue()))
+                .body(equalTo(WORDS))
+                .extract().header("content-length"));
+
+        // Level 1 favors speed over ratio
+        assertTrue(fastLength > defaultLength, fastLength + " <= " + defaultLength);
+        assertTrue(fastLength < WORDS.length(), fastLength + " >= " + WORDS.length());
+
+        given().get("/fast/nocompress").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("x-quarkus-compression-level", is(nullValue()))
+                .body(equalTo(TEXT));
+    }
+
+    @Test
+    public void testZstd() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        HttpResponse<byte[]> response = getZstd(client, "/compress");
+        assertEquals(Optional.of("zstd"), response.headers().firstValue("content-encoding"));
+        assertTrue(response.body().length < TEXT.length());
+        assertEquals(TEXT, decompress(response.body()));
+
+        // The level of the route is applied
+        response = getZstd(client, "/fast/words");
+        assertEquals(Optional.of("zstd"), response.headers().firstValue("content-encoding"));
+        assertTrue(response.headers().firstValue("x-quarkus-compression-level").isEmpty());
+        assertEquals(WORDS, decompress(response.body()));
+
+        response = getZstd(client, "/small");
+        assertTrue(response.headers().firstValue("content-encoding").isEmpty());
+        assertEquals(SMALL_TEXT, new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<byte[]> getZstd(HttpClient client, String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri.resolve(path))
+                .header("Accept-Encoding", "zstd")
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        return response;
+    }
+
+    private static String decompress(byte[] body) throws IOException {
+        try (InputStream in = new ZstdInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String words() {
+        String[] words = TEXT.split(" ");
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < 32 * 1024) {
+            builder.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return builder.toString();
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        public void register(@Observes Router router) {
+            router.route("/small").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(SMALL_TEXT);
+            });
+            router.route("/compress").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(TEXT);
+            });
+            router.route("/chunked").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().setChunked(true);
+                rc.response().write(TEXT);
+                rc.response().end(TEXT);
+            });
+            router.route("/words").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(WORDS);
+            });
+            router.route("/fast/words").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(WORDS);
+            });
+            router.route("/fast/nocompress").handler(rc -> {
+                rc.response().end(TEXT);
+            });
+        }
+
+    }
+
+}
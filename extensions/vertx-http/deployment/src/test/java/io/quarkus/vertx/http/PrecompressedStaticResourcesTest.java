@@ -0,0 +1,75 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.static-compression.enabled=true\n" +
+            "quarkus.http.static-compression.encodings=gzip\n";
+
+    private static final String SCRIPT = "console.log('Lorem ipsum dolor sit amet');\n".repeat(100);
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/app.js")
+                    .addAsResource(new StringAsset("small"), "META-INF/resources/small.js"));
+
+    @Test
+    public void testCompressedVariant() {
+        String etag = given().get("/app.js").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("content-length", Integer::parseInt, lessThan(SCRIPT.length()))
+                .header("vary", is("accept-encoding"))
+                .header("etag", startsWith("\""))
+                .header("etag", endsWith("-gzip\""))
+                .header("cache-control", is("public, immutable, max-age=86400"))
+                .body(equalTo(SCRIPT))
+                .extract().header("etag");
+
+        given().header("If-None-Match", etag).get("/app.js").then().statusCode(304);
+    }
+
+    @Test
+    public void testOriginalContent() {
+        // Why don't you just given().header("Accept-Encoding", "deflate")?
+        // Because RestAssured silently ignores that and sends gzip anyway
+        String etag = given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE)))
+                .get("/app.js").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("content-length", Integer::parseInt, equalTo(SCRIPT.length()))
+                .header("etag", not(endsWith("-gzip\"")))
+                .body(equalTo(SCRIPT))
+                .extract().header("etag");
+
+        // The compressed variant has a different entity tag
+        given().header("If-None-Match", etag).get("/app.js").then().statusCode(200)
+                .header("content-encoding", is("gzip"));
+    }
+
+    @Test
+    public void testSmallResourceNotCompressed() {
+        given().get("/small.js").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(equalTo("small"));
+    }
+
+}
@@ -3,6 +3,7 @@
 import java.util.Optional;
 import java.util.Set;
 
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithDefault;
 
 public interface AccessLogConfig {
@@ -89,6 +90,21 @@ public interface AccessLogConfig {
     @WithDefault("true")
     boolean rotate();
 
+    /**
+     * The maximum size of the log file. If set, the log file is rotated once it exceeds this size, regardless of
+     * {@link #rotate()}.
+     */
+    Optional<MemorySize> maxFileSize();
+
+    /**
+     * The maximum number of messages waiting to be written to the log file.
+     * <p>
+     * The messages logged while this limit is reached are dropped instead of blocking the request processing, and a
+     * warning with the number of dropped messages is logged.
+     */
+    @WithDefault("4096")
+    int bufferSize();
+
     /**
      * If rerouted requests should be consolidated into one log entry
      */
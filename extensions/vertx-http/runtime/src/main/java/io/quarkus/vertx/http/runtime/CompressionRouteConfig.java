@@ -0,0 +1,14 @@
+package io.quarkus.vertx.http.runtime;
+
+public interface CompressionRouteConfig {
+    /**
+     * A regular expression for the paths matching this configuration
+     */
+    String matches();
+
+    /**
+     * The compression level used for the responses of the matching paths. The level is limited to the maximum level of
+     * the negotiated encoding, i.e. {@code 9} for gzip and deflate, {@code 11} for Brotli and {@code 22} for zstd.
+     */
+    int level();
+}
@@ -26,6 +26,15 @@ public void initialize(int maxConnections, AtomicInteger current) {
         }
     };
 
+    /**
+     * A no-op compression tracker.
+     */
+    CompressionTracker NOOP_COMPRESSION_TRACKER = new CompressionTracker() {
+        @Override
+        public void onResponseCompressed(String encoding, long uncompressedBytes, long compressedBytes, long duration) {
+        }
+    };
+
     /**
      * Gets a tracker to report the number of active HTTP connection, the number of rejected connections, etc.
      *
@@ -33,10 +42,31 @@ public void initialize(int maxConnections, AtomicInteger current) {
      */
     ConnectionTracker getHttpConnectionTracker();
 
+    /**
+     * Gets a tracker to report the number of bytes saved by the compression of the HTTP responses and the time spent
+     * compressing.
+     *
+     * @return the tracker.
+     */
+    CompressionTracker getHttpCompressionTracker();
+
     interface ConnectionTracker {
 
         void onConnectionRejected();
 
         void initialize(int maxConnections, AtomicInteger current);
     }
+
+    interface CompressionTracker {
+
+        /**
+         * Called from the event loop when a compressed response ends.
+         *
+         * @param encoding the content encoding
+         * @param uncompressedBytes the size of the response body before the compression
+         * @param compressedBytes the size of the response body after the compression
+         * @param duration the time spent compressing in nanoseconds
+         */
+        void onResponseCompressed(String encoding, long uncompressedBytes, long compressedBytes, long duration);
+    }
 }
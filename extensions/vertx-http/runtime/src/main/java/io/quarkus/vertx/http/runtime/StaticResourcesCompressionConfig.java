@@ -0,0 +1,41 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface StaticResourcesCompressionConfig {
+
+    /**
+     * If enabled then the static resources found in {@code META-INF/resources} are compressed when the application is
+     * packaged. The compressed variants are loaded in memory when the application starts and the best variant is selected
+     * according to the {@code Accept-Encoding} header of the request. The responses have a strong {@code ETag} derived from
+     * the content of the resource, so that the conditional requests do not need to read the resource.
+     * <p>
+     * Only the resources with a media type listed in {@code quarkus.http.compress-media-types} are compressed. The static
+     * resources are not precompressed in the development mode.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The encodings of the precompressed variants, in the order of preference of the server. The supported encodings are
+     * {@code br}, {@code zstd} and {@code gzip}.
+     * <p>
+     * The {@code br} encoding requires the Brotli4J library, which is a dependency of this extension. The {@code zstd}
+     * encoding requires the {@code com.github.luben:zstd-jni} library to be added to the build. An encoding whose library
+     * is not available is ignored with a warning.
+     */
+    @WithDefault("br,gzip")
+    List<String> encodings();
+
+    /**
+     * The resources smaller than this value are not compressed.
+     */
+    @WithDefault("1K")
+    MemorySize minSize();
+
+}
@@ -5,12 +5,14 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Route;
@@ -23,6 +25,8 @@ public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
+    public static final String META_INF_PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
+
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     private final VertxHttpBuildTimeConfig httpBuildTimeConfig;
@@ -39,7 +43,15 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     *
+     * @param knownPaths the paths of the static resources
+     * @param precompressedHashes the hashes of the precompressed static resources, keyed by the resource path
+     * @param precompressedEncodings the encodings of the precompressed variants, keyed by the resource path
+     * @return the route consumer
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> precompressedHashes,
+            Map<String, List<String>> precompressedEncodings) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -94,6 +106,10 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            if (!precompressedHashes.isEmpty()) {
+                handlers.add(new PrecompressedStaticHandler(precompressedHashes, precompressedEncodings, indexPage, "UTF-8",
+                        config.cachingEnabled() ? config.maxAge().toSeconds() : -1));
+            }
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -1,11 +1,15 @@
 package io.quarkus.vertx.http.runtime;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
@@ -93,6 +97,8 @@ public interface VertxHttpBuildTimeConfig {
      * It implies loading libbrotli native library via JNI and in case of native image,
      * packing the native library into the native image as a resource thus inflating its size.
      * Note that a native shared object library must be available for your platform in Brotli4J project.
+     * If user adds zstd, then Zstandard will be added to the list of supported compression algorithms; it requires the
+     * {@code com.github.luben:zstd-jni} library.
      * <p>
      * Client expresses its capability by sending Accept-Encoding header, e.g.
      * Accept-Encoding: deflate, gzip, br
@@ -116,6 +122,32 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * The minimum size of a response body to be compressed. The HTTP/1.x responses whose body is known to be smaller are
+     * sent uncompressed, i.e. the full responses and the responses with the {@code Content-Length} header set.
+     */
+    Optional<MemorySize> compressionMinSize();
+
+    /**
+     * The maximum number of idle gzip and deflate compression contexts kept per compression level.
+     * <p>
+     * If set, the compression contexts of the HTTP/1.x responses are pooled instead of being allocated for each compressed
+     * response.
+     */
+    OptionalInt compressionContextPoolSize();
+
+    /**
+     * The compression level of the HTTP/1.x responses of particular paths.
+     */
+    @ConfigDocMapKey("route-name")
+    @ConfigDocSection(generated = true)
+    Map<String, CompressionRouteConfig> compressionRoute();
+
+    /**
+     * Precompression of the static resources.
+     */
+    StaticResourcesCompressionConfig staticCompression();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
@@ -89,6 +89,7 @@
 import io.quarkus.vertx.http.HttpsServerStart;
 import io.quarkus.vertx.http.ManagementInterface;
 import io.quarkus.vertx.http.runtime.VertxHttpConfig.InsecureRequests;
+import io.quarkus.vertx.http.runtime.compression.HttpContentCompression;
 import io.quarkus.vertx.http.runtime.cors.CORSFilter;
 import io.quarkus.vertx.http.runtime.devmode.RemoteSyncHandler;
 import io.quarkus.vertx.http.runtime.devmode.VertxHttpHotReplacementSetup;
@@ -98,8 +99,8 @@
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
-import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers;
@@ -460,6 +461,12 @@ public void finalizeRouter(
         }
 
         applyCompression(httpBuildTimeConfig.enableCompression(), httpRouteRouter);
+        if (httpBuildTimeConfig.enableCompression()) {
+            for (CompressionRouteConfig compressionRoute : httpBuildTimeConfig.compressionRoute().values()) {
+                httpRouteRouter.routeWithRegex(compressionRoute.matches()).order(RouteConstants.ROUTE_ORDER_COMPRESSION)
+                        .handler(HttpContentCompression.compressionLevelHandler(compressionRoute.level()));
+            }
+        }
         httpRouteRouter.route().last().failureHandler(
                 new QuarkusErrorHandler(launchMode.isDevOrTest(), decorateStacktrace(launchMode, logBuildTimeConfig),
                         httpConfig.unhandledErrorContentTypeDefault(), srcMainJava, knowClasses, actions));
@@ -514,8 +521,10 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                receiver = new RingBufferAccessLogReceiver(executor, outputDir.toPath(), accessLog.baseFileName(),
+                        accessLog.logSuffix(), accessLog.rotate(),
+                        accessLog.maxFileSize().isPresent() ? accessLog.maxFileSize().get().asLongValue() : 0,
+                        accessLog.bufferSize());
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
@@ -875,13 +884,19 @@ private static CompletableFuture<String> initializeMainHttpServer(
         AtomicBoolean registerHttpServer = new AtomicBoolean();
         AtomicBoolean registerHttpsServer = new AtomicBoolean();
 
+        // The compression customization is shared by all the servers so that the compression contexts are pooled globally
+        HttpContentCompression contentCompression = HttpContentCompression.create(httpBuildTimeConfig,
+                vertx.isMetricsEnabled()
+                        ? ((ExtendedQuarkusVertxHttpMetrics) ((VertxInternal) vertx).metricsSPI()).getHttpCompressionTracker()
+                        : ExtendedQuarkusVertxHttpMetrics.NOOP_COMPRESSION_TRACKER);
+
         vertx.deployVerticle(new Supplier<>() {
             @Override
             public Verticle get() {
                 return new WebDeploymentVerticle(
                         httpMainServerOptions, httpMainSslServerOptions, httpMainDomainSocketOptions,
                         launchMode, insecureRequestStrategy, connectionCount, registry, startEventsFired,
-                        httpBuildTimeConfig, httpConfig, registerHttpServer, registerHttpsServer);
+                        httpBuildTimeConfig, httpConfig, registerHttpServer, registerHttpsServer, contentCompression);
             }
         }, new DeploymentOptions().setInstances(ioThreads), new Handler<>() {
             @Override
@@ -1213,6 +1228,7 @@ private static class WebDeploymentVerticle extends AbstractVerticle implements R
         private final ValueRegistry valueRegistry;
         private final AtomicBoolean registerHttpServer;
         private final AtomicBoolean registerHttpsServer;
+        private final HttpContentCompression contentCompression;
 
         public WebDeploymentVerticle(
                 HttpServerOptions httpOptions,
@@ -1226,7 +1242,8 @@ public WebDeploymentVerticle(
                 VertxHttpBuildTimeConfig httpBuildTimeConfig,
                 VertxHttpConfig httpConfig,
                 AtomicBoolean registerHttpServer,
-                AtomicBoolean registerHttpsServer) {
+                AtomicBoolean registerHttpsServer,
+                HttpContentCompression contentCompression) {
 
             this.httpOptions = httpOptions;
             this.httpsOptions = httpsOptions;
@@ -1240,6 +1257,7 @@ public WebDeploymentVerticle(
             this.httpBuildTimeConfig = httpBuildTimeConfig;
             this.registerHttpServer = registerHttpServer;
             this.registerHttpsServer = registerHttpsServer;
+            this.contentCompression = contentCompression;
             this.valueRegistry = VertxHttpRecorder.valueRegistry != null ? VertxHttpRecorder.valueRegistry.getValue()
                     : ValueRegistryImpl.builder().build();
             if (CracSupport.isEnabled()) {
@@ -1323,6 +1341,9 @@ public void handle(HttpServerRequest req) {
         private void setupUnixDomainSocketHttpServer(HttpServer httpServer, HttpServerOptions options,
                 Promise<Void> startFuture,
                 AtomicInteger remainingCount, ArcContainer container, boolean notifyStartObservers) {
+            if (contentCompression != null) {
+                httpServer.connectionHandler(contentCompression.connectionHandler(options));
+            }
             httpServer.listen(SocketAddress.domainSocketAddress(options.getHost()), event -> {
                 if (event.succeeded()) {
                     if (notifyStartObservers) {
@@ -1362,6 +1383,9 @@ private void setupTcpHttpServer(HttpServer httpServer, HttpServerOptions options
 
                 final int maxConnections = httpConfig.limits().maxConnections().getAsInt();
                 tracker.initialize(maxConnections, currentConnectionCount);
+                final Handler<HttpConnection> compressionHandler = contentCompression != null
+                        ? contentCompression.connectionHandler(options)
+                        : null;
                 httpServer.connectionHandler(new Handler<HttpConnection>() {
 
                     @Override
@@ -1384,8 +1408,13 @@ public void handle(Void event) {
                                 currentConnectionCount.decrementAndGet();
                             }
                         });
+                        if (compressionHandler != null) {
+                            compressionHandler.handle(event);
+                        }
                     }
                 });
+            } else if (contentCompression != null) {
+                httpServer.connectionHandler(contentCompression.connectionHandler(options));
             }
             httpServer.listen(options.getPort(), options.getHost(), new Handler<>() {
                 @Override
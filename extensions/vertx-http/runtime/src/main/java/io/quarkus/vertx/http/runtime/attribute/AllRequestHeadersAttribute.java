@@ -59,6 +59,22 @@ String readAttribute(MultiMap headers) {
         }
     }
 
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        appendAttribute(exchange.request().headers(), builder);
+    }
+
+    void appendAttribute(MultiMap headers, StringBuilder builder) {
+        boolean first = true;
+        for (Map.Entry<String, String> header : headers) {
+            if (!first) {
+                builder.append(System.lineSeparator());
+            }
+            first = false;
+            builder.append(header.getKey()).append(": ").append(maskHeaderValue(header.getKey(), header.getValue()));
+        }
+    }
+
     String maskHeaderValue(String headerName, String headerValue) {
         if (headerValue == null) {
             return null;
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -23,6 +24,9 @@ public class DateTimeAttribute implements ExchangeAttribute {
 
     private final DateTimeFormatter formatter;
 
+    // The last formatted date, which is reused by the requests logged within the same millisecond
+    private volatile CachedDate cachedDate;
+
     private DateTimeAttribute() {
         this(COMMON_LOG_PATTERN, null);
     }
@@ -41,7 +45,14 @@ public DateTimeAttribute(final String dateFormat, final String timezone) {
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        return formatter.format(ZonedDateTime.now());
+        long millis = System.currentTimeMillis();
+        CachedDate cached = cachedDate;
+        if (cached != null && cached.millis == millis) {
+            return cached.formatted;
+        }
+        String formatted = formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()));
+        cachedDate = new CachedDate(millis, formatted);
+        return formatted;
     }
 
     @Override
@@ -49,6 +60,17 @@ public void writeAttribute(final RoutingContext exchange, final String newValue)
         throw new ReadOnlyAttributeException("Date time", newValue);
     }
 
+    private static final class CachedDate {
+
+        private final long millis;
+        private final String formatted;
+
+        private CachedDate(long millis, String formatted) {
+            this.millis = millis;
+            this.formatted = formatted;
+        }
+    }
+
     public static final class Builder implements ExchangeAttributeBuilder {
 
         @Override
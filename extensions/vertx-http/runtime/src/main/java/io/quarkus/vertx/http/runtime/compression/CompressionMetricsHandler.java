@@ -0,0 +1,79 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.quarkus.vertx.http.runtime.ExtendedQuarkusVertxHttpMetrics.CompressionTracker;
+
+/**
+ * Measures the compression of a response. It's added to the pipeline of the embedded channel that holds the encoder; the
+ * written buffers are counted before they reach the encoder and the compressed buffers are counted by the
+ * {@link #output} handler that is placed after the encoder. The time spent in the encoder is measured around the write,
+ * flush and close operations, because some encoders only compress the buffered content when flushed.
+ * <p>
+ * The tracker is notified once the channel is closed, i.e. when the response ends or is aborted.
+ */
+final class CompressionMetricsHandler extends ChannelOutboundHandlerAdapter {
+
+    private final CompressionTracker tracker;
+    private final String encoding;
+    private final ChannelOutboundHandlerAdapter output;
+
+    // Only accessed from the event loop of the connection
+    private long uncompressedBytes;
+    private long compressedBytes;
+    private long duration;
+    private boolean closed;
+
+    private CompressionMetricsHandler(CompressionTracker tracker, String encoding) {
+        this.tracker = tracker;
+        this.encoding = encoding;
+        this.output = new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+                if (msg instanceof ByteBuf) {
+                    compressedBytes += ((ByteBuf) msg).readableBytes();
+                }
+                ctx.write(msg, promise);
+            }
+        };
+    }
+
+    static void install(ChannelPipeline pipeline, CompressionTracker tracker, String encoding) {
+        CompressionMetricsHandler handler = new CompressionMetricsHandler(tracker, encoding);
+        // Outbound messages flow from the last handler to the first one
+        pipeline.addFirst(handler.output);
+        pipeline.addLast(handler);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf) {
+            uncompressedBytes += ((ByteBuf) msg).readableBytes();
+        }
+        long start = System.nanoTime();
+        ctx.write(msg, promise);
+        duration += System.nanoTime() - start;
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        long start = System.nanoTime();
+        ctx.flush();
+        duration += System.nanoTime() - start;
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        long start = System.nanoTime();
+        ctx.close(promise);
+        duration += System.nanoTime() - start;
+        if (!closed) {
+            closed = true;
+            tracker.onResponseCompressed(encoding, uncompressedBytes, compressedBytes, duration);
+        }
+    }
+
+}
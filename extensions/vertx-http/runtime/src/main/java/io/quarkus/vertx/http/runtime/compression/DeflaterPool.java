@@ -0,0 +1,73 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+/**
+ * A pool of deflaters shared by the connections, keyed by the compression level and the format. It is used to compress the
+ * HTTP responses and the WebSocket messages sent without context takeover.
+ * <p>
+ * A deflater holds about 256 KB of native memory that is allocated when the deflater is created. Without the pool, a new
+ * deflater is created for each compressed response or message.
+ */
+public final class DeflaterPool {
+
+    private static final int LEVELS = Deflater.BEST_COMPRESSION + 1;
+
+    private final int maxSize;
+    // raw deflaters at even indexes, zlib deflaters at odd indexes
+    private final Queue<Deflater>[] deflaters;
+    private final AtomicInteger[] sizes;
+
+    @SuppressWarnings("unchecked")
+    public DeflaterPool(int maxSize) {
+        this.maxSize = maxSize;
+        this.deflaters = new Queue[LEVELS * 2];
+        this.sizes = new AtomicInteger[LEVELS * 2];
+        for (int i = 0; i < deflaters.length; i++) {
+            deflaters[i] = new ConcurrentLinkedQueue<>();
+            sizes[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     *
+     * @param level
+     * @param nowrap {@code true} for the raw DEFLATE format, {@code false} for the zlib format
+     * @return a deflater with no context
+     */
+    public Deflater acquire(int level, boolean nowrap) {
+        int index = index(level, nowrap);
+        Deflater deflater = deflaters[index].poll();
+        if (deflater == null) {
+            return new Deflater(level, nowrap);
+        }
+        sizes[index].decrementAndGet();
+        return deflater;
+    }
+
+    /**
+     * Resets the deflater and returns it to the pool, or frees its native memory if the pool is full.
+     *
+     * @param deflater
+     * @param level
+     * @param nowrap
+     */
+    public void release(Deflater deflater, int level, boolean nowrap) {
+        int index = index(level, nowrap);
+        deflater.reset();
+        if (sizes[index].incrementAndGet() <= maxSize) {
+            deflaters[index].offer(deflater);
+        } else {
+            sizes[index].decrementAndGet();
+            deflater.end();
+        }
+    }
+
+    private static int index(int level, boolean nowrap) {
+        return level * 2 + (nowrap ? 0 : 1);
+    }
+
+}
@@ -0,0 +1,127 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import java.util.List;
+
+import org.jboss.logging.Logger;
+
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.quarkus.vertx.http.runtime.ExtendedQuarkusVertxHttpMetrics;
+import io.quarkus.vertx.http.runtime.ExtendedQuarkusVertxHttpMetrics.CompressionTracker;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Customizes the compression of the HTTP/1.x responses.
+ * <p>
+ * The compressor added by Vert.x to the pipeline of each connection is replaced with a {@link QuarkusHttpContentCompressor}
+ * if a minimum response size, per-route compression levels or pooled compression contexts are configured, or if the
+ * compression metrics are enabled. The HTTP/2 responses are compressed by Vert.x.
+ */
+public final class HttpContentCompression {
+
+    private static final Logger LOG = Logger.getLogger(HttpContentCompression.class);
+
+    // The internal header used to pass the compression level of a response to the compressor
+    static final String COMPRESSION_LEVEL_HEADER = "x-quarkus-compression-level";
+
+    // The name of the compressor added by Vert.x to the HTTP/1.x pipeline
+    private static final String VERTX_COMPRESSOR_NAME = "deflater";
+
+    private final int contentSizeThreshold;
+    private final DeflaterPool pool;
+    private final CompressionTracker tracker;
+
+    private HttpContentCompression(int contentSizeThreshold, DeflaterPool pool, CompressionTracker tracker) {
+        this.contentSizeThreshold = contentSizeThreshold;
+        this.pool = pool;
+        this.tracker = tracker;
+    }
+
+    /**
+     * The compression contexts are pooled by the returned instance, i.e. it should be shared by all the HTTP servers.
+     *
+     * @param config
+     * @param tracker
+     * @return the compression customization, or {@code null} if the Vert.x compressor can be used as is
+     */
+    public static HttpContentCompression create(VertxHttpBuildTimeConfig config, CompressionTracker tracker) {
+        if (!config.enableCompression()) {
+            return null;
+        }
+        int contentSizeThreshold = config.compressionMinSize().isPresent()
+                ? config.compressionMinSize().get().asBigInteger().intValueExact()
+                : 0;
+        DeflaterPool pool = config.compressionContextPoolSize().isPresent()
+                ? new DeflaterPool(config.compressionContextPoolSize().getAsInt())
+                : null;
+        if (contentSizeThreshold <= 0 && pool == null && config.compressionRoute().isEmpty()
+                && tracker == ExtendedQuarkusVertxHttpMetrics.NOOP_COMPRESSION_TRACKER) {
+            return null;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debugf("HTTP compression customized [minSize=%s, pooled=%s, routes=%s]", Integer.valueOf(contentSizeThreshold),
+                    Boolean.valueOf(pool != null), Integer.valueOf(config.compressionRoute().size()));
+        }
+        return new HttpContentCompression(contentSizeThreshold, pool, tracker);
+    }
+
+    /**
+     * The level is applied if the HTTP/1.x response is compressed with a compression context created for this response.
+     *
+     * @param level
+     * @return a route handler that sets the compression level of the current response
+     */
+    public static Handler<RoutingContext> compressionLevelHandler(int level) {
+        if (level < 0) {
+            throw new IllegalArgumentException("The compression level must not be negative: " + level);
+        }
+        String value = Integer.toString(level);
+        return new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext ctx) {
+                // The header is removed by the compressor that is only installed for HTTP/1.x connections
+                if (ctx.request().version() != HttpVersion.HTTP_2) {
+                    ctx.response().headers().set(COMPRESSION_LEVEL_HEADER, value);
+                }
+                ctx.next();
+            }
+        };
+    }
+
+    /**
+     *
+     * @param options the options of the HTTP server
+     * @return the connection handler that replaces the Vert.x compressor
+     */
+    public Handler<HttpConnection> connectionHandler(HttpServerOptions options) {
+        int level = options.getCompressionLevel();
+        List<CompressionOptions> compressors = options.getCompressors();
+        CompressionOptions[] compressionOptions;
+        if (compressors == null || compressors.isEmpty()) {
+            // The Vert.x defaults
+            compressionOptions = new CompressionOptions[] {
+                    StandardCompressionOptions.gzip(level, 15, 8),
+                    StandardCompressionOptions.deflate(level, 15, 8) };
+        } else {
+            compressionOptions = compressors.toArray(new CompressionOptions[0]);
+        }
+        return new Handler<HttpConnection>() {
+            @Override
+            public void handle(HttpConnection connection) {
+                ChannelPipeline pipeline = ((ConnectionBase) connection).channelHandlerContext().pipeline();
+                if (pipeline.get(VERTX_COMPRESSOR_NAME) != null) {
+                    pipeline.replace(VERTX_COMPRESSOR_NAME, VERTX_COMPRESSOR_NAME,
+                            new QuarkusHttpContentCompressor(contentSizeThreshold, level, pool, tracker, compressionOptions));
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,173 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.BrotliMode;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.compression.ZstdOptions;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.quarkus.vertx.http.runtime.ExtendedQuarkusVertxHttpMetrics;
+import io.quarkus.vertx.http.runtime.ExtendedQuarkusVertxHttpMetrics.CompressionTracker;
+
+/**
+ * Replaces the compressor that Vert.x adds to the pipeline of an HTTP/1.x connection.
+ * <p>
+ * Like the Vert.x compressor, a response with the {@code Content-Encoding: identity} header is not compressed and the
+ * header is removed. In addition, a response whose body is known to be smaller than the content size threshold is not
+ * compressed, the compression level can be set for a particular response with the
+ * {@link HttpContentCompression#COMPRESSION_LEVEL_HEADER} header, the gzip and deflate contexts can be pooled, and the
+ * compression is reported to the {@link CompressionTracker}.
+ */
+final class QuarkusHttpContentCompressor extends HttpContentCompressor {
+
+    private static final int DEFAULT_BROTLI_WINDOW = 22;
+
+    private final int contentSizeThreshold;
+    private final int defaultLevel;
+    private final DeflaterPool pool;
+    private final ZstdOptions zstdOptions;
+    private final CompressionTracker tracker;
+
+    private ChannelHandlerContext ctx;
+    // The level of the response being encoded, or -1 if not set
+    private int level = -1;
+
+    QuarkusHttpContentCompressor(int contentSizeThreshold, int defaultLevel, DeflaterPool pool, CompressionTracker tracker,
+            CompressionOptions... compressionOptions) {
+        super(contentSizeThreshold, compressionOptions);
+        this.contentSizeThreshold = contentSizeThreshold;
+        this.defaultLevel = defaultLevel;
+        this.pool = pool;
+        this.zstdOptions = zstdOptions(compressionOptions);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.handlerAdded(ctx);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        // Vert.x writes the chunks of a response as plain buffers, see io.vertx.core.http.impl.HttpChunkContentCompressor
+        if (msg instanceof ByteBuf) {
+            ByteBuf buf = (ByteBuf) msg;
+            if (buf.isReadable()) {
+                msg = new DefaultHttpContent(buf);
+            }
+        }
+        super.write(ctx, msg, promise);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+        if (msg instanceof HttpResponse) {
+            // The header is never sent to the client
+            HttpHeaders headers = ((HttpResponse) msg).headers();
+            String value = headers.get(HttpContentCompression.COMPRESSION_LEVEL_HEADER);
+            if (value != null) {
+                headers.remove(HttpContentCompression.COMPRESSION_LEVEL_HEADER);
+                level = Integer.parseInt(value);
+            } else {
+                level = -1;
+            }
+        }
+        super.encode(ctx, msg, out);
+    }
+
+    @Override
+    protected Result beginEncode(HttpResponse response, String acceptEncoding) throws Exception {
+        HttpHeaders headers = response.headers();
+        Result result = null;
+        if (!headers.contains(HttpHeaderNames.CONTENT_ENCODING) && !isBelowThreshold(response)) {
+            String encoding = determineEncoding(acceptEncoding);
+            ChannelHandler encoder = encoding != null ? newEncoder(encoding) : null;
+            if (encoder != null) {
+                result = new Result(encoding, new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(),
+                        ctx.channel().config(), encoder));
+            } else {
+                result = super.beginEncode(response, acceptEncoding);
+            }
+        }
+        if (result == null) {
+            if (headers.contains(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY, true)) {
+                headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+            }
+            return null;
+        }
+        if (tracker != ExtendedQuarkusVertxHttpMetrics.NOOP_COMPRESSION_TRACKER) {
+            CompressionMetricsHandler.install(result.contentEncoder().pipeline(), tracker, result.targetContentEncoding());
+        }
+        return result;
+    }
+
+    private boolean isBelowThreshold(HttpResponse response) {
+        if (contentSizeThreshold <= 0) {
+            return false;
+        }
+        if (response instanceof HttpContent) {
+            // A full response
+            return ((HttpContent) response).content().readableBytes() < contentSizeThreshold;
+        }
+        String contentLength = response.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+        return contentLength != null && Long.parseLong(contentLength) < contentSizeThreshold;
+    }
+
+    /**
+     *
+     * @param encoding
+     * @return the encoder, or {@code null} if the default encoder should be used
+     */
+    private ChannelHandler newEncoder(String encoding) {
+        switch (encoding) {
+            case "gzip":
+            case "deflate":
+                if (level < 0 && pool == null) {
+                    return null;
+                }
+                int zlibLevel = level < 0 ? defaultLevel : level;
+                // Deflater.DEFAULT_COMPRESSION stands for level 6
+                zlibLevel = zlibLevel < 0 ? 6 : Math.min(zlibLevel, 9);
+                return new ZlibEncoder("gzip".equals(encoding), zlibLevel, pool);
+            case "br":
+                if (level < 0) {
+                    return null;
+                }
+                return new BrotliEncoder(
+                        StandardCompressionOptions.brotli(Math.min(level, 11), DEFAULT_BROTLI_WINDOW, BrotliMode.TEXT));
+            case "zstd":
+                if (level < 0 || zstdOptions == null) {
+                    return null;
+                }
+                return new ZstdEncoder(Math.min(level, 22), zstdOptions.blockSize(), zstdOptions.maxEncodeSize());
+            default:
+                return null;
+        }
+    }
+
+    private static ZstdOptions zstdOptions(CompressionOptions[] compressionOptions) {
+        for (CompressionOptions options : compressionOptions) {
+            if (options instanceof ZstdOptions) {
+                return (ZstdOptions) options;
+            }
+        }
+        return null;
+    }
+
+}
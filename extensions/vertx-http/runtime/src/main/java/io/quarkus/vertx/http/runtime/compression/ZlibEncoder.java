@@ -0,0 +1,135 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * Compresses the content of a response in the gzip or zlib format, with a deflater borrowed from a {@link DeflaterPool} if
+ * the pool is set. Each written buffer is compressed with a sync flush so that a streamed response is not delayed.
+ * <p>
+ * The deflater is acquired when the first buffer is compressed and released when the encoder is closed, i.e. when the
+ * response ends or is aborted.
+ */
+final class ZlibEncoder extends MessageToByteEncoder<ByteBuf> {
+
+    // ID1, ID2, CM, FLG, MTIME (4), XFL, OS (unknown)
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    private final boolean gzip;
+    private final int level;
+    private final DeflaterPool pool;
+
+    private Deflater deflater;
+    private CRC32 crc;
+    private boolean finished;
+
+    ZlibEncoder(boolean gzip, int level, DeflaterPool pool) {
+        this.gzip = gzip;
+        this.level = level;
+        this.pool = pool;
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, ByteBuf msg, boolean preferDirect) {
+        // The deflate output is usually smaller than the input, the buffer is expanded if needed
+        return ctx.alloc().heapBuffer(msg.readableBytes() / 2 + GZIP_HEADER.length + 64);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, ByteBuf in, ByteBuf out) {
+        if (finished) {
+            out.writeBytes(in);
+            return;
+        }
+        int length = in.readableBytes();
+        if (length == 0) {
+            return;
+        }
+        start(out);
+        if (gzip) {
+            crc.update(in.nioBuffer());
+        }
+        deflater.setInput(in.nioBuffer());
+        deflate(out, Deflater.SYNC_FLUSH);
+        in.skipBytes(length);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        if (!finished) {
+            ByteBuf out = ctx.alloc().heapBuffer(GZIP_HEADER.length + 64);
+            try {
+                finish(out);
+            } catch (Throwable t) {
+                out.release();
+                throw t;
+            }
+            ctx.writeAndFlush(out);
+        }
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        releaseDeflater();
+        super.handlerRemoved(ctx);
+    }
+
+    private void start(ByteBuf out) {
+        if (deflater != null) {
+            return;
+        }
+        if (pool != null) {
+            deflater = pool.acquire(level, gzip);
+        } else {
+            deflater = new Deflater(level, gzip);
+        }
+        if (gzip) {
+            crc = new CRC32();
+            out.writeBytes(GZIP_HEADER);
+        }
+    }
+
+    private void finish(ByteBuf out) {
+        finished = true;
+        // An empty response still needs a valid stream
+        start(out);
+        deflater.finish();
+        deflate(out, Deflater.NO_FLUSH);
+        if (gzip) {
+            out.ensureWritable(GZIP_TRAILER_LENGTH);
+            out.writeIntLE((int) crc.getValue());
+            out.writeIntLE((int) deflater.getBytesRead());
+        }
+        releaseDeflater();
+    }
+
+    private void deflate(ByteBuf out, int flush) {
+        int written;
+        int writable;
+        do {
+            out.ensureWritable(256);
+            writable = out.writableBytes();
+            written = deflater.deflate(out.nioBuffer(out.writerIndex(), writable), flush);
+            out.writerIndex(out.writerIndex() + written);
+        } while (written == writable || (flush == Deflater.NO_FLUSH && !deflater.finished()));
+    }
+
+    private void releaseDeflater() {
+        if (deflater != null) {
+            if (pool != null) {
+                pool.release(deflater, level, gzip);
+            } else {
+                deflater.end();
+            }
+            deflater = null;
+        }
+    }
+
+}
@@ -93,6 +93,15 @@
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    // The builders are reused by the event loop threads, a builder grown by an unusually long message is discarded
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> MESSAGE_BUILDER = new ThreadLocal<>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final boolean consolidateReroutedRequests;
@@ -155,7 +164,17 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                StringBuilder message = MESSAGE_BUILDER.get();
+                try {
+                    tokens.appendAttribute(rc, message);
+                    accessLogReceiver.logMessage(message);
+                } finally {
+                    if (message.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+                        MESSAGE_BUILDER.remove();
+                    } else {
+                        message.setLength(0);
+                    }
+                }
             }
         });
         if (consolidateReroutedRequests) {
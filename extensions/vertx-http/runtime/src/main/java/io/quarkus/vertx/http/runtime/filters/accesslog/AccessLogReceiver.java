@@ -29,4 +29,16 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs a message that is only valid until this method returns, i.e. the message must be copied if it is processed
+     * asynchronously.
+     * <p>
+     * The default implementation logs the {@link String} representation of the message.
+     *
+     * @param message the message
+     */
+    default void logMessage(final CharSequence message) {
+        logMessage(message.toString());
+    }
+
 }
@@ -128,7 +128,7 @@ private DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path out
         calculateChangeOverPoint();
     }
 
-    private String effectiveLogBaseName(String logBaseName) {
+    static String effectiveLogBaseName(String logBaseName) {
         if (logBaseName == null) {
             return "";
         }
@@ -140,7 +140,7 @@ private String effectiveLogBaseName(String logBaseName) {
         return logBaseName.substring(0, logBaseName.length() - 1);
     }
 
-    private static String effectiveLogNameSuffix(String logNameSuffix) {
+    static String effectiveLogNameSuffix(String logNameSuffix) {
         var result = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
         if (result.charAt(0) != '.') {
             return '.' + result;
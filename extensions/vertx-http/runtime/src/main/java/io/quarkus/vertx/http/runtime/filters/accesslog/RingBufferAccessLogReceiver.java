@@ -0,0 +1,387 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Log Receiver that stores logs in a directory under the specified file name, and rotates them after midnight and,
+ * optionally, once the file exceeds a maximum size.
+ * <p>
+ * Web threads do not touch the log file, but encode the messages into reusable buffers of a bounded ring buffer. A single
+ * worker thread at a time writes all the published buffers with one gathering write. If the ring buffer is full, the
+ * message is dropped instead of blocking the web thread; the number of dropped messages is logged periodically and is
+ * available via {@link #getDroppedMessages()}.
+ */
+public class RingBufferAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(RingBufferAccessLogReceiver.class);
+
+    private static final String DOT = ".";
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private static final int INITIAL_SLOT_CAPACITY = 512;
+
+    // The maximum number of buffers passed to a single gathering write
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    // The maximum number of gathering writes before the worker thread is released
+    private static final int MAX_BATCHES_PER_RUN = 16;
+
+    private static final long DROPPED_REPORT_INTERVAL = TimeUnit.SECONDS.toMillis(10);
+
+    private final Executor logWriteExecutor;
+
+    private final ByteBuffer[] slots;
+
+    // A slot is free if its sequence is equal to the position of the next message written to this slot,
+    // and holds a published message if its sequence is equal to the position of this message + 1
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final LongAdder droppedMessages = new LongAdder();
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<RingBufferAccessLogReceiver> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(RingBufferAccessLogReceiver.class, "state");
+
+    // The following fields are only accessed by the worker thread
+    private long head;
+    private final ByteBuffer[] batch;
+    private FileChannel channel;
+    private long fileSize;
+    private long reportedDroppedMessages;
+    private long lastDroppedReport;
+    private long changeOverPoint;
+    private String currentDateString;
+    private boolean initialRun = true;
+
+    private volatile boolean forceLogRotation;
+    private volatile boolean closed = false;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+
+    private final boolean rotate;
+    private final long maxFileSize;
+
+    /**
+     *
+     * @param logWriteExecutor
+     * @param outputDirectory
+     * @param logBaseName
+     * @param logNameSuffix
+     * @param rotate if the log should be rotated daily
+     * @param maxFileSize the size of the log file that triggers a rotation, or {@code 0} if the log should not be rotated
+     *        based on its size
+     * @param bufferSize the maximum number of messages waiting to be written
+     */
+    public RingBufferAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
+            final String logNameSuffix, boolean rotate, long maxFileSize, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The access log buffer size must be positive: " + bufferSize);
+        }
+        this.logWriteExecutor = logWriteExecutor;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = DefaultAccessLogReceiver.effectiveLogBaseName(logBaseName);
+        this.logNameSuffix = DefaultAccessLogReceiver.effectiveLogNameSuffix(logNameSuffix);
+        this.rotate = rotate;
+        this.maxFileSize = maxFileSize;
+        int capacity = Integer.highestOneBit(bufferSize);
+        if (capacity < bufferSize) {
+            capacity <<= 1;
+        }
+        this.slots = new ByteBuffer[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.batch = new ByteBuffer[Math.min(capacity, MAX_BATCH_SIZE)];
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        calculateChangeOverPoint();
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    @Override
+    public void logMessage(final String message) {
+        logMessage((CharSequence) message);
+    }
+
+    @Override
+    public void logMessage(final CharSequence message) {
+        long position = tail.get();
+        int index;
+        for (;;) {
+            index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (sequence < position) {
+                // The slot still holds a message from the previous lap, i.e. the buffer is full
+                droppedMessages.increment();
+                return;
+            } else {
+                // Another thread claimed this position
+                position = tail.get();
+            }
+        }
+        // The slot is owned by this thread until the message is published, the message is encoded without any copy
+        slots[index] = encode(slots[index], message);
+        sequences.set(index, position + 1);
+        if (stateUpdater.get(this) == 0) {
+            if (stateUpdater.compareAndSet(this, 0, 1)) {
+                logWriteExecutor.execute(this);
+            }
+        }
+    }
+
+    private static ByteBuffer encode(ByteBuffer buffer, CharSequence message) {
+        int length = message.length();
+        buffer = ensureCapacity(buffer, length + LINE_SEPARATOR.length);
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c >= 0x80) {
+                // Not an ASCII message, fall back to the UTF-8 encoder
+                byte[] bytes = message.toString().getBytes(StandardCharsets.UTF_8);
+                buffer = ensureCapacity(buffer, bytes.length + LINE_SEPARATOR.length);
+                buffer.put(bytes);
+                break;
+            }
+            buffer.put((byte) c);
+        }
+        buffer.put(LINE_SEPARATOR);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int capacity) {
+        if (buffer == null || buffer.capacity() < capacity) {
+            int newCapacity = buffer == null ? INITIAL_SLOT_CAPACITY : buffer.capacity() << 1;
+            // Direct buffers are written to the file without an intermediate copy
+            return ByteBuffer.allocateDirect(Math.max(newCapacity, capacity));
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * writes the published log messages
+     */
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        try {
+            if (forceLogRotation) {
+                forceLogRotation = false;
+                if (rotate) {
+                    doRotate();
+                }
+            } else if (initialRun && rotate && Files.exists(defaultLogFile)) {
+                //if there is an existing log file check if it should be rotated
+                long lm = 0;
+                try {
+                    lm = Files.getLastModifiedTime(defaultLogFile).toMillis();
+                } catch (IOException e) {
+                    log.error("Error rotating access log", e);
+                }
+                Calendar c = Calendar.getInstance();
+                c.setTimeInMillis(changeOverPoint);
+                c.add(Calendar.DATE, -1);
+                if (lm <= c.getTimeInMillis()) {
+                    doRotate();
+                }
+            }
+            initialRun = false;
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (writeMessages() < batch.length) {
+                    break;
+                }
+            }
+            reportDroppedMessages();
+        } finally {
+            stateUpdater.set(this, 0);
+            //check to see if there is still more messages
+            //if so then run this again
+            if (isPublished(head) || forceLogRotation) {
+                if (stateUpdater.compareAndSet(this, 0, 1)) {
+                    logWriteExecutor.execute(this);
+                }
+            } else if (closed) {
+                closeChannel();
+            }
+        }
+    }
+
+    private boolean isPublished(long position) {
+        return sequences.get((int) position & mask) == position + 1;
+    }
+
+    /**
+     *
+     * @return the number of written messages
+     */
+    private int writeMessages() {
+        int count = 0;
+        long remaining = 0;
+        while (count < batch.length && isPublished(head + count)) {
+            ByteBuffer buffer = slots[(int) (head + count) & mask];
+            remaining += buffer.remaining();
+            batch[count++] = buffer;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        try {
+            if (rotate && System.currentTimeMillis() > changeOverPoint) {
+                doRotate();
+            }
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+                fileSize = channel.size();
+            }
+            fileSize += remaining;
+            while (remaining > 0) {
+                remaining -= channel.write(batch, 0, count);
+            }
+            if (maxFileSize > 0 && fileSize >= maxFileSize) {
+                doRotate();
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        } finally {
+            // Release the slots
+            for (int i = 0; i < count; i++) {
+                batch[i] = null;
+                sequences.set((int) (head + i) & mask, head + i + slots.length);
+            }
+            head += count;
+        }
+        return count;
+    }
+
+    private void reportDroppedMessages() {
+        long dropped = droppedMessages.sum();
+        if (dropped != reportedDroppedMessages) {
+            long now = System.currentTimeMillis();
+            if (now - lastDroppedReport >= DROPPED_REPORT_INTERVAL) {
+                log.warnf("%s access log messages were dropped because the access log buffer was full",
+                        dropped - reportedDroppedMessages);
+                reportedDroppedMessages = dropped;
+                lastDroppedReport = now;
+            }
+        }
+    }
+
+    private void doRotate() {
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error writing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     *
+     * @return the number of messages dropped because the buffer was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * forces a log rotation. This rotation is performed in an async manner, you cannot rely on the rotation
+     * being performed immediately after this method returns.
+     */
+    public void rotate() {
+        forceLogRotation = true;
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static io.quarkus.vertx.http.runtime.RoutingUtils.resolvePath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources compressed when the application was packaged.
+ * <p>
+ * The original content and the compressed variants of each resource are loaded in memory when the handler is created. The
+ * variant is selected according to the {@code Accept-Encoding} header of the request and the order of preference of the
+ * server. Each variant has a strong {@code ETag} derived from the hash of the original content computed at build time.
+ * <p>
+ * Requests for unknown resources, {@code OPTIONS} requests and range requests are passed to the next handler.
+ */
+public class PrecompressedStaticHandler implements Handler<RoutingContext> {
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticHandler.class);
+
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+    public static final String ZSTD = "zstd";
+
+    private final Map<String, Resource> resources;
+    private final String indexPage;
+    private final String cacheControl;
+    private final ClassLoader currentClassLoader;
+
+    /**
+     *
+     * @param hashes the hashes of the original content, keyed by the resource path
+     * @param encodings the encodings of the precompressed variants in the order of preference, keyed by the resource path
+     * @param indexPage the normalized index page
+     * @param defaultContentEncoding the charset of the text resources
+     * @param maxAgeSeconds the max age of the cache headers, or a negative value if the cache headers should not be set
+     */
+    public PrecompressedStaticHandler(Map<String, String> hashes, Map<String, List<String>> encodings, String indexPage,
+            String defaultContentEncoding, long maxAgeSeconds) {
+        this.currentClassLoader = Thread.currentThread().getContextClassLoader();
+        this.indexPage = indexPage;
+        this.cacheControl = maxAgeSeconds < 0 ? null : "public, immutable, max-age=" + maxAgeSeconds;
+        this.resources = new HashMap<>();
+        long size = 0;
+        for (Map.Entry<String, String> e : hashes.entrySet()) {
+            String path = e.getKey();
+            String hash = e.getValue();
+            List<Variant> variants = new ArrayList<>();
+            for (String encoding : encodings.getOrDefault(path, List.of())) {
+                Buffer content = load(StaticResourcesRecorder.META_INF_PRECOMPRESSED_RESOURCES + path + "."
+                        + fileExtension(encoding));
+                variants.add(new Variant(encoding, content, "\"" + hash + "-" + encoding + "\""));
+                size += content.length();
+            }
+            Buffer content = load(StaticResourcesRecorder.META_INF_RESOURCES + path);
+            variants.add(new Variant(null, content, "\"" + hash + "\""));
+            size += content.length();
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType != null && contentType.startsWith("text")) {
+                contentType = contentType + ";charset=" + defaultContentEncoding;
+            }
+            resources.put(path, new Resource(contentType, variants.toArray(new Variant[0])));
+        }
+        LOG.debugf("Loaded %s precompressed static resources [%s bytes]", resources.size(), size);
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        String rel = resolvePath(ctx);
+        if (rel == null) {
+            ctx.fail(HttpResponseStatus.BAD_REQUEST.code());
+            return;
+        }
+        HttpServerRequest request = ctx.request();
+        Resource resource = resources.get(rel.endsWith("/") ? rel.concat(indexPage) : rel);
+        if (resource == null
+                || request.method().equals(HttpMethod.OPTIONS)
+                || request.headers().contains(HttpHeaderNames.RANGE)) {
+            // make sure we don't lose the correct TCCL to Vert.x...
+            Thread.currentThread().setContextClassLoader(currentClassLoader);
+            ctx.next();
+            return;
+        }
+        Variant variant = resource.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        if (resource.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        }
+        if (variant.encoding != null) {
+            // Replaces the "Content-Encoding: identity" header added by VertxHttpRecorder if compression is enabled
+            headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        }
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+        } else if (request.method().equals(HttpMethod.HEAD)) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(variant.content.length()));
+            response.end();
+        } else {
+            response.end(variant.content);
+        }
+    }
+
+    /**
+     *
+     * @param encoding
+     * @return the extension of the file that contains the variant compressed with the given encoding
+     */
+    public static String fileExtension(String encoding) {
+        switch (encoding) {
+            case GZIP:
+                return "gz";
+            case BROTLI:
+                return "br";
+            case ZSTD:
+                return "zst";
+            default:
+                throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+        }
+    }
+
+    /**
+     *
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @param encoding
+     * @return {@code true} if the encoding is accepted, i.e. listed explicitly or matched by {@code *} with a non-zero
+     *         quality value
+     */
+    static boolean isAccepted(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String element : acceptEncoding.split(",")) {
+            int params = element.indexOf(';');
+            String coding = (params < 0 ? element : element.substring(0, params)).trim();
+            boolean accepted = params < 0 || !hasZeroQuality(element.substring(params + 1));
+            if (coding.equalsIgnoreCase(encoding)) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean hasZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String element : ifNoneMatch.split(",")) {
+            String tag = element.trim();
+            // If-None-Match uses the weak comparison
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Buffer load(String name) {
+        try (InputStream in = currentClassLoader.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Precompressed static resource not found: " + name);
+            }
+            return Buffer.buffer(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Resource {
+
+        private final String contentType;
+        // The compressed variants in the order of preference, followed by the original content
+        private final Variant[] variants;
+
+        Resource(String contentType, Variant[] variants) {
+            this.contentType = contentType;
+            this.variants = variants;
+        }
+
+        Variant select(String acceptEncoding) {
+            for (int i = 0; i < variants.length - 1; i++) {
+                if (isAccepted(acceptEncoding, variants[i].encoding)) {
+                    return variants[i];
+                }
+            }
+            return variants[variants.length - 1];
+        }
+
+    }
+
+    private static final class Variant {
+
+        // null for the original content
+        private final String encoding;
+        private final Buffer content;
+        private final String etag;
+
+        Variant(String encoding, Buffer content, String etag) {
+            this.encoding = encoding;
+            this.content = content;
+            this.etag = etag;
+        }
+
+    }
+
+}
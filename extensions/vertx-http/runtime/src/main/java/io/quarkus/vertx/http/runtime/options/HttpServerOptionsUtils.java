@@ -22,6 +22,8 @@
 import io.netty.handler.codec.compression.DeflateOptions;
 import io.netty.handler.codec.compression.GzipOptions;
 import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
 import io.quarkus.runtime.LaunchMode;
@@ -332,6 +334,17 @@ public static void applyCommonOptions(
                         o.parameters().setQuality(httpBuildTimeConfig.compressionLevel().getAsInt());
                     }
                     httpServerOptions.addCompressor(o);
+                } else if ("zstd".equalsIgnoreCase(compressor)) {
+                    if (Zstd.isAvailable()) {
+                        final ZstdOptions defaultOps = StandardCompressionOptions.zstd();
+                        // The default compression level for zstd as of Netty Codec 4.1 is 3
+                        httpServerOptions.addCompressor(StandardCompressionOptions.zstd(
+                                httpBuildTimeConfig.compressionLevel().orElse(defaultOps.compressionLevel()),
+                                defaultOps.blockSize(), defaultOps.maxEncodeSize()));
+                    } else {
+                        Logger.getLogger(HttpServerOptionsUtils.class)
+                                .warn("The zstd compressor requires the com.github.luben:zstd-jni library");
+                    }
                 } else {
                     Logger.getLogger(HttpServerOptionsUtils.class).errorf("Unknown compressor: %s", compressor);
                 }
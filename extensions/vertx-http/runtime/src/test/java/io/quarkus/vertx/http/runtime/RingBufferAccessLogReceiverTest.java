@@ -0,0 +1,93 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
+
+class RingBufferAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMessagesWritten() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, tempDir, "access", null,
+                true, 0, 4)) {
+            for (int i = 0; i < 10; i++) {
+                receiver.logMessage("Message " + i);
+            }
+            receiver.logMessage("Message \u00e9\u4e2d");
+            assertThat(receiver.getDroppedMessages()).isZero();
+        }
+        List<String> lines = Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(11);
+        assertThat(lines.get(0)).isEqualTo("Message 0");
+        assertThat(lines.get(9)).isEqualTo("Message 9");
+        assertThat(lines.get(10)).isEqualTo("Message \u00e9\u4e2d");
+    }
+
+    @Test
+    void testLongMessage() throws IOException {
+        String message = "x".repeat(10_000);
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, tempDir, "access", null,
+                true, 0, 4)) {
+            receiver.logMessage("short");
+            receiver.logMessage(message);
+            receiver.logMessage("short");
+        }
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"))).containsExactly("short", message, "short");
+    }
+
+    @Test
+    void testMessagesDroppedWhenFull() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(tasks::add, tempDir, "access", null, true, 0,
+                4);
+        for (int i = 0; i < 6; i++) {
+            receiver.logMessage("Message " + i);
+        }
+        assertThat(receiver.getDroppedMessages()).isEqualTo(2);
+        assertThat(tasks).hasSize(1);
+        tasks.remove(0).run();
+        receiver.logMessage("Message 6");
+        assertThat(tasks).hasSize(1);
+        tasks.remove(0).run();
+        receiver.close();
+        tasks.remove(0).run();
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"))).containsExactly("Message 0", "Message 1",
+                "Message 2", "Message 3", "Message 6");
+    }
+
+    @Test
+    void testRotationBySize() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, tempDir, "access", null,
+                false, 100, 16)) {
+            for (int i = 0; i < 30; i++) {
+                receiver.logMessage("Message " + i);
+            }
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(tempDir)) {
+            files = stream.collect(Collectors.toList());
+        }
+        assertThat(files).hasSizeGreaterThan(1);
+        long lines = 0;
+        for (Path file : files) {
+            assertThat(file.getFileName().toString()).matches("access(\\.[0-9]{4}-[0-9]{2}-[0-9]{2}(-[0-9]+)?)?\\.log");
+            lines += Files.readAllLines(file).size();
+        }
+        assertThat(lines).isEqualTo(30);
+    }
+}
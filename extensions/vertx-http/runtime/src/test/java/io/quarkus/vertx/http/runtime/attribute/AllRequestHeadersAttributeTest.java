@@ -40,4 +40,16 @@ void testAuthorizationValueMasked() {
         assertEquals("authorization: <hidden>", attribute);
     }
 
+    @Test
+    void testAppendedHeadersEqualToReadHeaders() {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        headers.add("Content-Type", "application/json");
+        headers.add("Authorization", "Bearer token");
+        headers.add("Accept", "text/plain");
+        AllRequestHeadersAttribute attribute = new AllRequestHeadersAttribute();
+        StringBuilder builder = new StringBuilder("prefix ");
+        attribute.appendAttribute(headers, builder);
+        assertEquals("prefix " + attribute.readAttribute(headers), builder.toString());
+    }
+
 }
@@ -25,4 +25,15 @@ void testDefaultDateFormat() {
         Assertions.assertFalse(value.trim().isEmpty(), DateTimeAttribute.DATE_TIME_SHORT + " attribute returned empty value");
     }
 
+    @Test
+    void shouldAppendAttribute() {
+        SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
+        DateTimeAttribute dta = new DateTimeAttribute("dd/MM/yyyy");
+        StringBuilder builder = new StringBuilder();
+        dta.appendAttribute(null, builder);
+        dta.appendAttribute(null, builder);
+        String expected = sdf.format(new Date());
+        assertThat(builder.toString()).isEqualTo(expected + expected);
+    }
+
 }
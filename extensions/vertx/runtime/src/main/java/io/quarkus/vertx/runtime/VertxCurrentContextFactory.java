@@ -7,6 +7,7 @@
 import java.util.function.Supplier;
 
 import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.FastThreadLocalThread;
 import io.quarkus.arc.CurrentContext;
 import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InjectableContext;
@@ -54,6 +55,7 @@ public List<String> keys() {
     private static final class VertxCurrentContext<T extends ContextState> implements CurrentContext<T> {
 
         private final String key;
+        // used on Netty threads, such as the event loops and the worker threads
         private final LazyValue<FastThreadLocal<T>> fallback = new LazyValue<>(
                 new Supplier<>() {
                     @Override
@@ -61,6 +63,9 @@ public FastThreadLocal<T> get() {
                         return new FastThreadLocal<>();
                     }
                 });
+        // used on any other thread, in particular virtual threads: a FastThreadLocal would be backed by a ThreadLocal
+        // holding a whole Netty InternalThreadLocalMap, allocated for each such thread
+        private final ThreadLocal<T> plainFallback = new ThreadLocal<>();
 
         private VertxCurrentContext(String key) {
             this.key = key;
@@ -72,7 +77,10 @@ public T get() {
             if (context != null && VertxContext.isDuplicatedContext(context)) {
                 return context.getLocal(key);
             }
-            return fallback.get().get();
+            if (Thread.currentThread() instanceof FastThreadLocalThread) {
+                return fallback.get().get();
+            }
+            return plainFallback.get();
         }
 
         @Override
@@ -87,8 +95,10 @@ public void set(T state) {
                     context.putLocal(key, state);
                 }
 
-            } else {
+            } else if (Thread.currentThread() instanceof FastThreadLocalThread) {
                 fallback.get().set(state);
+            } else {
+                plainFallback.set(state);
             }
         }
 
@@ -98,8 +108,10 @@ public void remove() {
             if (context != null && VertxContext.isDuplicatedContext(context)) {
                 // NOOP - the DC should not be shared.
                 // context.removeLocal(key);
-            } else {
+            } else if (Thread.currentThread() instanceof FastThreadLocalThread) {
                 fallback.get().remove();
+            } else {
+                plainFallback.remove();
             }
         }
 
@@ -23,6 +23,8 @@ public final class WebSocketEndpointBuildItem extends MultiBuildItem {
     // @WebSocket#endpointId() or @WebSocketClient#clientId()
     public final String id;
     public final InboundProcessingMode inboundProcessingMode;
+    // @WebSocket#maxConcurrency() or @WebSocketClient#maxConcurrency()
+    public final int maxConcurrency;
     public final Callback onOpen;
     public final Callback onTextMessage;
     public final Callback onBinaryMessage;
@@ -32,7 +34,7 @@ public final class WebSocketEndpointBuildItem extends MultiBuildItem {
     public final List<Callback> onErrors;
 
     WebSocketEndpointBuildItem(boolean isClient, BeanInfo bean, String path, String id,
-            InboundProcessingMode inboundProcessingMode,
+            InboundProcessingMode inboundProcessingMode, int maxConcurrency,
             Callback onOpen, Callback onTextMessage, Callback onBinaryMessage, Callback onPingMessage,
             Callback onPongMessage, Callback onClose, List<Callback> onErrors) {
         this.isClient = isClient;
@@ -40,6 +42,7 @@ public final class WebSocketEndpointBuildItem extends MultiBuildItem {
         this.path = path;
         this.id = id;
         this.inboundProcessingMode = inboundProcessingMode;
+        this.maxConcurrency = maxConcurrency;
         this.onOpen = onOpen;
         this.onTextMessage = onTextMessage;
         this.onBinaryMessage = onBinaryMessage;
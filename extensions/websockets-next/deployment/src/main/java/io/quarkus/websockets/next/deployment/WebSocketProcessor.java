@@ -130,6 +130,7 @@
 import io.quarkus.vertx.http.runtime.security.SecurityHandlerPriorities;
 import io.quarkus.vertx.http.security.AuthorizationPolicy;
 import io.quarkus.websockets.next.HttpUpgradeCheck;
+import io.quarkus.websockets.next.InboundMessageKey;
 import io.quarkus.websockets.next.InboundProcessingMode;
 import io.quarkus.websockets.next.WebSocketClientConnection;
 import io.quarkus.websockets.next.WebSocketClientException;
@@ -147,6 +148,7 @@
 import io.quarkus.websockets.next.runtime.ContextSupport;
 import io.quarkus.websockets.next.runtime.HttpUpgradeSecurityInterceptor;
 import io.quarkus.websockets.next.runtime.JsonTextMessageCodec;
+import io.quarkus.websockets.next.runtime.PerMessageCompression;
 import io.quarkus.websockets.next.runtime.SecurityHttpUpgradeCheck;
 import io.quarkus.websockets.next.runtime.SecuritySupport;
 import io.quarkus.websockets.next.runtime.WebSocketClientRecorder;
@@ -185,6 +187,7 @@ public class WebSocketProcessor {
     static final String CLIENT_ENDPOINT_SUFFIX = "_WebSocketClientEndpoint";
     static final String NESTED_SEPARATOR = "$_";
     static final DotName HTTP_UPGRADE_CHECK_NAME = DotName.createSimple(HttpUpgradeCheck.class);
+    static final DotName INBOUND_MESSAGE_KEY_NAME = DotName.createSimple(InboundMessageKey.class);
     private static final DotName WEBSOCKET_SECURITY_NAME = DotName.createSimple(WebSocketSecurity.class);
 
     // Parameter names consist of alphanumeric characters and underscore
@@ -248,7 +251,8 @@ void additionalBeans(CombinedIndexBuildItem combinedIndex, BuildProducer<Additio
                 .setUnremovable()
                 .addBeanClasses(Codecs.class, ClientConnectionManager.class, BasicWebSocketConnectorImpl.class);
         if (!index.getAnnotations(WebSocketDotNames.WEB_SOCKET).isEmpty()) {
-            unremovable.addBeanClasses(ConnectionManager.class, WebSocketHttpServerOptionsCustomizer.class);
+            unremovable.addBeanClasses(ConnectionManager.class, WebSocketHttpServerOptionsCustomizer.class,
+                    PerMessageCompression.class);
         }
         additionalBeans.produce(unremovable.build());
     }
@@ -346,6 +350,7 @@ void collectEndpoints(BeanArchiveIndexBuildItem beanArchiveIndex,
             String path;
             String id;
             AnnotationValue inboundProcessingMode;
+            AnnotationValue maxConcurrency;
             Target target;
 
             if (webSocketAnnotation != null) {
@@ -373,6 +378,7 @@ void collectEndpoints(BeanArchiveIndexBuildItem beanArchiveIndex,
                                     id));
                 }
                 inboundProcessingMode = webSocketAnnotation.value("inboundProcessingMode");
+                maxConcurrency = webSocketAnnotation.value("maxConcurrency");
             } else {
                 target = Target.CLIENT;
                 path = getPath(webSocketClientAnnotation.value("path").asString());
@@ -396,6 +402,10 @@ void collectEndpoints(BeanArchiveIndexBuildItem beanArchiveIndex,
                                     id));
                 }
                 inboundProcessingMode = webSocketClientAnnotation.value("inboundProcessingMode");
+                maxConcurrency = webSocketClientAnnotation.value("maxConcurrency");
+            }
+            if (maxConcurrency != null && maxConcurrency.asInt() < 0) {
+                throw new WebSocketException("The max concurrency of an endpoint must not be negative: " + beanClass);
             }
 
             Callback onOpen = findCallback(target, beanArchiveIndex.getIndex(), bean, beanClass,
@@ -438,6 +448,7 @@ void collectEndpoints(BeanArchiveIndexBuildItem beanArchiveIndex,
             endpoints.produce(new WebSocketEndpointBuildItem(target == Target.CLIENT, bean, path, id,
                     inboundProcessingMode != null ? InboundProcessingMode.valueOf(inboundProcessingMode.asEnum())
                             : InboundProcessingMode.SERIAL,
+                    maxConcurrency != null ? maxConcurrency.asInt() : 0,
                     onOpen,
                     onTextMessage,
                     onBinaryMessage,
@@ -671,6 +682,27 @@ UnremovableBeanBuildItem makeHttpUpgradeChecksUnremovable() {
         return UnremovableBeanBuildItem.beanTypes(HTTP_UPGRADE_CHECK_NAME);
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem makeInboundMessageKeyUnremovable() {
+        // we access the key programmatically
+        return UnremovableBeanBuildItem.beanTypes(INBOUND_MESSAGE_KEY_NAME);
+    }
+
+    @BuildStep
+    void validateKeyedEndpoints(List<WebSocketEndpointBuildItem> endpoints, ValidationPhaseBuildItem validationPhase,
+            BuildProducer<ValidationErrorBuildItem> validationErrors) {
+        if (!validationPhase.getContext().beans().withBeanType(INBOUND_MESSAGE_KEY_NAME).isEmpty()) {
+            return;
+        }
+        for (WebSocketEndpointBuildItem endpoint : endpoints) {
+            if (endpoint.inboundProcessingMode == InboundProcessingMode.KEYED) {
+                validationErrors.produce(new ValidationErrorBuildItem(new WebSocketException(String.format(
+                        "Endpoint %s uses the keyed inbound processing mode but no %s bean is defined",
+                        endpoint.beanClassName(), InboundMessageKey.class.getSimpleName()))));
+            }
+        }
+    }
+
     @BuildStep
     List<ValidationPhaseBuildItem.ValidationErrorBuildItem> validateHttpUpgradeCheckNotRequestScoped(
             ValidationPhaseBuildItem validationPhase) {
@@ -1223,6 +1255,13 @@ static String generateEndpoint(WebSocketEndpointBuildItem endpoint, TransformedA
                 mc.body(bc -> bc.return_(Const.of(endpoint.inboundProcessingMode)));
             });
 
+            if (endpoint.maxConcurrency > 0) {
+                cc.method("maxConcurrency", mc -> {
+                    mc.returning(int.class);
+                    mc.body(bc -> bc.return_(Const.of(endpoint.maxConcurrency)));
+                });
+            }
+
             cc.method("beanIdentifier", mc -> {
                 mc.returning(String.class);
                 mc.body(bc -> bc.return_(Const.of(endpoint.bean.getIdentifier())));
@@ -0,0 +1,76 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.quarkus.websockets.next.test.utils.WSClient.ReceiverMode;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+public class BroadcastCoalescingTest {
+
+    private static final String LARGE = "x".repeat(2500);
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Ticker.class, Tick.class, WSClient.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.write-coalescing-window", "50ms")
+            // The large message is sent in three frames
+            .overrideConfigKey("quarkus.websockets-next.server.max-frame-size", "1000");
+
+    @TestHTTPResource("ticker")
+    URI tickerUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testBroadcast() {
+        try (WSClient textClient = WSClient.create(vertx, ReceiverMode.TEXT).connect(tickerUri);
+                WSClient binaryClient = WSClient.create(vertx, ReceiverMode.BINARY).connect(tickerUri)) {
+            textClient.send("hello");
+            textClient.waitForMessages(4);
+            binaryClient.waitForMessages(1);
+            assertEquals(List.of("hello", "{\"value\":\"hello\"}", LARGE, "done"),
+                    textClient.getMessages().stream().map(Buffer::toString).toList());
+            assertEquals("hello", binaryClient.getMessages().get(0).toString());
+        }
+    }
+
+    @WebSocket(path = "/ticker")
+    public static class Ticker {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> onMessage(String message) {
+            return connection.broadcast().sendText(message)
+                    .chain(() -> connection.broadcast().sendText(new Tick(message)))
+                    .chain(() -> connection.broadcast().sendText(LARGE))
+                    .chain(() -> connection.broadcast().sendBinary(Buffer.buffer(message)))
+                    .chain(() -> connection.sendText("done"));
+        }
+
+    }
+
+    public record Tick(String value) {
+    }
+
+}
@@ -0,0 +1,235 @@
+package io.quarkus.websockets.next.test.compression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.http.WebSocketClientOptions;
+
+public class PerMessageCompressionTest {
+
+    private static final String LARGE = "Lorem ipsum dolor sit amet. ".repeat(200);
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Echo.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.compression-threshold", "100")
+            .overrideConfigKey("quarkus.websockets-next.server.compression-context-takeover", "false")
+            // The large message is sent in several frames
+            .overrideConfigKey("quarkus.websockets-next.server.max-frame-size", "1000");
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("echo")
+    URI echoUri;
+
+    @Test
+    void testCompression() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient(new WebSocketClientOptions()
+                .setTryUsePerMessageCompression(true)
+                .setMaxFrameSize(1000));
+        try {
+            List<String> messages = new CopyOnWriteArrayList<>();
+            var webSocket = client.connect(echoUri.getPort(), echoUri.getHost(), echoUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            String extensions = webSocket.headers().get("sec-websocket-extensions");
+            assertTrue(extensions.contains("permessage-deflate"), extensions);
+            assertTrue(extensions.contains("client_no_context_takeover"), extensions);
+
+            webSocket.textMessageHandler(messages::add);
+            // Below the threshold, sent uncompressed
+            webSocket.writeTextMessage("hello");
+            // Above the threshold, compressed in several frames
+            webSocket.writeTextMessage(LARGE);
+            webSocket.writeTextMessage(LARGE);
+            webSocket.writeTextMessage("bye");
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> messages.size() == 4);
+            assertEquals(List.of("hello", LARGE, LARGE, "bye"), messages);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    void testFrames() throws Exception {
+        // A plain socket is used as the Vert.x client only sees the frames once they're decompressed
+        try (Socket socket = new Socket(echoUri.getHost(), echoUri.getPort())) {
+            socket.setSoTimeout(10_000);
+            OutputStream out = socket.getOutputStream();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            out.write(("GET " + echoUri.getPath() + " HTTP/1.1\r\n"
+                    + "Host: " + echoUri.getHost() + ":" + echoUri.getPort() + "\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                    + "Sec-WebSocket-Version: 13\r\n"
+                    + "Sec-WebSocket-Extensions: permessage-deflate\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            String response = readResponseHead(in);
+            assertTrue(response.startsWith("HTTP/1.1 101"), response);
+            assertTrue(response.toLowerCase().contains("permessage-deflate"), response);
+
+            // Below the threshold, sent with RSV1 unset
+            sendText(out, "hello");
+            Message message = readMessage(in);
+            assertFalse(message.compressed());
+            assertEquals("hello", message.text());
+
+            // Above the threshold, compressed in several frames. Each message is inflated with a new inflater, which
+            // fails unless the deflater was reset after the previous message
+            for (int i = 0; i < 2; i++) {
+                sendText(out, LARGE);
+                message = readMessage(in);
+                assertTrue(message.compressed());
+                assertTrue(message.frames() > 1, "frames: " + message.frames());
+                assertTrue(message.payload().length < LARGE.length(), "payload: " + message.payload().length);
+                assertEquals(LARGE, message.text());
+            }
+
+            sendText(out, "bye");
+            message = readMessage(in);
+            assertFalse(message.compressed());
+            assertEquals("bye", message.text());
+        }
+    }
+
+    private static String readResponseHead(InputStream in) throws IOException {
+        StringBuilder head = new StringBuilder();
+        while (head.indexOf("\r\n\r\n") < 0) {
+            int b = in.read();
+            if (b < 0) {
+                break;
+            }
+            head.append((char) b);
+        }
+        return head.toString();
+    }
+
+    private static void sendText(OutputStream out, String text) throws IOException {
+        // The frames sent by the client are masked, and limited to the max frame size of the server
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        int offset = 0;
+        do {
+            int length = Math.min(1000, data.length - offset);
+            boolean last = offset + length == data.length;
+            out.write((last ? 0x80 : 0x00) | (offset == 0 ? 0x1 : 0x0));
+            if (length < 126) {
+                out.write(0x80 | length);
+            } else {
+                out.write(0x80 | 126);
+                out.write(length >> 8);
+                out.write(length & 0xff);
+            }
+            byte[] mask = new byte[4];
+            ThreadLocalRandom.current().nextBytes(mask);
+            out.write(mask);
+            for (int i = 0; i < length; i++) {
+                out.write(data[offset + i] ^ mask[i % 4]);
+            }
+            offset += length;
+        } while (offset < data.length);
+        out.flush();
+    }
+
+    private static Message readMessage(DataInputStream in) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        boolean compressed = false;
+        int frames = 0;
+        boolean fin;
+        do {
+            int b0 = in.readUnsignedByte();
+            fin = (b0 & 0x80) != 0;
+            boolean rsv1 = (b0 & 0x40) != 0;
+            int opcode = b0 & 0x0f;
+            if (frames == 0) {
+                assertEquals(0x1, opcode);
+                compressed = rsv1;
+            } else {
+                assertEquals(0x0, opcode);
+                // Only the first frame of a message has the RSV1 bit set
+                assertFalse(rsv1);
+            }
+            int length = in.readUnsignedByte() & 0x7f;
+            if (length == 126) {
+                length = in.readUnsignedShort();
+            } else if (length == 127) {
+                length = (int) in.readLong();
+            }
+            byte[] data = new byte[length];
+            in.readFully(data);
+            payload.write(data);
+            frames++;
+        } while (!fin);
+        return new Message(compressed, frames, payload.toByteArray());
+    }
+
+    record Message(boolean compressed, int frames, byte[] payload) {
+
+        String text() {
+            if (!compressed) {
+                return new String(payload, StandardCharsets.UTF_8);
+            }
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(payload);
+                // The 0x00 0x00 0xff 0xff tail removed by the sender, see RFC 7692 section 7.2.2
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = inflater.inflate(buffer)) > 0) {
+                    out.write(buffer, 0, read);
+                }
+                inflater.setInput(new byte[] { 0x00, 0x00, (byte) 0xff, (byte) 0xff });
+                while ((read = inflater.inflate(buffer)) > 0) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toString(StandardCharsets.UTF_8);
+            } catch (DataFormatException e) {
+                throw new AssertionError(e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    @WebSocket(path = "/echo")
+    public static class Echo {
+
+        @OnTextMessage
+        String process(String message) {
+            return message;
+        }
+
+    }
+
+}
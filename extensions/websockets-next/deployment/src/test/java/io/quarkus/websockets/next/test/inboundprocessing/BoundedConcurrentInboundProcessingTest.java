@@ -0,0 +1,78 @@
+package io.quarkus.websockets.next.test.inboundprocessing;
+
+import static io.quarkus.websockets.next.InboundProcessingMode.CONCURRENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.vertx.core.Vertx;
+
+public class BoundedConcurrentInboundProcessingTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Bounded.class, WSClient.class);
+            });
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("bounded")
+    URI boundedUri;
+
+    @Test
+    void testMaxConcurrency() {
+        try (WSClient client = WSClient.create(vertx).connect(boundedUri)) {
+            for (int i = 0; i < 6; i++) {
+                client.send(String.valueOf(i));
+            }
+            client.waitForMessages(6);
+            for (int i = 0; i < 6; i++) {
+                assertEquals("ok", client.getMessages().get(i).toString());
+            }
+            // The first two messages are processed concurrently, the other messages are queued meanwhile
+            assertEquals(2, Bounded.MAX_RUNNING.get());
+        }
+    }
+
+    @WebSocket(path = "/bounded", inboundProcessingMode = CONCURRENT, maxConcurrency = 2)
+    public static class Bounded {
+
+        static final AtomicInteger RUNNING = new AtomicInteger();
+
+        static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+
+        private final CountDownLatch latch = new CountDownLatch(2);
+
+        @OnTextMessage
+        String process(String message) throws InterruptedException {
+            int running = RUNNING.incrementAndGet();
+            MAX_RUNNING.accumulateAndGet(running, Math::max);
+            try {
+                latch.countDown();
+                // Wait for the second message, and give the queued messages a chance to run if the limit is ignored
+                latch.await(10, TimeUnit.SECONDS);
+                TimeUnit.MILLISECONDS.sleep(50);
+                return "ok";
+            } finally {
+                RUNNING.decrementAndGet();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.quarkus.websockets.next.test.inboundprocessing;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+public class InboundQueueLimitTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Slow.class, WSClient.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.inbound-queue-limit", "4")
+            .overrideConfigKey("quarkus.log.category.\"io.quarkus.websockets.next.runtime\".level", "DEBUG")
+            .setLogRecordPredicate(r -> r.getLoggerName().equals("io.quarkus.websockets.next.runtime.WebSocketEndpointBase"));
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("slow")
+    URI slowUri;
+
+    @Test
+    void testReadingPausedAndResumed() {
+        try (WSClient client = WSClient.create(vertx).connect(slowUri)) {
+            for (int i = 0; i < 10; i++) {
+                client.send(String.valueOf(i));
+            }
+            // The first message blocks the processing, the fifth message exceeds the limit
+            await().until(() -> messages().stream().anyMatch(m -> m.startsWith("Inbound queue limit of")));
+            assertTrue(messages().stream().noneMatch(m -> m.startsWith("Inbound queue drained")), messages().toString());
+
+            Slow.RELEASE.countDown();
+            client.waitForMessages(10);
+            // Reading resumed once the number of pending messages dropped to 2
+            assertTrue(messages().stream().anyMatch(m -> m.startsWith("Inbound queue drained")), messages().toString());
+            List<String> received = client.getMessages().stream().map(Buffer::toString).toList();
+            for (int i = 0; i < 10; i++) {
+                assertEquals(String.valueOf(i), received.get(i));
+            }
+        }
+    }
+
+    private static List<String> messages() {
+        return test.getLogRecords().stream().map(LogRecord::getMessage).toList();
+    }
+
+    @WebSocket(path = "/slow")
+    public static class Slow {
+
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+        @OnTextMessage
+        String process(String message) throws InterruptedException {
+            if (message.equals("0")) {
+                RELEASE.await(10, TimeUnit.SECONDS);
+            }
+            return message;
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.quarkus.websockets.next.test.inboundprocessing;
+
+import static io.quarkus.websockets.next.InboundProcessingMode.KEYED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.Connection;
+import io.quarkus.websockets.next.InboundMessageKey;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+public class KeyedInboundProcessingTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Orders.class, OrderKey.class, WSClient.class);
+            });
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("orders")
+    URI ordersUri;
+
+    @Test
+    void testKeyedExecution() {
+        try (WSClient client = WSClient.create(vertx).connect(ordersUri)) {
+            client.send("a:1");
+            client.send("b:1");
+            client.send("c:1");
+            client.send("a:2");
+            client.waitForMessages(4);
+            List<String> messages = client.getMessages().stream().map(Buffer::toString).toList();
+            // a:2 is not processed before a:1 completes, even if a:1 waits for b:1
+            assertTrue(messages.indexOf("a:1") < messages.indexOf("a:2"), messages.toString());
+            assertEquals(2, Orders.MAX_RUNNING.get());
+        }
+    }
+
+    @WebSocket(path = "/orders", inboundProcessingMode = KEYED, maxConcurrency = 2)
+    public static class Orders {
+
+        static final AtomicInteger RUNNING = new AtomicInteger();
+
+        static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+
+        private final CountDownLatch latch = new CountDownLatch(2);
+
+        @OnTextMessage
+        String process(String message) throws InterruptedException {
+            int running = RUNNING.incrementAndGet();
+            MAX_RUNNING.accumulateAndGet(running, Math::max);
+            try {
+                if (message.endsWith(":1")) {
+                    // The first messages of a and b are processed concurrently
+                    latch.countDown();
+                    latch.await(10, TimeUnit.SECONDS);
+                }
+                return message;
+            } finally {
+                RUNNING.decrementAndGet();
+            }
+        }
+
+    }
+
+    @Singleton
+    public static class OrderKey implements InboundMessageKey {
+
+        @Override
+        public Object key(Connection connection, Object message) {
+            String text = message.toString();
+            return text.substring(0, text.indexOf(':'));
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.quarkus.websockets.next.test.openconnections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class TaggedConnectionsTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Room.class, WSClient.class);
+            });
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("room/a")
+    URI roomAUri;
+
+    @TestHTTPResource("room/b")
+    URI roomBUri;
+
+    @Inject
+    OpenConnections connections;
+
+    @Test
+    void testTaggedBroadcast() {
+        try (WSClient a1 = WSClient.create(vertx).connect(roomAUri);
+                WSClient a2 = WSClient.create(vertx).connect(roomAUri);
+                WSClient b1 = WSClient.create(vertx).connect(roomBUri)) {
+
+            a1.waitForMessages(1);
+            a2.waitForMessages(1);
+            b1.waitForMessages(1);
+
+            assertEquals(2, connections.findByTag("a").size());
+            assertEquals(1, connections.findByTag("b").size());
+            assertEquals(3, connections.findByEndpointId("room").size());
+            for (WebSocketConnection connection : connections.findByTag("a")) {
+                assertEquals(Set.of("a"), connection.tags());
+            }
+
+            a1.send("hello");
+            a1.waitForMessages(2);
+            a2.waitForMessages(2);
+            assertEquals("hello", a1.getLastMessage().toString());
+            assertEquals("hello", a2.getLastMessage().toString());
+
+            b1.send("bye");
+            b1.waitForMessages(2);
+            assertEquals("bye", b1.getLastMessage().toString());
+            assertEquals(2, a1.getMessages().size());
+            assertEquals(2, a2.getMessages().size());
+        }
+        // The tags are removed with the connection
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> connections.findByTag("a").isEmpty());
+        assertTrue(connections.findByTag("b").isEmpty());
+    }
+
+    @WebSocket(path = "/room/{room}", endpointId = "room")
+    public static class Room {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnOpen
+        String open() {
+            connection.tag(connection.pathParam("room"));
+            return "joined";
+        }
+
+        @OnTextMessage
+        Uni<Void> message(String message) {
+            return connection.broadcast().tagged(connection.pathParam("room")).sendText(message);
+        }
+
+    }
+
+}
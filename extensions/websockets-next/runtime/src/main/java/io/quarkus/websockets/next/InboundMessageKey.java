@@ -0,0 +1,24 @@
+package io.quarkus.websockets.next;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Computes the key of an incoming message for endpoints that use the {@link InboundProcessingMode#KEYED} processing mode.
+ * Messages with the same key are processed serially, in the order they were received.
+ * <p>
+ * The implementation must be a CDI bean. It is shared by all the endpoints that use the keyed processing mode, and it's
+ * invoked on the event loop before the message is decoded. Therefore, it must be fast and thread-safe.
+ *
+ * @see InboundProcessingMode#KEYED
+ */
+public interface InboundMessageKey {
+
+    /**
+     *
+     * @param connection the connection that received the message
+     * @param message the raw message, i.e. a {@link String} for a text message and a {@link Buffer} for a binary message
+     * @return the key of the message, or {@code null} if the message is not ordered with respect to any other message
+     */
+    Object key(Connection connection, Object message);
+
+}
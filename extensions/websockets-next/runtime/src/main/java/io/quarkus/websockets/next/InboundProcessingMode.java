@@ -20,4 +20,13 @@ public enum InboundProcessingMode {
      */
     CONCURRENT,
 
+    /**
+     * Text and binary messages with the same key are processed serially, in the order they were received. Messages with
+     * different keys and all other events are processed concurrently.
+     * <p>
+     * The key of a message is computed by the {@link InboundMessageKey} bean. A message without a key is not ordered with
+     * respect to any other message.
+     */
+    KEYED,
+
 }
@@ -44,6 +44,17 @@ default Optional<WebSocketConnection> findByConnectionId(String connectionId) {
         return stream().filter(c -> c.id().equals(connectionId)).findFirst();
     }
 
+    /**
+     * Returns an immutable snapshot of all open connections with the given tag.
+     *
+     * @param tag
+     * @return an immutable collection of all open connections with the given tag
+     * @see WebSocketConnection#tag(String)
+     */
+    default Collection<WebSocketConnection> findByTag(String tag) {
+        return stream().filter(c -> c.tags().contains(tag)).toList();
+    }
+
     /**
      * Returns the stream of all open connections at the given time.
      *
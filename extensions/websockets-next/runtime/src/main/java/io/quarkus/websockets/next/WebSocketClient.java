@@ -49,6 +49,15 @@
      */
     public InboundProcessingMode inboundProcessingMode() default InboundProcessingMode.SERIAL;
 
+    /**
+     * The maximum number of events processed concurrently for a specific connection if the
+     * {@link #inboundProcessingMode()} is {@link InboundProcessingMode#CONCURRENT} or {@link InboundProcessingMode#KEYED}.
+     * The events received while the limit is reached are queued.
+     * <p>
+     * By default, the number of events processed concurrently is not limited.
+     */
+    public int maxConcurrency() default 0;
+
     /**
      * Constant value for {@link #clientId()} indicating that the fully qualified name of the annotated class should be used.
      */
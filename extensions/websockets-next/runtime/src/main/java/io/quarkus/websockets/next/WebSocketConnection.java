@@ -36,6 +36,33 @@ public interface WebSocketConnection extends Connection {
      */
     Set<WebSocketConnection> getOpenConnections();
 
+    /**
+     * Adds a tag to this connection, e.g. the topic or the room the client subscribed to. The connections are indexed by
+     * tag, so that sending messages to the connections with a given tag does not iterate over all the open connections.
+     * <p>
+     * The tags are removed when the connection is closed.
+     *
+     * @param tag
+     * @return this connection
+     * @see BroadcastSender#tagged(String)
+     * @see OpenConnections#findByTag(String)
+     */
+    WebSocketConnection tag(String tag);
+
+    /**
+     * Removes a tag from this connection.
+     *
+     * @param tag
+     * @return this connection
+     */
+    WebSocketConnection untag(String tag);
+
+    /**
+     *
+     * @return an immutable snapshot of the tags of this connection
+     */
+    Set<String> tags();
+
     /**
      * Makes it possible to send messages to all clients connected to the same WebSocket endpoint.
      *
@@ -51,6 +78,15 @@ interface BroadcastSender extends Sender {
          */
         BroadcastSender filter(Predicate<WebSocketConnection> predicate);
 
+        /**
+         *
+         * @param tag
+         * @return a new sender that sends messages to all open clients connected to the same WebSocket endpoint and tagged
+         *         with the given tag; only the tagged connections are visited
+         * @see WebSocketConnection#tag(String)
+         */
+        BroadcastSender tagged(String tag);
+
     }
 
 }
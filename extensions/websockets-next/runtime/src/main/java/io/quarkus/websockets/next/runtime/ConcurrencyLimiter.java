@@ -1,6 +1,7 @@
 package io.quarkus.websockets.next.runtime;
 
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.logging.Logger;
@@ -12,22 +13,35 @@
 
 /**
  * Used to limit concurrent invocations.
+ * <p>
+ * At most {@code maxConcurrency} actions run at the same time; the other actions are queued and run in the order they
+ * were submitted.
  */
 class ConcurrencyLimiter {
 
     private static final Logger LOG = Logger.getLogger(ConcurrencyLimiter.class);
 
     private final WebSocketConnectionBase connection;
+    private final int maxConcurrency;
     private final Queue<Action> queue;
     private final AtomicLong uncompleted;
     private final AtomicLong queueCounter;
 
     ConcurrencyLimiter(WebSocketConnectionBase connection) {
+        this(connection, 1);
+    }
+
+    ConcurrencyLimiter(WebSocketConnectionBase connection, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The max concurrency must be greater than zero: " + maxConcurrency);
+        }
         this.connection = connection;
+        this.maxConcurrency = maxConcurrency;
         this.uncompleted = new AtomicLong();
         // Counter is only used for debugging
         this.queueCounter = LOG.isDebugEnabled() ? new AtomicLong() : null;
-        this.queue = Queues.createMpscQueue();
+        // A queued action can be polled from multiple threads concurrently if more than one action is in flight
+        this.queue = maxConcurrency == 1 ? Queues.createMpscQueue() : new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -56,7 +70,7 @@ void run(Context context, Runnable action) {
             LOG.debugf("Action queued as %s: %s", queueIndex, connection);
             queue.offer(new Action(queueIndex, action, context));
             // We need to make sure that at least one completion is in flight
-            if (uncompleted.getAndIncrement() == 0) {
+            if (uncompleted.getAndIncrement() < maxConcurrency) {
                 Action queuedAction = queue.poll();
                 assert queuedAction != null;
                 LOG.debugf("Run action %s from queue: %s", queuedAction.queueIndex, connection);
@@ -90,7 +104,8 @@ void complete() {
         }
 
         private void tryNext() {
-            if (uncompleted.decrementAndGet() == 0) {
+            if (uncompleted.getAndDecrement() <= maxConcurrency) {
+                // No action is waiting in the queue
                 return;
             }
             Action queuedAction = queue.poll();
@@ -1,7 +1,10 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -14,12 +17,17 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.channel.EventLoop;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.websockets.next.Closed;
 import io.quarkus.websockets.next.Open;
 import io.quarkus.websockets.next.OpenConnections;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
 
 @Singleton
 public class ConnectionManager implements OpenConnections {
@@ -27,7 +35,13 @@ public class ConnectionManager implements OpenConnections {
     private static final Logger LOG = Logger.getLogger(ConnectionManager.class);
 
     // generatedEndpointClassName -> open connections
-    private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, EndpointConnections> endpointToConnections = new ConcurrentHashMap<>();
+
+    // endpointId -> open connections
+    private final ConcurrentMap<String, EndpointConnections> endpointIdToConnections = new ConcurrentHashMap<>();
+
+    // connectionId -> shard of the connection
+    private final ConcurrentMap<String, Registration> connections = new ConcurrentHashMap<>();
 
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
@@ -50,12 +64,55 @@ public Iterator<WebSocketConnection> iterator() {
 
     @Override
     public Stream<WebSocketConnection> stream() {
-        return endpointToConnections.values().stream().flatMap(Set::stream).filter(WebSocketConnection::isOpen);
+        return endpointToConnections.values().stream().flatMap(e -> e.all.stream()).filter(WebSocketConnection::isOpen);
+    }
+
+    @Override
+    public Collection<WebSocketConnection> findByEndpointId(String endpointId) {
+        EndpointConnections endpointConnections = endpointIdToConnections.get(endpointId);
+        if (endpointConnections == null) {
+            return List.of();
+        }
+        return endpointConnections.all.stream().filter(WebSocketConnection::isOpen).toList();
+    }
+
+    @Override
+    public Optional<WebSocketConnection> findByConnectionId(String connectionId) {
+        Registration registration = connections.get(connectionId);
+        if (registration == null || registration.connection.isClosed()) {
+            return Optional.empty();
+        }
+        return Optional.of(registration.connection);
+    }
+
+    @Override
+    public Collection<WebSocketConnection> findByTag(String tag) {
+        List<WebSocketConnection> ret = new ArrayList<>();
+        for (EndpointConnections endpointConnections : endpointToConnections.values()) {
+            for (Shard shard : endpointConnections.shards.values()) {
+                for (WebSocketConnection connection : shard.connections(tag)) {
+                    if (connection.isOpen()) {
+                        ret.add(connection);
+                    }
+                }
+            }
+        }
+        return List.copyOf(ret);
     }
 
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
-        if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
+        EndpointConnections endpointConnections = endpointToConnections.computeIfAbsent(endpoint,
+                e -> new EndpointConnections());
+        endpointIdToConnections.putIfAbsent(connection.endpointId(), endpointConnections);
+        if (endpointConnections.all.add(connection)) {
+            // Connections are added on the event loop that handles them
+            Shard shard = endpointConnections.shard(Vertx.currentContext());
+            shard.connections.add(connection);
+            connections.put(connection.id(), new Registration(connection, shard));
+            for (String tag : connection.tags()) {
+                shard.tag(connection, tag);
+            }
             if (openEvent != null) {
                 openEvent.fireAsync(connection);
             }
@@ -74,9 +131,16 @@ void add(String endpoint, WebSocketConnection connection) {
 
     void remove(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Remove connection: %s", connection);
-        Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
-        if (connections != null) {
-            if (connections.remove(connection)) {
+        EndpointConnections endpointConnections = endpointToConnections.get(endpoint);
+        if (endpointConnections != null) {
+            if (endpointConnections.all.remove(connection)) {
+                Registration registration = connections.remove(connection.id());
+                if (registration != null) {
+                    registration.shard.connections.remove(connection);
+                    for (String tag : connection.tags()) {
+                        registration.shard.untag(connection, tag);
+                    }
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -100,11 +164,42 @@ void remove(String endpoint, WebSocketConnection connection) {
      * @return the connections for the given endpoint, never {@code null}
      */
     public Set<WebSocketConnection> getConnections(String endpoint) {
-        Set<WebSocketConnection> ret = endpointToConnections.get(endpoint);
+        EndpointConnections ret = endpointToConnections.get(endpoint);
         if (ret == null) {
             return Set.of();
         }
-        return ret;
+        return ret.all;
+    }
+
+    /**
+     *
+     * @param endpoint
+     * @return the connections for the given endpoint, grouped by the event loop that handles them, never {@code null}
+     */
+    Collection<Shard> getShards(String endpoint) {
+        EndpointConnections ret = endpointToConnections.get(endpoint);
+        if (ret == null) {
+            return List.of();
+        }
+        return ret.shards.values();
+    }
+
+    void tag(WebSocketConnection connection, String tag) {
+        Registration registration = connections.get(connection.id());
+        if (registration != null) {
+            registration.shard.tag(connection, tag);
+            if (!connections.containsKey(connection.id())) {
+                // Removed concurrently
+                registration.shard.untag(connection, tag);
+            }
+        }
+    }
+
+    void untag(WebSocketConnection connection, String tag) {
+        Registration registration = connections.get(connection.id());
+        if (registration != null) {
+            registration.shard.untag(connection, tag);
+        }
     }
 
     public void addListener(ConnectionListener listener) {
@@ -114,6 +209,101 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        endpointIdToConnections.clear();
+        connections.clear();
+    }
+
+    private static final class EndpointConnections {
+
+        private final Set<WebSocketConnection> all = ConcurrentHashMap.newKeySet();
+
+        // event loop -> connections handled by the event loop
+        private final ConcurrentMap<Object, Shard> shards = new ConcurrentHashMap<>();
+
+        Shard shard(Context context) {
+            // Connections added outside of an event loop, if any, share the same shard
+            Object key = context instanceof ContextInternal ? ((ContextInternal) context).nettyEventLoop() : this;
+            return shards.computeIfAbsent(key, k -> new Shard(context));
+        }
+
+    }
+
+    private record Registration(WebSocketConnection connection, Shard shard) {
+    }
+
+    /**
+     * The connections of an endpoint handled by the same event loop, indexed by tag.
+     */
+    static final class Shard {
+
+        private final Context context;
+
+        private final EventLoop eventLoop;
+
+        private final Set<WebSocketConnection> connections = ConcurrentHashMap.newKeySet();
+
+        // tag -> tagged connections
+        private final ConcurrentMap<String, Set<WebSocketConnection>> tagged = new ConcurrentHashMap<>();
+
+        Shard(Context context) {
+            if (context instanceof ContextInternal) {
+                ContextInternal contextInternal = (ContextInternal) context;
+                // The connections are added on their duplicated contexts, the tasks of the shard run on the event loop
+                // context instead so that they do not see the local data of the first connection
+                this.context = contextInternal.unwrap();
+                this.eventLoop = contextInternal.nettyEventLoop();
+            } else {
+                this.context = context;
+                this.eventLoop = null;
+            }
+        }
+
+        /**
+         *
+         * @param tag
+         * @return the connections with the given tag, or all the connections if the tag is {@code null}
+         */
+        Set<WebSocketConnection> connections(String tag) {
+            if (tag == null) {
+                return connections;
+            }
+            Set<WebSocketConnection> ret = tagged.get(tag);
+            return ret == null ? Set.of() : ret;
+        }
+
+        /**
+         * Executes the task on the event loop of this shard, or on the current thread if it is the event loop already.
+         */
+        void execute(Runnable task) {
+            if (eventLoop == null || eventLoop.inEventLoop()) {
+                task.run();
+            } else {
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        task.run();
+                    }
+                });
+            }
+        }
+
+        private void tag(WebSocketConnection connection, String tag) {
+            tagged.compute(tag, (t, set) -> {
+                if (set == null) {
+                    set = ConcurrentHashMap.newKeySet();
+                }
+                set.add(connection);
+                return set;
+            });
+        }
+
+        private void untag(WebSocketConnection connection, String tag) {
+            tagged.computeIfPresent(tag, (t, set) -> {
+                set.remove(connection);
+                return set.isEmpty() ? null : set;
+            });
+        }
+
     }
 
     public interface ConnectionListener {
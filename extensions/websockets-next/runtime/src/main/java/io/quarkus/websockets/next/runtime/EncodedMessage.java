@@ -0,0 +1,49 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A message encoded once and written to many connections, e.g. when broadcasting.
+ * <p>
+ * The content is an unpooled heap buffer shared by all the frames: each write gets its own retained duplicate, which is
+ * released by Netty once the frame is written. The shared reference itself is never released, the memory is reclaimed by
+ * the GC once the last frame is written.
+ */
+final class EncodedMessage {
+
+    final boolean text;
+
+    // The original message, passed to the traffic logger and to the sending interceptor
+    final String textMessage;
+    final Buffer binaryMessage;
+
+    private final ByteBuf content;
+
+    private EncodedMessage(boolean text, String textMessage, Buffer binaryMessage, ByteBuf content) {
+        this.text = text;
+        this.textMessage = textMessage;
+        this.binaryMessage = binaryMessage;
+        this.content = content;
+    }
+
+    static EncodedMessage text(String message) {
+        return new EncodedMessage(true, message, null,
+                Unpooled.wrappedBuffer(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static EncodedMessage binary(Buffer message) {
+        return new EncodedMessage(false, null, message, Unpooled.wrappedBuffer(message.getBytes()));
+    }
+
+    /**
+     * @return a new reference to the content, with its own indexes; the caller is responsible for releasing it
+     */
+    ByteBuf content() {
+        return content.retainedDuplicate();
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.quarkus.websockets.next.runtime;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.netty.channel.ChannelPipeline;
+import io.quarkus.vertx.http.runtime.compression.DeflaterPool;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.impl.WebSocketInternal;
+
+/**
+ * Installs the {@link PerMessageDeflateFrameEncoder} on the server connections that negotiated the permessage-deflate
+ * extension, if a compression threshold, the compression without context takeover or the compression metrics are used.
+ */
+@Singleton
+public class PerMessageCompression {
+
+    private static final Logger LOG = Logger.getLogger(PerMessageCompression.class);
+
+    // The name of the encoder added by the Netty WebSocketServerExtensionHandler
+    private static final String NETTY_ENCODER_NAME = "io.netty.handler.codec.http.websocketx.extensions.compression."
+            + "PerMessageDeflateEncoder";
+
+    private static final String ENCODER_NAME = "quarkusPerMessageDeflateEncoder";
+
+    private final int compressionLevel;
+    private final int threshold;
+    private final DeflaterPool pool;
+
+    PerMessageCompression(WebSocketsServerRuntimeConfig config) {
+        this.compressionLevel = config.compressionLevel().orElse(HttpServerOptions.DEFAULT_WEBSOCKET_COMPRESSION_LEVEL);
+        this.threshold = config.compressionThreshold().orElse(0);
+        this.pool = config.compressionContextTakeover() ? null
+                : new DeflaterPool(config.compressionDeflaterPoolSize());
+    }
+
+    void install(ServerWebSocket webSocket, SendingInterceptor sendingInterceptor) {
+        if (threshold <= 0 && pool == null && sendingInterceptor == null) {
+            // The default Netty encoder is used
+            return;
+        }
+        ChannelPipeline pipeline = ((WebSocketInternal) webSocket).channelHandlerContext().pipeline();
+        if (pipeline.get(NETTY_ENCODER_NAME) == null) {
+            // The extension was not negotiated
+            return;
+        }
+        pipeline.replace(NETTY_ENCODER_NAME, ENCODER_NAME,
+                new PerMessageDeflateFrameEncoder(compressionLevel, threshold, pool, sendingInterceptor));
+        LOG.debugf("Per-message compression encoder installed [pooled=%s, threshold=%s]", pool != null, threshold);
+    }
+
+}
@@ -0,0 +1,133 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.List;
+import java.util.zip.Deflater;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.quarkus.vertx.http.runtime.compression.DeflaterPool;
+import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+
+/**
+ * Compresses the outbound data frames of a connection with the negotiated permessage-deflate extension. It replaces the
+ * Netty encoder to support a compression threshold, deflaters shared between connections and compression metrics.
+ * <p>
+ * A message that consists of a single frame smaller than the threshold is sent uncompressed, i.e. with the RSV1 bit unset,
+ * as permitted by <a href="https://datatracker.ietf.org/doc/html/rfc7692#section-6.1">RFC 7692</a>. If the deflater pool is
+ * set, a deflater is acquired for each message and released once the final frame is compressed; the compression context is
+ * not kept between messages. Otherwise, the connection owns a deflater until it's closed.
+ */
+final class PerMessageDeflateFrameEncoder extends MessageToMessageEncoder<WebSocketFrame> {
+
+    private static final int TAIL_LENGTH = 4;
+
+    private final int compressionLevel;
+    private final int threshold;
+    private final DeflaterPool pool;
+    private final SendingInterceptor sendingInterceptor;
+
+    // Only accessed from the event loop of the connection
+    private Deflater deflater;
+    // A fragmented message is being compressed
+    private boolean compressing;
+
+    PerMessageDeflateFrameEncoder(int compressionLevel, int threshold, DeflaterPool pool,
+            SendingInterceptor sendingInterceptor) {
+        this.compressionLevel = compressionLevel;
+        this.threshold = threshold;
+        this.pool = pool;
+        this.sendingInterceptor = sendingInterceptor;
+    }
+
+    @Override
+    public boolean acceptOutboundMessage(Object msg) throws Exception {
+        if (!super.acceptOutboundMessage(msg)) {
+            return false;
+        }
+        WebSocketFrame frame = (WebSocketFrame) msg;
+        if (frame instanceof TextWebSocketFrame || frame instanceof BinaryWebSocketFrame) {
+            // Frames with the RSV1 bit set are already compressed
+            return (frame.rsv() & WebSocketExtension.RSV1) == 0;
+        }
+        return compressing && frame instanceof ContinuationWebSocketFrame;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, WebSocketFrame frame, List<Object> out) {
+        ByteBuf content = frame.content();
+        if (!compressing && frame.isFinalFragment() && content.readableBytes() < threshold) {
+            out.add(frame.retain());
+            return;
+        }
+        if (deflater == null) {
+            // permessage-deflate uses the raw DEFLATE format, i.e. without the zlib header and checksum
+            deflater = pool != null ? pool.acquire(compressionLevel, true) : new Deflater(compressionLevel, true);
+        }
+        long start = sendingInterceptor != null ? System.nanoTime() : 0;
+        int length = content.readableBytes();
+        ByteBuf compressed = deflate(ctx, content, frame.isFinalFragment());
+        if (sendingInterceptor != null) {
+            sendingInterceptor.onCompressed(length, compressed.readableBytes(), System.nanoTime() - start);
+        }
+        if (frame instanceof TextWebSocketFrame) {
+            out.add(new TextWebSocketFrame(frame.isFinalFragment(), frame.rsv() | WebSocketExtension.RSV1, compressed));
+        } else if (frame instanceof BinaryWebSocketFrame) {
+            out.add(new BinaryWebSocketFrame(frame.isFinalFragment(), frame.rsv() | WebSocketExtension.RSV1, compressed));
+        } else {
+            // Only the first frame of a message has the RSV1 bit set
+            out.add(new ContinuationWebSocketFrame(frame.isFinalFragment(), frame.rsv(), compressed));
+        }
+        compressing = !frame.isFinalFragment();
+        if (!compressing && pool != null) {
+            pool.release(deflater, compressionLevel, true);
+            deflater = null;
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        if (deflater != null) {
+            if (pool != null) {
+                pool.release(deflater, compressionLevel, true);
+            } else {
+                deflater.end();
+            }
+            deflater = null;
+        }
+        super.handlerRemoved(ctx);
+    }
+
+    private ByteBuf deflate(ChannelHandlerContext ctx, ByteBuf content, boolean finalFragment) {
+        ByteBuf out = ctx.alloc().heapBuffer(Math.max(64, content.readableBytes() / 2));
+        deflater.setInput(content.nioBuffer());
+        int written;
+        int writable;
+        do {
+            out.ensureWritable(256);
+            writable = out.writableBytes();
+            written = deflater.deflate(out.nioBuffer(out.writerIndex(), writable), Deflater.SYNC_FLUSH);
+            out.writerIndex(out.writerIndex() + written);
+        } while (written == writable);
+        if (finalFragment && endsWithTail(out)) {
+            // The 0x00 0x00 0xff 0xff tail of the final sync flush is removed, see RFC 7692 section 7.2.1
+            out.writerIndex(out.writerIndex() - TAIL_LENGTH);
+        }
+        return out;
+    }
+
+    private static boolean endsWithTail(ByteBuf buf) {
+        int end = buf.writerIndex();
+        return buf.readableBytes() >= TAIL_LENGTH
+                && buf.getByte(end - 4) == 0x00
+                && buf.getByte(end - 3) == 0x00
+                && buf.getByte(end - 2) == (byte) 0xff
+                && buf.getByte(end - 1) == (byte) 0xff;
+    }
+
+}
@@ -1,13 +1,17 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 
 import javax.net.ssl.SSLSession;
 
 import org.jboss.logging.Logger;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
 import io.quarkus.vertx.utils.NoBoundChecksBuffer;
 import io.quarkus.websockets.next.CloseReason;
@@ -17,9 +21,13 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.SocketAddress;
@@ -58,6 +66,28 @@ public abstract class WebSocketConnectionBase implements Connection {
 
     abstract WebSocketBase webSocket();
 
+    /**
+     * @return the write coalescer of this connection, or {@code null} if each message is flushed immediately
+     */
+    WriteCoalescer writeCoalescer() {
+        return null;
+    }
+
+    /**
+     * @return the maximum size of a frame written by this connection; larger messages are fragmented
+     */
+    int maxFrameSize() {
+        return HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE;
+    }
+
+    /**
+     * @return the maximum number of inbound messages queued or processed before reading from the socket is paused, or zero
+     *         if not limited
+     */
+    int inboundQueueLimit() {
+        return 0;
+    }
+
     @Override
     public String id() {
         return identifier;
@@ -70,7 +100,10 @@ public String pathParam(String name) {
 
     @Override
     public Uni<Void> sendText(String message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeTextMessage(message).toCompletionStage());
+        Uni<Void> uni = writeCoalescer() == null
+                ? Uni.createFrom().completionStage(() -> webSocket().writeTextMessage(message).toCompletionStage())
+                : Uni.createFrom().completionStage(
+                        () -> writeContent(true, Unpooled.wrappedBuffer(message.getBytes(StandardCharsets.UTF_8))));
         if (sendingInterceptor != null) {
             uni = uni.invoke(() -> sendingInterceptor.onSend(message));
         }
@@ -81,7 +114,9 @@ public Uni<Void> sendText(String message) {
 
     @Override
     public Uni<Void> sendBinary(Buffer message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeBinaryMessage(message).toCompletionStage());
+        Uni<Void> uni = writeCoalescer() == null
+                ? Uni.createFrom().completionStage(() -> webSocket().writeBinaryMessage(message).toCompletionStage())
+                : Uni.createFrom().completionStage(() -> writeContent(false, Unpooled.wrappedBuffer(message.getBytes())));
         if (sendingInterceptor != null) {
             uni = uni.invoke(() -> sendingInterceptor.onSend(message));
         }
@@ -90,17 +125,66 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message));
+    }
+
+    String encodeText(Object message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Sends a message that was encoded once for many connections. The frames share the encoded content.
+     */
+    Uni<Void> sendEncoded(EncodedMessage message) {
+        Uni<Void> uni = Uni.createFrom().completionStage(() -> writeContent(message.text, message.content()));
+        if (sendingInterceptor != null) {
+            uni = uni.invoke(() -> {
+                if (message.text) {
+                    sendingInterceptor.onSend(message.textMessage);
+                } else {
+                    sendingInterceptor.onSend(message.binaryMessage);
+                }
+            });
+        }
+        return trafficLogger == null ? uni : uni.invoke(() -> {
+            if (message.text) {
+                trafficLogger.textMessageSent(this, message.textMessage);
+            } else {
+                trafficLogger.binaryMessageSent(this, message.binaryMessage);
+            }
+        });
+    }
+
+    private CompletionStage<Void> writeContent(boolean text, ByteBuf content) {
+        int maxFrameSize = maxFrameSize();
+        WriteCoalescer coalescer = writeCoalescer();
+        if (coalescer != null) {
+            return coalescer.write(text, content, maxFrameSize);
+        }
+        WebSocketBase ws = webSocket();
+        int length = content.readableBytes();
+        WebSocketFrameType type = text ? WebSocketFrameType.TEXT : WebSocketFrameType.BINARY;
+        if (length <= maxFrameSize) {
+            return ws.writeFrame(new WebSocketFrameImpl(type, content, true)).toCompletionStage();
+        }
+        // Fragment the message the same way as WebSocketBase#writeTextMessage() does
+        Future<Void> last = null;
+        for (int offset = 0; offset < length; offset += maxFrameSize) {
+            int size = Math.min(maxFrameSize, length - offset);
+            ByteBuf fragment = content.retainedSlice(content.readerIndex() + offset, size);
+            last = ws.writeFrame(new WebSocketFrameImpl(offset == 0 ? type : WebSocketFrameType.CONTINUATION, fragment,
+                    offset + size == length));
         }
-        return sendText(text);
+        content.release();
+        return last.toCompletionStage();
     }
 
     @Override
@@ -1,13 +1,15 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -15,8 +17,10 @@
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.ConnectionManager.Shard;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
@@ -36,18 +40,31 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final SecuritySupport securitySupport;
 
+    private final int maxFrameSize;
+
+    private final WriteCoalescer writeCoalescer;
+
+    private final int inboundQueueLimit;
+
+    private final Set<String> tags = ConcurrentHashMap.newKeySet();
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
-            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator) {
+            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator, int maxFrameSize,
+            Optional<Duration> writeCoalescingWindow, int inboundQueueLimit) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
                 userData, sendingInterceptor);
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
-        this.defaultBroadcast = new BroadcastImpl(null);
+        this.defaultBroadcast = new BroadcastImpl(null, null);
         this.securitySupport = securitySupportCreator.apply(this);
+        this.maxFrameSize = maxFrameSize;
+        this.writeCoalescer = writeCoalescingWindow.isPresent() ? new WriteCoalescer(webSocket, writeCoalescingWindow.get())
+                : null;
+        this.inboundQueueLimit = inboundQueueLimit;
     }
 
     SecuritySupport securitySupport() {
@@ -59,6 +76,21 @@ WebSocketBase webSocket() {
         return webSocket;
     }
 
+    @Override
+    WriteCoalescer writeCoalescer() {
+        return writeCoalescer;
+    }
+
+    @Override
+    int maxFrameSize() {
+        return maxFrameSize;
+    }
+
+    @Override
+    int inboundQueueLimit() {
+        return inboundQueueLimit;
+    }
+
     @Override
     public String endpointId() {
         return endpointId;
@@ -75,6 +107,33 @@ public Set<WebSocketConnection> getOpenConnections() {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    @Override
+    public WebSocketConnection tag(String tag) {
+        Objects.requireNonNull(tag);
+        synchronized (tags) {
+            if (tags.add(tag)) {
+                connectionManager.tag(this, tag);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public WebSocketConnection untag(String tag) {
+        Objects.requireNonNull(tag);
+        synchronized (tags) {
+            if (tags.remove(tag)) {
+                connectionManager.untag(this, tag);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Set<String> tags() {
+        return Set.copyOf(tags);
+    }
+
     @Override
     public String toString() {
         return "WebSocket connection [endpointId=" + endpointId + ", path=" + webSocket.path() + ", id=" + identifier + "]";
@@ -181,49 +240,39 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
-        BroadcastImpl(Predicate<WebSocketConnection> filter) {
+        private final String tag;
+
+        BroadcastImpl(Predicate<WebSocketConnection> filter, String tag) {
             this.filter = filter;
+            this.tag = tag;
         }
 
         @Override
         public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
-            return new BroadcastImpl(Objects.requireNonNull(predicate));
+            return new BroadcastImpl(Objects.requireNonNull(predicate), tag);
+        }
+
+        @Override
+        public BroadcastSender tagged(String tag) {
+            return new BroadcastImpl(filter, Objects.requireNonNull(tag));
         }
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return doSend(EncodedMessage.text(message));
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // Encode the message once, not once per connection
+            return sendText(encodeText(message));
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return doSend(EncodedMessage.binary(message));
         }
 
         @Override
@@ -236,16 +285,29 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
-            if (connections.isEmpty()) {
+        private Uni<Void> doSend(EncodedMessage message) {
+            List<Uni<Void>> unis = new ArrayList<>();
+            for (Shard shard : connectionManager.getShards(generatedEndpointClass)) {
+                Set<WebSocketConnection> connections = shard.connections(tag);
+                if (!connections.isEmpty()) {
+                    unis.add(Uni.createFrom().emitter(e -> shard.execute(() -> sendToShard(connections, message, e))));
+                }
+            }
+            if (unis.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
+            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+        }
+
+        // Executed on the event loop that handles the connections, so that the frames are written without a thread hop
+        private void sendToShard(Set<WebSocketConnection> connections, EncodedMessage message,
+                UniEmitter<? super Void> emitter) {
             List<Uni<Void>> unis = new ArrayList<>(connections.size());
             for (WebSocketConnection connection : connections) {
                 if (connection.isOpen()
                         && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
+                    // All the connections write the same frame content
+                    unis.add(((WebSocketConnectionBase) connection).sendEncoded(message)
                             // Intentionally ignore 'WebSocket is closed' failures
                             // It might happen that the connection is closed in the mean time
                             .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
@@ -253,9 +315,10 @@ private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendF
                 }
             }
             if (unis.isEmpty()) {
-                return Uni.createFrom().voidItem();
+                emitter.complete(null);
+                return;
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+            Uni.join().all(unis).andCollectFailures().subscribe().with(r -> emitter.complete(null), emitter::fail);
         }
 
     }
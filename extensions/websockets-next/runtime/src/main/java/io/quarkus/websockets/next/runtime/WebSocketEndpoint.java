@@ -20,6 +20,14 @@ public interface WebSocketEndpoint {
      */
     InboundProcessingMode inboundProcessingMode();
 
+    /**
+     *
+     * @return the maximum number of events processed concurrently, or zero if not limited
+     */
+    default int maxConcurrency() {
+        return 0;
+    }
+
     // @OnOpen
 
     Future<Void> onOpen();
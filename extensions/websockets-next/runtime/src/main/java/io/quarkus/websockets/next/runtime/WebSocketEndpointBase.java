@@ -2,6 +2,9 @@
 
 import java.lang.reflect.Type;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -13,12 +16,15 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
+import io.quarkus.websockets.next.InboundMessageKey;
 import io.quarkus.websockets.next.InboundProcessingMode;
 import io.quarkus.websockets.next.runtime.ConcurrencyLimiter.PromiseComplete;
 import io.quarkus.websockets.next.runtime.telemetry.ErrorInterceptor;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -39,6 +45,19 @@ public abstract class WebSocketEndpointBase implements WebSocketEndpoint {
 
     private final ConcurrencyLimiter limiter;
 
+    // Only used for the keyed processing mode
+    private final InboundMessageKey messageKey;
+
+    // Key -> the last message with the given key
+    private final ConcurrentMap<Object, Future<Void>> lastKeyedMessages;
+
+    private final int inboundQueueLimit;
+
+    // The number of text and binary messages queued or being processed
+    private final AtomicInteger pendingMessages;
+
+    private volatile boolean readPaused;
+
     private final ArcContainer container;
 
     private final ContextSupport contextSupport;
@@ -53,8 +72,29 @@ public WebSocketEndpointBase(WebSocketConnectionBase connection, Codecs codecs,
             SecuritySupport securitySupport, ErrorInterceptor errorInterceptor) {
         this.connection = connection;
         this.codecs = codecs;
-        this.limiter = inboundProcessingMode() == InboundProcessingMode.SERIAL ? new ConcurrencyLimiter(connection) : null;
         this.container = Arc.container();
+        InboundProcessingMode inboundProcessingMode = inboundProcessingMode();
+        if (inboundProcessingMode == InboundProcessingMode.SERIAL) {
+            this.limiter = new ConcurrencyLimiter(connection);
+        } else if (maxConcurrency() > 0) {
+            this.limiter = new ConcurrencyLimiter(connection, maxConcurrency());
+        } else {
+            this.limiter = null;
+        }
+        if (inboundProcessingMode == InboundProcessingMode.KEYED) {
+            InstanceHandle<InboundMessageKey> messageKey = container.instance(InboundMessageKey.class);
+            if (!messageKey.isAvailable()) {
+                throw new IllegalStateException(
+                        "No InboundMessageKey bean found for the endpoint with keyed inbound processing: " + connection);
+            }
+            this.messageKey = messageKey.get();
+            this.lastKeyedMessages = new ConcurrentHashMap<>();
+        } else {
+            this.messageKey = null;
+            this.lastKeyedMessages = null;
+        }
+        this.inboundQueueLimit = connection.inboundQueueLimit();
+        this.pendingMessages = inboundQueueLimit > 0 ? new AtomicInteger() : null;
         this.contextSupport = contextSupport;
         this.securitySupport = securitySupport;
         this.errorInterceptor = errorInterceptor;
@@ -77,12 +117,12 @@ public Future<Void> onOpen() {
 
     @Override
     public Future<Void> onTextMessage(Object message) {
-        return execute(message, onTextMessageExecutionModel(), this::doOnTextMessage, false);
+        return executeMessage(message, onTextMessageExecutionModel(), this::doOnTextMessage);
     }
 
     @Override
     public Future<Void> onBinaryMessage(Object message) {
-        return execute(message, onBinaryMessageExecutionModel(), this::doOnBinaryMessage, false);
+        return executeMessage(message, onBinaryMessageExecutionModel(), this::doOnBinaryMessage);
     }
 
     @Override
@@ -100,6 +140,83 @@ public Future<Void> onClose() {
         return execute(null, onCloseExecutionModel(), this::doOnClose, true);
     }
 
+    private Future<Void> executeMessage(Object message, ExecutionModel executionModel,
+            Function<Object, Uni<Void>> action) {
+        if (executionModel == ExecutionModel.NONE || message instanceof Multi) {
+            // A Multi is consumed until the connection is closed, i.e. it's never queued up
+            return execute(message, executionModel, action, false);
+        }
+        // The key is computed first so that the message is not counted if the key function fails
+        Object key = messageKey != null ? messageKey.key(connection, message) : null;
+        messageQueued();
+        Future<Void> result;
+        if (key == null) {
+            result = execute(message, executionModel, action, false);
+        } else {
+            Promise<Void> promise = Promise.promise();
+            Future<Void> last = promise.future();
+            Future<Void> previous = lastKeyedMessages.put(key, last);
+            if (previous == null) {
+                execute(message, executionModel, action, false).onComplete(promise);
+            } else {
+                // Wait until the previous message with the same key is processed
+                Context context = Vertx.currentContext();
+                previous.onComplete(new Handler<AsyncResult<Void>>() {
+                    @Override
+                    public void handle(AsyncResult<Void> event) {
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void event) {
+                                execute(message, executionModel, action, false).onComplete(promise);
+                            }
+                        });
+                    }
+                });
+            }
+            last.onComplete(new Handler<AsyncResult<Void>>() {
+                @Override
+                public void handle(AsyncResult<Void> event) {
+                    lastKeyedMessages.remove(key, last);
+                }
+            });
+            result = last;
+        }
+        if (pendingMessages != null) {
+            result.onComplete(new Handler<AsyncResult<Void>>() {
+                @Override
+                public void handle(AsyncResult<Void> event) {
+                    messageProcessed();
+                }
+            });
+        }
+        return result;
+    }
+
+    private void messageQueued() {
+        if (pendingMessages != null && pendingMessages.incrementAndGet() > inboundQueueLimit && !readPaused) {
+            synchronized (pendingMessages) {
+                if (!readPaused && pendingMessages.get() > inboundQueueLimit) {
+                    // Stop reading from the socket until the queue is drained
+                    LOG.debugf("Inbound queue limit of %s exceeded, reading paused: %s", inboundQueueLimit, connection);
+                    readPaused = true;
+                    connection.webSocket().pause();
+                }
+            }
+        }
+    }
+
+    private void messageProcessed() {
+        if (pendingMessages.decrementAndGet() <= inboundQueueLimit / 2 && readPaused) {
+            synchronized (pendingMessages) {
+                if (readPaused && pendingMessages.get() <= inboundQueueLimit / 2) {
+                    LOG.debugf("Inbound queue drained, reading resumed: %s", connection);
+                    readPaused = false;
+                    connection.webSocket().resume();
+                }
+            }
+        }
+    }
+
     private <M> Future<Void> execute(M message, ExecutionModel executionModel,
             Function<M, Uni<Void>> action, boolean terminateSession) {
         if (executionModel == ExecutionModel.NONE) {
@@ -31,6 +31,10 @@ private void customize(HttpServerOptions options) {
         if (config.compressionLevel().isPresent()) {
             options.setWebSocketCompressionLevel(config.compressionLevel().getAsInt());
         }
+        if (!config.compressionContextTakeover()) {
+            options.setWebSocketAllowServerNoContext(true);
+            options.setWebSocketPreferredClientNoContext(true);
+        }
         if (config.maxMessageSize().isPresent()) {
             options.setMaxWebSocketMessageSize(config.maxMessageSize().getAsInt());
         }
@@ -56,6 +56,7 @@
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.ext.web.RoutingContext;
 
@@ -94,6 +95,7 @@ public Handler<RoutingContext> createEndpointHandler(String generatedEndpointCla
         HttpUpgradeCheck[] httpUpgradeChecks = getHttpUpgradeChecks(endpointId, container);
         TrafficLogger trafficLogger = TrafficLogger.forServer(runtimeConfig.getValue());
         WebSocketTelemetryProvider telemetryProvider = container.instance(WebSocketTelemetryProvider.class).orElse(null);
+        PerMessageCompression perMessageCompression = container.instance(PerMessageCompression.class).get();
         return new Handler<RoutingContext>() {
 
             @Override
@@ -142,9 +144,13 @@ public void handle(Throwable throwable) {
 
                     SendingInterceptor sendingInterceptor = telemetrySupport == null ? null
                             : telemetrySupport.getSendingInterceptor();
+                    perMessageCompression.install(ws, sendingInterceptor);
                     WebSocketConnectionImpl connection = new WebSocketConnectionImpl(generatedEndpointClass, endpointId, ws,
                             connectionManager, codecs, ctx, trafficLogger, userData, sendingInterceptor,
-                            getSecuritySupportCreator(container, ctx));
+                            getSecuritySupportCreator(container, ctx),
+                            runtimeConfig.getValue().maxFrameSize().orElse(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE),
+                            runtimeConfig.getValue().writeCoalescingWindow(),
+                            runtimeConfig.getValue().inboundQueueLimit().orElse(0));
                     connectionManager.add(generatedEndpointClass, connection);
                     if (trafficLogger != null) {
                         trafficLogger.connectionOpened(connection);
@@ -0,0 +1,116 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.VertxException;
+import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.impl.WebSocketInternal;
+
+/**
+ * Writes the data frames of a connection without flushing them, and flushes all the frames written within the
+ * coalescing window at once. Netty then writes the frames in one gathering system call instead of one call per message.
+ * <p>
+ * The frames are written to the same channel handler context as the frames written by Vert.x, so the ordering with the
+ * control frames (ping, pong, close) is preserved, and any flush by Vert.x also flushes the pending frames.
+ */
+final class WriteCoalescer {
+
+    private final WebSocketBase webSocket;
+    private final ChannelHandlerContext chctx;
+    private final long windowNanos;
+    private final Runnable flush;
+
+    // Only accessed from the event loop of the connection
+    private boolean flushScheduled;
+
+    WriteCoalescer(WebSocketBase webSocket, Duration window) {
+        this.webSocket = webSocket;
+        this.chctx = ((WebSocketInternal) webSocket).channelHandlerContext();
+        this.windowNanos = window.toNanos();
+        this.flush = new Runnable() {
+            @Override
+            public void run() {
+                flushScheduled = false;
+                chctx.flush();
+            }
+        };
+    }
+
+    /**
+     * Writes the content as a text or binary message, split in frames of at most {@code maxFrameSize} bytes.
+     *
+     * @param content the content of the message, released once written
+     * @return a completion stage completed when the last frame of the message is written to the socket
+     */
+    CompletionStage<Void> write(boolean text, ByteBuf content, int maxFrameSize) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        EventExecutor executor = chctx.executor();
+        if (executor.inEventLoop()) {
+            doWrite(text, content, maxFrameSize, result);
+        } else {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    doWrite(text, content, maxFrameSize, result);
+                }
+            });
+        }
+        return result;
+    }
+
+    private void doWrite(boolean text, ByteBuf content, int maxFrameSize, CompletableFuture<Void> result) {
+        if (webSocket.isClosed()) {
+            content.release();
+            // Same failure as Vert.x, see Endpoints#isWebSocketIsClosedFailure()
+            result.completeExceptionally(new VertxException("WebSocket is closed", true));
+            return;
+        }
+        int length = content.readableBytes();
+        ChannelFuture last;
+        if (length <= maxFrameSize) {
+            last = chctx.write(text ? new TextWebSocketFrame(true, 0, content) : new BinaryWebSocketFrame(true, 0, content));
+        } else {
+            last = null;
+            for (int offset = 0; offset < length; offset += maxFrameSize) {
+                int size = Math.min(maxFrameSize, length - offset);
+                boolean finalFragment = offset + size == length;
+                ByteBuf fragment = content.retainedSlice(content.readerIndex() + offset, size);
+                WebSocketFrame frame;
+                if (offset == 0) {
+                    frame = text ? new TextWebSocketFrame(false, 0, fragment) : new BinaryWebSocketFrame(false, 0, fragment);
+                } else {
+                    frame = new ContinuationWebSocketFrame(finalFragment, 0, fragment);
+                }
+                last = chctx.write(frame);
+            }
+            content.release();
+        }
+        last.addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) {
+                if (future.isSuccess()) {
+                    result.complete(null);
+                } else {
+                    result.completeExceptionally(future.cause());
+                }
+            }
+        });
+        if (!flushScheduled) {
+            flushScheduled = true;
+            chctx.executor().schedule(flush, windowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
@@ -34,6 +34,31 @@ public interface WebSocketsServerRuntimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * The minimum size of a message in bytes to be compressed. A smaller message is sent uncompressed, even if the per-message
+     * compression was negotiated, because the compression of a small message costs CPU time but barely reduces its size.
+     * <p>
+     * By default, all messages are compressed.
+     */
+    OptionalInt compressionThreshold();
+
+    /**
+     * If set to {@code false}, the compression context is not kept between messages. The server resets its deflater after
+     * each message and requests the clients to do the same with the {@code client_no_context_takeover} extension parameter.
+     * As a result, the server does not hold a deflater and an inflater for each connection: the deflaters are shared by all
+     * connections and only the inflaters of the connections that accepted the parameter are released after each message.
+     * This saves hundreds of kilobytes of native memory per connection, at the cost of a lower compression ratio for small
+     * similar messages.
+     */
+    @WithDefault("true")
+    boolean compressionContextTakeover();
+
+    /**
+     * The maximum number of idle deflaters kept for reuse if the compression context is not kept between messages.
+     */
+    @WithDefault("64")
+    int compressionDeflaterPoolSize();
+
     /**
      * The maximum size of a message in bytes. The default values is
      * {@value io.vertx.core.http.HttpServerOptions#DEFAULT_MAX_WEBSOCKET_MESSAGE_SIZE}.
@@ -53,6 +78,26 @@ public interface WebSocketsServerRuntimeConfig {
      */
     Optional<Duration> autoPingInterval();
 
+    /**
+     * The window during which the text and binary messages sent to a connection are written without being flushed. When
+     * set, the messages sent within the window are flushed together, in one write to the socket, which reduces the number
+     * of system calls when many small messages are sent to the same connection, at the cost of up to this delay per
+     * message.
+     * <p>
+     * By default, each message is flushed immediately.
+     */
+    Optional<Duration> writeCoalescingWindow();
+
+    /**
+     * The maximum number of text and binary messages of a connection that are queued or being processed. When the limit is
+     * exceeded, reading from the socket of the connection is paused until the number of pending messages drops to half of
+     * the limit. As a result, a client that sends messages faster than the endpoint processes them is slowed down by the
+     * TCP flow control instead of growing the queue.
+     * <p>
+     * By default, the number of pending messages is not limited.
+     */
+    OptionalInt inboundQueueLimit();
+
     /**
      * The strategy used when an error occurs but no error handler can handle the failure.
      * <p>
@@ -25,6 +25,11 @@ public InboundProcessingMode inboundProcessingMode() {
         return delegate.inboundProcessingMode();
     }
 
+    @Override
+    public int maxConcurrency() {
+        return delegate.maxConcurrency();
+    }
+
     @Override
     public Future<Void> onOpen() {
         return delegate.onOpen();
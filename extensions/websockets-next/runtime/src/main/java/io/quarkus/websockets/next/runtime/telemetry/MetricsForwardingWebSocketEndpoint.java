@@ -2,29 +2,46 @@
 
 import io.quarkus.websockets.next.runtime.WebSocketEndpoint;
 import io.quarkus.websockets.next.runtime.spi.telemetry.WebSocketMetricsInterceptorProducer.WebSocketMetricsInterceptor;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 
 final class MetricsForwardingWebSocketEndpoint extends ForwardingWebSocketEndpoint {
 
     private final WebSocketMetricsInterceptor interceptor;
     private final String path;
+    private final Handler<AsyncResult<Void>> messageProcessed;
 
     MetricsForwardingWebSocketEndpoint(WebSocketEndpoint delegate, WebSocketMetricsInterceptor interceptor, String path) {
         super(delegate);
         this.interceptor = interceptor;
         this.path = path;
+        this.messageProcessed = new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> event) {
+                interceptor.onMessageProcessed(path);
+            }
+        };
     }
 
     @Override
     public Future<Void> onTextMessage(Object message) {
         addMetricsIfMessageIsString(message);
+        if (message instanceof String) {
+            interceptor.onMessageQueued(path);
+            return delegate.onTextMessage(message).onComplete(messageProcessed);
+        }
         return delegate.onTextMessage(message);
     }
 
     @Override
     public Future<Void> onBinaryMessage(Object message) {
         addMetricsIfMessageIsBuffer(message);
+        if (message instanceof Buffer) {
+            interceptor.onMessageQueued(path);
+            return delegate.onBinaryMessage(message).onComplete(messageProcessed);
+        }
         return delegate.onBinaryMessage(message);
     }
 
@@ -24,4 +24,9 @@ public void onSend(String text) {
     public void onSend(Buffer message) {
         interceptor.onMessageSent(message.getBytes(), path);
     }
+
+    @Override
+    public void onCompressed(int uncompressedBytes, int compressedBytes, long durationNanos) {
+        interceptor.onMessageCompressed(uncompressedBytes, compressedBytes, durationNanos, path);
+    }
 }
@@ -24,4 +24,13 @@ public sealed interface SendingInterceptor permits MetricsSendingInterceptor {
      */
     void onSend(Buffer binaryMessage);
 
+    /**
+     * Intercept compressed frames of sent text and binary messages.
+     *
+     * @param uncompressedBytes the size of the frame payload before compression
+     * @param compressedBytes the size of the frame payload after compression
+     * @param durationNanos the time spent compressing the frame payload
+     */
+    void onCompressed(int uncompressedBytes, int compressedBytes, long durationNanos);
+
 }
@@ -36,6 +36,17 @@ interface WebSocketMetricsInterceptor {
          */
         void onMessageSent(byte[] data, String route);
 
+        /**
+         * Called every time a frame of an outbound binary or text message is compressed.
+         *
+         * @param uncompressedBytes the size of the frame payload before compression
+         * @param compressedBytes the size of the frame payload after compression
+         * @param durationNanos the time spent compressing the frame payload
+         * @param route endpoint route
+         */
+        default void onMessageCompressed(int uncompressedBytes, int compressedBytes, long durationNanos, String route) {
+        }
+
         /**
          * Called every time an inbound binary or text message is received.
          *
@@ -44,6 +55,22 @@ interface WebSocketMetricsInterceptor {
          */
         void onMessageReceived(byte[] data, String route);
 
+        /**
+         * Called every time an inbound binary or text message is queued for processing.
+         *
+         * @param route endpoint route
+         */
+        default void onMessageQueued(String route) {
+        }
+
+        /**
+         * Called every time the processing of an inbound binary or text message completes, successfully or not.
+         *
+         * @param route endpoint route
+         */
+        default void onMessageProcessed(String route) {
+        }
+
         /**
          * Called when a WebSocket connection is opened.
          *
@@ -0,0 +1,32 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.context.Destroyed;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+
+import io.quarkus.arc.Components;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
+
+/**
+ * Registers the built-in qualifiers and {@link RequestScopedBean}, which is what the generated components provider
+ * would do for an application consisting of that single bean.
+ */
+public class BenchmarkComponentsProvider implements ComponentsProvider {
+
+    static final RequestScopedBean BEAN = new RequestScopedBean();
+
+    @Override
+    public Components getComponents(CurrentContextFactory currentContextFactory) {
+        Set<String> qualifiers = Set.of(Any.class.getName(), Default.class.getName(), Initialized.class.getName(),
+                BeforeDestroyed.class.getName(), Destroyed.class.getName());
+        return new Components(List.of(BEAN), List.of(), List.of(), Set.of(), Map.of(), List::of, Map.of(), qualifiers,
+                Map.of());
+    }
+}
@@ -0,0 +1,107 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import io.quarkus.vertx.runtime.VertxCurrentContextFactory;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Compares the lookup of the current request context state, as performed by every client proxy call on a
+ * {@code @RequestScoped} bean, for the default {@link ThreadLocal} based {@code CurrentContextFactory} and for the
+ * {@link VertxCurrentContextFactory} used by Quarkus, which stores the state in the local data of a Vert.x duplicated
+ * context.
+ * <p>
+ * Each benchmark thread dispatches its own duplicated context, like a request being processed on a worker or a virtual
+ * thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class CurrentContextBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Container {
+
+        @Param({ "thread-local", "duplicated-context" })
+        public String factory;
+
+        Vertx vertx;
+
+        @Setup
+        public void setup() {
+            ArcInitConfig.Builder config = ArcInitConfig.builder();
+            if (factory.equals("duplicated-context")) {
+                config.setCurrentContextFactory(new VertxCurrentContextFactory());
+            }
+            Arc.initialize(config.build());
+            vertx = Vertx.vertx();
+        }
+
+        @TearDown
+        public void tearDown() {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+            Arc.shutdown();
+        }
+    }
+
+    private final RequestScopedBean bean = BenchmarkComponentsProvider.BEAN;
+    private ManagedContext requestContext;
+    private ContextInternal duplicatedContext;
+    private ContextInternal previousContext;
+
+    @Setup(Level.Trial)
+    public void setup(Container container) {
+        requestContext = Arc.container().requestContext();
+        duplicatedContext = ((ContextInternal) container.vertx.getOrCreateContext()).duplicate();
+        previousContext = duplicatedContext.beginDispatch();
+        requestContext.activate();
+        requestContext.get(bean, new CreationalContextImpl<>(bean));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestContext.terminate();
+        duplicatedContext.endDispatch(previousContext);
+    }
+
+    @Benchmark
+    public int clientProxyLookup() {
+        return ++requestContext.getIfActive(bean, CreationalContextImpl::new).value;
+    }
+
+    @Benchmark
+    public boolean isActive() {
+        return requestContext.isActive();
+    }
+
+    @Benchmark
+    public Object activateAndDeactivate() {
+        Object state = requestContext.activate();
+        requestContext.deactivate();
+        return state;
+    }
+}
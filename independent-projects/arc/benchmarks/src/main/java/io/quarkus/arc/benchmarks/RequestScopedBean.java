@@ -0,0 +1,53 @@
+package io.quarkus.arc.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.Set;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * A hand written request scoped bean, so that the benchmarks do not need a build step generating the beans.
+ * It is registered by {@link BenchmarkComponentsProvider}.
+ */
+final class RequestScopedBean implements InjectableBean<RequestScopedBean.Counter> {
+
+    private static final Set<Type> TYPES = Set.of(Counter.class, Object.class);
+
+    @Override
+    public String getIdentifier() {
+        return "benchmark_counter";
+    }
+
+    @Override
+    public Class<RequestScoped> getScope() {
+        return RequestScoped.class;
+    }
+
+    @Override
+    public Set<Type> getTypes() {
+        return TYPES;
+    }
+
+    @Override
+    public Class<?> getBeanClass() {
+        return Counter.class;
+    }
+
+    @Override
+    public Counter create(CreationalContext<Counter> creationalContext) {
+        return new Counter();
+    }
+
+    @Override
+    public Counter get(CreationalContext<Counter> creationalContext) {
+        return create(creationalContext);
+    }
+
+    static final class Counter {
+
+        int value;
+    }
+}
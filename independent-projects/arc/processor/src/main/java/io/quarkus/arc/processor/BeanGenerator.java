@@ -109,6 +109,8 @@ public class BeanGenerator extends AbstractGenerator {
     protected final Set<String> existingClasses;
     protected final Map<BeanInfo, String> beanToGeneratedName;
     protected final Map<BeanInfo, String> beanToGeneratedBaseName;
+    protected final Map<BeanInfo, Integer> beanToContextSlot;
+    private final Map<BuiltinScope, Integer> contextSlotCounts;
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
     protected final List<Consumer<SuppressConditionGeneration>> suppressConditionGenerators;
 
@@ -126,6 +128,8 @@ public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<Do
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
         this.suppressConditionGenerators = suppressConditionGenerators;
         this.beanToGeneratedBaseName = new HashMap<>();
+        this.beanToContextSlot = new HashMap<>();
+        this.contextSlotCounts = new HashMap<>();
     }
 
     /**
@@ -146,6 +150,20 @@ void precomputeGeneratedName(BeanInfo bean) {
         }
     }
 
+    /**
+     * Assign the next slot of its scope to the given bean if it is application scoped or a singleton. The slots must be
+     * assigned before the beans metadata are generated, in the same order for each build.
+     *
+     * @param bean
+     * @see InjectableBean#getContextSlot()
+     */
+    void precomputeContextSlot(BeanInfo bean) {
+        BuiltinScope scope = BuiltinScope.from(bean.getScope().getDotName());
+        if (scope == BuiltinScope.APPLICATION || scope == BuiltinScope.SINGLETON) {
+            beanToContextSlot.put(bean, contextSlotCounts.merge(scope, 1, Integer::sum) - 1);
+        }
+    }
+
     private void generateClassBeanName(BeanInfo bean) {
         ClassInfo beanClass = bean.getTarget().get().asClass();
         String baseName = beanClass.name().withoutPackagePrefix();
@@ -311,6 +329,7 @@ private void generateBean(Gizmo gizmo, BeanInfo bean, String generatedName, Stri
             }
             generateIsAlternative(cc, bean);
             generateGetPriority(cc, bean);
+            generateGetContextSlot(cc, bean);
             if (bean.isProducer()) {
                 generateGetDeclaringBean(cc, declaringProviderSupplierField);
             }
@@ -1820,6 +1839,21 @@ protected void generateIsAlternative(ClassCreator cc, BeanInfo bean) {
     /**
      * @see InjectableBean#getPriority()
      */
+    /**
+     * @see InjectableBean#getContextSlot()
+     */
+    protected void generateGetContextSlot(ClassCreator cc, BeanInfo bean) {
+        Integer slot = beanToContextSlot.get(bean);
+        if (slot != null) {
+            cc.method("getContextSlot", mc -> {
+                mc.returning(int.class);
+                mc.body(bc -> {
+                    bc.return_(slot);
+                });
+            });
+        }
+    }
+
     protected void generateGetPriority(ClassCreator cc, BeanInfo bean) {
         if (bean.getPriority() != null) {
             cc.method("hasPriority", mc -> {
@@ -218,6 +218,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         Collection<BeanInfo> beans = beanDeployment.getBeans();
         for (BeanInfo bean : beans) {
             beanGenerator.precomputeGeneratedName(bean);
+            beanGenerator.precomputeContextSlot(bean);
         }
 
         CustomAlterableContextsGenerator alterableContextsGenerator = new CustomAlterableContextsGenerator(generateSources);
@@ -160,6 +160,16 @@ default int getPriority() {
         return 0;
     }
 
+    /**
+     * The application scoped and singleton beans are assigned a slot at build time, i.e. their index among the beans of
+     * their scope. The context of the scope stores the instance of such a bean at this index.
+     *
+     * @return the slot of this bean in the context of its scope, or {@code -1} if no slot is assigned
+     */
+    default int getContextSlot() {
+        return -1;
+    }
+
     /**
      * The return value depends on the {@link #getKind()}.
      *
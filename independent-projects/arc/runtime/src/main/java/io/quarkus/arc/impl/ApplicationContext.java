@@ -6,10 +6,6 @@
 
 class ApplicationContext extends AbstractSharedContext {
 
-    ApplicationContext() {
-        super();
-    }
-
     ApplicationContext(ContextInstances instances) {
         super(instances);
     }
@@ -202,9 +202,10 @@ public List<RemovedBean> get() {
         this.registeredQualifiers = new Qualifiers(qualifiers, qualifierNonbindingMembers);
         this.registeredInterceptorBindings = new InterceptorBindings(interceptorBindings, transitiveInterceptorBindings);
 
-        ApplicationContext applicationContext = applicationContextInstances != null
-                ? new ApplicationContext(applicationContextInstances.get())
-                : new ApplicationContext();
+        // Unless pregenerated, the instances of application scoped and singleton beans are stored in fixed slots
+        ApplicationContext applicationContext = new ApplicationContext(applicationContextInstances != null
+                ? applicationContextInstances.get()
+                : new IndexedContextInstances(IndexedContextInstances.slots(this.beans, ApplicationScoped.class)));
         RequestContext requestContext = new RequestContext(this.currentContextFactory.create(RequestScoped.class),
                 notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
@@ -219,7 +220,7 @@ public List<RemovedBean> get() {
                 requestContext,
                 sessionContext,
                 applicationContext,
-                new SingletonContext(),
+                new SingletonContext(new IndexedContextInstances(IndexedContextInstances.slots(this.beans, Singleton.class))),
                 new DependentContext());
 
         // Add custom contexts
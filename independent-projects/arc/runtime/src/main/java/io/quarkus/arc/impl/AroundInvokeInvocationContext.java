@@ -20,6 +20,8 @@
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
+ * <p>
+ * Most interceptors never access the context data, so the map is only created the first time it is requested.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
@@ -33,10 +35,20 @@ static Object perform(Object target, Object[] args, InterceptedMethodMetadata me
     private final InterceptedMethodMetadata metadata;
 
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        super(target, args, null);
         this.metadata = metadata;
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        ContextDataMap data = contextData;
+        if (data == null) {
+            data = new ContextDataMap(metadata.bindings);
+            contextData = data;
+        }
+        return data;
+    }
+
     @Override
     public Set<Annotation> getInterceptorBindings() {
         return metadata.bindings;
@@ -5,6 +5,7 @@
 import java.util.function.Supplier;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
 
 public interface ContextInstances {
 
@@ -30,6 +31,35 @@ public interface ContextInstances {
      */
     ContextInstanceHandle<?> remove(String id);
 
+    /**
+     * Implementations may use the {@linkplain InjectableBean#getContextSlot() slot} of the bean instead of its identifier.
+     *
+     * @param bean
+     * @param supplier
+     * @return the instance handle
+     */
+    default ContextInstanceHandle<?> computeIfAbsent(InjectableBean<?> bean, Supplier<ContextInstanceHandle<?>> supplier) {
+        return computeIfAbsent(bean.getIdentifier(), supplier);
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the instance handle if present, {@code null} otherwise
+     */
+    default ContextInstanceHandle<?> getIfPresent(InjectableBean<?> bean) {
+        return getIfPresent(bean.getIdentifier());
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the removed instance handle, or {@code null}
+     */
+    default ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        return remove(bean.getIdentifier());
+    }
+
     /**
      *
      * @return all instance handles
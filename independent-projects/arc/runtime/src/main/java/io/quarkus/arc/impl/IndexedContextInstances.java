@@ -0,0 +1,187 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * {@link ContextInstances} where each bean of the scope gets a fixed slot in an {@link AtomicReferenceArray}. The slots
+ * are assigned at build time, see {@link InjectableBean#getContextSlot()}.
+ * <p>
+ * Unlike {@link ComputingCacheContextInstances}, there is no map growth and no allocation once an instance exists, and
+ * the lookup of an existing instance is an array read that never locks. This is the runtime counterpart of the
+ * {@code ContextInstances} generated when the contexts are optimized, and is used when they are not, e.g. for
+ * applications with many beans. Beans without a slot are stored in a {@link ComputingCacheContextInstances}.
+ * <p>
+ * The lookups by identifier resolve the slot from a map, and are only used by the callers that do not have the bean.
+ */
+final class IndexedContextInstances implements ContextInstances {
+
+    private final Map<String, Integer> slots;
+    private final AtomicReferenceArray<ContextInstanceHandle<?>> handles;
+    private final AtomicReferenceArray<Lock> locks;
+    private final ComputingCacheContextInstances others;
+
+    IndexedContextInstances(Map<String, Integer> slots) {
+        this.slots = slots;
+        int length = 0;
+        for (Integer slot : slots.values()) {
+            length = Math.max(length, slot + 1);
+        }
+        this.handles = new AtomicReferenceArray<>(length);
+        this.locks = new AtomicReferenceArray<>(length);
+        this.others = new ComputingCacheContextInstances();
+    }
+
+    /**
+     * Beans that share a slot were not generated by the same build, e.g. when the generated classes of several
+     * deployments are loaded by the same class loader. None of the slots is used in that case.
+     *
+     * @return the slots of the beans with the given scope, to be shared by all the instances of the scope
+     */
+    static Map<String, Integer> slots(List<InjectableBean<?>> beans, Class<? extends Annotation> scope) {
+        Map<String, Integer> slots = new HashMap<>();
+        Set<Integer> used = new HashSet<>();
+        for (InjectableBean<?> bean : beans) {
+            int slot = bean.getContextSlot();
+            if (slot >= 0 && scope.equals(bean.getScope())) {
+                if (!used.add(slot)) {
+                    return Map.of();
+                }
+                slots.put(bean.getIdentifier(), slot);
+            }
+        }
+        return Map.copyOf(slots);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(InjectableBean<?> bean, Supplier<ContextInstanceHandle<?>> supplier) {
+        int slot = bean.getContextSlot();
+        if (slot < 0 || slot >= handles.length()) {
+            return others.computeIfAbsent(bean.getIdentifier(), supplier);
+        }
+        return computeIfAbsent(slot, supplier);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(InjectableBean<?> bean) {
+        int slot = bean.getContextSlot();
+        if (slot < 0 || slot >= handles.length()) {
+            return others.getIfPresent(bean.getIdentifier());
+        }
+        return handles.get(slot);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        int slot = bean.getContextSlot();
+        if (slot < 0 || slot >= handles.length()) {
+            return others.remove(bean.getIdentifier());
+        }
+        return remove(slot);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        Integer slot = slots.get(id);
+        if (slot == null) {
+            return others.computeIfAbsent(id, supplier);
+        }
+        return computeIfAbsent((int) slot, supplier);
+    }
+
+    private ContextInstanceHandle<?> computeIfAbsent(int idx, Supplier<ContextInstanceHandle<?>> supplier) {
+        ContextInstanceHandle<?> handle = handles.get(idx);
+        if (handle != null) {
+            return handle;
+        }
+        Lock lock = lock(idx);
+        lock.lock();
+        try {
+            handle = handles.get(idx);
+            if (handle == null) {
+                handle = supplier.get();
+                handles.set(idx, handle);
+            }
+            return handle;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        Integer slot = slots.get(id);
+        return slot != null ? handles.get(slot) : others.getIfPresent(id);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        Integer slot = slots.get(id);
+        if (slot == null) {
+            return others.remove(id);
+        }
+        return remove((int) slot);
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> result = new HashSet<>(others.getAllPresent());
+        for (int i = 0; i < handles.length(); i++) {
+            ContextInstanceHandle<?> handle = handles.get(i);
+            if (handle != null) {
+                result.add(handle);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        for (int i = 0; i < handles.length(); i++) {
+            if (handles.get(i) != null) {
+                ContextInstanceHandle<?> handle = remove(i);
+                if (handle != null && action != null) {
+                    action.accept(handle);
+                }
+            }
+        }
+        others.removeEach(action);
+    }
+
+    private ContextInstanceHandle<?> remove(int idx) {
+        if (handles.get(idx) == null) {
+            return null;
+        }
+        Lock lock = lock(idx);
+        lock.lock();
+        try {
+            return handles.getAndSet(idx, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lock lock(int idx) {
+        Lock lock = locks.get(idx);
+        if (lock != null) {
+            return lock;
+        }
+        Lock newLock = new ReentrantLock();
+        if (locks.compareAndSet(idx, null, newLock)) {
+            return newLock;
+        }
+        return locks.get(idx);
+    }
+}
@@ -9,6 +9,10 @@
 
 class SingletonContext extends AbstractSharedContext {
 
+    SingletonContext(ContextInstances instances) {
+        super(instances);
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return Singleton.class;
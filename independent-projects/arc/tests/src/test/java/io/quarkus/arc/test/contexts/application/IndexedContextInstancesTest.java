@@ -0,0 +1,139 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class IndexedContextInstancesTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Boom.class, Bim.class, Counter.class)
+            .optimizeContexts(false)
+            .build();
+
+    @Test
+    public void testApplicationContext() {
+        ArcContainer container = Arc.container();
+        InstanceHandle<Boom> handle = container.instance(Boom.class);
+        Boom boom = handle.get();
+        String id1 = boom.ping();
+        assertEquals(id1, boom.ping());
+
+        handle.destroy();
+        // Bim is not destroyed
+        assertEquals(1, container.getActiveContext(ApplicationScoped.class).getState().getContextualInstances().size());
+
+        String id2 = boom.ping();
+        assertNotEquals(id1, id2);
+        assertEquals(id2, boom.ping());
+
+        InjectableContext appContext = container.getActiveContext(ApplicationScoped.class);
+        appContext.destroy();
+        assertEquals(0, appContext.getState().getContextualInstances().size());
+        assertNotEquals(id2, boom.ping());
+    }
+
+    @Test
+    public void testContextSlots() {
+        ArcContainer container = Arc.container();
+        int boomSlot = container.instance(Boom.class).getBean().getContextSlot();
+        int bimSlot = container.instance(Bim.class).getBean().getContextSlot();
+        assertTrue(boomSlot >= 0);
+        assertTrue(bimSlot >= 0);
+        assertNotEquals(boomSlot, bimSlot);
+        assertTrue(container.instance(Counter.class).getBean().getContextSlot() >= 0);
+    }
+
+    @Test
+    public void testSingletonCreatedOnce() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Counter>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(new Callable<Counter>() {
+                    @Override
+                    public Counter call() throws Exception {
+                        start.await();
+                        return Arc.container().instance(Counter.class).get();
+                    }
+                }));
+            }
+            start.countDown();
+            Counter first = results.get(0).get();
+            for (Future<Counter> result : results) {
+                assertEquals(first, result.get());
+            }
+            assertEquals(1, Counter.CREATED.get());
+            assertEquals(1, Arc.container().getActiveContext(Singleton.class).getState().getContextualInstances().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ApplicationScoped
+    public static class Boom {
+
+        private String id;
+
+        @Inject
+        Bim bim;
+
+        String ping() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+            bim.bam();
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class Bim {
+
+        public void bam() {
+        }
+
+    }
+
+    @Singleton
+    public static class Counter {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        @PostConstruct
+        void init() {
+            CREATED.incrementAndGet();
+        }
+
+    }
+}
@@ -0,0 +1,98 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+
+/**
+ * The context data map is created the first time it is requested, which may be late in the interceptor chain.
+ */
+public class ContextDataOnDemandTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class, CharlieInterceptor.class);
+
+    @Test
+    public void testContextDataSharedWhenFirstAccessedLate() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // The first interceptor only accesses the context data after the chain has proceeded, the second one creates it
+        // and the third one sees the same map with the data put by the second one
+        assertEquals("alpha:bravo:charlie:b:true:true:ok:c", bean.foo());
+        // Each invocation has its own context data
+        assertEquals("alpha:bravo:charlie:b:true:true:ok:c", bean.foo());
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String foo() {
+            return "ok";
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            Object ret = "alpha:" + ctx.proceed();
+            return ret + ":" + ctx.getContextData().get("charlie");
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        static final AtomicReference<Map<String, Object>> DATA = new AtomicReference<>();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            Map<String, Object> data = ctx.getContextData();
+            if (data.containsKey("bravo")) {
+                return "stale";
+            }
+            data.put("bravo", "b");
+            DATA.set(data);
+            return "bravo:" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(3)
+    @Interceptor
+    public static class CharlieInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            Map<String, Object> data = ctx.getContextData();
+            data.put("charlie", "c");
+            boolean hasBindings = data.get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS) instanceof Set;
+            return "charlie:" + data.get("bravo") + ":" + (data == BravoInterceptor.DATA.get()) + ":" + hasBindings + ":"
+                    + ctx.proceed();
+        }
+    }
+
+}
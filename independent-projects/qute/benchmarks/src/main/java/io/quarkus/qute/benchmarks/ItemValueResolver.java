@@ -0,0 +1,40 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.qute.CompletedStage;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.Results;
+import io.quarkus.qute.ValueResolver;
+
+/**
+ * Resolves the properties of {@link Item} synchronously, like the value resolvers generated at build time do.
+ */
+public class ItemValueResolver implements ValueResolver {
+
+    @Override
+    public int getPriority() {
+        return 10;
+    }
+
+    @Override
+    public boolean appliesTo(EvalContext context) {
+        return context.getBase() instanceof Item;
+    }
+
+    @Override
+    public CompletionStage<Object> resolve(EvalContext context) {
+        Item item = (Item) context.getBase();
+        switch (context.getName()) {
+            case "name":
+                return CompletedStage.of(item.getName());
+            case "price":
+                return CompletedStage.of(item.getPrice());
+            case "active":
+                return CompletedStage.of(item.isActive());
+            default:
+                return Results.notFound(context);
+        }
+    }
+
+}
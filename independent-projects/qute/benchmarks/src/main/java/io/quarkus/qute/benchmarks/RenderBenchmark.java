@@ -0,0 +1,118 @@
+package io.quarkus.qute.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+/**
+ * Renders templates with loops, includes and inserts.
+ * <p>
+ * The {@code generated} resolver resolves the values synchronously, like the value resolvers generated at build time,
+ * whereas the {@code reflection} resolver is the {@link ReflectionValueResolver}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RenderBenchmark {
+
+    @Param({ "generated", "reflection" })
+    public String resolver;
+
+    @Param({ "10", "100" })
+    public int items;
+
+    private List<Item> data;
+    private Template loop;
+    private Template include;
+    private Template insert;
+
+    @Setup
+    public void setup() {
+        EngineBuilder builder = Engine.builder().addDefaults();
+        if (resolver.equals("generated")) {
+            builder.addValueResolver(new ItemValueResolver());
+        } else {
+            builder.addValueResolver(new ReflectionValueResolver());
+        }
+        Engine engine = builder.build();
+
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            data.add(new Item("Item " + i, BigDecimal.valueOf(i * 10), i % 3 != 0));
+        }
+
+        engine.putTemplate("item", engine.parse("<li>{item.name}: {item.price}</li>"));
+        engine.putTemplate("base", engine.parse("""
+                <html>
+                <head><title>{#insert title}Default{/}</title></head>
+                <body>
+                {#insert}No body{/}
+                </body>
+                </html>
+                """));
+
+        loop = engine.parse("""
+                <ul>
+                {#for item in items}
+                {#if item.active}
+                <li>{item_count}. {item.name}: {item.price}{#if item_hasNext},{/if}</li>
+                {/if}
+                {/for}
+                </ul>
+                """);
+        include = engine.parse("""
+                <ul>
+                {#for item in items}
+                {#include item /}
+                {/for}
+                </ul>
+                """);
+        insert = engine.parse("""
+                {#include base}
+                {#title}Items{/title}
+                <ul>
+                {#each items}
+                <li>{it.name}</li>
+                {/each}
+                </ul>
+                {/include}
+                """);
+    }
+
+    @Benchmark
+    public String loop() {
+        return loop.data("items", data).render();
+    }
+
+    @Benchmark
+    public String include() {
+        return include.data("items", data).render();
+    }
+
+    @Benchmark
+    public String insert() {
+        return insert.data("items", data).render();
+    }
+
+}
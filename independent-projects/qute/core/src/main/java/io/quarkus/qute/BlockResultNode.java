@@ -0,0 +1,52 @@
+package io.quarkus.qute;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * A result node of a section block.
+ * <p>
+ * Unlike {@link MultiResultNode}, the values of the expressions resolved synchronously are stored directly, i.e. an
+ * element is either a {@link ResultNode}, the {@link CompletableFuture} of an asynchronous result node, {@code null} if
+ * there is nothing to render, or the value of the expression node at the same index. The values are converted to strings
+ * when the result is processed, like the value of a {@link SingleResultNode}.
+ */
+final class BlockResultNode extends ResultNode {
+
+    private final List<TemplateNode> nodes;
+    private final Object[] results;
+
+    BlockResultNode(List<TemplateNode> nodes, Object[] results) {
+        this.nodes = nodes;
+        this.results = results;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void process(Consumer<String> consumer) {
+        for (int i = 0; i < results.length; i++) {
+            Object result = results[i];
+            if (result == null) {
+                continue;
+            }
+            if (result instanceof ResultNode node) {
+                node.process(consumer);
+            } else if (result instanceof CompletableFuture) {
+                get((CompletableFuture<ResultNode>) result).process(consumer);
+            } else {
+                consumer.accept(((ExpressionNode) nodes.get(i)).valueToString(result));
+            }
+        }
+    }
+
+    private static ResultNode get(CompletableFuture<ResultNode> fu) {
+        try {
+            return fu.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new TemplateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+package io.quarkus.qute;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A template compiled into a class that writes the output directly, instead of resolving the nodes of the template one by
+ * one.
+ * <p>
+ * An implementation is generated at build time for a template whose expressions could be validated. The text is appended as
+ * is and the parts of the expressions are resolved by invoking the getters and reading the fields directly. The sections
+ * that could not be compiled are resolved by the interpreter, i.e. {@link TemplateNode#resolve(ResolutionContext)}.
+ * <p>
+ * A compiled template is only used if the template with the same id, parsed at runtime, has the same {@link #hash(SectionNode)
+ * hash}, and if tracing is not enabled. The data are checked before anything is rendered: if the data of a template instance
+ * were not set with {@link TemplateInstance#data(String, Object)} or do not match the types known at build time, then the
+ * compiled template throws {@link Fallback} and the template is rendered by the interpreter instead. If an intermediate value
+ * is {@code null} or an element does not match the type known at build time, then the output of the node being rendered is
+ * discarded and the node is resolved by the interpreter.
+ *
+ * @see EngineBuilder#addCompiledTemplate(CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the id of the template
+     */
+    String getTemplateId();
+
+    /**
+     *
+     * @return the hash of the template this class was compiled from
+     * @see #hash(SectionNode)
+     */
+    String getHash();
+
+    /**
+     *
+     * @param context
+     * @throws Fallback if the template must be rendered by the interpreter; nothing is rendered at that point
+     */
+    void render(Context context);
+
+    /**
+     * The nodes are collected depth-first; the index of a node in the list identifies the node in the generated code.
+     *
+     * @param root
+     * @return the nodes of the template
+     */
+    static List<TemplateNode> nodes(SectionNode root) {
+        List<TemplateNode> nodes = new ArrayList<>();
+        collectNodes(root, nodes);
+        return nodes;
+    }
+
+    /**
+     * The hash is computed from the text, the expressions and the sections of the template. It's used to detect a template
+     * modified after it was compiled, e.g. parsed with a different configuration.
+     *
+     * @param root
+     * @return the hash of the template
+     */
+    static String hash(SectionNode root) {
+        StringBuilder signature = new StringBuilder();
+        appendSignature(root, signature);
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(signature.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hash = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendSignature(SectionNode section, StringBuilder signature) {
+        signature.append(section.name);
+        for (SectionBlock block : section.blocks) {
+            signature.append('[').append(block.label).append(block.parameters);
+            for (TemplateNode node : block.nodes) {
+                signature.append('\n').append(node.kind()).append(':');
+                if (node.isText()) {
+                    String value = node.asText().getValue();
+                    signature.append(value.length()).append(':').append(value);
+                } else if (node.isSection()) {
+                    appendSignature(node.asSection(), signature);
+                } else {
+                    for (Expression expression : node.getExpressions()) {
+                        signature.append(expression.toOriginalString()).append(';');
+                    }
+                }
+            }
+            signature.append(']');
+        }
+    }
+
+    private static void collectNodes(SectionNode section, List<TemplateNode> nodes) {
+        for (SectionBlock block : section.blocks) {
+            for (TemplateNode node : block.nodes) {
+                nodes.add(node);
+                if (node.isSection()) {
+                    collectNodes(node.asSection(), nodes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds the output of a compiled template.
+     * <p>
+     * The output is buffered; the nodes resolved by the interpreter asynchronously are only processed once all of them are
+     * complete.
+     */
+    final class Context {
+
+        private final Object data;
+        private final ResolutionContext resolutionContext;
+        private final List<TemplateNode> nodes;
+        private StringBuilder builder;
+        // The text flushed before an asynchronous result and the results
+        private List<Object> results;
+        // The output before the node being rendered
+        private int markLength;
+        private int markResults;
+
+        Context(Object data, ResolutionContext resolutionContext, List<TemplateNode> nodes, int capacity) {
+            this.data = data;
+            this.resolutionContext = resolutionContext;
+            this.nodes = nodes;
+            this.builder = new StringBuilder(capacity);
+        }
+
+        /**
+         *
+         * @param key
+         * @return the data set with {@link TemplateInstance#data(String, Object)}
+         * @throws Fallback if no such data exist
+         */
+        public Object data(String key) {
+            if (data instanceof TemplateInstanceBase.DataMap dataMap && dataMap.appliesTo(key)) {
+                return dataMap.get(key);
+            }
+            throw new Fallback("Data not found: " + key);
+        }
+
+        /**
+         *
+         * @param text
+         */
+        public void append(String text) {
+            builder.append(text);
+        }
+
+        /**
+         * Appends the value of an expression, exactly like the {@link ExpressionNode} would do.
+         *
+         * @param value
+         * @param node the index of the {@link ExpressionNode}
+         */
+        public void value(Object value, int node) {
+            ExpressionNode expressionNode = (ExpressionNode) nodes.get(node);
+            if (value instanceof ResultNode || value instanceof CompletionStage) {
+                append(expressionNode.toResultNode(value));
+                return;
+            }
+            value = SingleResultNode.extractValue(value);
+            if (value != null) {
+                builder.append(expressionNode.hasEngineResultMappers() ? expressionNode.mapResult(value) : value.toString());
+            }
+        }
+
+        /**
+         * Resolves a node that could not be compiled.
+         *
+         * @param node the index of the node
+         */
+        public void resolve(int node) {
+            append(nodes.get(node).resolve(resolutionContext));
+        }
+
+        /**
+         * Marks the beginning of a compiled node of the root block.
+         *
+         * @see #fallback(int)
+         */
+        public void mark() {
+            markLength = builder.length();
+            markResults = results != null ? results.size() : 0;
+        }
+
+        /**
+         * Discards the output appended since the last {@link #mark()} and resolves the node by the interpreter instead.
+         *
+         * @param node the index of the node
+         */
+        public void fallback(int node) {
+            if (results != null && results.size() > markResults) {
+                // The text rendered before the mark was flushed with the text of the node
+                String flushed = markLength > 0 ? (String) results.get(markResults) : null;
+                results.subList(markResults, results.size()).clear();
+                builder = new StringBuilder();
+                if (flushed != null) {
+                    builder.append(flushed, 0, markLength);
+                }
+            } else {
+                builder.setLength(markLength);
+            }
+            resolve(node);
+        }
+
+        private void append(CompletionStage<ResultNode> result) {
+            if (result instanceof CompletedStage<ResultNode> completed && !completed.isFailure()) {
+                completed.get().process(builder::append);
+            } else {
+                if (results == null) {
+                    results = new ArrayList<>();
+                }
+                if (builder.length() > 0) {
+                    results.add(builder.toString());
+                    builder = new StringBuilder();
+                }
+                results.add(result);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        CompletionStage<ResultNode> complete() {
+            ResultNode text = new SingleResultNode(builder.toString());
+            if (results == null) {
+                return CompletedStage.of(text);
+            }
+            List<CompletionStage<ResultNode>> stages = new ArrayList<>(results.size() + 1);
+            for (Object result : results) {
+                stages.add(result instanceof String flushed ? CompletedStage.of(new SingleResultNode(flushed))
+                        : (CompletionStage<ResultNode>) result);
+            }
+            stages.add(CompletedStage.of(text));
+            return Results.process(stages);
+        }
+
+    }
+
+    /**
+     * Thrown by a compiled template if a node, or the whole template if the data do not match, must be rendered by the
+     * interpreter.
+     */
+    final class Fallback extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public Fallback(String message) {
+            super(message, null, false, false);
+        }
+
+    }
+
+}
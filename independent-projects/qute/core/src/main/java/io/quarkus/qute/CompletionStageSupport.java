@@ -30,4 +30,26 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         }
         return CompletedStage.of(result);
     }
+
+    /**
+     * Unlike {@link #toCompletionStage(Object)}, the given completed stage is reused if the result is not a
+     * {@link CompletionStage}.
+     *
+     * @param result
+     * @param completed the stage completed with the result
+     * @return the completion stage
+     */
+    @SuppressWarnings("unchecked")
+    static CompletionStage<Object> toCompletionStage(Object result, CompletedStage<Object> completed) {
+        if (result instanceof CompletableFuture) {
+            return (CompletableFuture<Object>) result;
+        } else if (result instanceof CompletedStage) {
+            return (CompletedStage<Object>) result;
+        } else if (result instanceof AbstractUni) {
+            return ((AbstractUni<Object>) result).subscribeAsCompletionStage();
+        } else if (UNRESTRICTED && result instanceof CompletionStage) {
+            return (CompletionStage<Object>) result;
+        }
+        return completed;
+    }
 }
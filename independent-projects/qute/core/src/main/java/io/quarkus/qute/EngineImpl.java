@@ -35,6 +35,7 @@ class EngineImpl implements Engine {
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
     final List<TemplateInstance.Initializer> initializers;
+    private final Map<String, CompiledTemplate> compiledTemplates;
     final boolean removeStandaloneLines;
     private final long timeout;
     private final boolean useAsyncTimeout;
@@ -54,6 +55,7 @@ class EngineImpl implements Engine {
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
         this.traceManager = builder.enableTracing ? new TraceManagerImpl() : null;
@@ -202,6 +204,9 @@ public EngineBuilder newBuilder() {
         for (Initializer initializer : initializers) {
             builder.addTemplateInstanceInitializer(initializer);
         }
+        for (CompiledTemplate compiledTemplate : compiledTemplates.values()) {
+            builder.addCompiledTemplate(compiledTemplate);
+        }
         builder.computeSectionHelper(sectionHelperFunc);
         for (ParserHook parserHook : parserHooks) {
             builder.addParserHook(parserHook);
@@ -209,6 +214,10 @@ public EngineBuilder newBuilder() {
         return builder;
     }
 
+    CompiledTemplate getCompiledTemplate(String templateId) {
+        return compiledTemplates.get(templateId);
+    }
+
     String generateId() {
         return "" + idGenerator.incrementAndGet();
     }
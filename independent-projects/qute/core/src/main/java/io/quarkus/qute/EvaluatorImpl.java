@@ -74,7 +74,18 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
+                CompletionStage<Object> result = matching[0].resolve(context);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    try {
+                        Object r = completed.get();
+                        return parts.size() > 1
+                                ? resolveReference(false, r, parts, resolutionContext, expression, 1)
+                                : CompletionStageSupport.toCompletionStage(r, completed);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> (parts.size() > 1)
                         ? resolveReference(false, r, parts, resolutionContext, expression, 1)
                         : CompletionStageSupport.toCompletionStage(r));
             } else {
@@ -123,16 +134,35 @@ private CompletionStage<Object> resolveNamespace(EvalContext context, Resolution
 
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, List<Part> parts,
             ResolutionContext resolutionContext, final Expression expression, int partIndex) {
-        Part part = parts.get(partIndex);
-        EvalContextImpl evalContext = tryParent ? new EvalContextImpl(ref, resolutionContext, part)
-                : new TerminalEvalContextImpl(ref, resolutionContext, part);
-        if (partIndex + 1 >= parts.size()) {
-            // The last part - no need to compose
-            return resolve(evalContext, null, true, expression, true, partIndex);
-        } else {
-            // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+        int firstIndex = partIndex;
+        try {
+            while (true) {
+                Part part = parts.get(partIndex);
+                EvalContextImpl evalContext = tryParent ? new EvalContextImpl(ref, resolutionContext, part)
+                        : new TerminalEvalContextImpl(ref, resolutionContext, part);
+                if (partIndex + 1 >= parts.size()) {
+                    // The last part - no need to compose
+                    return resolve(evalContext, null, true, expression, true, partIndex);
+                }
+                CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // The result is already available - continue with the next part synchronously
+                    ref = completed.get();
+                    // Next part - no need to try the parent context/outer scope
+                    tryParent = false;
+                    partIndex++;
+                } else {
+                    int nextIndex = partIndex + 1;
+                    return result
+                            .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, nextIndex));
+                }
+            }
+        } catch (Throwable e) {
+            if (partIndex > firstIndex) {
+                // The same as if the next part was resolved in CompletionStage#thenCompose()
+                return CompletedStage.failure(e);
+            }
+            throw e;
         }
     }
 
@@ -143,7 +173,20 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cached.resolve(evalContext);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // Synchronous resolver, e.g. a value resolver generated at build time
+                    try {
+                        Object r = completed.get();
+                        if (Results.isNotFound(r)) {
+                            return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+                        }
+                        return CompletionStageSupport.toCompletionStage(r, completed);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -206,9 +249,25 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             return CompletedStage.of(notFound);
         }
 
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // Synchronous resolver, e.g. a value resolver generated at build time
+            try {
+                Object r = completed.get();
+                if (Results.isNotFound(r)) {
+                    // Result not found - try the next resolver
+                    return resolve(evalContext, resolvers, false, expression, isLastPart, partIndex);
+                }
+                // Cache the first resolver where a result is found
+                evalContext.setCachedResolver(applicableResolver.getCachedResolver(evalContext));
+                return CompletionStageSupport.toCompletionStage(r, completed);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        return result.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
@@ -33,7 +33,67 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // The value is already available - no need to compose
+            try {
+                return toResultNode(completed.get());
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return result.thenCompose(this::toResultNode);
+    }
+
+    /**
+     * Synchronous variant of {@link #resolve(ResolutionContext)} that does not allocate a result node if the value is
+     * available immediately.
+     * <p>
+     * The value is not converted to a string here. Like the value of a {@link SingleResultNode}, it's mapped by the result
+     * mappers, or converted with {@link Object#toString()}, when the result is processed, i.e. by {@link BlockResultNode}.
+     *
+     * @param context
+     * @return the value to render, {@code null} if there is nothing to render, a {@link ResultNode}, or the
+     *         {@link CompletionStage} of the result otherwise
+     * @see #valueToString(Object)
+     */
+    Object resolveNow(ResolutionContext context) {
+        if (traceLevel) {
+            LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
+        }
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            try {
+                Object value = completed.get();
+                if (value instanceof ResultNode
+                        || value instanceof CompletableFuture
+                        || value instanceof CompletedStage
+                        || (unrestrictedCompletionStages && value instanceof CompletionStage)) {
+                    return toResultNode(value);
+                }
+                if (traceLevel) {
+                    LOG.tracef("Resolve {%s} completed:%s", expression.toOriginalString(), expression.getOrigin());
+                }
+                if (value instanceof CompletionStage) {
+                    // Rendered as is, but must not be mistaken for an asynchronous result
+                    return new SingleResultNode(value, this);
+                }
+                return SingleResultNode.extractValue(value);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return result.thenCompose(this::toResultNode);
+    }
+
+    /**
+     * Converts a value returned by {@link #resolveNow(ResolutionContext)} the same way {@link SingleResultNode} does.
+     *
+     * @param value a non-null value
+     * @return the string to render
+     */
+    String valueToString(Object value) {
+        return hasEngineResultMappers ? mapResult(value) : value.toString();
     }
 
     @Override
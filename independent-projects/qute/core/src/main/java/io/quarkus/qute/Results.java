@@ -53,8 +53,48 @@ static CompletionStage<ResultNode> resolveAndProcess(List<TemplateNode> nodes, R
             // Single node in the block
             return resolveWith(nodes.get(0), context, engine);
         }
+        if (engine.traceManager != null) {
+            return resolveAndProcessTraced(nodes, context, engine);
+        }
+        // The text nodes and the values available immediately are stored directly, i.e. without a result node; the values
+        // are converted to strings when the result is processed
+        Object[] allResults = new Object[nodesCount];
+        List<CompletableFuture<ResultNode>> asyncResults = null;
+        int idx = 0;
+        for (TemplateNode templateNode : nodes) {
+            Object result;
+            if (templateNode instanceof TextNode textNode) {
+                result = textNode;
+            } else if (templateNode instanceof ExpressionNode expressionNode) {
+                result = expressionNode.resolveNow(context);
+            } else {
+                result = doResolveWith(templateNode, context);
+            }
+            if (result instanceof CompletedStage<?> completed) {
+                if (completed.isFailure()) {
+                    @SuppressWarnings("unchecked")
+                    CompletionStage<ResultNode> failure = (CompletionStage<ResultNode>) completed;
+                    return failure;
+                }
+                result = completed.get();
+            } else if (result instanceof CompletionStage<?> stage) {
+                @SuppressWarnings("unchecked")
+                CompletableFuture<ResultNode> fu = (CompletableFuture<ResultNode>) stage.toCompletableFuture();
+                if (asyncResults == null) {
+                    asyncResults = new ArrayList<>();
+                }
+                asyncResults.add(fu);
+                result = fu;
+            }
+            allResults[idx++] = result;
+        }
+        return toCompletionStage(new BlockResultNode(nodes, allResults), asyncResults);
+    }
+
+    private static CompletionStage<ResultNode> resolveAndProcessTraced(List<TemplateNode> nodes, ResolutionContext context,
+            EngineImpl engine) {
         @SuppressWarnings("unchecked")
-        Supplier<ResultNode>[] allResults = new Supplier[nodesCount];
+        Supplier<ResultNode>[] allResults = new Supplier[nodes.size()];
         List<CompletableFuture<ResultNode>> asyncResults = null;
         int idx = 0;
         for (TemplateNode templateNode : nodes) {
@@ -71,14 +111,14 @@ static CompletionStage<ResultNode> resolveAndProcess(List<TemplateNode> nodes, R
                 allResults[idx++] = Futures.toSupplier(fu);
             }
         }
-        return toCompletionStage(allResults, asyncResults);
+        return toCompletionStage(new MultiResultNode(allResults), asyncResults);
     }
 
-    private static CompletionStage<ResultNode> toCompletionStage(Supplier<ResultNode>[] allResults,
+    private static CompletionStage<ResultNode> toCompletionStage(ResultNode resultNode,
             List<CompletableFuture<ResultNode>> asyncResults) {
         if (asyncResults == null) {
             // No async results present
-            return CompletedStage.of(new MultiResultNode(allResults));
+            return CompletedStage.of(resultNode);
         } else {
             CompletableFuture<ResultNode> ret = new CompletableFuture<ResultNode>();
             CompletionStage<?> cs;
@@ -92,7 +132,7 @@ private static CompletionStage<ResultNode> toCompletionStage(Supplier<ResultNode
                 if (t != null) {
                     ret.completeExceptionally(t);
                 } else {
-                    ret.complete(new MultiResultNode(allResults));
+                    ret.complete(resultNode);
                 }
             });
             return ret;
@@ -160,7 +200,7 @@ static CompletionStage<ResultNode> process(List<CompletionStage<ResultNode>> res
                 allResults[idx++] = Futures.toSupplier(fu);
             }
         }
-        return toCompletionStage(allResults, asyncResults);
+        return toCompletionStage(new MultiResultNode(allResults), asyncResults);
     }
 
     /**
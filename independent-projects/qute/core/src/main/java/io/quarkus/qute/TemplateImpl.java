@@ -43,6 +43,9 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // Initialized lazily because the nodes are optimized after the template is created
+    private final LazyValue<Compiled> compiled;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant,
             Optional<URI> source) {
         this.engine = engine;
@@ -56,6 +59,7 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        this.compiled = initCompiled(root);
     }
 
     @Override
@@ -134,6 +138,28 @@ public Optional<URI> getSource() {
         return source;
     }
 
+    private LazyValue<Compiled> initCompiled(SectionNode section) {
+        if (!section.name.equals(Parser.ROOT_HELPER_NAME) || engine.traceManager != null
+                || engine.getCompiledTemplate(templateId) == null) {
+            return null;
+        }
+        return new LazyValue<>(new Supplier<Compiled>() {
+
+            @Override
+            public Compiled get() {
+                CompiledTemplate compiledTemplate = engine.getCompiledTemplate(templateId);
+                String hash = CompiledTemplate.hash(section);
+                if (!hash.equals(compiledTemplate.getHash())) {
+                    // The template was modified after it was compiled
+                    LOG.debugf("Compiled template ignored for %s: expected hash %s but found %s", templateId,
+                            compiledTemplate.getHash(), hash);
+                    return Compiled.NONE;
+                }
+                return new Compiled(compiledTemplate, CompiledTemplate.nodes(section));
+            }
+        });
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -289,7 +315,7 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                 engine.getTraceManager().fireStartTemplate(event);
             }
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            resolve(data, rootContext).whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -321,6 +347,23 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             return result;
         }
 
+        private CompletionStage<ResultNode> resolve(Object data, ResolutionContext rootContext) {
+            Compiled c = compiled != null ? compiled.get() : Compiled.NONE;
+            if (c.template() != null) {
+                CompiledTemplate.Context context = new CompiledTemplate.Context(data, rootContext, c.nodes(), getCapacity());
+                try {
+                    c.template().render(context);
+                    return context.complete();
+                } catch (CompiledTemplate.Fallback e) {
+                    // Thrown before anything is rendered
+                    LOG.debugf("Compiled template not used for %s: %s", templateId, e.getMessage());
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return root.resolve(rootContext);
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -424,6 +467,12 @@ public TemplateInstance instance() {
 
     }
 
+    record Compiled(CompiledTemplate template, List<TemplateNode> nodes) {
+
+        static final Compiled NONE = new Compiled(null, null);
+
+    }
+
     static class DataNamespaceResolver implements NamespaceResolver {
 
         static final String ROOT_CONTEXT = "qute$rootContext";
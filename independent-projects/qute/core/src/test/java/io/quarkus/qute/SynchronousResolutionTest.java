@@ -0,0 +1,160 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.TemplateNode.Origin;
+
+/**
+ * The values returned as a {@link CompletedStage} are resolved without composing the stages, and the expressions of a
+ * section block are not converted to result nodes. The rendering must not differ from the asynchronous resolution.
+ */
+public class SynchronousResolutionTest {
+
+    @Test
+    public void testSyncAndAsyncParts() throws Exception {
+        CompletableFuture<Object> async = new CompletableFuture<>();
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("next")
+                        .resolveSync(ec -> ((Item) ec.getBase()).next()).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("later")
+                        .resolveAsync(ec -> async.thenApply(v -> ((Item) ec.getBase()).next())).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("name")
+                        .resolveSync(ec -> ((Item) ec.getBase()).name).build())
+                .build();
+        Template template = engine.parse("{item.next.next.name}:{item.next.later.next.name}");
+
+        CompletableFuture<String> result = template.data("item", new Item(0)).renderAsync().toCompletableFuture();
+        assertFalse(result.isDone());
+        async.complete(true);
+        assertEquals("2:3", result.get());
+        assertEquals("2", engine.parse("{item.next.next.name}").data("item", new Item(0)).render());
+    }
+
+    @Test
+    public void testFailureInLaterPart() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("next")
+                        .resolveSync(ec -> ((Item) ec.getBase()).next()).build())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Item.class).applyToName("boom")
+                        .resolveSync(ec -> {
+                            throw new IllegalStateException("boom");
+                        }).build())
+                .build();
+        for (String content : List.of("{item.next.boom}", "Item: {item.next.boom}!")) {
+            CompletableFuture<String> result = engine.parse(content).data("item", new Item(0)).renderAsync()
+                    .toCompletableFuture();
+            // The exception is propagated through the returned stage
+            assertTrue(result.isCompletedExceptionally());
+            ExecutionException e = assertThrows(ExecutionException.class, result::get);
+            Throwable cause = e.getCause();
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            assertEquals("boom", cause.getMessage());
+        }
+    }
+
+    @Test
+    public void testResultMappersInBlock() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        Engine engine = Engine.builder().addDefaults().addResultMapper(new ResultMapper() {
+
+            @Override
+            public boolean appliesTo(Origin origin, Object result) {
+                return result instanceof Mapped;
+            }
+
+            @Override
+            public String map(Object result, Expression expression) {
+                events.add("map:" + expression.toOriginalString());
+                return "M";
+            }
+        }).build();
+        Template template = engine.parse("{a}:{m}:{opt}{empty}{nothing}:{async}");
+        CompletableFuture<Object> async = new CompletableFuture<>();
+
+        CompletableFuture<String> result = template.instance()
+                .data("a", new Logged("a", events))
+                .data("m", new Mapped())
+                .data("opt", Optional.of("o"))
+                .data("empty", Optional.empty())
+                .data("nothing", null)
+                .data("async", async)
+                .renderAsync().toCompletableFuture();
+        // The values are converted when the result is processed, i.e. once all the results are available
+        assertFalse(result.isDone());
+        assertEquals(List.of(), events);
+
+        async.complete(new Logged("async", events));
+        assertEquals("a:M:o:async", result.get());
+        assertEquals(List.of("toString:a", "map:m", "toString:async"), events);
+
+        events.clear();
+        assertEquals("a:M:a:M", engine.parse("{#for i in items}{i}{#if i_hasNext}:{/if}{/for}")
+                .data("items", List.of(new Logged("a", events), new Mapped(), new Logged("a", events), new Mapped()))
+                .render());
+        assertEquals(List.of("toString:a", "map:i", "toString:a", "map:i"), events);
+    }
+
+    @Test
+    public void testEscapingInBlock() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(ValueResolvers.rawResolver())
+                .addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .build();
+        Template template = engine.parse("<p>{a}</p><p>{b.raw}</p>{#for i in items}<li>{i}</li>{/for}",
+                Variant.forContentType(Variant.TEXT_HTML));
+        List<String> items = new ArrayList<>();
+        items.add("<x>");
+        items.add("&");
+        assertEquals("<p>&lt;a&gt;</p><p><b></p><li>&lt;x&gt;</li><li>&amp;</li>",
+                template.data("a", "<a>").data("b", "<b>").data("items", items).render());
+    }
+
+    static class Item {
+
+        final String name;
+
+        Item(int index) {
+            this.name = String.valueOf(index);
+        }
+
+        Item next() {
+            return new Item(Integer.parseInt(name) + 1);
+        }
+
+    }
+
+    static class Mapped {
+    }
+
+    static class Logged {
+
+        private final String name;
+        private final List<String> events;
+
+        Logged(String name, List<String> events) {
+            this.name = name;
+            this.events = events;
+        }
+
+        @Override
+        public String toString() {
+            events.add("toString:" + name);
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,861 @@
+package io.quarkus.qute.generator;
+
+import static java.util.function.Predicate.not;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.fieldDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.methodDescOf;
+
+import java.lang.constant.ClassDesc;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ArrayType;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.PrimitiveType.Primitive;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.desc.ConstructorDesc;
+import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Mapper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode;
+
+/**
+ * Generates {@link CompiledTemplate}s.
+ * <p>
+ * The text of a template is appended as is. An expression is compiled if all its parts can be resolved at build time, i.e.
+ * the type of the first part is declared and the other parts are public members of public classes; the members are matched
+ * exactly like in the value resolvers generated by {@link ValueResolverGenerator}. {@code #if} sections with a single
+ * operand per block and {@code #for}/{@code #each} sections iterating over a collection or an array are compiled too.
+ * <p>
+ * A part is not compiled if another resolver may take precedence over the generated value resolver, i.e. if the part is
+ * shadowed (e.g. by a template extension method) or if the base class implements {@link Mapper}.
+ * <p>
+ * Any other node of the root block is resolved by the interpreter. A section that contains a node that can't be compiled
+ * inside a loop is resolved by the interpreter as a whole.
+ * <p>
+ * The data referenced by the compiled expressions are checked before anything is rendered. A compiled node of the root
+ * block that fails afterwards, e.g. because of a {@code null} intermediate value, is resolved by the interpreter.
+ */
+public class CompiledTemplateGenerator extends AbstractGenerator {
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    private static final String ALIAS = "alias";
+    private static final String ITERABLE = "iterable";
+    private static final String DEFAULT_ALIAS = "it";
+    private static final String ELSE = "else";
+    private static final String IF = "if";
+
+    // Root steps rendered by a single method, so that the methods do not exceed the size limit
+    private static final int STEPS_PER_METHOD = 64;
+    // Text constants must not exceed the size limit of a constant pool entry
+    private static final int TEXT_CHUNK_LENGTH = 16 * 1024;
+
+    private static final Set<DotName> ITERABLES = Set.of(DotName.createSimple(Iterable.class),
+            DotName.createSimple(java.util.Collection.class), DotName.createSimple(List.class),
+            DotName.createSimple(Set.class), DotName.createSimple(java.util.SortedSet.class),
+            DotName.createSimple(java.util.NavigableSet.class), DotName.createSimple(java.util.Queue.class),
+            DotName.createSimple(java.util.Deque.class), DotName.createSimple(ArrayList.class),
+            DotName.createSimple(java.util.LinkedList.class), DotName.createSimple(HashSet.class),
+            DotName.createSimple(java.util.LinkedHashSet.class), DotName.createSimple(java.util.TreeSet.class));
+    private static final DotName MAPPER = DotName.createSimple(Mapper.class);
+    private static final Set<DotName> ASYNC_TYPES = Set.of(DotNames.COMPLETION_STAGE,
+            DotName.createSimple(java.util.concurrent.CompletableFuture.class),
+            DotName.createSimple("io.smallrye.mutiny.Uni"));
+
+    private static final MethodDesc CONTEXT_DATA = MethodDesc.of(CompiledTemplate.Context.class, "data", Object.class,
+            String.class);
+    private static final MethodDesc CONTEXT_APPEND = MethodDesc.of(CompiledTemplate.Context.class, "append", void.class,
+            String.class);
+    private static final MethodDesc CONTEXT_VALUE = MethodDesc.of(CompiledTemplate.Context.class, "value", void.class,
+            Object.class, int.class);
+    private static final MethodDesc CONTEXT_RESOLVE = MethodDesc.of(CompiledTemplate.Context.class, "resolve", void.class,
+            int.class);
+    private static final MethodDesc CONTEXT_MARK = MethodDesc.of(CompiledTemplate.Context.class, "mark", void.class);
+    private static final MethodDesc CONTEXT_FALLBACK = MethodDesc.of(CompiledTemplate.Context.class, "fallback",
+            void.class, int.class);
+    private static final MethodDesc BOOLEANS_IS_FALSY = MethodDesc.of(Booleans.class, "isFalsy", boolean.class,
+            Object.class);
+    private static final ConstructorDesc FALLBACK = ConstructorDesc.of(CompiledTemplate.Fallback.class, String.class);
+
+    private static final Predicate<AnnotationTarget> MEMBERS = ((Predicate<AnnotationTarget>) ValueResolverGenerator::defaultFilter)
+            .and(not(ValueResolverGenerator::staticsFilter));
+
+    private final String packageName;
+    private final BiPredicate<Type, String> shadowed;
+    private final Map<DotName, ValueResolverGenerator.ScanResult> scans;
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param packageName the package of the generated classes
+     */
+    public CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, String packageName) {
+        this(index, classOutput, packageName, (type, name) -> false);
+    }
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param packageName the package of the generated classes
+     * @param shadowed tests whether a part with the given name, whose base is of the given type, may be resolved by a
+     *        resolver with higher priority than the generated value resolver, e.g. a template extension method
+     */
+    public CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, String packageName,
+            BiPredicate<Type, String> shadowed) {
+        super(index, classOutput);
+        this.packageName = packageName;
+        this.shadowed = shadowed;
+        this.scans = new HashMap<>();
+    }
+
+    /**
+     *
+     * @param template
+     * @return the name of the generated class, or {@code null} if no expression or section of the template can be compiled
+     */
+    public String generate(Template template) {
+        List<TemplateNode> nodes = CompiledTemplate.nodes(template.getRootNode());
+        Map<TemplateNode, Integer> indexes = new IdentityHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            indexes.put(nodes.get(i), i);
+        }
+        List<Step> steps = compile(template.getNodes(), Map.of(), true, indexes);
+        if (steps.stream().allMatch(s -> s instanceof Text || s instanceof Resolve)) {
+            LOGGER.debugf("Template %s not compiled: no expression or section could be compiled", template.getId());
+            return null;
+        }
+
+        String generatedClassName = generatedClassName(template.getId());
+        generatedTypes.add(generatedClassName);
+
+        gizmo.class_(generatedClassName, cc -> {
+            cc.implements_(CompiledTemplate.class);
+            cc.defaultConstructor();
+
+            cc.method("getTemplateId", mc -> {
+                mc.returning(String.class);
+                mc.body(bc -> bc.return_(Const.of(template.getId())));
+            });
+
+            String hash = CompiledTemplate.hash(template.getRootNode());
+            cc.method("getHash", mc -> {
+                mc.returning(String.class);
+                mc.body(bc -> bc.return_(Const.of(hash)));
+            });
+
+            List<MethodDesc> renderMethods = new ArrayList<>();
+            for (int i = 0; i < steps.size(); i += STEPS_PER_METHOD) {
+                List<Step> methodSteps = steps.subList(i, Math.min(i + STEPS_PER_METHOD, steps.size()));
+                renderMethods.add(cc.method("render" + renderMethods.size(), mc -> {
+                    mc.private_();
+                    mc.returning(void.class);
+                    ParamVar context = mc.parameter("context", CompiledTemplate.Context.class);
+                    mc.body(bc -> {
+                        emitRoot(bc, methodSteps, context);
+                        bc.return_();
+                    });
+                }));
+            }
+
+            Map<String, Type> data = new LinkedHashMap<>();
+            collectData(steps, data);
+            cc.method("render", mc -> {
+                mc.returning(void.class);
+                ParamVar context = mc.parameter("context", CompiledTemplate.Context.class);
+                mc.body(bc -> {
+                    // Check the data before anything is rendered
+                    for (Map.Entry<String, Type> e : data.entrySet()) {
+                        LocalVar value = bc.localVar("data", bc.invokeVirtual(CONTEXT_DATA, context, Const.of(e.getKey())));
+                        if (e.getValue() != null) {
+                            bc.ifNotInstanceOf(value, classDescOf(e.getValue()),
+                                    nib -> fallback(nib, "Unexpected value of {" + e.getKey() + "}"));
+                        }
+                    }
+                    for (MethodDesc renderMethod : renderMethods) {
+                        bc.invokeVirtual(renderMethod, cc.this_(), context);
+                    }
+                    bc.return_();
+                });
+            });
+        });
+        LOGGER.debugf("Template %s compiled: %s", template.getId(), generatedClassName);
+        return generatedClassName;
+    }
+
+    private String generatedClassName(String templateId) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < templateId.length(); i++) {
+            char c = templateId.charAt(i);
+            name.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            name.insert(0, '_');
+        }
+        String base = packageName + "." + name;
+        String generatedClassName = base + SUFFIX;
+        int idx = 1;
+        while (generatedTypes.contains(generatedClassName)) {
+            generatedClassName = base + "_" + idx++ + SUFFIX;
+        }
+        return generatedClassName;
+    }
+
+    /**
+     *
+     * @param nodes
+     * @param aliases the types of the loop aliases in scope
+     * @param root {@code true} if the nodes are resolved with the root resolution context
+     * @param indexes
+     * @return the steps, or {@code null} if a node can't be compiled outside the root resolution context
+     */
+    private List<Step> compile(List<TemplateNode> nodes, Map<String, Type> aliases, boolean root,
+            Map<TemplateNode, Integer> indexes) {
+        List<Step> steps = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (TemplateNode node : nodes) {
+            if (node.isText()) {
+                text.append(node.asText().getValue());
+                continue;
+            }
+            if (node.kind() == TemplateNode.Kind.PARAM_DECLARATION) {
+                continue;
+            }
+            Step step = null;
+            if (node.isExpression()) {
+                Chain chain = chain(node.getExpressions().get(0), aliases);
+                if (chain != null) {
+                    step = new Value(chain, indexes.get(node));
+                }
+            } else if (node.isSection()) {
+                SectionNode section = node.asSection();
+                if (section.getHelper() instanceof IfSectionHelper) {
+                    step = compileIf(section, aliases, root, indexes);
+                } else if (section.getHelper() instanceof LoopSectionHelper) {
+                    step = compileLoop(section, aliases, root, indexes);
+                }
+            }
+            if (step == null) {
+                if (!root) {
+                    return null;
+                }
+                step = new Resolve(indexes.get(node));
+            }
+            if (!text.isEmpty()) {
+                steps.add(new Text(text.toString()));
+                text.setLength(0);
+            }
+            steps.add(step);
+        }
+        if (!text.isEmpty()) {
+            steps.add(new Text(text.toString()));
+        }
+        return steps;
+    }
+
+    private Step compileIf(SectionNode section, Map<String, Type> aliases, boolean root,
+            Map<TemplateNode, Integer> indexes) {
+        List<Branch> branches = new ArrayList<>();
+        for (SectionBlock block : section.getBlocks()) {
+            List<String> params = new ArrayList<>(block.parameters.values());
+            Chain condition = null;
+            if (SectionHelperFactory.MAIN_BLOCK_NAME.equals(block.label)) {
+                if (params.size() != 1) {
+                    return null;
+                }
+            } else if (ELSE.equals(block.label)) {
+                if (!branches.isEmpty() && branches.get(branches.size() - 1).condition == null) {
+                    return null;
+                }
+                if (params.isEmpty()) {
+                    branches.add(new Branch(null, compile(block.nodes, aliases, root, indexes)));
+                    continue;
+                } else if (params.size() != 2 || !IF.equals(params.get(0))) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+            if (block.expressions.size() != 1) {
+                return null;
+            }
+            Expression expression = block.expressions.values().iterator().next();
+            if (!expression.toOriginalString().equals(params.get(params.size() - 1))) {
+                // E.g. a logical complement
+                return null;
+            }
+            condition = chain(expression, aliases);
+            if (condition == null || isAsync(condition.type)) {
+                return null;
+            }
+            branches.add(new Branch(condition, compile(block.nodes, aliases, root, indexes)));
+        }
+        for (Branch branch : branches) {
+            if (branch.steps == null) {
+                return null;
+            }
+        }
+        return new If(branches, indexes.get(section));
+    }
+
+    private Step compileLoop(SectionNode section, Map<String, Type> aliases, boolean root,
+            Map<TemplateNode, Integer> indexes) {
+        SectionBlock main = section.getBlocks().get(0);
+        SectionBlock elseBlock = null;
+        for (SectionBlock block : section.getBlocks()) {
+            if (block != main) {
+                if (!ELSE.equals(block.label) || elseBlock != null) {
+                    return null;
+                }
+                elseBlock = block;
+            }
+        }
+        Expression iterable = main.expressions.get(ITERABLE);
+        if (iterable == null) {
+            return null;
+        }
+        Chain chain = chain(iterable, aliases);
+        if (chain == null) {
+            return null;
+        }
+        Type elementType = elementType(chain.type);
+        if (elementType == null) {
+            return null;
+        }
+        String alias = main.parameters.get(ALIAS);
+        if (alias == null || alias.equals(Parameter.EMPTY)) {
+            alias = DEFAULT_ALIAS;
+        }
+        Map<String, Type> bodyAliases = new HashMap<>(aliases);
+        bodyAliases.put(alias, elementType);
+        // The body of a loop is resolved with a child resolution context
+        List<Step> body = compile(main.nodes, bodyAliases, false, indexes);
+        if (body == null) {
+            return null;
+        }
+        List<Step> elseSteps = null;
+        if (elseBlock != null) {
+            elseSteps = compile(elseBlock.nodes, aliases, root, indexes);
+            if (elseSteps == null) {
+                return null;
+            }
+        }
+        return new Loop(chain, alias, elementType, body, elseSteps, indexes.get(section));
+    }
+
+    /**
+     *
+     * @param expression
+     * @param aliases
+     * @return the compiled chain, or {@code null} if the expression can't be compiled
+     */
+    private Chain chain(Expression expression, Map<String, Type> aliases) {
+        if (expression.isLiteral() || expression.hasNamespace()) {
+            return null;
+        }
+        List<Expression.Part> parts = expression.getParts();
+        for (Expression.Part part : parts) {
+            if (part.isVirtualMethod()) {
+                return null;
+            }
+        }
+        Expression.Part first = parts.get(0);
+        Type type = aliases.get(first.getName());
+        boolean alias = type != null;
+        if (!alias) {
+            type = declaredType(first.getTypeInfo());
+            if (type == null) {
+                return null;
+            }
+        }
+        Type rootType = type;
+        List<AnnotationTarget> members = new ArrayList<>(parts.size() - 1);
+        for (int i = 1; i < parts.size(); i++) {
+            ClassInfo clazz = navigableClass(type);
+            if (clazz == null || shadowed.test(type, parts.get(i).getName())) {
+                return null;
+            }
+            AnnotationTarget member = findMember(clazz, parts.get(i).getName());
+            if (member == null) {
+                return null;
+            }
+            type = member.kind() == AnnotationTarget.Kind.METHOD ? member.asMethod().returnType()
+                    : member.asField().type();
+            members.add(member);
+        }
+        return new Chain(first.getName(), rootType, alias, members, type);
+    }
+
+    /**
+     * The type info of a part that references a parameter declaration has the form {@code |org.acme.Foo|}.
+     */
+    private Type declaredType(String typeInfo) {
+        if (typeInfo == null || !typeInfo.startsWith("|")) {
+            return null;
+        }
+        int end = typeInfo.lastIndexOf('|');
+        if (end < 1) {
+            return null;
+        }
+        String hint = typeInfo.substring(end + 1);
+        if (!hint.isEmpty() && !hint.equals(LoopSectionHelper.Factory.HINT_ELEMENT)) {
+            return null;
+        }
+        return parseType(typeInfo.substring(1, end));
+    }
+
+    static Type parseType(String value) {
+        value = value.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.endsWith("[]")) {
+            Type component = parseType(value.substring(0, value.length() - 2));
+            return component != null ? ArrayType.create(component, 1) : null;
+        }
+        int start = value.indexOf('<');
+        if (start != -1) {
+            if (!value.endsWith(">")) {
+                return null;
+            }
+            List<Type> arguments = new ArrayList<>();
+            int depth = 0;
+            int argStart = start + 1;
+            for (int i = argStart; i < value.length() - 1; i++) {
+                char c = value.charAt(i);
+                if (c == '<') {
+                    depth++;
+                } else if (c == '>') {
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    arguments.add(parseType(value.substring(argStart, i)));
+                    argStart = i + 1;
+                }
+            }
+            arguments.add(parseType(value.substring(argStart, value.length() - 1)));
+            if (arguments.contains(null)) {
+                return null;
+            }
+            return ParameterizedType.create(DotName.createSimple(value.substring(0, start).trim()),
+                    arguments.toArray(new Type[0]), null);
+        }
+        if (value.contains("?")) {
+            return null;
+        }
+        switch (value) {
+            case "boolean":
+                return PrimitiveType.BOOLEAN;
+            case "byte":
+                return PrimitiveType.BYTE;
+            case "char":
+                return PrimitiveType.CHAR;
+            case "double":
+                return PrimitiveType.DOUBLE;
+            case "float":
+                return PrimitiveType.FLOAT;
+            case "int":
+                return PrimitiveType.INT;
+            case "long":
+                return PrimitiveType.LONG;
+            case "short":
+                return PrimitiveType.SHORT;
+            default:
+                return ClassType.create(DotName.createSimple(value));
+        }
+    }
+
+    /**
+     *
+     * @param type
+     * @return the class whose members can be invoked directly, or {@code null}
+     */
+    private ClassInfo navigableClass(Type type) {
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        if (isAsync(type)) {
+            return null;
+        }
+        String name = type.name().toString();
+        if (name.startsWith("java.") || name.startsWith("javax.")) {
+            // JDK classes are usually resolved by built-in resolvers and extension methods
+            return null;
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        // The mapper resolver takes precedence over the generated value resolvers
+        return clazz != null && isAccessible(clazz) && !isMapper(clazz) ? clazz : null;
+    }
+
+    private boolean isMapper(ClassInfo clazz) {
+        if (clazz.interfaceNames().contains(MAPPER)) {
+            return true;
+        }
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            ClassInfo interfaceClass = index.getClassByName(interfaceName);
+            if (interfaceClass != null && isMapper(interfaceClass)) {
+                return true;
+            }
+        }
+        if (clazz.superName() != null && !clazz.superName().equals(DotNames.OBJECT)) {
+            ClassInfo superClass = index.getClassByName(clazz.superName());
+            return superClass != null && isMapper(superClass);
+        }
+        return false;
+    }
+
+    private boolean isAccessible(ClassInfo clazz) {
+        while (clazz != null) {
+            if (!Modifier.isPublic(clazz.flags())) {
+                return false;
+            }
+            if (clazz.enclosingClass() == null) {
+                return true;
+            }
+            clazz = index.getClassByName(clazz.enclosingClass());
+        }
+        return false;
+    }
+
+    /**
+     * Matches a member exactly like the value resolver generated for the class does.
+     */
+    private AnnotationTarget findMember(ClassInfo clazz, String name) {
+        ValueResolverGenerator.ScanResult result = scans.computeIfAbsent(clazz.name(),
+                n -> ValueResolverGenerator.scan(index, clazz, MEMBERS, false));
+        List<ValueResolverGenerator.MethodKey> noParamMethods = result.noParamMethods();
+        AnnotationTarget member = null;
+        Set<String> matchedNames = new HashSet<>();
+        for (ValueResolverGenerator.MethodKey methodKey : noParamMethods) {
+            MethodInfo method = methodKey.method;
+            if (matchedNames.add(method.name()) && method.name().equals(name)) {
+                member = method;
+                break;
+            }
+            String propertyName = ValueResolverGenerator.isGetterName(method.name(), method.returnType())
+                    ? ValueResolverGenerator.getPropertyName(method.name())
+                    : null;
+            if (propertyName != null
+                    && noParamMethods.stream().noneMatch(mk -> mk.name.equals(propertyName))
+                    && matchedNames.add(propertyName)
+                    && propertyName.equals(name)) {
+                member = method;
+                break;
+            }
+        }
+        if (member == null) {
+            for (FieldInfo field : result.fields()) {
+                if (matchedNames.add(field.name()) && field.name().equals(name)) {
+                    member = field;
+                    break;
+                }
+            }
+        }
+        if (member == null) {
+            return null;
+        }
+        ClassInfo declaringClass = member.kind() == AnnotationTarget.Kind.METHOD ? member.asMethod().declaringClass()
+                : member.asField().declaringClass();
+        return isAccessible(declaringClass) ? member : null;
+    }
+
+    private Type elementType(Type type) {
+        Type element;
+        if (type.kind() == Type.Kind.ARRAY) {
+            ArrayType arrayType = type.asArrayType();
+            if (arrayType.dimensions() != 1) {
+                return null;
+            }
+            element = arrayType.constituent();
+        } else if (type.kind() == Type.Kind.PARAMETERIZED_TYPE && ITERABLES.contains(type.name())) {
+            List<Type> arguments = type.asParameterizedType().arguments();
+            if (arguments.size() != 1) {
+                return null;
+            }
+            element = arguments.get(0);
+            if (element.kind() == Type.Kind.WILDCARD_TYPE) {
+                if (element.asWildcardType().superBound() != null) {
+                    return null;
+                }
+                element = element.asWildcardType().extendsBound();
+            }
+        } else {
+            return null;
+        }
+        return element.kind() == Type.Kind.CLASS || element.kind() == Type.Kind.PARAMETERIZED_TYPE ? element : null;
+    }
+
+    private boolean isAsync(Type type) {
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return false;
+        }
+        // The value of a member declared as Object may be a CompletionStage
+        return type.name().equals(DotNames.OBJECT) || ASYNC_TYPES.contains(type.name()) || hasCompletionStage(type);
+    }
+
+    /**
+     * The data of the expressions that are not loop aliases; the type is {@code null} if the data are not navigated.
+     */
+    private void collectData(List<Step> steps, Map<String, Type> data) {
+        for (Step step : steps) {
+            if (step instanceof Value value) {
+                collectData(value.chain, data);
+            } else if (step instanceof If ifStep) {
+                for (Branch branch : ifStep.branches) {
+                    if (branch.condition != null) {
+                        collectData(branch.condition, data);
+                    }
+                    collectData(branch.steps, data);
+                }
+            } else if (step instanceof Loop loop) {
+                collectData(loop.iterable, data);
+                collectData(loop.body, data);
+                if (loop.elseSteps != null) {
+                    collectData(loop.elseSteps, data);
+                }
+            }
+        }
+    }
+
+    private void collectData(Chain chain, Map<String, Type> data) {
+        if (!chain.alias) {
+            if (chain.members.isEmpty()) {
+                data.putIfAbsent(chain.root, null);
+            } else if (data.get(chain.root) == null) {
+                data.put(chain.root, chain.rootType);
+            }
+        }
+    }
+
+    /**
+     * A compiled node of the root block that fails is resolved by the interpreter.
+     */
+    private void emitRoot(BlockCreator bc, List<Step> steps, ParamVar context) {
+        for (Step step : steps) {
+            int node;
+            if (step instanceof Value value) {
+                node = value.node;
+            } else if (step instanceof If ifStep) {
+                node = ifStep.node;
+            } else if (step instanceof Loop loop) {
+                node = loop.node;
+            } else {
+                emit(bc, List.of(step), context, Map.of());
+                continue;
+            }
+            bc.invokeVirtual(CONTEXT_MARK, context);
+            bc.try_(tc -> {
+                tc.body(b -> emit(b, List.of(step), context, Map.of()));
+                tc.catch_(CompiledTemplate.Fallback.class, "e",
+                        (cb, e) -> cb.invokeVirtual(CONTEXT_FALLBACK, context, Const.of(node)));
+            });
+        }
+    }
+
+    private void emit(BlockCreator bc, List<Step> steps, ParamVar context, Map<String, LocalVar> aliases) {
+        for (Step step : steps) {
+            if (step instanceof Text text) {
+                String value = text.value;
+                for (int i = 0; i < value.length(); i += TEXT_CHUNK_LENGTH) {
+                    bc.invokeVirtual(CONTEXT_APPEND, context,
+                            Const.of(value.substring(i, Math.min(i + TEXT_CHUNK_LENGTH, value.length()))));
+                }
+            } else if (step instanceof Resolve resolve) {
+                bc.invokeVirtual(CONTEXT_RESOLVE, context, Const.of(resolve.node));
+            } else if (step instanceof Value value) {
+                Expr val = emitChain(bc, value.chain, context, aliases);
+                if (value.chain.type.kind() == Type.Kind.PRIMITIVE) {
+                    val = bc.box(val);
+                }
+                bc.invokeVirtual(CONTEXT_VALUE, context, val, Const.of(value.node));
+            } else if (step instanceof If ifStep) {
+                emitBranches(bc, ifStep.branches, 0, context, aliases);
+            } else if (step instanceof Loop loop) {
+                emitLoop(bc, loop, context, aliases);
+            }
+        }
+    }
+
+    private void emitBranches(BlockCreator bc, List<Branch> branches, int idx, ParamVar context,
+            Map<String, LocalVar> aliases) {
+        Branch branch = branches.get(idx);
+        if (branch.condition == null) {
+            // {#else}
+            emit(bc, branch.steps, context, aliases);
+            return;
+        }
+        Expr val = emitChain(bc, branch.condition, context, aliases);
+        boolean hasNext = idx + 1 < branches.size();
+        if (branch.condition.type.kind() == Type.Kind.PRIMITIVE
+                && branch.condition.type.asPrimitiveType().primitive() == Primitive.BOOLEAN) {
+            if (hasNext) {
+                bc.ifElse(val, t -> emit(t, branch.steps, context, aliases),
+                        f -> emitBranches(f, branches, idx + 1, context, aliases));
+            } else {
+                bc.if_(val, t -> emit(t, branch.steps, context, aliases));
+            }
+        } else {
+            if (branch.condition.type.kind() == Type.Kind.PRIMITIVE) {
+                val = bc.box(val);
+            }
+            Expr falsy = bc.invokeStatic(BOOLEANS_IS_FALSY, val);
+            if (hasNext) {
+                bc.ifElse(falsy, f -> emitBranches(f, branches, idx + 1, context, aliases),
+                        t -> emit(t, branch.steps, context, aliases));
+            } else {
+                bc.ifNot(falsy, t -> emit(t, branch.steps, context, aliases));
+            }
+        }
+    }
+
+    private void emitLoop(BlockCreator bc, Loop loop, ParamVar context, Map<String, LocalVar> aliases) {
+        LocalVar iterable = bc.localVar("iterable", emitChain(bc, loop.iterable, context, aliases));
+        ClassDesc elementClass = classDescOf(loop.elementType);
+        // A null iterable is a no-op
+        bc.ifNotNull(iterable, nn -> {
+            LocalVar items = checkIterable(nn, loop.iterable, iterable);
+            LocalVar empty = loop.elseSteps != null ? nn.localVar("empty", Const.of(true)) : null;
+            nn.forEach(items, (lb, element) -> {
+                if (empty != null) {
+                    lb.set(empty, Const.of(false));
+                }
+                lb.ifNotInstanceOf(element, elementClass, nib -> fallback(nib, "Unexpected element of {"
+                        + loop.iterable.root + "}"));
+                Map<String, LocalVar> bodyAliases = new HashMap<>(aliases);
+                bodyAliases.put(loop.alias, lb.localVar(loop.alias, lb.cast(element, elementClass)));
+                emit(lb, loop.body, context, bodyAliases);
+            });
+            if (empty != null) {
+                nn.if_(empty, eb -> emit(eb, loop.elseSteps, context, aliases));
+            }
+        });
+    }
+
+    /**
+     * The data that are not navigated are not checked before rendering, i.e. the type of the iterable is checked here.
+     */
+    private LocalVar checkIterable(BlockCreator bc, Chain chain, LocalVar iterable) {
+        if (chain.alias || !chain.members.isEmpty()) {
+            return iterable;
+        }
+        ClassDesc iterableClass = classDescOf(chain.type);
+        bc.ifNotInstanceOf(iterable, iterableClass, nib -> fallback(nib, "Unexpected value of {" + chain.root + "}"));
+        return bc.localVar("items", bc.cast(iterable, iterableClass));
+    }
+
+    private Expr emitChain(BlockCreator bc, Chain chain, ParamVar context, Map<String, LocalVar> aliases) {
+        Expr current;
+        if (chain.alias) {
+            current = aliases.get(chain.root);
+        } else {
+            current = bc.invokeVirtual(CONTEXT_DATA, context, Const.of(chain.root));
+        }
+        Type type = chain.rootType;
+        if (!chain.alias && chain.members.isEmpty() && type.kind() == Type.Kind.PRIMITIVE) {
+            // The data that are not navigated are not checked before rendering
+            ClassDesc boxedClass = classDescOf(PrimitiveType.box(type.asPrimitiveType()));
+            LocalVar value = bc.localVar("value", current);
+            bc.ifNotInstanceOf(value, boxedClass, nib -> fallback(nib, "Unexpected value of {" + chain.root + "}"));
+            return bc.unbox(bc.cast(value, boxedClass));
+        }
+        for (int i = 0; i < chain.members.size(); i++) {
+            LocalVar base = bc.localVar("base", current);
+            if (i == 0 && !chain.alias) {
+                ClassDesc baseClass = classDescOf(type);
+                bc.ifNotInstanceOf(base, baseClass, nib -> fallback(nib, "Unexpected value of {" + chain.root + "}"));
+                base = bc.localVar("base", bc.cast(base, baseClass));
+            } else if (i > 0) {
+                bc.ifNull(base, nb -> fallback(nb, "Null value in {" + chain.root + "...}"));
+            }
+            AnnotationTarget member = chain.members.get(i);
+            if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                MethodInfo method = member.asMethod();
+                current = method.declaringClass().isInterface()
+                        ? bc.invokeInterface(methodDescOf(method), base)
+                        : bc.invokeVirtual(methodDescOf(method), base);
+                type = method.returnType();
+            } else {
+                FieldInfo field = member.asField();
+                current = base.field(fieldDescOf(field));
+                type = field.type();
+            }
+        }
+        return current;
+    }
+
+    private void fallback(BlockCreator bc, String message) {
+        bc.throw_(bc.new_(FALLBACK, Const.of(message)));
+    }
+
+    /**
+     * A compiled expression.
+     *
+     * @param root the name of the first part
+     * @param rootType the type of the first part
+     * @param alias {@code true} if the first part is a loop alias
+     * @param members the members matching the other parts
+     * @param type the type of the value
+     */
+    record Chain(String root, Type rootType, boolean alias, List<AnnotationTarget> members, Type type) {
+    }
+
+    interface Step {
+    }
+
+    record Text(String value) implements Step {
+    }
+
+    record Resolve(int node) implements Step {
+    }
+
+    record Value(Chain chain, int node) implements Step {
+    }
+
+    record Branch(Chain condition, List<Step> steps) {
+    }
+
+    record If(List<Branch> branches, int node) implements Step {
+    }
+
+    record Loop(Chain iterable, String alias, Type elementType, List<Step> body, List<Step> elseSteps,
+            int node) implements Step {
+    }
+
+}
@@ -240,6 +240,14 @@ private void generate(DotName className, int priority) {
 
     ScanResult scan(ClassInfo clazz,
             Predicate<AnnotationTarget> filter, boolean ignoreSuperclasses) {
+        return scan(index, clazz, filter, ignoreSuperclasses);
+    }
+
+    /**
+     * Collects the members of the given class that are accessed by the generated value resolver.
+     */
+    static ScanResult scan(IndexView index, ClassInfo clazz,
+            Predicate<AnnotationTarget> filter, boolean ignoreSuperclasses) {
 
         // First collect methods and fields from the class hierarchy
         Set<MethodKey> methods = new HashSet<>();
@@ -0,0 +1,306 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.HtmlEscaper;
+import io.quarkus.qute.Mapper;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.qute.Variant;
+
+public class CompiledTemplateGeneratorTest {
+
+    static final String ORDER = "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}\n"
+            + "<h1>{order.id}</h1>\n"
+            + "{#if order.paid}Paid{#else if order.note}Note: {order.note}{#else}Unpaid{/if}\n"
+            + "<ul>\n"
+            + "{#for line in order.lines}\n"
+            + "<li>{line.name} x {line.quantity}{#if line.gift} (gift){/if}</li>\n"
+            + "{#else}\n"
+            + "<li>No lines</li>\n"
+            + "{/for}\n"
+            + "</ul>\n"
+            + "{#each order.tags}{it}{/each}\n"
+            + "{#let total=2}{total}{/let}\n"
+            + "{order.customer.name}";
+
+    @Test
+    public void testCompiledTemplate() throws Exception {
+        CompiledTemplate compiled = compile(ORDER, "order.html");
+        // Without the reflection resolver the interpreter would not be able to resolve the properties
+        Engine engine = engine(compiled, false);
+        Template template = engine.parse(ORDER, Variant.forContentType(Variant.TEXT_HTML), "order.html");
+        Order order = new Order("<1>", true, Optional.empty(), new Customer("Martin"),
+                List.of(new Line("apple", 2, false), new Line("pear", 1, true)), new String[] { "a", "b" });
+        assertEquals("<h1>&lt;1&gt;</h1>\n"
+                + "Paid\n"
+                + "<ul>\n"
+                + "<li>apple x 2</li>\n"
+                + "<li>pear x 1 (gift)</li>\n"
+                + "</ul>\n"
+                + "ab\n"
+                + "2\n"
+                + "Martin", template.data("order", order).render());
+        assertEquals(interpreter(order), template.data("order", order).render());
+
+        order = new Order("2", false, Optional.of("Soon"), new Customer("Jim"), List.of(), new String[0]);
+        assertEquals(interpreter(order), template.data("order", order).render());
+        order = new Order("3", false, Optional.empty(), new Customer("Jim"), List.of(), null);
+        assertEquals(interpreter(order), template.data("order", order).render());
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        CompiledTemplate compiled = compile(ORDER, "order.html");
+        Engine engine = engine(compiled, true);
+        Template template = engine.parse(ORDER, Variant.forContentType(Variant.TEXT_HTML), "order.html");
+        // Null intermediate value - the interpreter fails
+        Order order = new Order("1", true, Optional.empty(), null, List.of(), null);
+        assertThrows(TemplateException.class, () -> template.data("order", order).render());
+        // Null element
+        Order nullLine = new Order("1", true, Optional.empty(), new Customer("Martin"),
+                java.util.Arrays.asList(new Line("apple", 2, false), null), null);
+        assertThrows(TemplateException.class, () -> template.data("order", nullLine).render());
+
+        // Data not set with data(String, Object)
+        Order data = new Order("1", true, Optional.empty(), new Customer("Martin"), List.of(), null);
+        assertEquals(template.data("order", data).render(), template.data(java.util.Map.of("order", data)).render());
+    }
+
+    @Test
+    public void testTemplateModified() throws Exception {
+        CompiledTemplate compiled = compile("{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Customer customer}"
+                + "Hello {customer.name}!", "hello.txt");
+        assertEquals("Hello Martin!", engine(compiled, false)
+                .parse("{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Customer customer}Hello {customer.name}!",
+                        null, "hello.txt")
+                .data("customer", new Customer("Martin")).render());
+        // The compiled template must be ignored
+        assertEquals("Hi Martin!", engine(compiled, true)
+                .parse("{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Customer customer}Hi {customer.name}{#if true}!{/if}",
+                        null, "hello.txt")
+                .data("customer", new Customer("Martin")).render());
+        // Same number of nodes
+        assertEquals("Hi Martin?", engine(compiled, true)
+                .parse("{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Customer customer}Hi {customer.name}?",
+                        null, "hello.txt")
+                .data("customer", new Customer("Martin")).render());
+    }
+
+    @Test
+    public void testNodeFallback() throws Exception {
+        String content = "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}"
+                + "{order.id}:{#for line in order.lines}{line.name},{/for}:{order.customer.name}:{order.id}";
+        CompiledTemplate compiled = compile(content, "node.txt");
+        Engine interpreter = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .strictRendering(false).build();
+        Engine engine = interpreter.newBuilder().addCompiledTemplate(compiled).build();
+        Template template = engine.parse(content, null, "node.txt");
+
+        // Null intermediate value
+        Order order = new Order("1", true, Optional.empty(), null, List.of(new Line("apple", 2, false)), null);
+        String expected = interpreter.parse(content).data("order", order).render();
+        order.idCalls = 0;
+        assertEquals(expected, template.data("order", order).render());
+        // Only the failed node is resolved by the interpreter, i.e. the other getters are not invoked again
+        assertEquals(2, order.idCalls);
+
+        // Null element - the output of the loop is discarded before the loop is resolved by the interpreter
+        order = new Order("1", true, Optional.empty(), new Customer("Martin"),
+                java.util.Arrays.asList(new Line("apple", 2, false), null, new Line("pear", 1, false)), null);
+        expected = interpreter.parse(content).data("order", order).render();
+        order.idCalls = 0;
+        assertEquals(expected, template.data("order", order).render());
+        assertEquals(2, order.idCalls);
+    }
+
+    @Test
+    public void testUnexpectedData() throws Exception {
+        String content = "{@java.util.List<io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Line> lines}"
+                + "{@boolean flag}"
+                + "{#for line in lines}{line.name},{/for}{#if flag}!{/if}";
+        CompiledTemplate compiled = compile(content, "unexpected.txt");
+        Template template = engine(compiled, true).parse(content, null, "unexpected.txt");
+        assertEquals("apple,!", template.data("lines", List.of(new Line("apple", 2, false))).data("flag", true).render());
+        // The data that are not navigated are resolved by the interpreter if they are not of the declared type
+        assertEquals("apple,!", template.data("lines", new Line[] { new Line("apple", 2, false) }).data("flag", true).render());
+        assertEquals("apple,!", template.data("lines", List.of(new Line("apple", 2, false))).data("flag", "yes").render());
+    }
+
+    @Test
+    public void testShadowedPart() throws Exception {
+        String content = "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Customer customer}"
+                + "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Order order}"
+                + "{customer.name}:{order.id}:{order.settings.currency}";
+        // customer.name is matched by a template extension method
+        BiPredicate<Type, String> shadowed = (type, name) -> type.name().toString().endsWith("$Customer")
+                && name.equals("name");
+        Template template = Engine.builder().addDefaults().build().parse(content, null, "shadowed.txt");
+        String className = generator(shadowed).generate(template);
+        assertNotNull(className);
+        CompiledTemplate compiled = (CompiledTemplate) CompiledTemplateGeneratorTest.class.getClassLoader()
+                .loadClass(className).getDeclaredConstructor().newInstance();
+
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Customer.class).applyToName("name")
+                        .priority(20).resolveSync(ec -> "Mr. " + ((Customer) ec.getBase()).getName()).build())
+                .addCompiledTemplate(compiled).build();
+        Order order = new Order("1", true, Optional.empty(), new Customer("Martin"), List.of(), null);
+        // The shadowed part and the property of a mapper are resolved by the interpreter
+        assertEquals("Mr. Martin:1:EUR", engine.parse(content, null, "shadowed.txt").data("customer", order.getCustomer())
+                .data("order", order).render());
+
+        Template nothing = Engine.builder().addDefaults().build().parse(
+                "{@io.quarkus.qute.generator.CompiledTemplateGeneratorTest$Customer customer}{customer.name}", null,
+                "nothing.txt");
+        assertNull(generator(shadowed).generate(nothing));
+    }
+
+    @Test
+    public void testNothingToCompile() throws IOException {
+        Template template = Engine.builder().addDefaults().build().parse("Hello {name}{#let foo=1}{foo}{/let}!", null,
+                "nothing.txt");
+        assertNull(generator().generate(template));
+    }
+
+    @Test
+    public void testParseType() {
+        assertEquals("java.util.Map<java.lang.String, java.util.List<org.acme.Foo>>",
+                CompiledTemplateGenerator.parseType("java.util.Map<java.lang.String,java.util.List<org.acme.Foo>>")
+                        .toString());
+        assertEquals("org.acme.Foo[]", CompiledTemplateGenerator.parseType("org.acme.Foo[]").toString());
+        assertEquals("int", CompiledTemplateGenerator.parseType("int").toString());
+        assertNull(CompiledTemplateGenerator.parseType("java.util.List<? extends org.acme.Foo>"));
+    }
+
+    private String interpreter(Order order) {
+        return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML))).build()
+                .parse(ORDER, Variant.forContentType(Variant.TEXT_HTML))
+                .data("order", order).render();
+    }
+
+    private Engine engine(CompiledTemplate compiled, boolean reflection) {
+        var builder = Engine.builder().addDefaults()
+                .addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .addCompiledTemplate(compiled);
+        if (reflection) {
+            builder.addValueResolver(new ReflectionValueResolver());
+        }
+        return builder.build();
+    }
+
+    private CompiledTemplate compile(String content, String id) throws Exception {
+        Template template = Engine.builder().addDefaults().build().parse(content, null, id);
+        String className = generator().generate(template);
+        assertNotNull(className);
+        return (CompiledTemplate) CompiledTemplateGeneratorTest.class.getClassLoader().loadClass(className)
+                .getDeclaredConstructor().newInstance();
+    }
+
+    private CompiledTemplateGenerator generator() throws IOException {
+        return generator((type, name) -> false);
+    }
+
+    private CompiledTemplateGenerator generator(BiPredicate<Type, String> shadowed) throws IOException {
+        Index index = Index.of(CompiledTemplateGeneratorTest.class, Order.class, Line.class, Customer.class, Settings.class,
+                Mapper.class, List.class, Optional.class);
+        return new CompiledTemplateGenerator(index, ClassOutput.fileWriter(new File("target/test-classes/").toPath()),
+                "io.quarkus.qute.generator", shadowed);
+    }
+
+    public static class Order {
+
+        private final String id;
+        private final boolean paid;
+        private final Optional<String> note;
+        private final Customer customer;
+        private final List<Line> lines;
+        public final String[] tags;
+        int idCalls;
+
+        public Order(String id, boolean paid, Optional<String> note, Customer customer, List<Line> lines, String[] tags) {
+            this.id = id;
+            this.paid = paid;
+            this.note = note;
+            this.customer = customer;
+            this.lines = lines;
+            this.tags = tags;
+        }
+
+        public String getId() {
+            idCalls++;
+            return id;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public Optional<String> getNote() {
+            return note;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public Settings getSettings() {
+            return new Settings();
+        }
+
+    }
+
+    public static class Settings implements Mapper {
+
+        public String getCurrency() {
+            return "USD";
+        }
+
+        @Override
+        public Object get(String key) {
+            return "EUR";
+        }
+
+    }
+
+    public record Line(String name, int quantity, boolean gift) {
+    }
+
+    public static class Customer {
+
+        private final String name;
+
+        public Customer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
@@ -29,6 +29,7 @@
     protected int position;
     protected Throwable throwable;
     private boolean suspended = false;
+    private boolean suspendedOnce = false;
     private volatile boolean requestScopeActivated = false;
     private boolean running = false;
     private volatile Executor executor; // ephemerally set by handlers to signal that we resume, it needs to be on this executor
@@ -42,6 +43,8 @@
     private boolean abortHandlerChainStarted;
 
     private boolean closed = false;
+    // only set when use after release detection is enabled, records where this context was released
+    private Throwable releasedAt;
 
     public AbstractResteasyReactiveContext(H[] handlerChain, H[] abortHandlerChain, ThreadSetupAction requestContext) {
         this.handlers = handlerChain;
@@ -50,7 +53,9 @@ public AbstractResteasyReactiveContext(H[] handlerChain, H[] abortHandlerChain,
     }
 
     public void suspend() {
+        checkNotReleased();
         suspended = true;
+        suspendedOnce = true;
     }
 
     public void resume() {
@@ -67,6 +72,7 @@ public synchronized void resume(Throwable throwable, boolean keepTarget) {
     }
 
     public synchronized void resume(Executor executor) {
+        checkNotReleased();
         if (running) {
             this.executor = executor;
             if (executor == null) {
@@ -133,6 +139,7 @@ protected boolean isRequestScopeManagementRequired() {
 
     @Override
     public void run() {
+        checkNotReleased();
         running = true;
         boolean processingSuspended = false;
         //if this is a blocking target we don't activate for the initial non-blocking part
@@ -291,6 +298,7 @@ public void restart(H[] newHandlerChain) {
     }
 
     public void restart(H[] newHandlerChain, boolean keepTarget) {
+        checkNotReleased();
         this.handlers = newHandlerChain;
         position = 0;
         restarted(keepTarget);
@@ -304,6 +312,9 @@ public boolean isSuspended() {
 
     public T setSuspended(boolean suspended) {
         this.suspended = suspended;
+        if (suspended) {
+            suspendedOnce = true;
+        }
         return (T) this;
     }
 
@@ -429,4 +440,49 @@ public synchronized void registerConnectionCallback(ConnectionCallback callback)
     public void setAbortHandlerChainStarted(boolean value) {
         abortHandlerChainStarted = value;
     }
+
+    /**
+     * @return {@code true} if processing has been suspended at least once, in which case this context may have been
+     *         handed over to other threads or to asynchronous callbacks
+     */
+    protected boolean hasBeenSuspended() {
+        return suspendedOnce;
+    }
+
+    /**
+     * Drops all the state of the request that was processed, so that this context can be used to process a new one.
+     * This must only be called once the previous request is completely done with this context.
+     */
+    protected void reset(H[] handlerChain, H[] abortHandlerChain) {
+        this.handlers = handlerChain;
+        this.abortHandlerChain = abortHandlerChain;
+        position = 0;
+        throwable = null;
+        suspended = false;
+        suspendedOnce = false;
+        requestScopeActivated = false;
+        running = false;
+        executor = null;
+        lastExecutor = null;
+        properties = null;
+        currentRequestScope = null;
+        completionCallbacks = null;
+        abortHandlerChainStarted = false;
+        closed = false;
+        releasedAt = null;
+    }
+
+    /**
+     * Marks this context as released, any subsequent attempt to run, resume, suspend or restart it will fail with an
+     * exception that has {@code releasedAt} as its cause.
+     */
+    protected void markReleased(Throwable releasedAt) {
+        this.releasedAt = releasedAt;
+    }
+
+    private void checkNotReleased() {
+        if (releasedAt != null) {
+            throw new IllegalStateException("Request context used after it has been released", releasedAt);
+        }
+    }
 }
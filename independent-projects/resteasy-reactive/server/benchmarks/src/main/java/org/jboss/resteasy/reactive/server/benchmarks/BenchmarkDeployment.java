@@ -0,0 +1,215 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
+import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ExceptionMapping;
+import org.jboss.resteasy.reactive.server.core.RecyclingRequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.RuntimeExceptionMapper;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.core.parameters.HeaderParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.PathParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.QueryParamExtractor;
+import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
+import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
+import org.jboss.resteasy.reactive.server.handlers.ClassRoutingHandler;
+import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
+import org.jboss.resteasy.reactive.server.handlers.InstanceHandler;
+import org.jboss.resteasy.reactive.server.handlers.InvocationHandler;
+import org.jboss.resteasy.reactive.server.handlers.ParameterHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseWriterHandler;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.jboss.resteasy.reactive.server.model.ContextResolvers;
+import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
+import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.BeanFactory;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * Builds a {@link Deployment} by hand, bypassing the build time processor, so that the runtime request pipeline
+ * can be exercised in-process.
+ * <p>
+ * Every generated resource class {@code /service<n>} exposes the same set of endpoints, which covers the shapes
+ * we see most often in production:
+ * <ul>
+ * <li>{@code GET /service<n>} - a literal match that reads a query parameter</li>
+ * <li>{@code GET /service<n>/{id}} - a single path parameter plus a header parameter</li>
+ * <li>{@code GET /service<n>/{id}/items/{item}} - two path parameters</li>
+ * <li>{@code POST /service<n>/{id}} - only there so that method based routing has more than one candidate</li>
+ * </ul>
+ * Each endpoint returns a constant {@code String} entity that is written by a trivial {@link EntityWriter}, so
+ * the measured cost is the one of routing, parameter extraction, invocation and response writing, not the one
+ * of serialisation.
+ */
+public final class BenchmarkDeployment {
+
+    public static final String TENANT_HEADER = "X-Tenant";
+
+    private static final byte[] BODY = "hello".getBytes(StandardCharsets.UTF_8);
+
+    private final Deployment deployment;
+    private final RestInitialHandler initialHandler;
+
+    private BenchmarkDeployment(Deployment deployment) {
+        this.deployment = deployment;
+        this.initialHandler = new RestInitialHandler(deployment);
+    }
+
+    public static BenchmarkDeployment create(int resourceClasses) {
+        return create(resourceClasses, false);
+    }
+
+    /**
+     * @param recycleContexts whether request contexts should be recycled through a {@link RecyclingRequestContextFactory}
+     */
+    public static BenchmarkDeployment create(int resourceClasses, boolean recycleContexts) {
+        ServerSerialisers serialisers = new ServerSerialisers();
+        ExceptionMapping exceptionMapping = new ExceptionMapping();
+        EntityWriter dynamicEntityWriter = new DynamicEntityWriter(serialisers);
+        ConfigurationImpl configuration = new ConfigurationImpl(RuntimeType.SERVER);
+        ResteasyReactiveConfig config = new ResteasyReactiveConfig();
+        Application application = new Application();
+
+        ArrayList<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers = new ArrayList<>();
+        for (int i = 0; i < resourceClasses; i++) {
+            URITemplate classPath = new URITemplate("/service" + i, true);
+            Map<String, RequestMapper<RuntimeResource>> mappers = new HashMap<>();
+            mappers.put(HttpMethod.GET, new RequestMapper<>(new ArrayList<>(List.of(
+                    path(false, "/", listResource(classPath)),
+                    path(false, "/{id}", itemResource(classPath)),
+                    path(false, "/{id}/items/{item}", childResource(classPath))))));
+            mappers.put(HttpMethod.POST, new RequestMapper<>(new ArrayList<>(List.of(
+                    path(false, "/{id}", itemResource(classPath))))));
+            ClassRoutingHandler classRoutingHandler = new ClassRoutingHandler(mappers, 0, false);
+            classMappers.add(new RequestMapper.RequestPath<>(true, classPath,
+                    new RestInitialHandler.InitialMatch(new ServerRestHandler[] { classRoutingHandler }, 2)));
+        }
+
+        Deployment deployment = new Deployment(exceptionMapping, new ContextResolvers(), serialisers,
+                new ServerRestHandler[] { new ResponseHandler(Collections.emptyList()),
+                        new ResponseWriterHandler(new DynamicEntityWriter(serialisers)) },
+                dynamicEntityWriter, "", new ParamConverterProviders(), configuration, () -> application,
+                ThreadSetupAction.NOOP,
+                recycleContexts ? new RecyclingRequestContextFactory(BenchmarkRequestContext.FACTORY, 16, false)
+                        : BenchmarkRequestContext.FACTORY,
+                Collections.emptyList(), classMappers,
+                Collections.emptyList(),
+                new RuntimeExceptionMapper(exceptionMapping, BenchmarkDeployment.class.getClassLoader()),
+                false, config, Collections.emptyMap());
+        return new BenchmarkDeployment(deployment);
+    }
+
+    public Deployment getDeployment() {
+        return deployment;
+    }
+
+    public RestInitialHandler getInitialHandler() {
+        return initialHandler;
+    }
+
+    /**
+     * Runs the request through the whole handler chain, starting from {@link RestInitialHandler}.
+     */
+    public MockServerHttpResponse serve(MockServerHttpRequest request) {
+        MockServerHttpResponse response = request.response().prepare();
+        initialHandler.beginProcessing(request);
+        return response;
+    }
+
+    private static RequestMapper.RequestPath<RuntimeResource> path(boolean prefix, String template, RuntimeResource resource) {
+        return new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), resource);
+    }
+
+    private static RuntimeResource listResource(URITemplate classPath) {
+        return resource(HttpMethod.GET, "/", classPath, "list", Map.of(),
+                new ParameterExtractor[] { new QueryParamExtractor("limit", true, false, null) },
+                new ParameterType[] { ParameterType.QUERY });
+    }
+
+    private static RuntimeResource itemResource(URITemplate classPath) {
+        return resource(HttpMethod.GET, "/{id}", classPath, "item", Map.of("id", 0),
+                new ParameterExtractor[] { new PathParamExtractor(0, false, true),
+                        new HeaderParamExtractor(TENANT_HEADER, true) },
+                new ParameterType[] { ParameterType.PATH, ParameterType.HEADER });
+    }
+
+    private static RuntimeResource childResource(URITemplate classPath) {
+        return resource(HttpMethod.GET, "/{id}/items/{item}", classPath, "child", Map.of("id", 0, "item", 1),
+                new ParameterExtractor[] { new PathParamExtractor(0, false, true), new PathParamExtractor(1, false, true) },
+                new ParameterType[] { ParameterType.PATH, ParameterType.PATH });
+    }
+
+    private static RuntimeResource resource(String httpMethod, String path, URITemplate classPath, String javaMethodName,
+            Map<String, Integer> pathParameterIndexes, ParameterExtractor[] extractors, ParameterType[] parameterTypes) {
+        EndpointInvoker invoker = new EndpointInvoker() {
+            @Override
+            public Object invoke(Object instance, Object[] parameters) {
+                return javaMethodName;
+            }
+        };
+        BeanFactory<Object> endpointFactory = new BeanFactory<>() {
+            @Override
+            public BeanInstance<Object> createInstance() {
+                Object instance = new Object();
+                return new BeanInstance<>() {
+                    @Override
+                    public Object getInstance() {
+                        return instance;
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                };
+            }
+        };
+
+        List<ServerRestHandler> chain = new ArrayList<>();
+        chain.add(new InstanceHandler(endpointFactory));
+        Class<?>[] javaParameterTypes = new Class<?>[extractors.length];
+        for (int i = 0; i < extractors.length; i++) {
+            chain.add(new ParameterHandler(i, null, extractors[i], null, parameterTypes[i], false, false));
+            javaParameterTypes[i] = String.class;
+        }
+        chain.add(new InvocationHandler(invoker));
+        chain.add(new FixedProducesHandler(MediaType.TEXT_PLAIN_TYPE, BodyWriter.INSTANCE));
+        chain.add(new ResponseHandler(Collections.emptyList()));
+        chain.add(new ResponseWriterHandler(null));
+
+        return new RuntimeResource(httpMethod, new URITemplate(path, false), classPath, null, Collections.emptyList(),
+                invoker, endpointFactory, chain.toArray(new ServerRestHandler[0]), javaMethodName, javaParameterTypes,
+                String.class, false, false, Object.class, null, pathParameterIndexes, null, null, Collections.emptyMap());
+    }
+
+    private static final class BodyWriter implements EntityWriter {
+
+        static final BodyWriter INSTANCE = new BodyWriter();
+
+        @Override
+        public void write(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+            ServerSerialisers.encodeResponseHeaders(context);
+            context.serverResponse().end(BODY);
+        }
+    }
+}
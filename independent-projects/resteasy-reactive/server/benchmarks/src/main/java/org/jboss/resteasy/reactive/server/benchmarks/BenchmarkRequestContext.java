@@ -0,0 +1,79 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.concurrent.Executor;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * Request context bound to a {@link MockServerHttpRequest}. Everything runs on the calling thread, so a
+ * benchmark invocation covers the complete handler chain up to the point where the response has been ended.
+ */
+public class BenchmarkRequestContext extends ResteasyReactiveRequestContext {
+
+    public static final RequestContextFactory FACTORY = new RequestContextFactory() {
+        @Override
+        public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+                ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+            return new BenchmarkRequestContext(deployment, (MockServerHttpRequest) context, requestContext, handlerChain,
+                    abortHandlerChain);
+        }
+    };
+
+    private static final Executor CALLER_RUNS = Runnable::run;
+
+    private MockServerHttpRequest request;
+
+    public BenchmarkRequestContext(Deployment deployment, MockServerHttpRequest request, ThreadSetupAction requestContext,
+            ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.request = request;
+    }
+
+    @Override
+    protected boolean isRecyclable() {
+        return true;
+    }
+
+    @Override
+    protected void recycle(Object externalHttpContext, ServerRestHandler[] handlerChain,
+            ServerRestHandler[] abortHandlerChain) {
+        super.recycle(externalHttpContext, handlerChain, abortHandlerChain);
+        this.request = (MockServerHttpRequest) externalHttpContext;
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        return request;
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        return request.response();
+    }
+
+    @Override
+    protected Executor getEventLoop() {
+        return CALLER_RUNS;
+    }
+
+    @Override
+    public Runnable registerTimer(long millis, Runnable task) {
+        return new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+    }
+
+    @Override
+    public boolean resumeExternalProcessing() {
+        request.response().setStatusCode(404).end();
+        return true;
+    }
+}
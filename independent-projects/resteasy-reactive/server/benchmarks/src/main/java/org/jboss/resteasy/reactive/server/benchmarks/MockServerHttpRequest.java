@@ -0,0 +1,197 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+
+/**
+ * An in-memory {@link ServerHttpRequest} that is prepared once per benchmark state and can be replayed
+ * any number of times. Lookups are deliberately simple linear scans over small arrays so that the cost
+ * attributed to the transport stays negligible compared to the handler chain that is being measured.
+ */
+public class MockServerHttpRequest implements ServerHttpRequest {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final String method;
+    private final String path;
+    private final String query;
+    private final String[] headerNames;
+    private final String[] headerValues;
+    private final Map<String, List<String>> queryParams;
+    private final List<Map.Entry<String, String>> headers;
+    private final MockServerHttpResponse response = new MockServerHttpResponse();
+
+    public MockServerHttpRequest(String method, String path, String query, Map<String, List<String>> queryParams,
+            String... headers) {
+        if (headers.length % 2 != 0) {
+            throw new IllegalArgumentException("Headers must be passed as name/value pairs");
+        }
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.queryParams = queryParams;
+        this.headerNames = new String[headers.length / 2];
+        this.headerValues = new String[headers.length / 2];
+        List<Map.Entry<String, String>> entries = new ArrayList<>(headerNames.length);
+        for (int i = 0; i < headerNames.length; i++) {
+            headerNames[i] = headers[i * 2];
+            headerValues[i] = headers[i * 2 + 1];
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(headerNames[i], headerValues[i]));
+        }
+        this.headers = Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * The response that is associated with this request, reset each time the request is replayed.
+     */
+    public MockServerHttpResponse response() {
+        return response;
+    }
+
+    @Override
+    public String getRequestHeader(CharSequence name) {
+        for (int i = 0; i < headerNames.length; i++) {
+            if (headerNames[i].contentEquals(name) || headerNames[i].equalsIgnoreCase(name.toString())) {
+                return headerValues[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllRequestHeaders() {
+        return headers;
+    }
+
+    @Override
+    public List<String> getAllRequestHeaders(String name) {
+        List<String> result = null;
+        for (int i = 0; i < headerNames.length; i++) {
+            if (headerNames[i].equalsIgnoreCase(name)) {
+                if (result == null) {
+                    result = new ArrayList<>(1);
+                }
+                result.add(headerValues[i]);
+            }
+        }
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    @Override
+    public boolean containsRequestHeader(CharSequence accept) {
+        return getRequestHeader(accept) != null;
+    }
+
+    @Override
+    public String getRequestPath() {
+        return path;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestNormalisedPath() {
+        return path;
+    }
+
+    @Override
+    public String getRequestAbsoluteUri() {
+        return query == null ? "http://localhost:8080" + path : "http://localhost:8080" + path + "?" + query;
+    }
+
+    @Override
+    public String getRequestScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getRequestHostAndPort() {
+        return "localhost:8080";
+    }
+
+    @Override
+    public void closeConnection() {
+    }
+
+    @Override
+    public String getQueryParam(String name) {
+        List<String> values = queryParams.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Map<String, List<String>> getQueryParamsMap() {
+        return queryParams;
+    }
+
+    @Override
+    public List<String> getAllQueryParams(String name) {
+        List<String> values = queryParams.get(name);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public String query() {
+        return query;
+    }
+
+    @Override
+    public Collection<String> queryParamNames() {
+        return queryParams.keySet();
+    }
+
+    @Override
+    public boolean isRequestEnded() {
+        return true;
+    }
+
+    @Override
+    public InputStream createInputStream(ByteBuffer existingData) {
+        return new ByteArrayInputStream(existingData.array(), existingData.arrayOffset() + existingData.position(),
+                existingData.remaining());
+    }
+
+    @Override
+    public InputStream createInputStream() {
+        return new ByteArrayInputStream(EMPTY);
+    }
+
+    @Override
+    public ServerHttpResponse pauseRequestInput() {
+        return response;
+    }
+
+    @Override
+    public ServerHttpResponse resumeRequestInput() {
+        return response;
+    }
+
+    @Override
+    public ServerHttpResponse setReadListener(ReadCallback callback) {
+        callback.done();
+        return response;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> theType) {
+        return null;
+    }
+
+    @Override
+    public boolean isOnIoThread() {
+        return true;
+    }
+}
@@ -0,0 +1,175 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+
+/**
+ * A {@link ServerHttpResponse} that discards everything but the last status code and the number of bytes written,
+ * which is enough for the benchmarks to consume the result and to validate that a request was actually served.
+ */
+public class MockServerHttpResponse implements ServerHttpResponse {
+
+    private int statusCode = 200;
+    private boolean ended;
+    private long bytesWritten;
+    private int headerCount;
+
+    public MockServerHttpResponse prepare() {
+        statusCode = 200;
+        ended = false;
+        bytesWritten = 0;
+        headerCount = 0;
+        return this;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    public int headerCount() {
+        return headerCount;
+    }
+
+    public boolean ended() {
+        return ended;
+    }
+
+    @Override
+    public ServerHttpResponse setStatusCode(int code) {
+        statusCode = code;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end() {
+        ended = true;
+        return this;
+    }
+
+    @Override
+    public boolean headWritten() {
+        return ended;
+    }
+
+    @Override
+    public ServerHttpResponse end(byte[] data) {
+        bytesWritten += data.length;
+        ended = true;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end(String data) {
+        return end(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+        headerCount++;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+        headerCount++;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+        headerCount++;
+        return this;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        return null;
+    }
+
+    @Override
+    public void removeResponseHeader(String name) {
+    }
+
+    @Override
+    public boolean closed() {
+        return ended;
+    }
+
+    @Override
+    public ServerHttpResponse setChunked(boolean chunked) {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        bytesWritten += data.length;
+        asyncResultHandler.accept(null);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<Void> write(byte[] data) {
+        bytesWritten += data.length;
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public ServerHttpResponse sendFile(String path, long offset, long length) {
+        bytesWritten += length;
+        ended = true;
+        return this;
+    }
+
+    @Override
+    public OutputStream createResponseOutputStream() {
+        return new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                end(toByteArray());
+            }
+        };
+    }
+
+    @Override
+    public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+    }
+
+    @Override
+    public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        return this;
+    }
+
+    @Override
+    public boolean isWriteQueueFull() {
+        return false;
+    }
+
+    @Override
+    public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        onDrain.run();
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        prepare();
+    }
+}
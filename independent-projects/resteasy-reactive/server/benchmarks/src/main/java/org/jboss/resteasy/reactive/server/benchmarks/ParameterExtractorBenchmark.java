@@ -0,0 +1,86 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.parameters.HeaderParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.PathParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.QueryParamExtractor;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the most common {@link ParameterExtractor} implementations against a request context whose path
+ * parameters have already been populated by the mapper.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParameterExtractorBenchmark {
+
+    private final ParameterExtractor pathParam = new PathParamExtractor(0, false, true);
+    private final ParameterExtractor encodedPathParam = new PathParamExtractor(1, false, true);
+    private final ParameterExtractor queryParam = new QueryParamExtractor("limit", true, false, null);
+    private final ParameterExtractor multiQueryParam = new QueryParamExtractor("tag", false, false, null);
+    private final ParameterExtractor headerParam = new HeaderParamExtractor(BenchmarkDeployment.TENANT_HEADER, true);
+
+    private ResteasyReactiveRequestContext context;
+
+    @Setup
+    public void setup() {
+        BenchmarkDeployment deployment = BenchmarkDeployment.create(1);
+        MockServerHttpRequest request = new MockServerHttpRequest("GET", "/service0/42/items/a%20b", "limit=10&tag=a&tag=b",
+                Map.of("limit", List.of("10"), "tag", List.of("a", "b")), BenchmarkDeployment.TENANT_HEADER, "acme");
+        context = new BenchmarkRequestContext(deployment.getDeployment(), request, ThreadSetupAction.NOOP,
+                new ServerRestHandler[0], new ServerRestHandler[0]);
+        context.setMaxPathParams(2);
+        context.setPathParamValue(0, "42");
+        context.setPathParamValue(1, "a%20b");
+    }
+
+    @Benchmark
+    public Object pathParam() {
+        return pathParam.extractParameter(context);
+    }
+
+    @Benchmark
+    public Object encodedPathParam() {
+        return encodedPathParam.extractParameter(context);
+    }
+
+    @Benchmark
+    public Object queryParam() {
+        return queryParam.extractParameter(context);
+    }
+
+    @Benchmark
+    public Object multiQueryParam() {
+        return multiQueryParam.extractParameter(context);
+    }
+
+    @Benchmark
+    public Object headerParam() {
+        return headerParam.extractParameter(context);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { ParameterExtractorBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+}
@@ -0,0 +1,74 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link RequestMapper#map(String)} in isolation, for a mapper holding {@code templates} endpoints that share
+ * a common stem, which is the worst case for the stem based pre-selection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    @Param({ "10", "900" })
+    public int templates;
+
+    private RequestMapper<Integer> mapper;
+    private String literalPath;
+    private String paramPath;
+    private String missPath;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<Integer>> paths = new ArrayList<>(templates * 2);
+        for (int i = 0; i < templates; i++) {
+            paths.add(new RequestMapper.RequestPath<>(false, new URITemplate("/api/resource" + i, false), i));
+            paths.add(new RequestMapper.RequestPath<>(false,
+                    new URITemplate("/api/resource" + i + "/{id}/sub/{subId}", false), -i));
+        }
+        mapper = new RequestMapper<>(paths);
+        int last = templates - 1;
+        literalPath = "/api/resource" + last;
+        paramPath = "/api/resource" + last + "/1234/sub/abcd";
+        missPath = "/api/unknown/1234";
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<Integer> literal() {
+        return mapper.map(literalPath);
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<Integer> pathParams() {
+        return mapper.map(paramPath);
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<Integer> miss() {
+        return mapper.map(missPath);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { RequestMapperBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+}
@@ -0,0 +1,94 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Drives complete requests through {@link org.jboss.resteasy.reactive.server.handlers.RestInitialHandler}, i.e.
+ * class routing, method routing, parameter extraction, invocation and {@code ResponseWriterHandler}.
+ * <p>
+ * Run with {@code -prof gc} to see the per-request allocation rate, which is the number that usually regresses first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestPipelineBenchmark {
+
+    @Param({ "1", "100" })
+    public int resourceClasses;
+
+    @Param({ "false", "true" })
+    public boolean recycleContexts;
+
+    private BenchmarkDeployment deployment;
+    private MockServerHttpRequest literal;
+    private MockServerHttpRequest singlePathParam;
+    private MockServerHttpRequest twoPathParams;
+    private MockServerHttpRequest notFound;
+
+    @Setup
+    public void setup() {
+        deployment = BenchmarkDeployment.create(resourceClasses, recycleContexts);
+        String service = "/service" + (resourceClasses - 1);
+        literal = new MockServerHttpRequest("GET", service, "limit=10", Map.of("limit", List.of("10")),
+                "Accept", "text/plain");
+        singlePathParam = new MockServerHttpRequest("GET", service + "/42", null, Map.of(),
+                "Accept", "*/*", BenchmarkDeployment.TENANT_HEADER, "acme");
+        twoPathParams = new MockServerHttpRequest("GET", service + "/42/items/7", null, Map.of());
+        notFound = new MockServerHttpRequest("GET", service + "/42/unknown/7", null, Map.of());
+
+        verify(literal, 200);
+        verify(singlePathParam, 200);
+        verify(twoPathParams, 200);
+        verify(notFound, 404);
+    }
+
+    private void verify(MockServerHttpRequest request, int expectedStatus) {
+        MockServerHttpResponse response = deployment.serve(request);
+        if (!response.ended() || response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Unexpected response for " + request.getRequestPath() + ": status "
+                    + response.statusCode() + ", ended " + response.ended());
+        }
+    }
+
+    @Benchmark
+    public MockServerHttpResponse literal() {
+        return deployment.serve(literal);
+    }
+
+    @Benchmark
+    public MockServerHttpResponse singlePathParam() {
+        return deployment.serve(singlePathParam);
+    }
+
+    @Benchmark
+    public MockServerHttpResponse twoPathParams() {
+        return deployment.serve(twoPathParams);
+    }
+
+    @Benchmark
+    public MockServerHttpResponse notFound() {
+        return deployment.serve(notFound);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { RequestPipelineBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+}
@@ -0,0 +1,169 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Serializes a collection or an array element by element, giving control back as soon as the write queue of the
+ * connection is full and resuming once it has been drained.
+ * <p>
+ * This is meant for responses written from an event loop thread: the response output stream never blocks there, so
+ * serializing a large entity in one go queues all of it in the write buffers of the connection, and nothing is flushed
+ * to the client before the serialization is over. Writing incrementally bounds the memory used by such responses to
+ * roughly the high water mark of the connection, and lets the first bytes reach the client while the rest of the
+ * entity is still being serialized.
+ * <p>
+ * Once this writer has given control back, the request context stays suspended and the remaining elements are
+ * serialized from the drain handler of the response. The writer ends the response and resumes the request context
+ * once the last element has been written. A failure at that point can no longer be mapped to an error response, so
+ * the connection is reset instead.
+ * <p>
+ * The generator is only flushed when the serialization is suspended and at the end, the output stream of the response
+ * writing its buffer to the connection whenever it is full.
+ */
+public final class StreamingJsonArrayWriter implements Runnable {
+
+    private static final Logger log = Logger.getLogger(StreamingJsonArrayWriter.class);
+
+    private final ObjectWriter writer;
+    private final Iterator<?> elements;
+    private final ResteasyReactiveRequestContext context;
+    private final ServerHttpResponse response;
+    private final OutputStream stream;
+    private JsonGenerator generator;
+    private boolean suspended;
+    private boolean finished;
+
+    private StreamingJsonArrayWriter(ObjectWriter writer, Iterator<?> elements, ServerRequestContext context) {
+        // each element would otherwise be flushed to the connection on its own
+        this.writer = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.elements = elements;
+        this.context = (ResteasyReactiveRequestContext) context;
+        this.response = context.serverResponse();
+        this.stream = context.getOrCreateOutputStream();
+    }
+
+    /**
+     * @return whether the given entity is a collection or an object array with at least {@code threshold} elements
+     */
+    public static boolean isStreamable(Object entity, int threshold) {
+        if (threshold < 0) {
+            return false;
+        }
+        if (entity instanceof Collection<?> collection) {
+            return collection.size() >= threshold;
+        }
+        return entity instanceof Object[] array && array.length >= threshold;
+    }
+
+    /**
+     * Writes the given collection or object array as a JSON array, each element being serialized with {@code writer}.
+     * <p>
+     * If {@code rootType} is not {@code null}, the elements are serialized as its content type, as Jackson does when the
+     * whole entity is serialized as that type. Otherwise, they are serialized with their runtime type.
+     * <p>
+     * Any failure happening before this method returns is thrown, so that it can be handled like any other
+     * serialization failure.
+     */
+    public static void write(Object entity, ObjectWriter writer, JavaType rootType, ServerRequestContext context)
+            throws IOException {
+        Iterator<?> elements = entity instanceof Object[] array ? Arrays.asList(array).iterator()
+                : ((Collection<?>) entity).iterator();
+        if (rootType != null && rootType.getContentType() != null) {
+            writer = writer.forType(rootType.getContentType());
+        }
+        new StreamingJsonArrayWriter(writer, elements, context).start();
+    }
+
+    private void start() throws IOException {
+        generator = writer.createGenerator(stream);
+        generator.writeStartArray();
+        if (writeElements()) {
+            response.addCloseHandler(new Runnable() {
+                @Override
+                public void run() {
+                    if (!finished) {
+                        log.debug("Connection closed before a streamed JSON array was entirely written");
+                        abort();
+                        context.resume();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Continues the serialization once the write queue of the connection has been drained.
+     */
+    @Override
+    public void run() {
+        // the drain handler is also invoked whenever the connection becomes writable again after we are done
+        if (finished) {
+            return;
+        }
+        try {
+            writeElements();
+        } catch (Throwable t) {
+            log.error("Failed to write the remaining elements of a streamed JSON array, resetting the connection", t);
+            response.reset();
+            abort();
+            context.resume(t);
+            return;
+        }
+        if (finished) {
+            context.resume();
+        }
+    }
+
+    /**
+     * @return {@code true} if the serialization has been suspended until the write queue is drained
+     */
+    private boolean writeElements() throws IOException {
+        while (elements.hasNext()) {
+            writer.writeValue(generator, elements.next());
+            if (elements.hasNext() && response.isWriteQueueFull()) {
+                generator.flush();
+                if (!suspended) {
+                    // the request context must not be closed before the response has been ended
+                    suspended = true;
+                    context.suspend();
+                }
+                response.addDrainHandler(this);
+                return true;
+            }
+        }
+        finished = true;
+        generator.writeEndArray();
+        generator.close();
+        stream.close();
+        return false;
+    }
+
+    private void abort() {
+        finished = true;
+        try {
+            // releases the buffers of the generator, without completing the array
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.close();
+        } catch (IOException ignored) {
+        }
+        try {
+            // releases the data that has been serialized but not written yet
+            stream.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
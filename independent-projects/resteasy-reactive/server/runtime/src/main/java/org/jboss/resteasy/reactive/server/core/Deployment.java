@@ -50,6 +50,7 @@ public class Deployment {
     private final boolean servletPresent;
     private final ResteasyReactiveConfig resteasyReactiveConfig;
     private final Map<String, List<String>> disabledEndpoints;
+    private volatile RequestMapper<RestInitialHandler.InitialMatch> classMapper;
     //this is not final, as it is set after startup
     private RuntimeConfiguration runtimeConfiguration;
 
@@ -148,6 +149,19 @@ public ArrayList<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> get
         return classMappers;
     }
 
+    /**
+     * Returns the mapper built from {@link #getClassMappers()}. Building a mapper is not cheap, so this
+     * is the one that should be used when matching requests.
+     */
+    public RequestMapper<RestInitialHandler.InitialMatch> getClassMapper() {
+        RequestMapper<RestInitialHandler.InitialMatch> mapper = classMapper;
+        if (mapper == null) {
+            // racing here is harmless, all the mappers are equivalent
+            classMapper = mapper = new RequestMapper<>(classMappers);
+        }
+        return mapper;
+    }
+
     public ParameterConverter getRuntimeParamConverter(Class<?> fieldOwnerClass, String fieldName, boolean single) {
         List<ResourceParamConverterProvider> providers = getParamConverterProviders().getParamConverterProviders();
         if (providers.size() > 0) {
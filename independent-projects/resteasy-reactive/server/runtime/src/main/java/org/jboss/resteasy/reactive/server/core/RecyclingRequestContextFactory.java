@@ -0,0 +1,87 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.ArrayDeque;
+
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * A {@link RequestContextFactory} that hands out the contexts of completed requests again instead of allocating a
+ * new context for every request.
+ * <p>
+ * Contexts are pooled per thread. A context is only handed back to the pool when its request was processed without
+ * ever being suspended and its response has ended. This means that it is always released on the thread that acquired
+ * it, which is the event loop of the connection for Vert.x based deployments. Contexts are reset when they are
+ * acquired rather than when they are released, as the code that closes a context may still look at it while
+ * unwinding. Only contexts that report themselves as {@link ResteasyReactiveRequestContext#isRecyclable()
+ * recyclable} are ever pooled.
+ * <p>
+ * When {@code debug} is enabled released contexts are never handed out again, instead they remember where they were
+ * released and fail any subsequent attempt to run, resume, suspend or restart them. This is meant to track down code
+ * that holds on to a request context after its request has completed.
+ */
+public class RecyclingRequestContextFactory implements RequestContextFactory {
+
+    private final RequestContextFactory delegate;
+    private final int maxPooledPerThread;
+    private final boolean debug;
+    private final ThreadLocal<ArrayDeque<ResteasyReactiveRequestContext>> pools = new ThreadLocal<>() {
+        @Override
+        protected ArrayDeque<ResteasyReactiveRequestContext> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+
+    public RecyclingRequestContextFactory(RequestContextFactory delegate, int maxPooledPerThread, boolean debug) {
+        if (maxPooledPerThread < 1) {
+            throw new IllegalArgumentException("maxPooledPerThread must be at least 1");
+        }
+        this.delegate = delegate;
+        this.maxPooledPerThread = maxPooledPerThread;
+        this.debug = debug;
+    }
+
+    @Override
+    public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        ResteasyReactiveRequestContext pooled = pools.get().pollFirst();
+        if (pooled != null && pooled.getDeployment() == deployment) {
+            pooled.recycle(context, handlerChain, abortHandlerChain);
+            pooled.recycler = this;
+            return pooled;
+        }
+        ResteasyReactiveRequestContext created = delegate.createContext(deployment, context, requestContext, handlerChain,
+                abortHandlerChain);
+        if (created.isRecyclable()) {
+            created.recycler = this;
+        }
+        return created;
+    }
+
+    @Override
+    public boolean isDefaultBlocking() {
+        return delegate.isDefaultBlocking();
+    }
+
+    /**
+     * Called by the context once its request has completed.
+     */
+    void release(ResteasyReactiveRequestContext context) {
+        if (debug) {
+            context.poison();
+            return;
+        }
+        ArrayDeque<ResteasyReactiveRequestContext> pool = pools.get();
+        if (pool.size() < maxPooledPerThread) {
+            // LIFO, the most recently used context is the most likely to still be in the CPU caches
+            pool.addFirst(context);
+        }
+    }
+
+    /**
+     * @return the number of contexts pooled for the current thread
+     */
+    int pooledOnCurrentThread() {
+        return pools.get().size();
+    }
+}
@@ -163,6 +163,18 @@
 
     private RequestMapper.RequestMatch<RestInitialHandler.InitialMatch> initialMatch;
 
+    private DiscardRemainingRunner discardRemainingRunner;
+    /**
+     * Only set when this context has been created by a {@link RecyclingRequestContextFactory}, and cleared as soon as
+     * it has been handed back to it.
+     */
+    RecyclingRequestContextFactory recycler;
+    /**
+     * The parameters array of the previous request, kept around by {@link #recycle} so that it can be reused if the
+     * next target has the same number of parameters
+     */
+    private Object[] spareParameters;
+
     public ResteasyReactiveRequestContext(Deployment deployment,
             ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
         super(handlerChain, abortHandlerChain, requestContext);
@@ -202,7 +214,15 @@ public void restart(RuntimeResource target) {
     public void restart(RuntimeResource target, boolean setLocatorTarget) {
         this.handlers = target.getHandlerChain();
         position = 0;
-        parameters = target.getParameterTypes().length == 0 ? EMPTY_ARRAY : new Object[target.getParameterTypes().length];
+        int parameterCount = target.getParameterTypes().length;
+        if (parameterCount == 0) {
+            parameters = EMPTY_ARRAY;
+        } else if (spareParameters != null && spareParameters.length == parameterCount) {
+            parameters = spareParameters;
+            spareParameters = null;
+        } else {
+            parameters = new Object[parameterCount];
+        }
         if (setLocatorTarget) {
             setProperty(PreviousResource.PROPERTY_KEY, new PreviousResource(this.target, pathParamValues,
                     (PreviousResource) getProperty(PreviousResource.PROPERTY_KEY)));
@@ -214,7 +234,8 @@ public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHa
         this.initialMatch = initialMatch;
 
         // add a default close handler that simply discards whatever REST handlers still remain to be run
-        serverResponse().addCloseHandler(new DiscardRemainingRunner(this));
+        discardRemainingRunner = new DiscardRemainingRunner(this);
+        serverResponse().addCloseHandler(discardRemainingRunner);
 
         restart(initialMatch.value.handlers);
         setMaxPathParams(initialMatch.value.maxPathParams);
@@ -234,7 +255,7 @@ public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHa
      * @return true if a restart occurred
      */
     public boolean restartWithNextInitialMatch() {
-        initialMatch = new RequestMapper<>(deployment.getClassMappers()).continueMatching(getPathWithoutPrefix(), initialMatch);
+        initialMatch = deployment.getClassMapper().continueMatching(getPathWithoutPrefix(), initialMatch);
         if (initialMatch == null) {
             return false;
         }
@@ -437,6 +458,83 @@ public void close() {
             log.debug("Failed to close stream", e);
         }
         super.close();
+        RecyclingRequestContextFactory recycler = this.recycler;
+        if (recycler != null) {
+            // close() can be called more than once, but the context must only be handed back once
+            this.recycler = null;
+            // if processing was ever suspended the context may still be referenced by callbacks we know nothing about,
+            // and if the response is still open the HTTP layer may still call back into it
+            if (!hasBeenSuspended() && serverResponse().closed()) {
+                recycler.release(this);
+            }
+        }
+    }
+
+    /**
+     * Whether this context can be reused by a {@link RecyclingRequestContextFactory}. Subclasses that keep per request
+     * state of their own must override {@link #recycle} before returning {@code true} here.
+     */
+    protected boolean isRecyclable() {
+        return false;
+    }
+
+    /**
+     * Prepares this context, which has completed a previous request, to process the request represented by
+     * {@code externalHttpContext}. All the per request state is dropped, subclasses have to call this method and then
+     * bind themselves to the new external context.
+     */
+    protected void recycle(Object externalHttpContext, ServerRestHandler[] handlerChain,
+            ServerRestHandler[] abortHandlerChain) {
+        reset(handlerChain, abortHandlerChain);
+        if (discardRemainingRunner != null) {
+            // the close handler of the previous response must not reach the new request
+            discardRemainingRunner.context = null;
+            discardRemainingRunner = null;
+        }
+        if (parameters.length > 0) {
+            Arrays.fill(parameters, null);
+            spareParameters = parameters;
+        }
+        parameters = EMPTY_ARRAY;
+        target = null;
+        pathParamValues = null;
+        uriInfo = null;
+        endpointInstance = null;
+        result = null;
+        response = null;
+        httpHeaders = null;
+        requestEntity = null;
+        request = null;
+        entityWriter = null;
+        containerRequestContext = null;
+        containerResponseContext = null;
+        method = null;
+        originalMethod = null;
+        path = null;
+        absoluteUri = null;
+        scheme = null;
+        query = null;
+        authority = null;
+        remaining = null;
+        responseContentType = null;
+        methodAnnotations = null;
+        additionalAnnotations = null;
+        allAnnotations = null;
+        genericReturnType = null;
+        inputStream = null;
+        matchedURIs = null;
+        readerInterceptors = null;
+        writerInterceptors = null;
+        securityContext = null;
+        outputStream = null;
+        underlyingOutputStream = null;
+        formData = null;
+        producesChecked = false;
+        initialMatch = null;
+    }
+
+    void poison() {
+        markReleased(new Throwable("Request context released"));
     }
 
     /**
@@ -1355,8 +1453,13 @@ private DiscardRemainingRunner(ResteasyReactiveRequestContext context) {
 
         @Override
         public void run() {
+            ResteasyReactiveRequestContext context = this.context;
+            if (context == null) {
+                // the context has been recycled since the handler was registered
+                return;
+            }
+            this.context = null;
             context.discardRemaining();
-            context = null;
         }
     }
 }
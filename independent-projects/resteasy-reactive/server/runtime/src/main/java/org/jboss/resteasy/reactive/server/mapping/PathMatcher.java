@@ -59,6 +59,38 @@ List<PathMatch<T>> match(String path) {
         return matches;
     }
 
+    /**
+     * The number of distinct prefix lengths that have been registered. Together with {@link #prefixValue(String, int)}
+     * this allows iterating over the same candidates as {@link #match(String)} without allocating anything.
+     */
+    int prefixCount() {
+        return lengths.length;
+    }
+
+    /**
+     * @return the length of the prefixes probed by {@link #prefixValue(String, int)}, longest first
+     */
+    int prefixLength(int i) {
+        return lengths[i];
+    }
+
+    /**
+     * @return the value registered for the prefix of the path with the length returned by {@link #prefixLength(int)},
+     *         or {@code null} if there is none
+     */
+    T prefixValue(String path, int i) {
+        int pathLength = lengths[i];
+        if (pathLength > path.length()) {
+            return null;
+        }
+        SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+        return next == null ? null : next.getValue();
+    }
+
+    T getDefaultValue() {
+        return defaultHandler;
+    }
+
     PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
@@ -165,6 +197,8 @@ private void dumpValue(T value, int level) {
                 if (x instanceof Dumpable)
                     ((Dumpable) x).dump(level);
             }
+        } else if (value instanceof Dumpable) {
+            ((Dumpable) value).dump(level);
         }
     }
 
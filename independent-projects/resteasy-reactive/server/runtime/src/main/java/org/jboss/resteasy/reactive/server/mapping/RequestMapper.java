@@ -4,7 +4,6 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
@@ -13,8 +12,8 @@
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PathMatcher<TemplateTrie<T>> requestPaths;
+    private final PathMatcher.Builder<TemplateTrie<T>> pathMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
@@ -35,7 +34,7 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             @Override
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+                pathMatcherBuilder.addPrefixPath(stem, new TemplateTrie<>(list));
             }
         });
         maxParams = max;
@@ -49,16 +48,18 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
-            if (result != null) {
-                return result;
+        for (int i = 0; i < requestPaths.prefixCount(); i++) {
+            TemplateTrie<T> candidates = requestPaths.prefixValue(path, i);
+            if (candidates != null) {
+                var result = mapFromCandidates(path, requestPaths.prefixLength(i), candidates, 0);
+                if (result != null) {
+                    return result;
+                }
             }
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromCandidates(path, 1, requestPaths.getDefaultValue(), 0);
     }
 
     /**
@@ -72,12 +73,16 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
             return null;
         }
 
-        var initialMatchesList = requestPaths.match(path);
-        for (int i = 0; i < initialMatchesList.size(); i++) {
-            var result = mapFromPathMatcher(path, initialMatchesList.get(i), 0);
+        for (int i = 0; i < requestPaths.prefixCount(); i++) {
+            TemplateTrie<T> candidates = requestPaths.prefixValue(path, i);
+            if (candidates == null) {
+                continue;
+            }
+            int matchedLength = requestPaths.prefixLength(i);
+            var result = mapFromCandidates(path, matchedLength, candidates, 0);
             if (result != null) {
-                int idx = nextMatchStartingIndex(initialMatchesList.get(i), lastMatch);
-                RequestMatch<T> match = mapFromPathMatcher(path, initialMatchesList.get(i), idx);
+                int idx = nextMatchStartingIndex(candidates, lastMatch);
+                RequestMatch<T> match = mapFromCandidates(path, matchedLength, candidates, idx);
                 if (match != null) {
                     return match;
                 }
@@ -85,25 +90,24 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        var initialMatches = requestPaths.defaultMatch(path);
-        var result = mapFromPathMatcher(path, initialMatches, 0);
+        var initialMatches = requestPaths.getDefaultValue();
+        var result = mapFromCandidates(path, 1, initialMatches, 0);
         if (result != null) {
             int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+            return mapFromCandidates(path, 1, initialMatches, idx);
         }
         return null;
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+    private int nextMatchStartingIndex(TemplateTrie<T> initialMatches, RequestMatch<T> current) {
+        if (initialMatches == null || initialMatches.paths.isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        for (int i = 0; i < initialMatches.paths.size(); i++) {
+            if (initialMatches.paths.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < initialMatches.paths.size()) {
                     return i;
                 }
                 return -1;
@@ -113,99 +117,121 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            int startIdx) {
-        var value = initialMatches.getValue();
-        if (value == null || startIdx < 0) {
+    /**
+     * Returns the first template of the candidates, starting at {@code startIdx}, that matches the path. The templates
+     * without custom regular expressions are resolved by the precompiled {@link TemplateTrie}, the others are tried one
+     * by one, but only if they come before the template found by the trie.
+     */
+    private RequestMatch<T> mapFromCandidates(String path, int matchedLength, TemplateTrie<T> candidates, int startIdx) {
+        if (candidates == null || startIdx < 0) {
             return null;
         }
-        int pathLength = path.length();
-        for (int index = startIdx; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    // exclude any path end slash when matching a subdir, but include it in the matched length
-                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    if (endSlash) {
-                        matchPos++;
-                    }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = path.substring(start, matchPos);
-                }
+        int[] state = candidates.state();
+        int best = state == null ? TemplateTrie.NO_MATCH : candidates.match(path, matchedLength, startIdx, state);
+        int[] complexIndexes = candidates.complexIndexes;
+        for (int i = 0; i < complexIndexes.length; i++) {
+            int index = complexIndexes[i];
+            if (index >= best) {
+                break;
             }
-            if (!matched) {
+            if (index < startIdx) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+            RequestMatch<T> result = mapTemplate(path, matchedLength, candidates.paths.get(index));
+            if (result != null) {
+                return result;
             }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+        }
+        if (best == TemplateTrie.NO_MATCH) {
+            return null;
+        }
+        // only now that we know which template won do we create the strings
+        RequestPath<T> match = candidates.paths.get(best);
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int paramCount = TemplateTrie.paramCount(state);
+        for (int i = 0; i < paramCount; i++) {
+            params[i] = path.substring(candidates.paramStart(state, i), candidates.paramEnd(state, i));
+        }
+        return newMatch(path, match, params, TemplateTrie.matchedPosition(state));
+    }
+
+    private RequestMatch<T> mapTemplate(String path, int matchedLength, RequestPath<T> potentialMatch) {
+        int pathLength = path.length();
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int paramCount = 0;
+        boolean matched = true;
+        int matchPos = matchedLength;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                // exclude any path end slash when matching a subdir, but include it in the matched length
+                boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                Matcher matcher = segment.pattern.matcher(
+                        endSlash ? path.substring(0, path.length() - 1) : path);
+                matched = matcher.find(matchPos);
+                if (!matched || matcher.start() != matchPos) {
+                    break;
                 }
-            }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
-                } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
+                matchPos = matcher.end();
+                if (endSlash) {
+                    matchPos++;
+                }
+                for (String group : segment.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (matchPos + segment.literalText.length() > pathLength) {
+                    matched = false;
+                    break; //too long
+                }
+                for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                    if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
+                        matched = false;
+                        break;
                     }
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                if (!matched) {
+                    break;
+                }
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    matched = false;
+                    break;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                params[paramCount++] = path.substring(start, matchPos);
             }
         }
+        if (!matched) {
+            return null;
+        }
+        if (paramCount < params.length) {
+            params[paramCount] = null;
+        }
+        if (TemplateTrie.acceptsEnd(potentialMatch.prefixTemplate, path, matchPos)) {
+            return newMatch(path, potentialMatch, params, matchPos);
+        }
         return null;
     }
 
+    private RequestMatch<T> newMatch(String path, RequestPath<T> potentialMatch, String[] params, int matchPos) {
+        String remaining;
+        if (matchPos == path.length()) {
+            remaining = "";
+        } else {
+            if (matchPos == 1) {
+                remaining = path;
+            } else {
+                remaining = path.substring(matchPos);
+            }
+        }
+        return new RequestMatch<>(potentialMatch.template, potentialMatch.value, params, remaining);
+    }
+
     public static class RequestPath<T> implements Dumpable, Comparable<RequestPath<T>> {
         public final boolean prefixTemplate;
         public final URITemplate template;
@@ -268,7 +294,7 @@ public void dump() {
         this.requestPaths.dump(0);
     }
 
-    public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
+    public PathMatcher<TemplateTrie<T>> getRequestPaths() {
         return requestPaths;
     }
 
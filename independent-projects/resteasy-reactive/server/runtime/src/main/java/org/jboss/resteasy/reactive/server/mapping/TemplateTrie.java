@@ -0,0 +1,272 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A precompiled radix tree over all the templates that share a stem.
+ * <p>
+ * Templates are kept in the order established by {@link RequestMapper}, and the result of a lookup is always the
+ * template with the lowest index that matches, i.e. the very same template a linear scan over the list would
+ * have returned. Only templates made of {@link URITemplate.Type#LITERAL} and {@link URITemplate.Type#DEFAULT_REGEX}
+ * components are part of the tree, templates with a custom regex are listed in {@link #complexIndexes} and have to be
+ * tried by the caller.
+ * <p>
+ * Matching works on the characters of the path directly and records the start and end offsets of path parameters
+ * into a slot array, so that no {@code String} is created for candidates that end up not matching. The slot array is
+ * allocated per lookup, and is sized for the templates of this trie only.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+class TemplateTrie<T> implements Dumpable {
+
+    static final int NO_MATCH = Integer.MAX_VALUE;
+
+    /**
+     * Index of the best template found so far
+     */
+    private static final int BEST_INDEX = 0;
+    /**
+     * Position in the path at which the best template stopped matching
+     */
+    private static final int BEST_POS = 1;
+    /**
+     * Number of path parameters captured by the best template
+     */
+    private static final int BEST_PARAMS = 2;
+    private static final int HEADER = 3;
+
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+    final ArrayList<RequestMapper.RequestPath<T>> paths;
+    /**
+     * The indexes of the templates that are not part of the tree, in ascending order
+     */
+    final int[] complexIndexes;
+    private final Node root;
+    private final int maxSimpleParams;
+
+    TemplateTrie(ArrayList<RequestMapper.RequestPath<T>> paths) {
+        this.paths = paths;
+        NodeBuilder rootBuilder = new NodeBuilder();
+        List<Integer> complex = new ArrayList<>();
+        int maxParams = 0;
+        boolean hasSimple = false;
+        for (int index = 0; index < paths.size(); index++) {
+            URITemplate template = paths.get(index).template;
+            if (!isSimple(template)) {
+                complex.add(index);
+                continue;
+            }
+            hasSimple = true;
+            NodeBuilder current = rootBuilder;
+            int params = 0;
+            // the first component is the stem, which has already been matched by the PathMatcher
+            for (int i = 1; i < template.components.length; ++i) {
+                URITemplate.TemplateComponent component = template.components[i];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    for (int pos = 0; pos < component.literalText.length(); ++pos) {
+                        current = current.literalChild(component.literalText.charAt(pos));
+                    }
+                } else {
+                    if (current.paramChild == null) {
+                        current.paramChild = new NodeBuilder();
+                    }
+                    current = current.paramChild;
+                    params++;
+                }
+            }
+            current.terminals.add(index);
+            maxParams = Math.max(maxParams, params);
+        }
+        this.root = hasSimple ? rootBuilder.build("") : null;
+        this.maxSimpleParams = maxParams;
+        this.complexIndexes = new int[complex.size()];
+        for (int i = 0; i < complexIndexes.length; i++) {
+            complexIndexes[i] = complex.get(i);
+        }
+    }
+
+    private static boolean isSimple(URITemplate template) {
+        for (int i = 1; i < template.components.length; ++i) {
+            if (template.components[i].type == URITemplate.Type.CUSTOM_REGEX) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a new slot array for {@link #match(String, int, int, int[])}, or {@code null} if there is nothing in the
+     * tree.
+     */
+    int[] state() {
+        if (root == null) {
+            return null;
+        }
+        return new int[HEADER + 4 * maxSimpleParams];
+    }
+
+    /**
+     * Finds the lowest indexed template in the tree that matches the path, starting at {@code matchPos}.
+     *
+     * @param startIdx templates with a lower index are ignored
+     * @param state the array returned by {@link #state()}
+     * @return the index of the template, or {@link #NO_MATCH}
+     */
+    int match(String path, int matchPos, int startIdx, int[] state) {
+        state[BEST_INDEX] = NO_MATCH;
+        search(root, path, matchPos, 0, startIdx, state);
+        return state[BEST_INDEX];
+    }
+
+    static int matchedPosition(int[] state) {
+        return state[BEST_POS];
+    }
+
+    static int paramCount(int[] state) {
+        return state[BEST_PARAMS];
+    }
+
+    int paramStart(int[] state, int param) {
+        return state[HEADER + 2 * maxSimpleParams + 2 * param];
+    }
+
+    int paramEnd(int[] state, int param) {
+        return state[HEADER + 2 * maxSimpleParams + 2 * param + 1];
+    }
+
+    private void search(Node node, String path, int pos, int params, int startIdx, int[] state) {
+        if (node.minIndex >= state[BEST_INDEX]) {
+            // nothing in this subtree can beat what we already have
+            return;
+        }
+        int[] terminals = node.terminals;
+        for (int i = 0; i < terminals.length; i++) {
+            int index = terminals[i];
+            if (index >= state[BEST_INDEX]) {
+                break;
+            }
+            if (index >= startIdx && acceptsEnd(paths.get(index).prefixTemplate, path, pos)) {
+                state[BEST_INDEX] = index;
+                state[BEST_POS] = pos;
+                state[BEST_PARAMS] = params;
+                System.arraycopy(state, HEADER, state, HEADER + 2 * maxSimpleParams, 2 * params);
+                break;
+            }
+        }
+        int pathLength = path.length();
+        if (pos == pathLength) {
+            return;
+        }
+        char c = path.charAt(pos);
+        char[] keys = node.literalKeys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == c) {
+                Node child = node.literalChildren[i];
+                if (path.startsWith(child.literal, pos)) {
+                    search(child, path, pos + child.literal.length(), params, startIdx, state);
+                }
+                break;
+            }
+        }
+        if (node.paramChild != null) {
+            int end = pos;
+            while (end < pathLength && path.charAt(end) != '/') {
+                end++;
+            }
+            state[HEADER + 2 * params] = pos;
+            state[HEADER + 2 * params + 1] = end;
+            search(node.paramChild, path, end, params + 1, startIdx, state);
+        }
+    }
+
+    /**
+     * According to the spec every template ends with (/.*)? so this mirrors the prefix handling of
+     * {@link RequestMapper}.
+     */
+    static boolean acceptsEnd(boolean prefixAllowed, String path, int matchPos) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+            return prefixAllowed || pathLength == 1;
+        } else if (path.charAt(matchPos) == '/') {
+            return prefixAllowed || matchPos == pathLength - 1;
+        }
+        return false;
+    }
+
+    @Override
+    public void dump(int level) {
+        for (RequestMapper.RequestPath<T> path : paths) {
+            path.dump(level);
+        }
+    }
+
+    private static final class Node {
+        /**
+         * The literal text that is consumed when moving into this node, empty for the root and for parameter nodes
+         */
+        final String literal;
+        final char[] literalKeys;
+        final Node[] literalChildren;
+        final Node paramChild;
+        final int[] terminals;
+        /**
+         * The lowest template index of the whole subtree, used to prune the search
+         */
+        final int minIndex;
+
+        Node(String literal, char[] literalKeys, Node[] literalChildren, Node paramChild, int[] terminals) {
+            this.literal = literal;
+            this.literalKeys = literalKeys;
+            this.literalChildren = literalChildren;
+            this.paramChild = paramChild;
+            this.terminals = terminals;
+            int min = terminals.length > 0 ? terminals[0] : NO_MATCH;
+            for (Node child : literalChildren) {
+                min = Math.min(min, child.minIndex);
+            }
+            if (paramChild != null) {
+                min = Math.min(min, paramChild.minIndex);
+            }
+            this.minIndex = min;
+        }
+    }
+
+    private static final class NodeBuilder {
+        final Map<Character, NodeBuilder> literalChildren = new TreeMap<>();
+        NodeBuilder paramChild;
+        final List<Integer> terminals = new ArrayList<>();
+
+        NodeBuilder literalChild(char c) {
+            return literalChildren.computeIfAbsent(c, k -> new NodeBuilder());
+        }
+
+        Node build(String literal) {
+            char[] keys = new char[literalChildren.size()];
+            Node[] children = new Node[literalChildren.size()];
+            int pos = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : literalChildren.entrySet()) {
+                // collapse chains of single character nodes into a single edge
+                StringBuilder edge = new StringBuilder().append(entry.getKey().charValue());
+                NodeBuilder child = entry.getValue();
+                while (child.terminals.isEmpty() && child.paramChild == null && child.literalChildren.size() == 1) {
+                    Map.Entry<Character, NodeBuilder> next = child.literalChildren.entrySet().iterator().next();
+                    edge.append(next.getKey().charValue());
+                    child = next.getValue();
+                }
+                keys[pos] = entry.getKey();
+                children[pos++] = child.build(edge.toString());
+            }
+            int[] terminalIndexes = terminals.isEmpty() ? EMPTY_INT_ARRAY : new int[terminals.size()];
+            for (int i = 0; i < terminalIndexes.length; i++) {
+                terminalIndexes[i] = terminals.get(i);
+            }
+            return new Node(literal, keys, children, paramChild == null ? null : paramChild.build(""), terminalIndexes);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.Executor;
+
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class RecyclingRequestContextFactoryTest {
+
+    private static final ServerRestHandler[] EMPTY_CHAIN = new ServerRestHandler[0];
+
+    private final Deployment deployment = Mockito.mock(Deployment.class);
+
+    @Test
+    public void testCompletedContextIsReused() {
+        RecyclingRequestContextFactory factory = new RecyclingRequestContextFactory(TestContext.FACTORY, 4, false);
+        ServerRestHandler[] chain = chain(new ServerRestHandler() {
+            @Override
+            public void handle(ResteasyReactiveRequestContext requestContext) {
+                requestContext.setResult("first");
+                requestContext.setProperty("key", "value");
+            }
+        });
+
+        ResteasyReactiveRequestContext first = create(factory, response(true), chain);
+        first.run();
+        assertEquals(1, factory.pooledOnCurrentThread());
+
+        ServerHttpResponse secondResponse = response(true);
+        ResteasyReactiveRequestContext second = create(factory, secondResponse, EMPTY_CHAIN);
+        assertSame(first, second);
+        assertSame(secondResponse, second.serverResponse());
+        assertNull(second.getResult());
+        assertNull(second.getProperty("key"));
+        assertEquals(0, second.getPosition());
+        assertEquals(0, factory.pooledOnCurrentThread());
+    }
+
+    @Test
+    public void testCloseHandlerAfterRecycling() {
+        RecyclingRequestContextFactory factory = new RecyclingRequestContextFactory(TestContext.FACTORY, 4, false);
+        ServerHttpResponse firstResponse = response(true);
+        ResteasyReactiveRequestContext first = create(factory, firstResponse, EMPTY_CHAIN);
+        first.setupInitialMatchAndRestart(new RequestMapper.RequestMatch<>(null,
+                new RestInitialHandler.InitialMatch(EMPTY_CHAIN, 0), new String[0], ""));
+        ArgumentCaptor<Runnable> closeHandler = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(firstResponse).addCloseHandler(closeHandler.capture());
+        first.run();
+
+        ResteasyReactiveRequestContext second = create(factory, response(true), chain(new ServerRestHandler() {
+            @Override
+            public void handle(ResteasyReactiveRequestContext requestContext) {
+            }
+        }));
+        assertSame(first, second);
+        // the close handler of the previous response fires late, it must neither fail nor affect the new request
+        closeHandler.getValue().run();
+        assertEquals(0, second.getPosition());
+    }
+
+    @Test
+    public void testContextIsOnlyReleasedOnce() {
+        RecyclingRequestContextFactory factory = new RecyclingRequestContextFactory(TestContext.FACTORY, 4, false);
+        ResteasyReactiveRequestContext context = create(factory, response(true), EMPTY_CHAIN);
+        context.run();
+        context.close();
+        assertEquals(1, factory.pooledOnCurrentThread());
+    }
+
+    @Test
+    public void testSuspendedContextIsNotReused() {
+        RecyclingRequestContextFactory factory = new RecyclingRequestContextFactory(TestContext.FACTORY, 4, false);
+        ResteasyReactiveRequestContext context = create(factory, response(true), chain(new ServerRestHandler() {
+            @Override
+            public void handle(ResteasyReactiveRequestContext requestContext) {
+                requestContext.suspend();
+            }
+        }));
+        context.run();
+        context.setSuspended(false);
+        context.run();
+        assertEquals(0, factory.pooledOnCurrentThread());
+        assertNotSame(context, create(factory, response(true), EMPTY_CHAIN));
+    }
+
+    @Test
+    public void testContextWithOpenResponseIsNotReused() {
+        RecyclingRequestContextFactory factory = new RecyclingRequestContextFactory(TestContext.FACTORY, 4, false);
+        create(factory, response(false), EMPTY_CHAIN).run();
+        assertEquals(0, factory.pooledOnCurrentThread());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        RecyclingRequestContextFactory factory = new RecyclingRequestContextFactory(TestContext.FACTORY, 2, false);
+        ResteasyReactiveRequestContext[] contexts = new ResteasyReactiveRequestContext[3];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = create(factory, response(true), EMPTY_CHAIN);
+        }
+        for (ResteasyReactiveRequestContext context : contexts) {
+            context.run();
+        }
+        assertEquals(2, factory.pooledOnCurrentThread());
+    }
+
+    @Test
+    public void testUseAfterReleaseIsDetectedInDebugMode() {
+        RecyclingRequestContextFactory factory = new RecyclingRequestContextFactory(TestContext.FACTORY, 4, true);
+        ResteasyReactiveRequestContext context = create(factory, response(true), EMPTY_CHAIN);
+        context.run();
+        assertEquals(0, factory.pooledOnCurrentThread());
+        assertNotSame(context, create(factory, response(true), EMPTY_CHAIN));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, context::resume);
+        assertEquals("Request context released", e.getCause().getMessage());
+        assertThrows(IllegalStateException.class, context::suspend);
+    }
+
+    private ResteasyReactiveRequestContext create(RecyclingRequestContextFactory factory, ServerHttpResponse response,
+            ServerRestHandler[] chain) {
+        return factory.createContext(deployment, response, ThreadSetupAction.NOOP, chain, EMPTY_CHAIN);
+    }
+
+    private static ServerRestHandler[] chain(ServerRestHandler handler) {
+        return new ServerRestHandler[] { handler };
+    }
+
+    private static ServerHttpResponse response(boolean ended) {
+        ServerHttpResponse response = Mockito.mock(ServerHttpResponse.class);
+        Mockito.when(response.closed()).thenReturn(ended);
+        return response;
+    }
+
+    static class TestContext extends ResteasyReactiveRequestContext {
+
+        static final RequestContextFactory FACTORY = new RequestContextFactory() {
+            @Override
+            public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+                    ThreadSetupAction requestContext, ServerRestHandler[] handlerChain,
+                    ServerRestHandler[] abortHandlerChain) {
+                return new TestContext(deployment, (ServerHttpResponse) context, requestContext, handlerChain,
+                        abortHandlerChain);
+            }
+        };
+
+        private ServerHttpResponse response;
+
+        TestContext(Deployment deployment, ServerHttpResponse response, ThreadSetupAction requestContext,
+                ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+            super(deployment, requestContext, handlerChain, abortHandlerChain);
+            this.response = response;
+        }
+
+        @Override
+        protected boolean isRecyclable() {
+            return true;
+        }
+
+        @Override
+        protected void recycle(Object externalHttpContext, ServerRestHandler[] handlerChain,
+                ServerRestHandler[] abortHandlerChain) {
+            super.recycle(externalHttpContext, handlerChain, abortHandlerChain);
+            this.response = (ServerHttpResponse) externalHttpContext;
+        }
+
+        @Override
+        public ServerHttpRequest serverRequest() {
+            return null;
+        }
+
+        @Override
+        public ServerHttpResponse serverResponse() {
+            return response;
+        }
+
+        @Override
+        public boolean resumeExternalProcessing() {
+            return false;
+        }
+
+        @Override
+        public Runnable registerTimer(long millis, Runnable task) {
+            return null;
+        }
+
+        @Override
+        protected Executor getEventLoop() {
+            return Runnable::run;
+        }
+
+        @Override
+        protected void setQueryParamsFrom(String uri) {
+        }
+    }
+}
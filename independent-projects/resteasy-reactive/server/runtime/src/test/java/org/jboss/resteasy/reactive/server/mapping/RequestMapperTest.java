@@ -0,0 +1,123 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testLiteralAndDefaultRegexTemplates() {
+        RequestMapper<String> mapper = mapper(false, "/id", "/id/{param}", "/bar/{p1}/{p2}", "/bar/{p1}", "/{a}/{b}/{c}");
+
+        assertMatch(mapper.map("/bar/34/44"), "/bar/{p1}/{p2}", "", "34", "44");
+        assertMatch(mapper.map("/bar/34"), "/bar/{p1}", "", "34");
+        assertMatch(mapper.map("/id"), "/id", "");
+        assertMatch(mapper.map("/id/34"), "/id/{param}", "", "34");
+        assertMatch(mapper.map("/id/34/"), "/id/{param}", "/", "34");
+        assertMatch(mapper.map("/x/y/z"), "/{a}/{b}/{c}", "", "x", "y", "z");
+        assertNull(mapper.map("/foo"));
+        assertMatch(mapper.map("/id/34/55"), "/{a}/{b}/{c}", "", "id", "34", "55");
+        assertNull(mapper.map("/id/34/55/66"));
+    }
+
+    @Test
+    public void testLiteralsTakePrecedenceOverParameters() {
+        RequestMapper<String> mapper = mapper(false, "/{id}", "/{id}/items/{item}", "/{id}/items/special", "/{id}/{other}");
+
+        assertMatch(mapper.map("/42"), "/{id}", "", "42");
+        assertMatch(mapper.map("/42/items/special"), "/{id}/items/special", "", "42");
+        assertMatch(mapper.map("/42/items/7"), "/{id}/items/{item}", "", "42", "7");
+        assertMatch(mapper.map("/42/things"), "/{id}/{other}", "", "42", "things");
+    }
+
+    @Test
+    public void testParameterInsideSegment() {
+        RequestMapper<String> mapper = mapper(false, "/file{name}", "/file{name}/raw");
+
+        assertMatch(mapper.map("/fileabc"), "/file{name}", "", "abc");
+        assertMatch(mapper.map("/fileabc/raw"), "/file{name}/raw", "", "abc");
+    }
+
+    @Test
+    public void testCustomRegexTemplates() {
+        RequestMapper<String> mapper = mapper(false, "/items/{id: \\d+}", "/items/{name}", "/items/{id: \\d+}/{sub}");
+
+        // the custom regex template sorts before the default one, so it wins when it matches
+        assertMatch(mapper.map("/items/42"), "/items/{id: \\d+}", "", "42");
+        assertMatch(mapper.map("/items/abc"), "/items/{name}", "", "abc");
+        assertMatch(mapper.map("/items/42/x"), "/items/{id: \\d+}/{sub}", "", "42", "x");
+    }
+
+    @Test
+    public void testPrefixTemplates() {
+        RequestMapper<String> mapper = mapper(true, "/greetings", "/greetings/{id}", "/");
+
+        assertMatch(mapper.map("/greetings/hello/world"), "/greetings/{id}", "/world", "hello");
+        assertMatch(mapper.map("/greetings"), "/greetings", "");
+        assertMatch(mapper.map("/other/path"), "/", "/other/path");
+    }
+
+    @Test
+    public void testContinueMatching() {
+        RequestMapper<String> mapper = mapper(true, "/greetings", "/greetings/{id}", "/greetings/unrelated");
+
+        assertNull(mapper.map("/not-existing"));
+
+        var result = mapper.map("/greetings/greeting-id");
+        assertNotNull(result);
+        assertEquals("", result.remaining);
+
+        result = mapper.continueMatching("/greetings/greeting-id", result);
+        assertNotNull(result);
+        assertEquals("/greeting-id", result.remaining);
+
+        result = mapper.continueMatching("/greetings/greeting-id", result);
+        assertNull(result);
+    }
+
+    @Test
+    public void testManyTemplates() {
+        ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            add(list, false, "/api/resource" + i);
+            add(list, false, "/api/resource" + i + "/{id}");
+            add(list, false, "/api/resource" + i + "/{id}/sub/{subId}");
+        }
+        RequestMapper<String> mapper = new RequestMapper<>(list);
+        for (int i = 0; i < 500; i += 7) {
+            assertMatch(mapper.map("/api/resource" + i), "/api/resource" + i, "");
+            assertMatch(mapper.map("/api/resource" + i + "/1"), "/api/resource" + i + "/{id}", "", "1");
+            assertMatch(mapper.map("/api/resource" + i + "/1/sub/2"), "/api/resource" + i + "/{id}/sub/{subId}", "", "1",
+                    "2");
+        }
+        assertNull(mapper.map("/api/resource1/1/other/2"));
+    }
+
+    private static void assertMatch(RequestMapper.RequestMatch<String> match, String template, String remaining,
+            String... params) {
+        assertNotNull(match);
+        assertEquals(template, match.value);
+        assertEquals(remaining, match.remaining);
+        String[] actual = Arrays.stream(match.pathParamValues).filter(p -> p != null).toArray(String[]::new);
+        assertArrayEquals(params, actual);
+    }
+
+    private static RequestMapper<String> mapper(boolean prefixTemplates, String... templates) {
+        ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        for (String template : templates) {
+            add(list, prefixTemplates, template);
+        }
+        return new RequestMapper<>(list);
+    }
+
+    private static void add(ArrayList<RequestMapper.RequestPath<String>> list, boolean prefixTemplate, String template) {
+        list.add(new RequestMapper.RequestPath<>(prefixTemplate, new URITemplate(template, false), template));
+    }
+}
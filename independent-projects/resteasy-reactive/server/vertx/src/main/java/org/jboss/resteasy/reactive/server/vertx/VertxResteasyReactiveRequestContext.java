@@ -61,10 +61,11 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         implements ServerHttpRequest, ServerHttpResponse, Handler<Void> {
 
     public static final String CONTINUE = "100-continue";
-    protected final RoutingContext context;
-    protected final HttpServerRequest request;
-    protected final HttpServerResponse response;
-    private final Executor contextExecutor;
+    // not final, as they are bound again when the context is recycled
+    protected RoutingContext context;
+    protected HttpServerRequest request;
+    protected HttpServerResponse response;
+    private Executor contextExecutor;
     private final ClassLoader devModeTccl;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
     ContinueState continueState = ContinueState.NONE;
@@ -74,10 +75,28 @@ public VertxResteasyReactiveRequestContext(Deployment deployment,
             ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain,
             ClassLoader devModeTccl) {
         super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.devModeTccl = devModeTccl;
+        bind(context);
+    }
+
+    @Override
+    protected boolean isRecyclable() {
+        return true;
+    }
+
+    @Override
+    protected void recycle(Object externalHttpContext, ServerRestHandler[] handlerChain,
+            ServerRestHandler[] abortHandlerChain) {
+        super.recycle(externalHttpContext, handlerChain, abortHandlerChain);
+        preCommitTask = null;
+        continueState = ContinueState.NONE;
+        bind((RoutingContext) externalHttpContext);
+    }
+
+    private void bind(RoutingContext context) {
         this.context = context;
         this.request = context.request();
         this.response = context.response();
-        this.devModeTccl = devModeTccl;
         context.addHeadersEndHandler(this);
         String expect = request.getHeader(HttpHeaderNames.EXPECT);
         Context current = Vertx.currentContext();